@@ -0,0 +1,117 @@
+package com.banking.account.benchmark;
+
+import com.banking.commons.messaging.codec.EventCodecMessageConverter;
+import com.banking.contracts.codec.BinaryEventCodec;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EventCodecBenchmark {
+
+    @Param({"transaction", "customer"})
+    private String event;
+
+    private Object payload;
+
+    private MessageConverter json;
+    private MessageConverter binary;
+
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounters {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = new Jackson2JsonMessageConverter();
+        binary = new EventCodecMessageConverter(new Jackson2JsonMessageConverter(), new BinaryEventCodec(), true);
+        payload = "transaction".equals(event) ? sampleTransaction() : sampleCustomer();
+
+        jsonMessage = json.toMessage(payload, new MessageProperties());
+        binaryMessage = binary.toMessage(payload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message jsonEncode(PayloadCounters counters) {
+        Message message = json.toMessage(payload, new MessageProperties());
+        counters.payloadBytes = message.getBody().length;
+        return message;
+    }
+
+    @Benchmark
+    public Message binaryEncode(PayloadCounters counters) {
+        Message message = binary.toMessage(payload, new MessageProperties());
+        counters.payloadBytes = message.getBody().length;
+        return message;
+    }
+
+    @Benchmark
+    public void jsonDecode(Blackhole blackhole) {
+        jsonMessage.getMessageProperties().setInferredArgumentType(payload.getClass());
+        blackhole.consume(json.fromMessage(jsonMessage));
+    }
+
+    @Benchmark
+    public void binaryDecode(Blackhole blackhole) {
+        binaryMessage.getMessageProperties().setInferredArgumentType(payload.getClass());
+        blackhole.consume(binary.fromMessage(binaryMessage));
+    }
+
+    private static TransactionPerformedEventV1 sampleTransaction() {
+        return TransactionPerformedEventV1.builder()
+                .transactionId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .accountNumber("478758")
+                .customerId(UUID.randomUUID())
+                .transactionType("WITHDRAWAL")
+                .amount(new BigDecimal("575.00"))
+                .balanceBefore(new BigDecimal("2000.00"))
+                .balanceAfter(new BigDecimal("1425.00"))
+                .reference("REF-2024-03-15-0001")
+                .occurredAt(LocalDateTime.of(2024, 3, 15, 10, 30, 0, 123456000))
+                .build();
+    }
+
+    private static CustomerCreatedEventV1 sampleCustomer() {
+        return CustomerCreatedEventV1.builder()
+                .customerId(UUID.randomUUID())
+                .customerIdValue("CUST-000123")
+                .name("Jose")
+                .lastName("Lema")
+                .gender("MALE")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .identification("1234567890")
+                .address("Otavalo sn y principal")
+                .phone("098254785")
+                .status("ACTIVE")
+                .occurredAt(LocalDateTime.of(2024, 3, 15, 10, 30, 0, 123456000))
+                .sequence(42L)
+                .build();
+    }
+
+}
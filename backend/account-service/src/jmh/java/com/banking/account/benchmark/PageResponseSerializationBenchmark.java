@@ -0,0 +1,124 @@
+package com.banking.account.benchmark;
+
+import com.banking.account.domain.model.TransactionType;
+import com.banking.account.presentation.dto.response.PageResponse;
+import com.banking.account.presentation.dto.response.TransactionApiResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private PageResponse<TransactionApiResponse> page;
+
+    private ObjectMapper json;
+    private ObjectMapper smile;
+    private ObjectMapper cbor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounters {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = mapper(new JsonFactory());
+        smile = mapper(new SmileFactory());
+        cbor = mapper(new CBORFactory());
+        page = samplePage(pageSize);
+    }
+
+    @Benchmark
+    public byte[] json(PayloadCounters counters) throws Exception {
+        byte[] payload = json.writeValueAsBytes(page);
+        counters.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] smile(PayloadCounters counters) throws Exception {
+        byte[] payload = smile.writeValueAsBytes(page);
+        counters.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] cbor(PayloadCounters counters) throws Exception {
+        byte[] payload = cbor.writeValueAsBytes(page);
+        counters.payloadBytes = payload.length;
+        return payload;
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    private static PageResponse<TransactionApiResponse> samplePage(int size) {
+        UUID accountId = UUID.randomUUID();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        BigDecimal balance = new BigDecimal("1000.00");
+        List<TransactionApiResponse> content = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            boolean deposit = i % 2 == 0;
+            BigDecimal amount = new BigDecimal("125.50").add(BigDecimal.valueOf(i));
+            BigDecimal after = deposit ? balance.add(amount) : balance.subtract(amount);
+
+            content.add(TransactionApiResponse.builder()
+                    .id(UUID.randomUUID())
+                    .type(deposit ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL)
+                    .amount(amount)
+                    .balanceBefore(balance)
+                    .balanceAfter(after)
+                    .reference("REF-" + i)
+                    .accountId(accountId)
+                    .createdAt(start.plus(i, ChronoUnit.MINUTES))
+                    .build());
+
+            balance = after;
+        }
+
+        return PageResponse.<TransactionApiResponse>builder()
+                .content(content)
+                .page(0)
+                .size(size)
+                .totalElements(size * 10L)
+                .totalPages(10)
+                .first(true)
+                .last(false)
+                .hasNext(true)
+                .hasPrevious(false)
+                .build();
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.banking.account.benchmark;
+
+import com.banking.account.application.dto.AccountResponse;
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.TransactionResponse;
+import com.banking.account.application.service.PdfGeneratorService;
+import com.banking.account.domain.model.AccountStatus;
+import com.banking.account.domain.model.AccountType;
+import com.banking.account.domain.model.TransactionType;
+import com.banking.account.infrastructure.config.MessageConfig;
+import com.banking.account.infrastructure.util.MessageUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class StatementPdfRenderingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private PdfGeneratorService pdfGeneratorService;
+    private AccountStatementReport report;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RenderCounters {
+
+        public long pages;
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pages = 0;
+            rows = 0;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        new MessageUtils(new MessageConfig().messageSource());
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+
+        pdfGeneratorService = new PdfGeneratorService();
+        report = sampleReport(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public void render(RenderCounters counters) {
+        counters.pages += pdfGeneratorService.writeAccountStatementPdf(report, "Jane Doe", OutputStream.nullOutputStream());
+        counters.rows += rows;
+    }
+
+    private static AccountStatementReport sampleReport(int size) {
+        UUID accountId = UUID.randomUUID();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        BigDecimal balance = new BigDecimal("1000.00");
+        List<TransactionResponse> transactions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            boolean deposit = i % 2 == 0;
+            BigDecimal amount = new BigDecimal("125.50").add(BigDecimal.valueOf(i % 500));
+            BigDecimal after = deposit ? balance.add(amount) : balance.subtract(amount);
+
+            transactions.add(TransactionResponse.builder()
+                    .id(UUID.randomUUID())
+                    .type(deposit ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL)
+                    .amount(amount)
+                    .balanceBefore(balance)
+                    .balanceAfter(after)
+                    .reference("REF-" + i)
+                    .accountId(accountId)
+                    .createdAt(start.plus(i, ChronoUnit.SECONDS))
+                    .build());
+
+            balance = after;
+        }
+
+        AccountResponse account = AccountResponse.builder()
+                .id(accountId)
+                .accountNumber("4780012345")
+                .accountType(AccountType.CHECKING)
+                .initialBalance(new BigDecimal("1000.00"))
+                .currentBalance(balance)
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+        return AccountStatementReport.builder()
+                .customerId(UUID.randomUUID())
+                .startDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .endDate(LocalDateTime.of(2024, 12, 31, 23, 59))
+                .accounts(List.of(AccountStatementReport.AccountWithTransactions.builder()
+                        .account(account)
+                        .transactions(transactions)
+                        .totalDebits(BigDecimal.ZERO)
+                        .totalCredits(BigDecimal.ZERO)
+                        .build()))
+                .build();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.banking.account.application.dto;
+
+import com.banking.account.domain.model.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceResponse {
+
+    private UUID id;
+    private String accountNumber;
+    private BigDecimal currentBalance;
+    private AccountStatus status;
+
+}
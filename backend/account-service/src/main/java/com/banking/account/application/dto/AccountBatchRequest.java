@@ -0,0 +1,20 @@
+package com.banking.account.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBatchRequest {
+
+    private Set<UUID> ids;
+    private Set<String> accountNumbers;
+
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +28,10 @@ public class AccountStatementReport {
     public static class AccountWithTransactions {
         private AccountResponse account;
         private List<TransactionResponse> transactions;
+        @Builder.Default
+        private BigDecimal totalDebits = BigDecimal.ZERO;
+        @Builder.Default
+        private BigDecimal totalCredits = BigDecimal.ZERO;
     }
 
 }
\ No newline at end of file
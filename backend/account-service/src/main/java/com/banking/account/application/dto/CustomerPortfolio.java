@@ -0,0 +1,50 @@
+package com.banking.account.application.dto;
+
+import com.banking.account.domain.model.AccountStatus;
+import com.banking.account.domain.model.AccountType;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.domain.model.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPortfolio {
+
+    private UUID customerId;
+    private String customerIdValue;
+    private String customerName;
+    private CustomerStatus customerStatus;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private BigDecimal totalBalance;
+    private List<AccountSummary> accounts;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountSummary {
+        private UUID accountId;
+        private String accountNumber;
+        private AccountType accountType;
+        private BigDecimal currentBalance;
+        private AccountStatus status;
+        private Instant lastTransactionAt;
+        private TransactionType lastTransactionType;
+        private BigDecimal lastTransactionAmount;
+        private BigDecimal totalCredits;
+        private BigDecimal totalDebits;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.banking.account.application.dto;
+
+public record CustomerSnapshotResult(
+        long mark,
+        long count
+) {
+}
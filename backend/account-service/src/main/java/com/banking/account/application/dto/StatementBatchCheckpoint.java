@@ -0,0 +1,9 @@
+package com.banking.account.application.dto;
+
+import java.util.UUID;
+
+public record StatementBatchCheckpoint(
+        int partition,
+        UUID lastCustomerId
+) {
+}
@@ -0,0 +1,21 @@
+package com.banking.account.application.dto;
+
+import java.util.UUID;
+
+public record StatementBatchManifestEntry(
+        UUID customerId,
+        boolean generated,
+        long bytes,
+        int pages,
+        String error
+) {
+
+    public static StatementBatchManifestEntry generated(UUID customerId, long bytes, int pages) {
+        return new StatementBatchManifestEntry(customerId, true, bytes, pages, null);
+    }
+
+    public static StatementBatchManifestEntry failed(UUID customerId, String error) {
+        return new StatementBatchManifestEntry(customerId, false, 0, 0, error);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.banking.account.application.dto;
+
+import java.time.YearMonth;
+import java.util.Locale;
+
+public record StatementBatchRequest(
+        YearMonth period,
+        int partitionSize,
+        int parallelism,
+        Locale locale
+) {
+}
@@ -0,0 +1,19 @@
+package com.banking.account.application.dto;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+public record StatementBatchSummary(
+        YearMonth period,
+        int partitions,
+        long generated,
+        long failed,
+        Duration elapsed,
+        boolean skipped
+) {
+
+    public static StatementBatchSummary alreadyCompleted(YearMonth period) {
+        return new StatementBatchSummary(period, 0, 0, 0, Duration.ZERO, true);
+    }
+
+}
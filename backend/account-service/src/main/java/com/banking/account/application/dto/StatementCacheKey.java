@@ -0,0 +1,12 @@
+package com.banking.account.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record StatementCacheKey(
+        UUID customerId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        String locale
+) {
+}
@@ -0,0 +1,30 @@
+package com.banking.account.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementJob {
+
+    private UUID id;
+    private UUID customerId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private StatementJobStatus status;
+    private int progress;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant completedAt;
+    private Long resultSize;
+    private String errorMessage;
+
+}
@@ -0,0 +1,12 @@
+package com.banking.account.application.dto;
+
+public enum StatementJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
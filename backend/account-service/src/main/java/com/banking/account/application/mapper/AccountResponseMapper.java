@@ -1,9 +1,11 @@
 package com.banking.account.application.mapper;
 
+import com.banking.account.application.dto.AccountBalanceResponse;
 import com.banking.account.application.dto.AccountResponse;
 import com.banking.account.application.dto.TransactionResponse;
 import com.banking.account.application.port.out.CustomerEventListener;
 import com.banking.account.domain.model.Account;
+import com.banking.account.domain.model.AccountBalance;
 import com.banking.account.domain.model.Transaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -29,6 +31,14 @@ public class AccountResponseMapper {
             }
         }
 
+        return toResponse(account, customerName);
+    }
+
+    public AccountResponse toResponse(Account account, String customerName) {
+        if (Objects.isNull(account)) {
+            return null;
+        }
+
         return AccountResponse.builder()
                 .id(account.getId())
                 .accountNumber(account.getAccountNumberValue())
@@ -43,6 +53,19 @@ public class AccountResponseMapper {
                 .build();
     }
 
+    public AccountBalanceResponse toResponse(AccountBalance balance) {
+        if (Objects.isNull(balance)) {
+            return null;
+        }
+
+        return AccountBalanceResponse.builder()
+                .id(balance.accountId())
+                .accountNumber(balance.accountNumber())
+                .currentBalance(balance.currentBalance())
+                .status(balance.status())
+                .build();
+    }
+
     public TransactionResponse toResponse(Transaction transaction) {
         if (Objects.isNull(transaction)) {
             return null;
@@ -1,8 +1,12 @@
 package com.banking.account.application.port.in;
 
 import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.TransactionResponse;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
 
 public interface GenerateAccountStatementUseCase {
@@ -13,4 +17,22 @@ public interface GenerateAccountStatementUseCase {
             LocalDateTime endDate
     );
 
+    AccountStatementReport generateStatementSummary(
+            UUID customerId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    );
+
+    Iterator<TransactionResponse> streamTransactions(
+            UUID accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    );
+
+    Map<UUID, AccountStatementReport> generateStatements(
+            Collection<UUID> customerIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    );
+
 }
\ No newline at end of file
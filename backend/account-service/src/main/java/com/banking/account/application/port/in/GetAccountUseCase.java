@@ -1,10 +1,14 @@
 package com.banking.account.application.port.in;
 
+import com.banking.account.application.dto.AccountBalanceResponse;
+import com.banking.account.application.dto.AccountBatchRequest;
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.application.dto.AccountResponse;
+import com.banking.commons.dto.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface GetAccountUseCase {
@@ -15,4 +19,12 @@ public interface GetAccountUseCase {
 
     Page<AccountResponse> getAllAccounts(AccountFilter filter, Pageable pageable);
 
+    List<AccountResponse> getAccounts(AccountBatchRequest request);
+
+    List<AccountBalanceResponse> getAccountBalances(AccountBatchRequest request);
+
+    ResourceVersion getAccountVersion(UUID id);
+
+    ResourceVersion getAccountsVersion();
+
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.banking.account.application.port.in;
+
+import com.banking.account.application.dto.CustomerPortfolio;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface GetCustomerPortfolioUseCase {
+
+    CustomerPortfolio getPortfolio(UUID customerId, LocalDateTime startDate, LocalDateTime endDate);
+
+}
@@ -0,0 +1,14 @@
+package com.banking.account.application.port.in;
+
+import com.banking.account.application.dto.StatementBatchRequest;
+import com.banking.account.application.dto.StatementBatchSummary;
+
+import java.time.YearMonth;
+
+public interface MonthEndStatementBatchUseCase {
+
+    StatementBatchSummary run(StatementBatchRequest request);
+
+    boolean isInterrupted(YearMonth period);
+
+}
@@ -0,0 +1,21 @@
+package com.banking.account.application.port.in;
+
+import com.banking.account.application.dto.StatementJob;
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StatementJobUseCase {
+
+    StatementJob submit(UUID customerId, LocalDateTime startDate, LocalDateTime endDate);
+
+    StatementJob getJob(UUID jobId);
+
+    Optional<Resource> getResult(UUID jobId);
+
+    int evictFinishedBefore(Instant cutoff);
+
+}
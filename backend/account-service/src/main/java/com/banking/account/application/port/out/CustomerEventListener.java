@@ -1,5 +1,7 @@
 package com.banking.account.application.port.out;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface CustomerEventListener {
@@ -10,4 +12,6 @@ public interface CustomerEventListener {
 
     String getCustomerName(UUID customerId);
 
+    Map<UUID, String> getCustomerNames(Collection<UUID> customerIds);
+
 }
\ No newline at end of file
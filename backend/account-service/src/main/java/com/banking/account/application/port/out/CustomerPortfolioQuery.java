@@ -0,0 +1,13 @@
+package com.banking.account.application.port.out;
+
+import com.banking.account.application.dto.CustomerPortfolio;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CustomerPortfolioQuery {
+
+    Optional<CustomerPortfolio> findPortfolio(UUID customerId, LocalDateTime startDate, LocalDateTime endDate);
+
+}
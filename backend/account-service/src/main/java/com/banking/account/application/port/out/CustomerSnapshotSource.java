@@ -0,0 +1,13 @@
+package com.banking.account.application.port.out;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface CustomerSnapshotSource {
+
+    CustomerSnapshotResult stream(int batchSize, Consumer<List<CustomerProjectionUpdate>> batchConsumer);
+
+}
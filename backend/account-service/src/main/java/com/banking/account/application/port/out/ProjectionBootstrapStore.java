@@ -0,0 +1,13 @@
+package com.banking.account.application.port.out;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+
+public interface ProjectionBootstrapStore {
+
+    boolean isInProgress();
+
+    void markStarted();
+
+    void markCompleted(CustomerSnapshotResult result);
+
+}
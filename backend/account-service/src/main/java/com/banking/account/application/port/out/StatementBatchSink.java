@@ -0,0 +1,25 @@
+package com.banking.account.application.port.out;
+
+import com.banking.account.application.dto.StatementBatchCheckpoint;
+import com.banking.account.application.dto.StatementBatchManifestEntry;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StatementBatchSink {
+
+    boolean isCompleted(YearMonth period);
+
+    Optional<StatementBatchCheckpoint> readCheckpoint(YearMonth period);
+
+    long write(YearMonth period, UUID customerId, StatementResultStore.ResultWriter writer) throws IOException;
+
+    void commitPartition(YearMonth period, StatementBatchCheckpoint checkpoint, List<StatementBatchManifestEntry> entries)
+            throws IOException;
+
+    void complete(YearMonth period) throws IOException;
+
+}
@@ -0,0 +1,25 @@
+package com.banking.account.application.port.out;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementCacheKey;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StatementCache {
+
+    long version(StatementCacheKey key);
+
+    Optional<AccountStatementReport> findReport(StatementCacheKey key);
+
+    void putReport(StatementCacheKey key, long version, AccountStatementReport report);
+
+    Optional<Resource> findPdf(StatementCacheKey key);
+
+    Optional<Resource> putPdf(StatementCacheKey key, long version, StatementResultStore.ResultWriter writer) throws IOException;
+
+    int evictCustomer(UUID customerId);
+
+}
@@ -0,0 +1,26 @@
+package com.banking.account.application.port.out;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StatementResultStore {
+
+    long write(UUID jobId, ResultWriter writer) throws IOException;
+
+    Optional<Resource> find(UUID jobId);
+
+    void delete(UUID jobId);
+
+    int deleteOlderThan(Instant cutoff);
+
+    @FunctionalInterface
+    interface ResultWriter {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+}
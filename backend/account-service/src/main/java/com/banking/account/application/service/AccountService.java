@@ -1,5 +1,7 @@
 package com.banking.account.application.service;
 
+import com.banking.account.application.dto.AccountBalanceResponse;
+import com.banking.account.application.dto.AccountBatchRequest;
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.application.dto.AccountRequest;
 import com.banking.account.application.dto.AccountResponse;
@@ -12,8 +14,10 @@ import com.banking.account.application.port.out.DomainEventPublisher;
 import com.banking.account.domain.exception.AccountNotFoundException;
 import com.banking.account.domain.exception.InactiveCustomerException;
 import com.banking.account.domain.model.Account;
+import com.banking.account.domain.model.AccountBalance;
 import com.banking.account.domain.model.AccountNumber;
 import com.banking.account.domain.repository.AccountRepository;
+import com.banking.commons.dto.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,7 +26,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.UUID;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,6 +41,7 @@ public class AccountService implements
     private final AccountRepository accountRepository;
     private final AccountResponseMapper mapper;
     private final DomainEventPublisher eventPublisher;
+    private final StatementCacheInvalidator statementCacheInvalidator;
     private final CustomerEventListener customerEventListener;
 
     @Override
@@ -68,6 +75,7 @@ public class AccountService implements
         log.info("Account created successfully with ID: {}", savedAccount.getId());
 
         eventPublisher.publish(savedAccount.getDomainEvents());
+        statementCacheInvalidator.onDomainEvents(savedAccount.getDomainEvents());
         savedAccount.clearDomainEvents();
 
         return mapper.toResponse(savedAccount);
@@ -106,6 +114,59 @@ public class AccountService implements
         return accounts.map(mapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountResponse> getAccounts(AccountBatchRequest request) {
+        log.debug("Fetching accounts in batch: {}", request);
+
+        Map<UUID, Account> accounts = new LinkedHashMap<>();
+        accountRepository.findAllByIds(idsOf(request))
+                .forEach(account -> accounts.put(account.getId(), account));
+        accountRepository.findAllByAccountNumbers(accountNumbersOf(request))
+                .forEach(account -> accounts.putIfAbsent(account.getId(), account));
+
+        Map<UUID, String> customerNames = customerEventListener.getCustomerNames(accounts.values().stream()
+                .map(Account::getCustomerId)
+                .collect(Collectors.toSet()));
+
+        return accounts.values().stream()
+                .map(account -> mapper.toResponse(account, customerNames.get(account.getCustomerId())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountBalanceResponse> getAccountBalances(AccountBatchRequest request) {
+        log.debug("Fetching account balances in batch: {}", request);
+
+        Map<UUID, AccountBalance> balances = new LinkedHashMap<>();
+        accountRepository.findBalancesByIds(idsOf(request))
+                .forEach(balance -> balances.put(balance.accountId(), balance));
+        accountRepository.findBalancesByAccountNumbers(accountNumbersOf(request))
+                .forEach(balance -> balances.putIfAbsent(balance.accountId(), balance));
+
+        return balances.values().stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAccountVersion(UUID id) {
+        Instant lastModified = accountRepository.findLastModifiedById(id)
+                .orElseThrow(() -> AccountNotFoundException.withId(id));
+
+        return ResourceVersion.of(lastModified, id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAccountsVersion() {
+        Instant lastModified = accountRepository.findLastModified().orElse(null);
+
+        return ResourceVersion.of(lastModified, accountRepository.count());
+    }
+
     @Override
     @Transactional
     public AccountResponse activateAccount(UUID id) {
@@ -118,6 +179,7 @@ public class AccountService implements
 
         account.activate();
         Account savedAccount = accountRepository.save(account);
+        statementCacheInvalidator.onCustomerChanged(savedAccount.getCustomerId());
         log.info("Account activated successfully: {}", id);
 
         return mapper.toResponse(savedAccount);
@@ -133,11 +195,26 @@ public class AccountService implements
 
         account.deactivate();
         Account savedAccount = accountRepository.save(account);
+        statementCacheInvalidator.onCustomerChanged(savedAccount.getCustomerId());
         log.info("Account deactivated successfully: {}", id);
 
         return mapper.toResponse(savedAccount);
     }
 
+    private Set<UUID> idsOf(AccountBatchRequest request) {
+        return Objects.nonNull(request.getIds()) ? request.getIds() : Set.of();
+    }
+
+    private List<AccountNumber> accountNumbersOf(AccountBatchRequest request) {
+        if (Objects.isNull(request.getAccountNumbers())) {
+            return List.of();
+        }
+
+        return request.getAccountNumbers().stream()
+                .map(AccountNumber::of)
+                .toList();
+    }
+
     private void validateCustomerActive(UUID customerId) {
         if (!customerEventListener.customerExists(customerId)) {
             throw InactiveCustomerException.notFound(customerId);
@@ -1,23 +1,35 @@
 package com.banking.account.application.service;
 
-import com.banking.account.application.dto.AccountResponse;
 import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementCacheKey;
 import com.banking.account.application.dto.TransactionResponse;
 import com.banking.account.application.mapper.AccountResponseMapper;
 import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
 import com.banking.account.application.port.out.CustomerEventListener;
+import com.banking.account.application.port.out.StatementCache;
 import com.banking.account.domain.model.Account;
 import com.banking.account.domain.model.Transaction;
+import com.banking.account.domain.model.TransactionTotals;
 import com.banking.account.domain.repository.AccountRepository;
 import com.banking.account.domain.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,10 +37,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountStatementService implements GenerateAccountStatementUseCase {
 
+    private static final int STATEMENT_PAGE_SIZE = 500;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final AccountResponseMapper mapper;
     private final CustomerEventListener customerEventListener;
+    private final StatementCache statementCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,6 +55,77 @@ public class AccountStatementService implements GenerateAccountStatementUseCase
         log.info("Generating account statement for customer: {} from {} to {}",
                 customerId, startDate, endDate);
 
+        validate(customerId, startDate, endDate);
+
+        if (!endDate.isBefore(LocalDateTime.now())) {
+            return buildStatement(customerId, startDate, endDate);
+        }
+
+        StatementCacheKey key = new StatementCacheKey(
+                customerId,
+                startDate,
+                endDate,
+                LocaleContextHolder.getLocale().toLanguageTag()
+        );
+
+        Optional<AccountStatementReport> cached = statementCache.findReport(key);
+        if (cached.isPresent()) {
+            log.debug("Serving cached statement for customer: {} from {} to {}", customerId, startDate, endDate);
+            return cached.get();
+        }
+
+        long version = statementCache.version(key);
+        AccountStatementReport report = buildStatement(customerId, startDate, endDate);
+        statementCache.putReport(key, version, report);
+
+        return report;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AccountStatementReport generateStatementSummary(
+            UUID customerId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        validate(customerId, startDate, endDate);
+
+        List<Account> accounts = accountRepository.findByCustomerId(customerId);
+
+        return assembleStatements(Map.of(customerId, accounts), startDate, endDate, false).get(customerId);
+    }
+
+    @Override
+    public Iterator<TransactionResponse> streamTransactions(
+            UUID accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        return new StatementTransactions(accountId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, AccountStatementReport> generateStatements(
+            Collection<UUID> customerIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        Map<UUID, List<Account>> accountsByCustomer = new LinkedHashMap<>();
+        customerIds.forEach(customerId -> accountsByCustomer.put(customerId, new ArrayList<>()));
+
+        for (Account account : accountRepository.findByCustomerIds(customerIds)) {
+            accountsByCustomer.get(account.getCustomerId()).add(account);
+        }
+
+        return assembleStatements(accountsByCustomer, startDate, endDate, true);
+    }
+
+    private void validate(UUID customerId, LocalDateTime startDate, LocalDateTime endDate) {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date must be before end date");
         }
@@ -55,46 +141,129 @@ public class AccountStatementService implements GenerateAccountStatementUseCase
                     String.format("Customer %s is not active", customerId)
             );
         }
+    }
 
+    private AccountStatementReport buildStatement(
+            UUID customerId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
         List<Account> accounts = accountRepository.findByCustomerId(customerId);
 
         if (accounts.isEmpty()) {
             log.warn("No accounts found for customer: {}", customerId);
         }
 
-        List<AccountStatementReport.AccountWithTransactions> accountsWithTransactions = accounts.stream()
-                .map(account -> buildAccountWithTransactions(account, startDate, endDate))
-                .collect(Collectors.toList());
-
-        return AccountStatementReport.builder()
-                .customerId(customerId)
-                .startDate(startDate)
-                .endDate(endDate)
-                .accounts(accountsWithTransactions)
-                .build();
+        return assembleStatements(Map.of(customerId, accounts), startDate, endDate, true).get(customerId);
     }
 
-    private AccountStatementReport.AccountWithTransactions buildAccountWithTransactions(
-            Account account,
+    private Map<UUID, AccountStatementReport> assembleStatements(
+            Map<UUID, List<Account>> accountsByCustomer,
             LocalDateTime startDate,
-            LocalDateTime endDate
+            LocalDateTime endDate,
+            boolean withTransactions
     ) {
-        AccountResponse accountResponse = mapper.toResponse(account);
+        List<UUID> accountIds = accountsByCustomer.values().stream()
+                .flatMap(List::stream)
+                .map(Account::getId)
+                .toList();
 
-        List<Transaction> transactions = transactionRepository.findByAccountIdAndDateRange(
-                account.getId(),
-                startDate,
-                endDate
-        );
+        Map<UUID, List<TransactionResponse>> transactionsByAccount = withTransactions
+                ? groupByAccount(transactionRepository.findByAccountIdsAndDateRange(accountIds, startDate, endDate))
+                : Map.of();
+        Map<UUID, TransactionTotals> totalsByAccount = transactionRepository
+                .sumTotalsByAccountIdsAndDateRange(accountIds, startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(TransactionTotals::accountId, Function.identity()));
+
+        Map<UUID, AccountStatementReport> reports = new LinkedHashMap<>();
+
+        accountsByCustomer.forEach((customerId, accounts) -> {
+            List<AccountStatementReport.AccountWithTransactions> accountsWithTransactions = accounts.stream()
+                    .map(account -> buildAccountWithTransactions(
+                            account,
+                            transactionsByAccount.getOrDefault(account.getId(), List.of()),
+                            totalsByAccount.getOrDefault(account.getId(), TransactionTotals.empty(account.getId()))
+                    ))
+                    .collect(Collectors.toList());
+
+            reports.put(customerId, AccountStatementReport.builder()
+                    .customerId(customerId)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .accounts(accountsWithTransactions)
+                    .build());
+        });
+
+        return reports;
+    }
 
-        List<TransactionResponse> transactionResponses = transactions.stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    private Map<UUID, List<TransactionResponse>> groupByAccount(List<Transaction> transactions) {
+        Map<UUID, List<TransactionResponse>> grouped = new HashMap<>();
 
+        for (Transaction transaction : transactions) {
+            grouped.computeIfAbsent(transaction.getAccountId(), id -> new ArrayList<>())
+                    .add(mapper.toResponse(transaction));
+        }
+
+        return grouped;
+    }
+
+    private AccountStatementReport.AccountWithTransactions buildAccountWithTransactions(
+            Account account,
+            List<TransactionResponse> transactions,
+            TransactionTotals totals
+    ) {
         return AccountStatementReport.AccountWithTransactions.builder()
-                .account(accountResponse)
-                .transactions(transactionResponses)
+                .account(mapper.toResponse(account))
+                .transactions(transactions)
+                .totalDebits(totals.totalDebits())
+                .totalCredits(totals.totalCredits())
                 .build();
     }
 
-}
\ No newline at end of file
+    private final class StatementTransactions implements Iterator<TransactionResponse> {
+
+        private final UUID accountId;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+
+        private List<Transaction> page = List.of();
+        private int position;
+        private boolean exhausted;
+
+        private StatementTransactions(UUID accountId, LocalDateTime startDate, LocalDateTime endDate) {
+            this.accountId = accountId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < page.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+
+            Transaction previous = page.isEmpty() ? null : page.getLast();
+            page = transactionRepository.findPageByAccountIdAndDateRange(
+                    accountId, startDate, endDate, previous, STATEMENT_PAGE_SIZE);
+            position = 0;
+            exhausted = page.size() < STATEMENT_PAGE_SIZE;
+
+            return !page.isEmpty();
+        }
+
+        @Override
+        public TransactionResponse next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return mapper.toResponse(page.get(position++));
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.CustomerPortfolio;
+import com.banking.account.application.port.in.GetCustomerPortfolioUseCase;
+import com.banking.account.application.port.out.CustomerPortfolioQuery;
+import com.banking.account.domain.exception.InactiveCustomerException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerPortfolioService implements GetCustomerPortfolioUseCase {
+
+    private final CustomerPortfolioQuery portfolioQuery;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerPortfolio getPortfolio(UUID customerId, LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime end = Objects.nonNull(endDate) ? endDate : LocalDateTime.now();
+        LocalDateTime start = Objects.nonNull(startDate) ? startDate : end.toLocalDate().withDayOfMonth(1).atStartOfDay();
+
+        log.debug("Fetching portfolio for customer: {} from {} to {}", customerId, start, end);
+
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        return portfolioQuery.findPortfolio(customerId, start, end)
+                .orElseThrow(() -> InactiveCustomerException.notFound(customerId));
+    }
+
+}
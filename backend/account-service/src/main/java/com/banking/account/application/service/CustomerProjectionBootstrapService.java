@@ -0,0 +1,47 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.application.port.out.CustomerSnapshotSource;
+import com.banking.account.application.port.out.ProjectionBootstrapStore;
+import com.banking.account.domain.repository.CustomerProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerProjectionBootstrapService {
+
+    private final CustomerSnapshotSource snapshotSource;
+    private final CustomerProjectionRepository customerProjectionRepository;
+    private final ProjectionBootstrapStore bootstrapStore;
+
+    public boolean shouldBootstrap(boolean onlyIfEmpty) {
+        if (bootstrapStore.isInProgress()) {
+            log.warn("A previous customer projection bootstrap did not complete, running it again");
+            return true;
+        }
+        return !onlyIfEmpty || customerProjectionRepository.isEmpty();
+    }
+
+    public CustomerSnapshotResult bootstrap(int batchSize) {
+        log.info("Bootstrapping customer projection from snapshot (batch size {})", batchSize);
+
+        bootstrapStore.markStarted();
+
+        long startedAt = System.nanoTime();
+        CustomerSnapshotResult result = snapshotSource.stream(batchSize, customerProjectionRepository::upsertAll);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        bootstrapStore.markCompleted(result);
+
+        log.info("Customer projection bootstrapped: {} customers at mark {} in {}",
+                result.count(), result.mark(), elapsed);
+
+        return result;
+    }
+
+}
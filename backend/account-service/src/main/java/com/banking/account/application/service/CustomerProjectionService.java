@@ -1,6 +1,6 @@
 package com.banking.account.application.service;
 
-import com.banking.account.domain.model.CustomerInfo;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
 import com.banking.account.domain.model.CustomerStatus;
 import com.banking.account.domain.repository.CustomerProjectionRepository;
 import com.banking.contracts.events.customer.CustomerCreatedEventV1;
@@ -11,7 +11,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -19,41 +26,48 @@ import java.util.Optional;
 public class CustomerProjectionService {
 
     private final CustomerProjectionRepository customerProjectionRepository;
+    private final StatementCacheInvalidator statementCacheInvalidator;
 
     @Transactional
     public void handleCustomerCreated(CustomerCreatedEventV1 event) {
         log.info("Processing customer created event: customerId={}", event.getCustomerId());
 
-        CustomerInfo customerInfo = new CustomerInfo(
-                event.getCustomerId(),
-                buildFullName(event.getName(), event.getLastName()),
-                mapStatus(event.getStatus())
-        );
+        boolean applied = customerProjectionRepository.upsert(toUpdate(event));
+
+        if (applied) {
+            log.info("Customer projection created: customerId={}", event.getCustomerId());
+        } else {
+            log.info("Ignoring stale customer created event: customerId={}", event.getCustomerId());
+        }
+    }
 
-        customerProjectionRepository.save(customerInfo);
+    @Transactional
+    public void handleCustomersCreated(List<CustomerCreatedEventV1> events) {
+        if (events.isEmpty()) {
+            return;
+        }
 
-        log.info("Customer projection created: customerId={}", event.getCustomerId());
+        List<CustomerProjectionUpdate> updates = events.stream()
+                .map(this::toUpdate)
+                .toList();
+
+        customerProjectionRepository.upsertAll(updates);
+
+        log.info("Customer projections upserted in bulk: count={}", updates.size());
     }
 
     @Transactional
     public void handleCustomerUpdated(CustomerUpdatedEventV1 event) {
         log.info("Processing customer updated event: customerId={}", event.getCustomerId());
 
-        Optional<CustomerInfo> existingOpt = customerProjectionRepository.findById(event.getCustomerId());
+        boolean applied = customerProjectionRepository.upsert(toUpdate(event));
 
-        if (existingOpt.isEmpty()) {
-            log.warn("Customer not found for update event: customerId={}", event.getCustomerId());
+        if (!applied) {
+            log.info("Ignoring stale customer updated event: customerId={}", event.getCustomerId());
             return;
         }
 
-        CustomerInfo existing = existingOpt.get();
-        CustomerInfo updated = new CustomerInfo(
-                existing.customerId(),
-                buildFullName(event.getName(), event.getLastName()),
-                existing.status()
-        );
-
-        customerProjectionRepository.save(updated);
+        statementCacheInvalidator.onCustomerChanged(event.getCustomerId());
 
         log.info("Customer projection updated: customerId={}", event.getCustomerId());
     }
@@ -63,26 +77,90 @@ public class CustomerProjectionService {
         log.info("Processing customer status changed event: customerId={}, newStatus={}",
                 event.getCustomerId(), event.getNewStatus());
 
-        Optional<CustomerInfo> existingOpt = customerProjectionRepository.findById(event.getCustomerId());
+        boolean applied = customerProjectionRepository.upsert(toUpdate(event));
 
-        if (existingOpt.isEmpty()) {
-            log.warn("Customer not found for status change event: customerId={}", event.getCustomerId());
+        if (!applied) {
+            log.info("Ignoring stale customer status changed event: customerId={}", event.getCustomerId());
             return;
         }
 
-        CustomerInfo existing = existingOpt.get();
-        CustomerInfo updated = new CustomerInfo(
-                existing.customerId(),
-                existing.fullName(),
-                mapStatus(event.getNewStatus())
-        );
-
-        customerProjectionRepository.save(updated);
+        statementCacheInvalidator.onCustomerChanged(event.getCustomerId());
 
         log.info("Customer projection status updated: customerId={}, newStatus={}",
                 event.getCustomerId(), event.getNewStatus());
     }
 
+    @Transactional
+    public void handleCustomerChanges(
+            List<CustomerUpdatedEventV1> updatedEvents,
+            List<CustomerStatusChangedEventV1> statusChangedEvents
+    ) {
+        List<CustomerProjectionUpdate> updates = Stream.concat(
+                updatedEvents.stream().map(this::toUpdate),
+                statusChangedEvents.stream().map(this::toUpdate)
+        ).toList();
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        customerProjectionRepository.upsertAll(updates);
+
+        List<UUID> customerIds = updates.stream()
+                .map(CustomerProjectionUpdate::customerId)
+                .distinct()
+                .toList();
+        customerIds.forEach(statementCacheInvalidator::onCustomerChanged);
+
+        log.info("Customer projections updated in bulk: events={}, customers={}", updates.size(), customerIds.size());
+    }
+
+    private CustomerProjectionUpdate toUpdate(CustomerCreatedEventV1 event) {
+        Instant occurredAt = toInstant(event.getOccurredAt());
+
+        return CustomerProjectionUpdate.created(
+                event.getCustomerId(),
+                buildFullName(event.getName(), event.getLastName()),
+                mapStatus(event.getStatus()),
+                occurredAt,
+                sequenceOf(event.getSequence(), occurredAt)
+        );
+    }
+
+    private CustomerProjectionUpdate toUpdate(CustomerUpdatedEventV1 event) {
+        Instant occurredAt = toInstant(event.getOccurredAt());
+
+        return CustomerProjectionUpdate.renamed(
+                event.getCustomerId(),
+                buildFullName(event.getName(), event.getLastName()),
+                occurredAt,
+                sequenceOf(event.getSequence(), occurredAt)
+        );
+    }
+
+    private CustomerProjectionUpdate toUpdate(CustomerStatusChangedEventV1 event) {
+        Instant occurredAt = toInstant(event.getOccurredAt());
+
+        return CustomerProjectionUpdate.statusChanged(
+                event.getCustomerId(),
+                mapStatus(event.getNewStatus()),
+                occurredAt,
+                sequenceOf(event.getSequence(), occurredAt)
+        );
+    }
+
+    private Instant toInstant(LocalDateTime occurredAt) {
+        return Objects.isNull(occurredAt)
+                ? Instant.now()
+                : occurredAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private long sequenceOf(Long sequence, Instant occurredAt) {
+        return Objects.nonNull(sequence)
+                ? sequence
+                : ChronoUnit.MICROS.between(Instant.EPOCH, occurredAt);
+    }
+
     private String buildFullName(String name, String lastName) {
         if (lastName == null || lastName.isBlank()) {
             return name;
@@ -97,4 +175,4 @@ public class CustomerProjectionService {
         return "ACTIVE".equalsIgnoreCase(status) ? CustomerStatus.ACTIVE : CustomerStatus.INACTIVE;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,194 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementBatchCheckpoint;
+import com.banking.account.application.dto.StatementBatchManifestEntry;
+import com.banking.account.application.dto.StatementBatchRequest;
+import com.banking.account.application.dto.StatementBatchSummary;
+import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
+import com.banking.account.application.port.in.MonthEndStatementBatchUseCase;
+import com.banking.account.application.port.out.StatementBatchSink;
+import com.banking.account.domain.model.CustomerInfo;
+import com.banking.account.domain.repository.CustomerProjectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+public class MonthEndStatementBatchService implements MonthEndStatementBatchUseCase {
+
+    private final CustomerProjectionRepository customerProjectionRepository;
+    private final GenerateAccountStatementUseCase generateStatementUseCase;
+    private final PdfGeneratorService pdfGeneratorService;
+    private final StatementBatchSink batchSink;
+
+    private final Timer partitionTimer;
+    private final Counter generatedCounter;
+    private final Counter failedCounter;
+
+    public MonthEndStatementBatchService(
+            CustomerProjectionRepository customerProjectionRepository,
+            GenerateAccountStatementUseCase generateStatementUseCase,
+            PdfGeneratorService pdfGeneratorService,
+            StatementBatchSink batchSink,
+            MeterRegistry meterRegistry
+    ) {
+        this.customerProjectionRepository = customerProjectionRepository;
+        this.generateStatementUseCase = generateStatementUseCase;
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.batchSink = batchSink;
+        this.partitionTimer = Timer.builder("statement.batch.partition")
+                .description("Time to load and render one partition of month-end statements")
+                .register(meterRegistry);
+        this.generatedCounter = Counter.builder("statement.batch.statements")
+                .tag("outcome", "generated")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("statement.batch.statements")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public StatementBatchSummary run(StatementBatchRequest request) {
+        YearMonth period = request.period();
+
+        if (batchSink.isCompleted(period)) {
+            log.info("Month-end statements for {} already generated, skipping", period);
+            return StatementBatchSummary.alreadyCompleted(period);
+        }
+
+        Optional<StatementBatchCheckpoint> checkpoint = batchSink.readCheckpoint(period);
+        int partition = checkpoint.map(c -> c.partition() + 1).orElse(0);
+        UUID cursor = checkpoint.map(StatementBatchCheckpoint::lastCustomerId).orElse(null);
+
+        checkpoint.ifPresent(c -> log.info("Resuming month-end statements for {} after partition {} (customer {})",
+                period, c.partition(), c.lastCustomerId()));
+
+        LocalDateTime startDate = period.atDay(1).atStartOfDay();
+        LocalDateTime endDate = period.atEndOfMonth().atTime(LocalTime.MAX);
+
+        int partitions = 0;
+        long generated = 0;
+        long failed = 0;
+        long startedAt = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(request.parallelism());
+        try {
+            List<CustomerInfo> customers = customerProjectionRepository.findActiveAfter(cursor, request.partitionSize());
+
+            while (!customers.isEmpty()) {
+                Timer.Sample sample = Timer.start();
+                List<StatementBatchManifestEntry> entries = renderPartition(pool, request, customers, startDate, endDate);
+                sample.stop(partitionTimer);
+
+                cursor = customers.getLast().customerId();
+                batchSink.commitPartition(period, new StatementBatchCheckpoint(partition, cursor), entries);
+
+                long partitionFailed = entries.stream().filter(entry -> !entry.generated()).count();
+                generated += entries.size() - partitionFailed;
+                failed += partitionFailed;
+                partitions++;
+                partition++;
+
+                log.info("Month-end statements for {}: partition {} done ({} customers, {} failed)",
+                        period, partition - 1, entries.size(), partitionFailed);
+
+                customers = customerProjectionRepository.findActiveAfter(cursor, request.partitionSize());
+            }
+
+            batchSink.complete(period);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write month-end statements for " + period, e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        log.info("Month-end statements for {} completed: {} generated, {} failed in {}",
+                period, generated, failed, elapsed);
+
+        return new StatementBatchSummary(period, partitions, generated, failed, elapsed, false);
+    }
+
+    @Override
+    public boolean isInterrupted(YearMonth period) {
+        return !batchSink.isCompleted(period) && batchSink.readCheckpoint(period).isPresent();
+    }
+
+    private List<StatementBatchManifestEntry> renderPartition(
+            ForkJoinPool pool,
+            StatementBatchRequest request,
+            List<CustomerInfo> customers,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        Map<UUID, AccountStatementReport> reports = generateStatementUseCase.generateStatements(
+                customers.stream().map(CustomerInfo::customerId).toList(),
+                startDate,
+                endDate
+        );
+
+        List<Callable<StatementBatchManifestEntry>> tasks = customers.stream()
+                .<Callable<StatementBatchManifestEntry>>map(customer ->
+                        () -> render(request, customer, reports.get(customer.customerId())))
+                .toList();
+
+        List<StatementBatchManifestEntry> entries = new ArrayList<>(tasks.size());
+        try {
+            for (Future<StatementBatchManifestEntry> future : pool.invokeAll(tasks)) {
+                entries.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Month-end statement batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Month-end statement rendering failed", e.getCause());
+        }
+
+        return entries;
+    }
+
+    private StatementBatchManifestEntry render(
+            StatementBatchRequest request,
+            CustomerInfo customer,
+            AccountStatementReport report
+    ) {
+        LocaleContextHolder.setLocale(request.locale());
+        try {
+            int[] pages = new int[1];
+            long bytes = batchSink.write(request.period(), customer.customerId(),
+                    output -> pages[0] = pdfGeneratorService.writeAccountStatementPdf(report, customer.fullName(), output));
+
+            generatedCounter.increment();
+            return StatementBatchManifestEntry.generated(customer.customerId(), bytes, pages[0]);
+        } catch (Exception e) {
+            log.error("Month-end statement for customer {} failed: {}", customer.customerId(), e.getMessage(), e);
+
+            failedCounter.increment();
+            return StatementBatchManifestEntry.failed(customer.customerId(), e.getMessage());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+}
@@ -1,24 +1,44 @@
 package com.banking.account.application.service;
 
+import com.banking.account.application.dto.AccountResponse;
 import com.banking.account.application.dto.AccountStatementReport;
 import com.banking.account.application.dto.TransactionResponse;
+import com.banking.account.domain.model.AccountType;
+import com.banking.account.domain.model.TransactionType;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.Style;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
-import java.math.BigDecimal;
-import java.time.ZoneId;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static com.banking.account.infrastructure.util.MessageUtils.getMessage;
 
@@ -27,98 +47,135 @@ import static com.banking.account.infrastructure.util.MessageUtils.getMessage;
 public class PdfGeneratorService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final DateTimeFormatter UTC_DATE_FORMATTER = DATE_FORMATTER.withZone(ZoneOffset.UTC);
+    private static final int TABLE_FLUSH_ROWS = 50;
+    private static final float[] TABLE_COLUMNS = {15, 20, 15, 20, 20};
+
+    private static final FontProgram REGULAR_FONT = loadFont(StandardFonts.HELVETICA);
+    private static final FontProgram BOLD_FONT = loadFont(StandardFonts.HELVETICA_BOLD);
+    private static final FontProgram ITALIC_FONT = loadFont(StandardFonts.HELVETICA_OBLIQUE);
+
+    private static final Style HEADER_CELL_STYLE = new Style()
+            .setBackgroundColor(ColorConstants.LIGHT_GRAY)
+            .setTextAlignment(TextAlignment.CENTER);
+    private static final Style BODY_CELL_STYLE = new Style()
+            .setTextAlignment(TextAlignment.CENTER);
+
+    private static final Locale SPANISH = Locale.of("es");
+
+    private final Map<Locale, StatementLabels> labelsByLocale = new ConcurrentHashMap<>();
 
     public String generateAccountStatementPdf(AccountStatementReport report, String customerName) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeAccountStatementPdf(report, customerName, baos);
+
+        return Base64.getEncoder().encodeToString(baos.toByteArray());
+    }
+
+    public int writeAccountStatementPdf(AccountStatementReport report, String customerName, OutputStream output) {
+        return writeAccountStatementPdf(report, customerName,
+                accountData -> accountData.getTransactions().iterator(), output);
+    }
+
+    public int writeAccountStatementPdf(
+            AccountStatementReport report,
+            String customerName,
+            Function<AccountStatementReport.AccountWithTransactions, Iterator<TransactionResponse>> transactions,
+            OutputStream output
+    ) {
+        StatementLabels labels = labelsByLocale.computeIfAbsent(
+                supportedLocale(LocaleContextHolder.getLocale()), StatementLabels::resolve);
+
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfWriter writer = new PdfWriter(baos);
+            PdfWriter writer = new PdfWriter(output);
+            writer.setCloseStream(false);
             PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
+            Document document = new Document(pdf, PageSize.A4, true);
 
-            document.add(new Paragraph(getMessage("pdf.title"))
+            PdfFont regular = PdfFontFactory.createFont(REGULAR_FONT, PdfEncodings.WINANSI);
+            PdfFont bold = PdfFontFactory.createFont(BOLD_FONT, PdfEncodings.WINANSI);
+            PdfFont italic = PdfFontFactory.createFont(ITALIC_FONT, PdfEncodings.WINANSI);
+            document.setFont(regular);
+
+            document.add(new Paragraph(labels.title())
                     .setFontSize(18)
-                    .simulateBold()
+                    .setFont(bold)
                     .setTextAlignment(TextAlignment.CENTER));
 
-            document.add(new Paragraph(getMessage("pdf.customer") + ": " + customerName).setFontSize(12));
-            document.add(new Paragraph(getMessage("pdf.period") + ": " +
+            document.add(new Paragraph(labels.customer() + ": " + customerName).setFontSize(12));
+            document.add(new Paragraph(labels.period() + ": " +
                     report.getStartDate().format(DATE_FORMATTER) + " - " +
                     report.getEndDate().format(DATE_FORMATTER)).setFontSize(10));
             document.add(new Paragraph("\n"));
 
             for (AccountStatementReport.AccountWithTransactions accountData : report.getAccounts()) {
-                document.add(new Paragraph(getMessage("pdf.account") + ": " +
-                        accountData.getAccount().getAccountNumber())
+                AccountResponse account = accountData.getAccount();
+
+                document.add(new Paragraph(labels.account() + ": " + account.getAccountNumber())
                         .setFontSize(14)
-                        .simulateBold());
+                        .setFont(bold));
 
-                String accountType = getMessage("account." + accountData.getAccount().getAccountType());
-                document.add(new Paragraph(getMessage("pdf.type") + ": " + accountType).setFontSize(10));
-                document.add(new Paragraph(getMessage("pdf.initialBalance") + ": $" +
-                        accountData.getAccount().getInitialBalance()).setFontSize(10));
+                document.add(new Paragraph(labels.type() + ": " + labels.accountTypes().get(account.getAccountType()))
+                        .setFontSize(10));
+                document.add(new Paragraph(labels.initialBalance() + ": $" + account.getInitialBalance())
+                        .setFontSize(10));
 
-                String status = accountData.getAccount().getStatus().isActive()
-                        ? getMessage("pdf.active")
-                        : getMessage("pdf.inactive");
-                document.add(new Paragraph(getMessage("pdf.status") + ": " + status).setFontSize(10));
+                String status = account.getStatus().isActive() ? labels.active() : labels.inactive();
+                document.add(new Paragraph(labels.status() + ": " + status).setFontSize(10));
                 document.add(new Paragraph("\n"));
 
-                if (!accountData.getTransactions().isEmpty()) {
-                    Table table = new Table(UnitValue.createPercentArray(new float[]{15, 20, 15, 20, 20}));
+                Iterator<TransactionResponse> rows = transactions.apply(accountData);
+
+                if (rows.hasNext()) {
+                    Table table = new Table(UnitValue.createPercentArray(TABLE_COLUMNS), true);
                     table.setWidth(UnitValue.createPercentValue(100));
 
-                    table.addHeaderCell(createHeaderCell(getMessage("pdf.date")));
-                    table.addHeaderCell(createHeaderCell(getMessage("pdf.transactionType")));
-                    table.addHeaderCell(createHeaderCell(getMessage("pdf.amount")));
-                    table.addHeaderCell(createHeaderCell(getMessage("pdf.balance")));
-                    table.addHeaderCell(createHeaderCell(getMessage("pdf.reference")));
+                    table.addHeaderCell(createHeaderCell(labels.date(), bold));
+                    table.addHeaderCell(createHeaderCell(labels.transactionType(), bold));
+                    table.addHeaderCell(createHeaderCell(labels.amount(), bold));
+                    table.addHeaderCell(createHeaderCell(labels.balance(), bold));
+                    table.addHeaderCell(createHeaderCell(labels.reference(), bold));
 
-                    BigDecimal totalDebits = BigDecimal.ZERO;
-                    BigDecimal totalCredits = BigDecimal.ZERO;
+                    document.add(table);
 
-                    for (TransactionResponse transaction : accountData.getTransactions()) {
-                        table.addCell(createCell(transaction.getCreatedAt()
-                                .atZone(ZoneId.of("UTC"))
-                                .format(DATE_FORMATTER)));
+                    int written = 0;
 
-                        String transactionType = getMessage("transaction." + transaction.getType());
-                        table.addCell(createCell(transactionType));
+                    while (rows.hasNext()) {
+                        TransactionResponse transaction = rows.next();
+                        TransactionType type = transaction.getType();
 
-                        String amount = transaction.getType().toString().equals("WITHDRAWAL")
+                        table.addCell(createCell(UTC_DATE_FORMATTER.format(transaction.getCreatedAt())));
+                        table.addCell(createCell(labels.transactionTypes().get(type)));
+                        table.addCell(createCell(type == TransactionType.WITHDRAWAL
                                 ? "-$" + transaction.getAmount()
-                                : "$" + transaction.getAmount();
-                        table.addCell(createCell(amount));
-
+                                : "$" + transaction.getAmount()));
                         table.addCell(createCell("$" + transaction.getBalanceAfter()));
                         table.addCell(createCell(transaction.getReference() != null ? transaction.getReference() : ""));
 
-                        if (transaction.getType().toString().equals("WITHDRAWAL")) {
-                            totalDebits = totalDebits.add(transaction.getAmount());
-                        } else {
-                            totalCredits = totalCredits.add(transaction.getAmount());
+                        if (++written % TABLE_FLUSH_ROWS == 0) {
+                            table.flush();
                         }
                     }
 
-                    document.add(table);
+                    table.complete();
                     document.add(new Paragraph("\n"));
-                    document.add(new Paragraph(getMessage("pdf.totalDebits") + ": $" + totalDebits)
-                            .setFontSize(10).simulateBold());
-                    document.add(new Paragraph(getMessage("pdf.totalCredits") + ": $" + totalCredits)
-                            .setFontSize(10).simulateBold());
-                    document.add(new Paragraph(getMessage("pdf.availableBalance") + ": $" +
-                            accountData.getAccount().getCurrentBalance())
-                            .setFontSize(12).simulateBold());
+                    document.add(new Paragraph(labels.totalDebits() + ": $" + accountData.getTotalDebits())
+                            .setFontSize(10).setFont(bold));
+                    document.add(new Paragraph(labels.totalCredits() + ": $" + accountData.getTotalCredits())
+                            .setFontSize(10).setFont(bold));
+                    document.add(new Paragraph(labels.availableBalance() + ": $" + account.getCurrentBalance())
+                            .setFontSize(12).setFont(bold));
                 } else {
-                    document.add(new Paragraph(getMessage("pdf.noTransactions")).simulateItalic());
+                    document.add(new Paragraph(labels.noTransactions()).setFont(italic));
                 }
 
                 document.add(new Paragraph("\n"));
             }
 
+            int pages = pdf.getNumberOfPages();
             document.close();
 
-            byte[] pdfBytes = baos.toByteArray();
-            return Base64.getEncoder().encodeToString(pdfBytes);
+            return pages;
 
         } catch (Exception e) {
             log.error("Error generating PDF: {}", e.getMessage(), e);
@@ -126,17 +183,88 @@ public class PdfGeneratorService {
         }
     }
 
-    private Cell createHeaderCell(String text) {
+    private static Locale supportedLocale(Locale locale) {
+        return SPANISH.getLanguage().equals(locale.getLanguage()) ? SPANISH : Locale.ENGLISH;
+    }
+
+    private Cell createHeaderCell(String text, PdfFont bold) {
         return new Cell()
-                .add(new Paragraph(text).simulateBold())
-                .setBackgroundColor(ColorConstants.LIGHT_GRAY)
-                .setTextAlignment(TextAlignment.CENTER);
+                .add(new Paragraph(text).setFont(bold))
+                .addStyle(HEADER_CELL_STYLE);
     }
 
     private Cell createCell(String text) {
         return new Cell()
                 .add(new Paragraph(text))
-                .setTextAlignment(TextAlignment.CENTER);
+                .addStyle(BODY_CELL_STYLE);
+    }
+
+    private static FontProgram loadFont(String name) {
+        try {
+            return FontProgramFactory.createFont(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load font " + name, e);
+        }
+    }
+
+    private record StatementLabels(
+            String title,
+            String customer,
+            String period,
+            String account,
+            String type,
+            String initialBalance,
+            String status,
+            String active,
+            String inactive,
+            String date,
+            String transactionType,
+            String amount,
+            String balance,
+            String reference,
+            String totalDebits,
+            String totalCredits,
+            String availableBalance,
+            String noTransactions,
+            Map<AccountType, String> accountTypes,
+            Map<TransactionType, String> transactionTypes
+    ) {
+
+        static StatementLabels resolve(Locale locale) {
+            Map<AccountType, String> accountTypes = new EnumMap<>(AccountType.class);
+            for (AccountType accountType : AccountType.values()) {
+                accountTypes.put(accountType, getMessage(locale, "account." + accountType));
+            }
+
+            Map<TransactionType, String> transactionTypes = new EnumMap<>(TransactionType.class);
+            for (TransactionType transactionType : TransactionType.values()) {
+                transactionTypes.put(transactionType, getMessage(locale, "transaction." + transactionType));
+            }
+
+            return new StatementLabels(
+                    getMessage(locale, "pdf.title"),
+                    getMessage(locale, "pdf.customer"),
+                    getMessage(locale, "pdf.period"),
+                    getMessage(locale, "pdf.account"),
+                    getMessage(locale, "pdf.type"),
+                    getMessage(locale, "pdf.initialBalance"),
+                    getMessage(locale, "pdf.status"),
+                    getMessage(locale, "pdf.active"),
+                    getMessage(locale, "pdf.inactive"),
+                    getMessage(locale, "pdf.date"),
+                    getMessage(locale, "pdf.transactionType"),
+                    getMessage(locale, "pdf.amount"),
+                    getMessage(locale, "pdf.balance"),
+                    getMessage(locale, "pdf.reference"),
+                    getMessage(locale, "pdf.totalDebits"),
+                    getMessage(locale, "pdf.totalCredits"),
+                    getMessage(locale, "pdf.availableBalance"),
+                    getMessage(locale, "pdf.noTransactions"),
+                    accountTypes,
+                    transactionTypes
+            );
+        }
+
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.port.out.StatementCache;
+import com.banking.account.domain.event.AccountCreatedEvent;
+import com.banking.account.domain.event.TransactionPerformedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class StatementCacheInvalidator {
+
+    private final StatementCache statementCache;
+
+    public void onDomainEvents(List<Object> domainEvents) {
+        if (Objects.isNull(domainEvents) || domainEvents.isEmpty()) {
+            return;
+        }
+
+        List<Object> events = List.copyOf(domainEvents);
+        afterCommit(() -> events.forEach(this::evict));
+    }
+
+    public void onCustomerChanged(UUID customerId) {
+        afterCommit(() -> statementCache.evictCustomer(customerId));
+    }
+
+    private void evict(Object event) {
+        switch (event) {
+            case TransactionPerformedEvent e -> statementCache.evictCustomer(e.customerId());
+            case AccountCreatedEvent e -> statementCache.evictCustomer(e.customerId());
+            default -> {
+            }
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementJob;
+import com.banking.account.application.dto.StatementJobStatus;
+import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
+import com.banking.account.application.port.in.StatementJobUseCase;
+import com.banking.account.application.port.out.CustomerEventListener;
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.domain.exception.StatementJobNotFoundException;
+import com.banking.account.domain.exception.StatementJobResultExpiredException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+@Service
+public class StatementJobService implements StatementJobUseCase {
+
+    private static final int PROGRESS_STARTED = 10;
+    private static final int PROGRESS_REPORT_READY = 50;
+    private static final int PROGRESS_DONE = 100;
+
+    private final GenerateAccountStatementUseCase generateStatementUseCase;
+    private final PdfGeneratorService pdfGeneratorService;
+    private final CustomerEventListener customerEventListener;
+    private final StatementResultStore resultStore;
+    private final Executor jobExecutor;
+
+    private final Map<UUID, StatementJob> jobs = new ConcurrentHashMap<>();
+
+    public StatementJobService(
+            GenerateAccountStatementUseCase generateStatementUseCase,
+            PdfGeneratorService pdfGeneratorService,
+            CustomerEventListener customerEventListener,
+            StatementResultStore resultStore,
+            @Qualifier("statementJobExecutor") Executor jobExecutor
+    ) {
+        this.generateStatementUseCase = generateStatementUseCase;
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.customerEventListener = customerEventListener;
+        this.resultStore = resultStore;
+        this.jobExecutor = jobExecutor;
+    }
+
+    @Override
+    public StatementJob submit(UUID customerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        StatementJob job = StatementJob.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(StatementJobStatus.PENDING)
+                .progress(0)
+                .createdAt(Instant.now())
+                .build();
+
+        jobs.put(job.getId(), job);
+
+        Locale locale = LocaleContextHolder.getLocale();
+        try {
+            jobExecutor.execute(() -> run(job, locale));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        log.info("Statement job {} queued for customer: {} from {} to {}",
+                job.getId(), customerId, startDate, endDate);
+
+        return job;
+    }
+
+    @Override
+    public StatementJob getJob(UUID jobId) {
+        StatementJob job = jobs.get(jobId);
+        if (Objects.isNull(job)) {
+            throw StatementJobNotFoundException.withId(jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public Optional<Resource> getResult(UUID jobId) {
+        StatementJob job = getJob(jobId);
+
+        if (job.getStatus() != StatementJobStatus.COMPLETED) {
+            return Optional.empty();
+        }
+
+        Optional<Resource> result = resultStore.find(jobId);
+        if (result.isEmpty()) {
+            jobs.remove(jobId, job);
+            throw StatementJobResultExpiredException.withId(jobId);
+        }
+        return result;
+    }
+
+    @Override
+    public int evictFinishedBefore(Instant cutoff) {
+        List<UUID> evicted = new ArrayList<>();
+
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getStatus().isFinished()
+                    && Objects.nonNull(job.getCompletedAt())
+                    && job.getCompletedAt().isBefore(cutoff);
+            if (expired) {
+                evicted.add(job.getId());
+            }
+            return expired;
+        });
+
+        evicted.forEach(resultStore::delete);
+
+        return evicted.size();
+    }
+
+    private void run(StatementJob job, Locale locale) {
+        LocaleContextHolder.setLocale(locale);
+        try {
+            update(job.getId(), current -> current.toBuilder()
+                    .status(StatementJobStatus.RUNNING)
+                    .progress(PROGRESS_STARTED)
+                    .startedAt(Instant.now())
+                    .build());
+
+            AccountStatementReport report = generateStatementUseCase.generateStatement(
+                    job.getCustomerId(),
+                    job.getStartDate(),
+                    job.getEndDate()
+            );
+            String customerName = customerEventListener.getCustomerName(job.getCustomerId());
+
+            update(job.getId(), current -> current.toBuilder()
+                    .progress(PROGRESS_REPORT_READY)
+                    .build());
+
+            long size = resultStore.write(job.getId(),
+                    output -> pdfGeneratorService.writeAccountStatementPdf(report, customerName, output));
+
+            update(job.getId(), current -> current.toBuilder()
+                    .status(StatementJobStatus.COMPLETED)
+                    .progress(PROGRESS_DONE)
+                    .resultSize(size)
+                    .completedAt(Instant.now())
+                    .build());
+
+            log.info("Statement job {} completed ({} bytes)", job.getId(), size);
+        } catch (Exception e) {
+            log.error("Statement job {} failed: {}", job.getId(), e.getMessage(), e);
+
+            update(job.getId(), current -> current.toBuilder()
+                    .status(StatementJobStatus.FAILED)
+                    .errorMessage(e.getMessage())
+                    .completedAt(Instant.now())
+                    .build());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    private void update(UUID jobId, UnaryOperator<StatementJob> change) {
+        jobs.computeIfPresent(jobId, (id, current) -> change.apply(current));
+    }
+
+}
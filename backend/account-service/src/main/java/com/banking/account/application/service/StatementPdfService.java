@@ -0,0 +1,104 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementCacheKey;
+import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
+import com.banking.account.application.port.out.CustomerEventListener;
+import com.banking.account.application.port.out.StatementCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatementPdfService {
+
+    private final GenerateAccountStatementUseCase generateStatementUseCase;
+    private final CustomerEventListener customerEventListener;
+    private final PdfGeneratorService pdfGeneratorService;
+    private final StatementCache statementCache;
+
+    public Resource renderStatementPdf(
+            UUID customerId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) throws IOException {
+        if (!endDate.isBefore(LocalDateTime.now())) {
+            return renderToTempFile(customerId, startDate, endDate);
+        }
+
+        StatementCacheKey key = new StatementCacheKey(
+                customerId,
+                startDate,
+                endDate,
+                LocaleContextHolder.getLocale().toLanguageTag()
+        );
+
+        Optional<Resource> cached = statementCache.findPdf(key);
+        Optional<InputStream> cachedInput = cached.isPresent() ? open(cached.get()) : Optional.empty();
+        if (cachedInput.isPresent()) {
+            log.debug("Serving cached statement PDF for customer: {} from {} to {}", customerId, startDate, endDate);
+            return new InputStreamResource(cachedInput.get());
+        }
+
+        long version = statementCache.version(key);
+        Optional<Resource> stored = statementCache.putPdf(key, version,
+                output -> render(customerId, startDate, endDate, output));
+
+        Optional<InputStream> storedInput = stored.isPresent() ? open(stored.get()) : Optional.empty();
+        if (storedInput.isPresent()) {
+            return new InputStreamResource(storedInput.get());
+        }
+
+        return renderToTempFile(customerId, startDate, endDate);
+    }
+
+    private Resource renderToTempFile(UUID customerId, LocalDateTime startDate, LocalDateTime endDate)
+            throws IOException {
+        Path file = Files.createTempFile("statement-", ".pdf");
+
+        try {
+            try (OutputStream output = Files.newOutputStream(file)) {
+                render(customerId, startDate, endDate, output);
+            }
+            return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private void render(UUID customerId, LocalDateTime startDate, LocalDateTime endDate, OutputStream output) {
+        AccountStatementReport summary = generateStatementUseCase.generateStatementSummary(customerId, startDate, endDate);
+        String customerName = customerEventListener.getCustomerName(customerId);
+
+        pdfGeneratorService.writeAccountStatementPdf(summary, customerName,
+                accountData -> generateStatementUseCase.streamTransactions(
+                        accountData.getAccount().getId(), startDate, endDate),
+                output);
+    }
+
+    private Optional<InputStream> open(Resource resource) throws IOException {
+        try {
+            return Optional.of(resource.getInputStream());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -36,6 +36,7 @@ public class TransactionService implements TransactionUseCase {
     private final TransactionRepository transactionRepository;
     private final AccountResponseMapper mapper;
     private final DomainEventPublisher eventPublisher;
+    private final StatementCacheInvalidator statementCacheInvalidator;
 
     @Override
     @Transactional
@@ -87,6 +88,7 @@ public class TransactionService implements TransactionUseCase {
         );
 
         eventPublisher.publish(savedAccount.getDomainEvents());
+        statementCacheInvalidator.onDomainEvents(savedAccount.getDomainEvents());
         savedAccount.clearDomainEvents();
 
         log.debug("Transaction {} completed and events published", savedTransaction.getId());
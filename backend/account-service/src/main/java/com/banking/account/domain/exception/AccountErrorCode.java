@@ -35,7 +35,12 @@ public enum AccountErrorCode {
     ACCOUNT_BUSINESS_INVALID_TRANSACTION("error.account.business.transaction.invalid"),
 
     ACCOUNT_BUSINESS_INVALID_STATUS_TRANSITION("error.account.business.invalid.status.transition"),
-    ACCOUNT_BUSINESS_CLOSE_WITH_BALANCE("error.account.business.close.with.balance");
+    ACCOUNT_BUSINESS_CLOSE_WITH_BALANCE("error.account.business.close.with.balance"),
+
+    STATEMENT_JOB_NOT_FOUND("error.statement.job.not.found"),
+    STATEMENT_JOB_RESULT_EXPIRED("error.statement.job.result.expired"),
+
+    ACCOUNT_SERVICE_BUSY("error.account.service.busy");
 
     private final String code;
 
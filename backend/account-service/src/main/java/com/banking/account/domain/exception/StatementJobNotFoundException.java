@@ -0,0 +1,18 @@
+package com.banking.account.domain.exception;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class StatementJobNotFoundException extends AccountDomainException {
+
+    private StatementJobNotFoundException(Map<String, Object> parameters) {
+        super(AccountErrorCode.STATEMENT_JOB_NOT_FOUND, parameters);
+    }
+
+    public static StatementJobNotFoundException withId(UUID jobId) {
+        return new StatementJobNotFoundException(
+                Map.of("jobId", jobId.toString())
+        );
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.banking.account.domain.exception;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class StatementJobResultExpiredException extends AccountDomainException {
+
+    private StatementJobResultExpiredException(Map<String, Object> parameters) {
+        super(AccountErrorCode.STATEMENT_JOB_RESULT_EXPIRED, parameters);
+    }
+
+    public static StatementJobResultExpiredException withId(UUID jobId) {
+        return new StatementJobResultExpiredException(
+                Map.of("jobId", jobId.toString())
+        );
+    }
+
+}
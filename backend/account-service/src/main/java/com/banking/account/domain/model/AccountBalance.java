@@ -0,0 +1,12 @@
+package com.banking.account.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AccountBalance(
+        UUID accountId,
+        String accountNumber,
+        BigDecimal currentBalance,
+        AccountStatus status
+) {
+}
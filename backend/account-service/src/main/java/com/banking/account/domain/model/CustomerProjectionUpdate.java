@@ -0,0 +1,45 @@
+package com.banking.account.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CustomerProjectionUpdate(
+        UUID customerId,
+        String fullName,
+        CustomerStatus status,
+        Instant occurredAt,
+        long sequence
+) {
+
+    public static CustomerProjectionUpdate created(
+            UUID customerId,
+            String fullName,
+            CustomerStatus status,
+            Instant occurredAt,
+            long sequence
+    ) {
+        return new CustomerProjectionUpdate(customerId, fullName, status, occurredAt, sequence);
+    }
+
+    public static CustomerProjectionUpdate renamed(UUID customerId, String fullName, Instant occurredAt, long sequence) {
+        return new CustomerProjectionUpdate(customerId, fullName, null, occurredAt, sequence);
+    }
+
+    public static CustomerProjectionUpdate statusChanged(
+            UUID customerId,
+            CustomerStatus status,
+            Instant occurredAt,
+            long sequence
+    ) {
+        return new CustomerProjectionUpdate(customerId, null, status, occurredAt, sequence);
+    }
+
+    public boolean setsName() {
+        return fullName != null;
+    }
+
+    public boolean setsStatus() {
+        return status != null;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.banking.account.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record TransactionTotals(
+        UUID accountId,
+        BigDecimal totalDebits,
+        BigDecimal totalCredits
+) {
+
+    public static TransactionTotals empty(UUID accountId) {
+        return new TransactionTotals(accountId, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+}
@@ -2,11 +2,14 @@ package com.banking.account.domain.repository;
 
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.domain.model.Account;
+import com.banking.account.domain.model.AccountBalance;
 import com.banking.account.domain.model.AccountNumber;
 import com.banking.account.domain.model.AccountStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,8 +22,18 @@ public interface AccountRepository {
 
     Optional<Account> findByAccountNumber(AccountNumber accountNumber);
 
+    List<Account> findAllByIds(Collection<UUID> ids);
+
+    List<Account> findAllByAccountNumbers(Collection<AccountNumber> accountNumbers);
+
+    List<AccountBalance> findBalancesByIds(Collection<UUID> ids);
+
+    List<AccountBalance> findBalancesByAccountNumbers(Collection<AccountNumber> accountNumbers);
+
     List<Account> findByCustomerId(UUID customerId);
 
+    List<Account> findByCustomerIds(Collection<UUID> customerIds);
+
     Page<Account> findByCustomerId(UUID customerId, Pageable pageable);
 
     Page<Account> findAll(AccountFilter filter, Pageable pageable);
@@ -31,6 +44,10 @@ public interface AccountRepository {
 
     Optional<Account> findByIdAndCustomerId(UUID id, UUID customerId);
 
+    Optional<Instant> findLastModifiedById(UUID id);
+
+    Optional<Instant> findLastModified();
+
     void deleteById(UUID id);
 
     void deleteAll();
@@ -1,7 +1,11 @@
 package com.banking.account.domain.repository;
 
 import com.banking.account.domain.model.CustomerInfo;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,8 +13,18 @@ public interface CustomerProjectionRepository {
 
     void save(CustomerInfo customerInfo);
 
+    boolean upsert(CustomerProjectionUpdate update);
+
+    void upsertAll(Collection<CustomerProjectionUpdate> updates);
+
     Optional<CustomerInfo> findById(UUID customerId);
 
+    Map<UUID, String> findNamesByIds(Collection<UUID> customerIds);
+
     boolean existsById(UUID customerId);
 
+    boolean isEmpty();
+
+    List<CustomerInfo> findActiveAfter(UUID afterCustomerId, int limit);
+
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.banking.account.domain.repository;
 
 import com.banking.account.domain.model.Transaction;
+import com.banking.account.domain.model.TransactionTotals;
 import com.banking.account.domain.model.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +25,12 @@ public interface TransactionRepository {
 
     List<Transaction> findByAccountIdAndDateRange(UUID accountId, LocalDateTime startDate, LocalDateTime endDate);
 
+    List<Transaction> findPageByAccountIdAndDateRange(UUID accountId, LocalDateTime startDate, LocalDateTime endDate, Transaction previous, int limit);
+
+    List<Transaction> findByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDateTime startDate, LocalDateTime endDate);
+
+    List<TransactionTotals> sumTotalsByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDateTime startDate, LocalDateTime endDate);
+
     List<Transaction> findByAccountIdAndTypeAndDateRange(UUID accountId, TransactionType type, LocalDateTime startDate, LocalDateTime endDate);
 
     BigDecimal sumAmountByAccountIdAndTypeAndDateRange(UUID accountId, TransactionType type, LocalDateTime startDate, LocalDateTime endDate);
@@ -0,0 +1,208 @@
+package com.banking.account.infrastructure.cache;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementCacheKey;
+import com.banking.account.application.port.out.StatementCache;
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.infrastructure.config.StatementCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class TieredStatementCache implements StatementCache {
+
+    private static final String PDF_SUFFIX = ".pdf";
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int MAX_TRACKED_VERSIONS = 10_000;
+
+    private final Path storageDir;
+    private final long maxDiskBytes;
+    private final Map<StatementCacheKey, AccountStatementReport> reports;
+    private final Map<StatementCacheKey, CachedPdf> pdfs = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, Long> versions;
+    private long versionCounter;
+    private long versionFloor;
+    private long diskBytes;
+
+    public TieredStatementCache(StatementCacheProperties properties) {
+        this.storageDir = properties.storageDir();
+        this.maxDiskBytes = properties.maxDiskSize().toBytes();
+        this.reports = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementCacheKey, AccountStatementReport> eldest) {
+                return size() > properties.maxReports();
+            }
+        };
+        this.versions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                if (size() <= MAX_TRACKED_VERSIONS) {
+                    return false;
+                }
+                versionFloor = Math.max(versionFloor, eldest.getValue());
+                return true;
+            }
+        };
+
+        try {
+            Files.createDirectories(storageDir);
+            purgeStorageDir();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare statement cache directory " + storageDir, e);
+        }
+    }
+
+    @Override
+    public synchronized long version(StatementCacheKey key) {
+        return versions.getOrDefault(key.customerId(), versionFloor);
+    }
+
+    @Override
+    public synchronized Optional<AccountStatementReport> findReport(StatementCacheKey key) {
+        return Optional.ofNullable(reports.get(key));
+    }
+
+    @Override
+    public synchronized void putReport(StatementCacheKey key, long version, AccountStatementReport report) {
+        if (version == version(key)) {
+            reports.put(key, report);
+        }
+    }
+
+    @Override
+    public synchronized Optional<Resource> findPdf(StatementCacheKey key) {
+        CachedPdf cached = pdfs.get(key);
+        if (Objects.isNull(cached)) {
+            return Optional.empty();
+        }
+
+        if (!Files.isRegularFile(cached.path())) {
+            pdfs.remove(key);
+            diskBytes -= cached.size();
+            return Optional.empty();
+        }
+
+        return Optional.of(new FileSystemResource(cached.path()));
+    }
+
+    @Override
+    public Optional<Resource> putPdf(StatementCacheKey key, long version, StatementResultStore.ResultWriter writer)
+            throws IOException {
+        Path partial = storageDir.resolve(UUID.randomUUID() + PARTIAL_SUFFIX);
+
+        try (OutputStream output = Files.newOutputStream(partial)) {
+            writer.writeTo(output);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+
+        synchronized (this) {
+            if (version != version(key)) {
+                Files.deleteIfExists(partial);
+                return Optional.empty();
+            }
+
+            Path target = pdfPath(key);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            CachedPdf previous = pdfs.put(key, new CachedPdf(target, Files.size(target)));
+            if (Objects.nonNull(previous)) {
+                diskBytes -= previous.size();
+            }
+            diskBytes += pdfs.get(key).size();
+
+            evictOverflow();
+
+            return pdfs.containsKey(key)
+                    ? Optional.of(new FileSystemResource(target))
+                    : Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized int evictCustomer(UUID customerId) {
+        versions.put(customerId, ++versionCounter);
+
+        Predicate<StatementCacheKey> matches = key -> key.customerId().equals(customerId);
+        int evicted = 0;
+
+        Iterator<StatementCacheKey> reportKeys = reports.keySet().iterator();
+        while (reportKeys.hasNext()) {
+            if (matches.test(reportKeys.next())) {
+                reportKeys.remove();
+                evicted++;
+            }
+        }
+
+        Iterator<Map.Entry<StatementCacheKey, CachedPdf>> pdfEntries = pdfs.entrySet().iterator();
+        while (pdfEntries.hasNext()) {
+            Map.Entry<StatementCacheKey, CachedPdf> entry = pdfEntries.next();
+            if (matches.test(entry.getKey())) {
+                pdfEntries.remove();
+                deleteFile(entry.getValue());
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            log.debug("Evicted {} cached statement entries for customer {}", evicted, customerId);
+        }
+
+        return evicted;
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedPdf> eldest = pdfs.values().iterator();
+        while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+            CachedPdf cached = eldest.next();
+            eldest.remove();
+            deleteFile(cached);
+        }
+    }
+
+    private void deleteFile(CachedPdf cached) {
+        diskBytes -= cached.size();
+        try {
+            Files.deleteIfExists(cached.path());
+        } catch (IOException e) {
+            log.warn("Could not delete cached statement {}: {}", cached.path(), e.getMessage());
+        }
+    }
+
+    private void purgeStorageDir() throws IOException {
+        try (Stream<Path> files = Files.list(storageDir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Path pdfPath(StatementCacheKey key) {
+        UUID name = UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8));
+        return storageDir.resolve(name + PDF_SUFFIX);
+    }
+
+    private record CachedPdf(Path path, long size) {
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.banking.account.infrastructure.client;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.application.port.out.CustomerSnapshotSource;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.infrastructure.config.ProjectionBootstrapProperties;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+public class HttpCustomerSnapshotSource implements CustomerSnapshotSource {
+
+    private final RestClient restClient;
+    private final ObjectReader lineReader;
+    private final ProjectionBootstrapProperties properties;
+
+    public HttpCustomerSnapshotSource(
+            RestClient.Builder restClientBuilder,
+            ObjectMapper objectMapper,
+            ProjectionBootstrapProperties properties
+    ) {
+        this.restClient = restClientBuilder.build();
+        this.lineReader = objectMapper.readerFor(SnapshotLine.class);
+        this.properties = properties;
+    }
+
+    @Override
+    public CustomerSnapshotResult stream(int batchSize, Consumer<List<CustomerProjectionUpdate>> batchConsumer) {
+        return restClient.get()
+                .uri(properties.snapshotUri())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new IllegalStateException("Customer snapshot request failed with " + response.getStatusCode());
+                    }
+                    return readSnapshot(response.getBody(), batchSize, batchConsumer);
+                });
+    }
+
+    private CustomerSnapshotResult readSnapshot(
+            InputStream body,
+            int batchSize,
+            Consumer<List<CustomerProjectionUpdate>> batchConsumer
+    ) {
+        List<CustomerProjectionUpdate> batch = new ArrayList<>(batchSize);
+        long received = 0;
+
+        try (MappingIterator<SnapshotLine> lines = lineReader.readValues(body)) {
+            while (lines.hasNextValue()) {
+                SnapshotLine line = lines.nextValue();
+
+                if (Objects.isNull(line.id())) {
+                    if (line.count() != received) {
+                        throw new IllegalStateException("Customer snapshot announced " + line.count()
+                                + " customers but streamed " + received);
+                    }
+                    batchConsumer.accept(batch);
+                    return new CustomerSnapshotResult(line.mark(), received);
+                }
+
+                batch.add(line.toUpdate());
+                received++;
+
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read customer snapshot", e);
+        }
+
+        throw new IllegalStateException("Customer snapshot ended after " + received + " customers without a trailer");
+    }
+
+    private record SnapshotLine(
+            UUID id,
+            String name,
+            String status,
+            Long sequence,
+            Long mark,
+            Long count
+    ) {
+
+        CustomerProjectionUpdate toUpdate() {
+            return CustomerProjectionUpdate.created(
+                    id,
+                    name,
+                    "ACTIVE".equalsIgnoreCase(status) ? CustomerStatus.ACTIVE : CustomerStatus.INACTIVE,
+                    Instant.EPOCH.plus(sequence, ChronoUnit.MICROS),
+                    sequence
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.banking.account.infrastructure.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+
+@Slf4j
+public class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService delegate;
+    private final Semaphore running;
+    private final Semaphore admitted;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrent, int maxPending) {
+        if (maxConcurrent <= 0 || maxPending < 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive and maxPending non-negative");
+        }
+
+        this.delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+        );
+        this.running = new Semaphore(maxConcurrent);
+        this.admitted = new Semaphore(maxConcurrent + maxPending);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admitted.tryAcquire()) {
+            throw new RejectedExecutionException("Too many pending tasks, try again later");
+        }
+
+        try {
+            delegate.execute(() -> runBounded(task));
+        } catch (RejectedExecutionException e) {
+            admitted.release();
+            throw e;
+        }
+    }
+
+    public int availableSlots() {
+        return admitted.availablePermits();
+    }
+
+    private void runBounded(Runnable task) {
+        try {
+            running.acquire();
+            try {
+                task.run();
+            } finally {
+                running.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Task interrupted while waiting for a worker slot");
+        } finally {
+            admitted.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdownNow();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "messaging.customer-events")
+public record CustomerEventBatchProperties(
+        int batchSize,
+        Duration receiveTimeout,
+        Coalescing coalescing
+) {
+
+    public record Coalescing(
+            Duration window,
+            int maxPending
+    ) {
+    }
+
+}
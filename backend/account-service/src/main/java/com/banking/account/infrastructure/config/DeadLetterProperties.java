@@ -0,0 +1,16 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "messaging.dead-letters")
+public record DeadLetterProperties(
+        List<String> queues,
+        int maxPageSize,
+        double replayRate,
+        int replayConcurrency,
+        Duration confirmTimeout
+) {
+}
@@ -0,0 +1,13 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "messaging.retry")
+public record DelayedRetryProperties(
+        List<Duration> delays,
+        Duration confirmTimeout
+) {
+}
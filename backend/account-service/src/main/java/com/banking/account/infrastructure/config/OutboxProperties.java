@@ -0,0 +1,16 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "outbox")
+public record OutboxProperties(
+        int batchSize,
+        Duration pollInterval,
+        Duration confirmTimeout,
+        Duration claimTimeout,
+        int maxAttempts,
+        boolean envelopes
+) {
+}
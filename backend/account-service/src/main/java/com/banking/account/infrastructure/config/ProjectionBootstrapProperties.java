@@ -0,0 +1,14 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+
+@ConfigurationProperties(prefix = "projection.bootstrap")
+public record ProjectionBootstrapProperties(
+        boolean enabled,
+        boolean onlyIfEmpty,
+        URI snapshotUri,
+        int batchSize
+) {
+}
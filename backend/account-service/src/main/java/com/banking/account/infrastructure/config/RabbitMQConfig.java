@@ -1,23 +1,45 @@
 package com.banking.account.infrastructure.config;
 
+import com.banking.account.infrastructure.messaging.retry.DelayedRetryRecoverer;
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardConsumer;
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardHaltingRecoverer;
+import com.banking.commons.config.EmbeddedBusConfig;
+import com.banking.commons.messaging.codec.EventCodecMessageConverter;
+import com.banking.contracts.codec.BinaryEventCodec;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.backoff.ExponentialBackOffPolicy;
-import org.springframework.retry.policy.SimpleRetryPolicy;
-import org.springframework.retry.support.RetryTemplate;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
+@EnableConfigurationProperties({
+        OutboxProperties.class,
+        CustomerEventBatchProperties.class,
+        ProjectionBootstrapProperties.class,
+        TransactionShardProperties.class,
+        DelayedRetryProperties.class,
+        DeadLetterProperties.class,
+        TransactionStreamProperties.class
+})
 public class RabbitMQConfig {
 
     public static final String ACCOUNT_EXCHANGE = "account.exchange";
     public static final String ACCOUNT_DLX_EXCHANGE = "account.dlx.exchange";
+    public static final String ACCOUNT_RETRY_PREFIX = "account.retry.";
 
     public static final String ACCOUNT_CREATED_QUEUE = "account.created";
     public static final String ACCOUNT_UPDATED_QUEUE = "account.updated";
@@ -30,11 +52,22 @@ public class RabbitMQConfig {
     public static final String ACCOUNT_CREATED_ROUTING_KEY = "account.created";
     public static final String ACCOUNT_UPDATED_ROUTING_KEY = "account.updated";
     public static final String TRANSACTION_CREATED_ROUTING_KEY = "transaction.created";
+    public static final String TRANSACTION_SHARD_QUEUE_PREFIX = "transaction.created.shard.";
 
     public static final String CUSTOMER_EXCHANGE = "customer.exchange";
     public static final String CUSTOMER_CREATED_QUEUE = "customer.created.account";
     public static final String CUSTOMER_UPDATED_QUEUE = "customer.updated.account";
     public static final String CUSTOMER_STATUS_CHANGED_QUEUE = "customer.status.changed.account";
+    public static final String CUSTOMER_CREATED_DLQ = "customer.created.account.dlq";
+    public static final String CUSTOMER_CREATED_DLQ_ROUTING_KEY = "customer.created.dlq";
+    public static final String CUSTOMER_UPDATED_DLQ = "customer.updated.account.dlq";
+    public static final String CUSTOMER_UPDATED_DLQ_ROUTING_KEY = "customer.updated.dlq";
+    public static final String CUSTOMER_STATUS_CHANGED_DLQ = "customer.status.changed.account.dlq";
+    public static final String CUSTOMER_STATUS_CHANGED_DLQ_ROUTING_KEY = "customer.status.changed.dlq";
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchRabbitListenerContainerFactory";
+    public static final String SHARDED_LISTENER_CONTAINER_FACTORY = "shardedRabbitListenerContainerFactory";
+    public static final String COALESCING_LISTENER_CONTAINER_FACTORY = "coalescingRabbitListenerContainerFactory";
 
     private static final int MAX_RETRY_ATTEMPTS = 3;
     private static final long INITIAL_RETRY_INTERVAL = 1000L;
@@ -81,6 +114,74 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    @Bean
+    public Declarables transactionShardQueues(
+            TransactionShardProperties properties,
+            ObjectProvider<TransactionShardConsumer> consumers,
+            Environment environment
+    ) {
+        List<String> consumerNames = environment.matchesProfiles(EmbeddedBusConfig.EMBEDDED_PROFILE)
+                ? List.of()
+                : consumers.orderedStream().map(TransactionShardConsumer::name).toList();
+
+        List<Declarable> declarables = new ArrayList<>();
+
+        for (int shard = 0; shard < properties.count(); shard++) {
+            if (properties.enabled()) {
+                addTransactionShardQueue(declarables, transactionShardQueue(shard), shard);
+            }
+            for (String consumer : consumerNames) {
+                addTransactionShardQueue(declarables, transactionShardQueue(consumer, shard), shard);
+            }
+        }
+
+        return new Declarables(declarables);
+    }
+
+    private void addTransactionShardQueue(List<Declarable> declarables, String name, int shard) {
+        Queue queue = QueueBuilder.durable(name)
+                .singleActiveConsumer()
+                .withArgument("x-dead-letter-exchange", ACCOUNT_DLX_EXCHANGE)
+                .withArgument("x-dead-letter-routing-key", TRANSACTION_CREATED_ROUTING_KEY)
+                .build();
+
+        declarables.add(queue);
+        declarables.add(BindingBuilder
+                .bind(queue)
+                .to(accountExchange())
+                .with(transactionShardRoutingKey(shard)));
+    }
+
+    @Bean
+    public Declarables retryDelayTiers(DelayedRetryProperties properties) {
+        List<Declarable> declarables = new ArrayList<>(properties.delays().size() * 3);
+
+        for (Duration delay : properties.delays()) {
+            FanoutExchange exchange = new FanoutExchange(retryDelayExchange(delay), true, false);
+            Queue queue = QueueBuilder.durable(retryDelayQueue(delay))
+                    .ttl(Math.toIntExact(delay.toMillis()))
+                    .deadLetterExchange("")
+                    .build();
+
+            declarables.add(exchange);
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange));
+        }
+
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "messaging.transaction-stream", name = "enabled", havingValue = "true")
+    public Queue transactionStream(TransactionStreamProperties properties) {
+        return QueueBuilder.durable(properties.name())
+                .stream()
+                .withArgument("x-max-age", properties.maxAge().toSeconds() + "s")
+                .withArgument("x-max-length-bytes", properties.maxLength().toBytes())
+                .withArgument("x-stream-max-segment-size-bytes", properties.maxSegmentSize().toBytes())
+                .build();
+    }
+
     @Bean
     public Queue accountCreatedDlq() {
         return QueueBuilder.durable(ACCOUNT_CREATED_DLQ).build();
@@ -100,26 +201,41 @@ public class RabbitMQConfig {
     public Queue customerCreatedAccountQueue() {
         return QueueBuilder.durable(CUSTOMER_CREATED_QUEUE)
                 .withArgument("x-dead-letter-exchange", ACCOUNT_DLX_EXCHANGE)
-                .withArgument("x-dead-letter-routing-key", "customer.created.dlq")
+                .withArgument("x-dead-letter-routing-key", CUSTOMER_CREATED_DLQ_ROUTING_KEY)
                 .build();
     }
 
+    @Bean
+    public Queue customerCreatedAccountDlq() {
+        return QueueBuilder.durable(CUSTOMER_CREATED_DLQ).build();
+    }
+
     @Bean
     public Queue customerUpdatedAccountQueue() {
         return QueueBuilder.durable(CUSTOMER_UPDATED_QUEUE)
                 .withArgument("x-dead-letter-exchange", ACCOUNT_DLX_EXCHANGE)
-                .withArgument("x-dead-letter-routing-key", "customer.updated.dlq")
+                .withArgument("x-dead-letter-routing-key", CUSTOMER_UPDATED_DLQ_ROUTING_KEY)
                 .build();
     }
 
+    @Bean
+    public Queue customerUpdatedAccountDlq() {
+        return QueueBuilder.durable(CUSTOMER_UPDATED_DLQ).build();
+    }
+
     @Bean
     public Queue customerStatusChangedAccountQueue() {
         return QueueBuilder.durable(CUSTOMER_STATUS_CHANGED_QUEUE)
                 .withArgument("x-dead-letter-exchange", ACCOUNT_DLX_EXCHANGE)
-                .withArgument("x-dead-letter-routing-key", "customer.status.changed.dlq")
+                .withArgument("x-dead-letter-routing-key", CUSTOMER_STATUS_CHANGED_DLQ_ROUTING_KEY)
                 .build();
     }
 
+    @Bean
+    public Queue customerStatusChangedAccountDlq() {
+        return QueueBuilder.durable(CUSTOMER_STATUS_CHANGED_DLQ).build();
+    }
+
     @Bean
     public Binding accountCreatedBinding() {
         return BindingBuilder
@@ -141,7 +257,7 @@ public class RabbitMQConfig {
         return BindingBuilder
                 .bind(transactionCreatedQueue())
                 .to(accountExchange())
-                .with(TRANSACTION_CREATED_ROUTING_KEY);
+                .with(TRANSACTION_CREATED_ROUTING_KEY + ".#");
     }
 
     @Bean
@@ -176,6 +292,30 @@ public class RabbitMQConfig {
                 .with("customer.created");
     }
 
+    @Bean
+    public Binding customerCreatedAccountDlqBinding() {
+        return BindingBuilder
+                .bind(customerCreatedAccountDlq())
+                .to(accountDlxExchange())
+                .with(CUSTOMER_CREATED_DLQ_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding customerUpdatedAccountDlqBinding() {
+        return BindingBuilder
+                .bind(customerUpdatedAccountDlq())
+                .to(accountDlxExchange())
+                .with(CUSTOMER_UPDATED_DLQ_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding customerStatusChangedAccountDlqBinding() {
+        return BindingBuilder
+                .bind(customerStatusChangedAccountDlq())
+                .to(accountDlxExchange())
+                .with(CUSTOMER_STATUS_CHANGED_DLQ_ROUTING_KEY);
+    }
+
     @Bean
     public Binding customerUpdatedAccountBinding() {
         return BindingBuilder
@@ -201,48 +341,116 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter() {
+        return new EventCodecMessageConverter(new Jackson2JsonMessageConverter(), new BinaryEventCodec(), false);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter());
         return rabbitTemplate;
     }
 
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            SimpleRabbitListenerContainerFactoryConfigurer configurer
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            DelayedRetryRecoverer delayedRetryRecoverer
     ) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         configurer.configure(factory, connectionFactory);
 
-        factory.setMessageConverter(jsonMessageConverter());
+        factory.setMessageConverter(messageConverter());
         factory.setPrefetchCount(PREFETCH_COUNT);
-        factory.setRetryTemplate(retryTemplate());
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(delayedRetryRecoverer)
+                .build());
         factory.setDefaultRequeueRejected(false);
 
         return factory;
     }
 
-    @Bean
-    public RetryTemplate retryTemplate() {
-        RetryTemplate retryTemplate = new RetryTemplate();
+    @Bean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            CustomerEventBatchProperties properties
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setMessageConverter(messageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.batchSize());
+        factory.setReceiveTimeout(properties.receiveTimeout().toMillis());
+        factory.setPrefetchCount(properties.batchSize() * 2);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+
+        return factory;
+    }
+
+    @Bean(name = COALESCING_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory coalescingRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            CustomerEventBatchProperties properties
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setMessageConverter(messageConverter());
+        factory.setPrefetchCount(properties.coalescing().maxPending());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+
+        return factory;
+    }
+
+    @Bean(name = SHARDED_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory shardedRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            TransactionShardProperties properties,
+            TransactionShardHaltingRecoverer haltingRecoverer
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setMessageConverter(messageConverter());
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(properties.prefetch());
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(MAX_RETRY_ATTEMPTS)
+                .backOffOptions(INITIAL_RETRY_INTERVAL, RETRY_MULTIPLIER, MAX_RETRY_INTERVAL)
+                .recoverer(haltingRecoverer)
+                .build());
+        factory.setDefaultRequeueRejected(false);
+
+        return factory;
+    }
+
+    public static String retryDelayExchange(Duration delay) {
+        return ACCOUNT_RETRY_PREFIX + delay.toMillis() + "ms.exchange";
+    }
 
-        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
-        backOffPolicy.setInitialInterval(INITIAL_RETRY_INTERVAL);
-        backOffPolicy.setMultiplier(RETRY_MULTIPLIER);
-        backOffPolicy.setMaxInterval(MAX_RETRY_INTERVAL);
-        retryTemplate.setBackOffPolicy(backOffPolicy);
+    public static String retryDelayQueue(Duration delay) {
+        return ACCOUNT_RETRY_PREFIX + delay.toMillis() + "ms";
+    }
 
-        SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy();
-        retryPolicy.setMaxAttempts(MAX_RETRY_ATTEMPTS);
-        retryTemplate.setRetryPolicy(retryPolicy);
+    public static String transactionShardQueue(int shard) {
+        return TRANSACTION_SHARD_QUEUE_PREFIX + shard;
+    }
+
+    public static String transactionShardQueue(String consumer, int shard) {
+        return TRANSACTION_CREATED_QUEUE + "." + consumer + ".shard." + shard;
+    }
 
-        return retryTemplate;
+    public static String transactionShardRoutingKey(int shard) {
+        return TRANSACTION_CREATED_ROUTING_KEY + "." + shard;
     }
 
-}
\ No newline at end of file
+}
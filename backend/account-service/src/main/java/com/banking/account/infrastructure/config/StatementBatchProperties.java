@@ -0,0 +1,17 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+@ConfigurationProperties(prefix = "report.batch")
+public record StatementBatchProperties(
+        boolean enabled,
+        String cron,
+        Path outputDir,
+        int partitionSize,
+        int parallelism,
+        Locale locale
+) {
+}
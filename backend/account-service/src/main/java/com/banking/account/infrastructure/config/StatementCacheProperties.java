@@ -0,0 +1,14 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "report.cache")
+public record StatementCacheProperties(
+        int maxReports,
+        DataSize maxDiskSize,
+        Path storageDir
+) {
+}
@@ -0,0 +1,29 @@
+package com.banking.account.infrastructure.config;
+
+import com.banking.account.infrastructure.concurrent.BoundedVirtualThreadExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({
+        StatementJobProperties.class,
+        StatementCacheProperties.class,
+        StatementBatchProperties.class
+})
+public class StatementJobConfig {
+
+    public static final String STATEMENT_JOB_EXECUTOR = "statementJobExecutor";
+
+    @Bean(name = STATEMENT_JOB_EXECUTOR, destroyMethod = "close")
+    public BoundedVirtualThreadExecutor statementJobExecutor(StatementJobProperties properties) {
+        return new BoundedVirtualThreadExecutor(
+                "statement-job-",
+                properties.maxConcurrent(),
+                properties.maxPending()
+        );
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "report.jobs")
+public record StatementJobProperties(
+        int maxConcurrent,
+        int maxPending,
+        Path storageDir,
+        Duration resultTtl
+) {
+}
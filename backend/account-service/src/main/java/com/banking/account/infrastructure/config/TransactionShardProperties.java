@@ -0,0 +1,11 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "messaging.transaction-shards")
+public record TransactionShardProperties(
+        boolean enabled,
+        int count,
+        int prefetch
+) {
+}
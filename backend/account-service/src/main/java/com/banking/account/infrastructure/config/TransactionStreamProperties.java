@@ -0,0 +1,18 @@
+package com.banking.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "messaging.transaction-stream")
+public record TransactionStreamProperties(
+        boolean enabled,
+        String name,
+        Duration maxAge,
+        DataSize maxLength,
+        DataSize maxSegmentSize,
+        String startFrom,
+        int offsetCommitInterval
+) {
+}
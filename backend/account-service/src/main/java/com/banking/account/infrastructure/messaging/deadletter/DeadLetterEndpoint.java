@@ -0,0 +1,74 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import com.banking.account.infrastructure.config.DeadLetterProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterEndpoint {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final DeadLetterQueueService deadLetterQueueService;
+    private final DeadLetterProperties properties;
+
+    @ReadOperation
+    public Map<String, Long> queues() {
+        return deadLetterQueueService.depths();
+    }
+
+    @ReadOperation
+    public DeadLetterPage page(
+            @Selector String queue,
+            @Nullable Integer offset,
+            @Nullable Integer limit
+    ) {
+        requireKnownQueue(queue);
+        return deadLetterQueueService.page(
+                queue,
+                Objects.requireNonNullElse(offset, 0),
+                Objects.requireNonNullElse(limit, DEFAULT_PAGE_SIZE)
+        );
+    }
+
+    @WriteOperation
+    public DeadLetterReplayResult replay(
+            @Selector String queue,
+            @Nullable String routingKey,
+            @Nullable String eventType,
+            @Nullable String errorContains,
+            @Nullable Long limit,
+            @Nullable Double ratePerSecond,
+            @Nullable Integer concurrency,
+            @Nullable Boolean dryRun
+    ) {
+        requireKnownQueue(queue);
+        return deadLetterQueueService.replay(queue, new DeadLetterReplayRequest(
+                routingKey,
+                eventType,
+                errorContains,
+                Objects.requireNonNullElse(limit, 0L),
+                Objects.requireNonNullElse(ratePerSecond, properties.replayRate()),
+                Objects.requireNonNullElse(concurrency, properties.replayConcurrency()),
+                Objects.requireNonNullElse(dryRun, false)
+        ));
+    }
+
+    private void requireKnownQueue(String queue) {
+        if (!deadLetterQueueService.isKnownQueue(queue)) {
+            throw new InvalidEndpointRequestException("Unknown dead letter queue: " + queue, "Unknown dead letter queue");
+        }
+    }
+
+}
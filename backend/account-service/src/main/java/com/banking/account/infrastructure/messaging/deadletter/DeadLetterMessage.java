@@ -0,0 +1,18 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import java.time.Instant;
+
+public record DeadLetterMessage(
+        long position,
+        String messageId,
+        String eventType,
+        String originExchange,
+        String originRoutingKey,
+        String originQueue,
+        String reason,
+        long deathCount,
+        Instant deadLetteredAt,
+        String lastError,
+        Object payload
+) {
+}
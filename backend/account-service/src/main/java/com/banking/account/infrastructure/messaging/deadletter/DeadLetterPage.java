@@ -0,0 +1,11 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import java.util.List;
+
+public record DeadLetterPage(
+        String queue,
+        long depth,
+        int offset,
+        List<DeadLetterMessage> messages
+) {
+}
@@ -0,0 +1,342 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import com.banking.account.infrastructure.config.DeadLetterProperties;
+import com.banking.account.infrastructure.messaging.retry.DelayedRetryRecoverer;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.GetResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class DeadLetterQueueService {
+
+    private static final String CONNECTION_NAME = "dead-letter-tool";
+    private static final String DEFAULT_EXCHANGE = "";
+    private static final String REPLAYED_FROM_HEADER = "x-replayed-from";
+    private static final String REPLAY_ID_HEADER = "x-replay-id";
+    private static final List<String> DEATH_HEADERS = List.of(
+            "x-death",
+            "x-first-death-exchange",
+            "x-first-death-queue",
+            "x-first-death-reason",
+            "x-last-death-exchange",
+            "x-last-death-queue",
+            "x-last-death-reason"
+    );
+
+    private final CachingConnectionFactory connectionFactory;
+    private final AmqpAdmin amqpAdmin;
+    private final MessageConverter messageConverter;
+    private final DeadLetterProperties properties;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+    public DeadLetterQueueService(
+            CachingConnectionFactory connectionFactory,
+            AmqpAdmin amqpAdmin,
+            MessageConverter messageConverter,
+            DeadLetterProperties properties
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.amqpAdmin = amqpAdmin;
+        this.messageConverter = messageConverter;
+        this.properties = properties;
+    }
+
+    public boolean isKnownQueue(String queue) {
+        return properties.queues().contains(queue);
+    }
+
+    public Map<String, Long> depths() {
+        Map<String, Long> depths = new LinkedHashMap<>();
+        properties.queues().forEach(queue -> depths.put(queue, depth(queue)));
+        return depths;
+    }
+
+    public DeadLetterPage page(String queue, int offset, int limit) {
+        long depth = depth(queue);
+        int from = (int) Math.clamp(offset, 0L, depth);
+        int size = Math.clamp(limit, 1, properties.maxPageSize());
+
+        List<DeadLetterMessage> messages = new ArrayList<>(size);
+        try (Connection connection = newConnection(); Channel channel = connection.createChannel()) {
+            for (long position = 0; position < (long) from + size; position++) {
+                GetResponse response = channel.basicGet(queue, false);
+                if (Objects.isNull(response)) {
+                    break;
+                }
+                if (position >= from) {
+                    messages.add(toDeadLetter(position, toMessage(response)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read dead letter queue " + queue, e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out reading dead letter queue " + queue, e);
+        }
+
+        return new DeadLetterPage(queue, depth, from, messages);
+    }
+
+    public DeadLetterReplayResult replay(String queue, DeadLetterReplayRequest request) {
+        int concurrency = Math.max(request.concurrency(), 1);
+        ReplayProgress progress = new ReplayProgress(request.limit() > 0 ? request.limit() : Long.MAX_VALUE);
+        ReplayPacer pacer = new ReplayPacer(request.ratePerSecond());
+        String replayId = UUID.randomUUID().toString();
+        long startedAt = System.nanoTime();
+
+        log.info("Replaying dead letters from {} as {} (concurrency {}, rate {}/s, dry run {})",
+                queue, replayId, concurrency, request.ratePerSecond(), request.dryRun());
+
+        try (Connection connection = newConnection();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Void>> workers = IntStream.range(0, concurrency)
+                    .mapToObj(worker -> executor.submit(() -> {
+                        replayWorker(connection, queue, replayId, request, progress, pacer);
+                        return (Void) null;
+                    }))
+                    .toList();
+
+            for (Future<Void> worker : workers) {
+                worker.get();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay dead letter queue " + queue, e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out connecting to replay " + queue, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dead letter replay of " + queue + " interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dead letter replay of " + queue + " failed", e.getCause());
+        }
+
+        DeadLetterReplayResult result = new DeadLetterReplayResult(
+                queue,
+                request.dryRun(),
+                progress.scanned.get(),
+                progress.matched.get(),
+                progress.replayed.get(),
+                progress.failed.get(),
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+
+        log.info("Dead letter replay from {} finished: {}", queue, result);
+        return result;
+    }
+
+    private void replayWorker(
+            Connection connection,
+            String queue,
+            String replayId,
+            DeadLetterReplayRequest request,
+            ReplayProgress progress,
+            ReplayPacer pacer
+    ) throws IOException, InterruptedException, TimeoutException {
+        try (Channel channel = connection.createChannel()) {
+            channel.confirmSelect();
+
+            while (progress.hasCapacity()) {
+                GetResponse response = channel.basicGet(queue, false);
+                if (Objects.isNull(response)) {
+                    return;
+                }
+
+                Message message = toMessage(response);
+                if (replayId.equals(header(message.getMessageProperties(), REPLAY_ID_HEADER))) {
+                    continue;
+                }
+
+                DeadLetterMessage deadLetter = toDeadLetter(progress.scanned.getAndIncrement(), message);
+
+                if (!request.matches(deadLetter)) {
+                    continue;
+                }
+                if (!progress.claim()) {
+                    return;
+                }
+                if (request.dryRun()) {
+                    continue;
+                }
+                if (Objects.isNull(deadLetter.originQueue())) {
+                    log.warn("Dead letter {} in {} has no origin queue, leaving it in place", deadLetter.messageId(), queue);
+                    progress.failed.incrementAndGet();
+                    continue;
+                }
+
+                pacer.acquire();
+
+                channel.basicPublish(DEFAULT_EXCHANGE, deadLetter.originQueue(),
+                        toReplayProperties(message, queue, replayId), message.getBody());
+                channel.waitForConfirmsOrDie(properties.confirmTimeout().toMillis());
+                channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+
+                progress.replayed.incrementAndGet();
+            }
+        }
+    }
+
+    private Message toMessage(GetResponse response) {
+        MessageProperties messageProperties = propertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+        return new Message(response.getBody(), messageProperties);
+    }
+
+    private DeadLetterMessage toDeadLetter(long position, Message message) {
+        MessageProperties messageProperties = message.getMessageProperties();
+        Map<String, ?> death = originDeath(messageProperties);
+
+        Object routingKeys = death.get("routing-keys");
+        String routingKey = routingKeys instanceof List<?> keys && !keys.isEmpty() ? String.valueOf(keys.getFirst()) : null;
+        Object exchange = death.get("exchange");
+        Object originQueue = death.get("queue");
+        Object count = death.get("count");
+        Object time = death.get("time");
+
+        return new DeadLetterMessage(
+                position,
+                messageProperties.getMessageId(),
+                header(messageProperties, AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME),
+                Objects.isNull(exchange) ? null : exchange.toString(),
+                routingKey,
+                Objects.isNull(originQueue) ? null : originQueue.toString(),
+                Objects.isNull(death.get("reason")) ? null : death.get("reason").toString(),
+                count instanceof Number number ? number.longValue() : 0L,
+                time instanceof Date date ? date.toInstant() : null,
+                header(messageProperties, DelayedRetryRecoverer.LAST_ERROR_HEADER),
+                decode(message)
+        );
+    }
+
+    private String header(MessageProperties messageProperties, String name) {
+        return Objects.toString(messageProperties.getHeaders().get(name), null);
+    }
+
+    private Map<String, ?> originDeath(MessageProperties messageProperties) {
+        List<Map<String, ?>> deaths = messageProperties.getXDeathHeader();
+        if (Objects.isNull(deaths) || deaths.isEmpty()) {
+            return Map.of();
+        }
+
+        return deaths.stream()
+                .filter(death -> "rejected".equals(String.valueOf(death.get("reason"))))
+                .findFirst()
+                .orElse(deaths.getLast());
+    }
+
+    private Object decode(Message message) {
+        try {
+            return messageConverter.fromMessage(message);
+        } catch (MessageConversionException e) {
+            return new String(message.getBody(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private AMQP.BasicProperties toReplayProperties(Message message, String queue, String replayId) {
+        MessageProperties messageProperties = message.getMessageProperties();
+        DEATH_HEADERS.forEach(messageProperties.getHeaders()::remove);
+        messageProperties.getHeaders().remove(DelayedRetryRecoverer.RETRY_COUNT_HEADER);
+        messageProperties.setHeader(REPLAYED_FROM_HEADER, queue);
+        messageProperties.setHeader(REPLAY_ID_HEADER, replayId);
+
+        return propertiesConverter.fromMessageProperties(messageProperties, StandardCharsets.UTF_8.name());
+    }
+
+    private long depth(String queue) {
+        QueueInformation information = amqpAdmin.getQueueInfo(queue);
+        return Objects.isNull(information) ? 0L : information.getMessageCount();
+    }
+
+    private Connection newConnection() throws IOException, TimeoutException {
+        return connectionFactory.getRabbitConnectionFactory().newConnection(CONNECTION_NAME);
+    }
+
+    private static final class ReplayProgress {
+
+        private final AtomicLong remaining;
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private ReplayProgress(long limit) {
+            this.remaining = new AtomicLong(limit);
+        }
+
+        private boolean hasCapacity() {
+            return remaining.get() > 0;
+        }
+
+        private boolean claim() {
+            if (remaining.getAndDecrement() <= 0) {
+                return false;
+            }
+            matched.incrementAndGet();
+            return true;
+        }
+
+    }
+
+    private static final class ReplayPacer {
+
+        private final long intervalNanos;
+        private long nextSlot = System.nanoTime();
+
+        private ReplayPacer(double ratePerSecond) {
+            this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0L;
+        }
+
+        private void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextSlot);
+                nextSlot = slot + intervalNanos;
+                wait = slot - now;
+            }
+
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import java.util.Objects;
+
+public record DeadLetterReplayRequest(
+        String routingKey,
+        String eventType,
+        String errorContains,
+        long limit,
+        double ratePerSecond,
+        int concurrency,
+        boolean dryRun
+) {
+
+    public boolean matches(DeadLetterMessage message) {
+        return (Objects.isNull(routingKey) || routingKey.equals(message.originRoutingKey()))
+                && (Objects.isNull(eventType) || matchesEventType(message.eventType()))
+                && (Objects.isNull(errorContains)
+                || (Objects.nonNull(message.lastError()) && message.lastError().contains(errorContains)));
+    }
+
+    private boolean matchesEventType(String type) {
+        return Objects.nonNull(type) && (type.equals(eventType) || type.endsWith("." + eventType));
+    }
+
+}
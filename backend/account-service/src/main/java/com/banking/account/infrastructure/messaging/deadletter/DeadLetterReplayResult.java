@@ -0,0 +1,14 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import java.time.Duration;
+
+public record DeadLetterReplayResult(
+        String queue,
+        boolean dryRun,
+        long scanned,
+        long matched,
+        long replayed,
+        long failed,
+        Duration elapsed
+) {
+}
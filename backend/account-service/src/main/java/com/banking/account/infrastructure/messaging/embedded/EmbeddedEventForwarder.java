@@ -0,0 +1,30 @@
+package com.banking.account.infrastructure.messaging.embedded;
+
+import com.banking.account.infrastructure.messaging.outbox.OutboxEventsWritten;
+import com.banking.commons.config.EmbeddedBusConfig;
+import com.banking.commons.messaging.embedded.EmbeddedEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile(EmbeddedBusConfig.EMBEDDED_PROFILE)
+public class EmbeddedEventForwarder {
+
+    private final EmbeddedEventBus eventBus;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventsWritten(OutboxEventsWritten event) {
+        try {
+            eventBus.publish(event.events());
+        } catch (RuntimeException e) {
+            log.error("Failed to hand {} committed events to the embedded bus: {}", event.events().size(), e.getMessage());
+        }
+    }
+
+}
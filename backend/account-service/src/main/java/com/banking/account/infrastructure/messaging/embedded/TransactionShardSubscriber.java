@@ -0,0 +1,35 @@
+package com.banking.account.infrastructure.messaging.embedded;
+
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardConsumer;
+import com.banking.commons.config.EmbeddedBusConfig;
+import com.banking.commons.messaging.embedded.EmbeddedEventSubscriber;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Profile(EmbeddedBusConfig.EMBEDDED_PROFILE)
+public class TransactionShardSubscriber implements EmbeddedEventSubscriber {
+
+    private final ObjectProvider<TransactionShardConsumer> consumers;
+
+    @Override
+    public String name() {
+        return "transactions";
+    }
+
+    @Override
+    public void onEvents(List<Object> events) {
+        for (Object event : events) {
+            if (event instanceof TransactionPerformedEventV1 transaction) {
+                consumers.orderedStream().forEach(consumer -> consumer.onTransaction(transaction));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.banking.account.infrastructure.messaging.envelope;
+
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class EventEnvelopeReader {
+
+    private static final String ENVELOPE_TYPE = EventBatchEnvelopeV1.class.getName();
+
+    private final MessageConverter messageConverter;
+
+    public EventEnvelopeReader(MessageConverter messageConverter) {
+        this.messageConverter = messageConverter;
+    }
+
+    public static boolean isEnvelope(Message message) {
+        Object typeId = message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return ENVELOPE_TYPE.equals(typeId);
+    }
+
+    public <T> List<T> read(Message message, Class<T> eventType) {
+        MessageProperties properties = message.getMessageProperties();
+
+        if (!isEnvelope(message)) {
+            properties.setInferredArgumentType(eventType);
+            return List.of(eventType.cast(messageConverter.fromMessage(message)));
+        }
+
+        properties.setInferredArgumentType(EventBatchEnvelopeV1.class);
+        EventBatchEnvelopeV1 envelope = (EventBatchEnvelopeV1) messageConverter.fromMessage(message);
+
+        if (envelope.getSchemaVersion() > EventBatchEnvelopeV1.SCHEMA_VERSION) {
+            throw new MessageConversionException("Unsupported event envelope schema version " + envelope.getSchemaVersion());
+        }
+
+        return envelope.getEvents().stream()
+                .map(event -> {
+                    if (!eventType.isInstance(event)) {
+                        throw new MessageConversionException("Event envelope " + envelope.getBatchId()
+                                + " contains " + event.getClass().getName() + ", expected " + eventType.getName());
+                    }
+                    return eventType.cast(event);
+                })
+                .toList();
+    }
+
+}
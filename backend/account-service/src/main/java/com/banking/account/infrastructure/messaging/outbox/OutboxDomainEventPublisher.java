@@ -0,0 +1,100 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import com.banking.account.application.port.out.DomainEventPublisher;
+import com.banking.account.domain.event.AccountCreatedEvent;
+import com.banking.account.domain.event.TransactionPerformedEvent;
+import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.banking.account.infrastructure.messaging.publisher.mapper.AccountEventMapper;
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardRouter;
+import com.banking.account.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import com.banking.account.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Primary
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final JpaOutboxEventRepository outboxRepository;
+    private final AccountEventMapper eventMapper;
+    private final TransactionShardRouter shardRouter;
+    private final MessageConverter messageConverter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(List<Object> domainEvents) {
+        if (Objects.isNull(domainEvents) || domainEvents.isEmpty()) {
+            return;
+        }
+
+        List<RoutedEvent> events = domainEvents.stream()
+                .map(this::toRoutedEvent)
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        outboxRepository.saveAll(events.stream().map(this::entry).toList());
+        applicationEventPublisher.publishEvent(new OutboxEventsWritten(
+                events.stream().map(RoutedEvent::contractEvent).toList()));
+
+        log.debug("{} domain events written to outbox", events.size());
+    }
+
+    private Optional<RoutedEvent> toRoutedEvent(Object event) {
+        return switch (event) {
+            case AccountCreatedEvent e -> Optional.of(new RoutedEvent(
+                    e.accountId(),
+                    RabbitMQConfig.ACCOUNT_CREATED_ROUTING_KEY,
+                    eventMapper.toContract(e)
+            ));
+            case TransactionPerformedEvent e -> Optional.of(new RoutedEvent(
+                    e.accountId(),
+                    shardRouter.routingKey(e.accountId()),
+                    eventMapper.toContract(e)
+            ));
+            default -> {
+                log.warn("Unhandled domain event type: {}", event.getClass().getName());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    private OutboxEventJpaEntity entry(RoutedEvent event) {
+        Message message = messageConverter.toMessage(event.contractEvent(), new MessageProperties());
+
+        OutboxEventJpaEntity entry = OutboxEventJpaEntity.builder()
+                .aggregateId(event.aggregateId())
+                .eventType(event.contractEvent().getClass().getName())
+                .exchange(RabbitMQConfig.ACCOUNT_EXCHANGE)
+                .routingKey(event.routingKey())
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .build();
+        entry.setId(UUID.randomUUID());
+
+        return entry;
+    }
+
+    private record RoutedEvent(UUID aggregateId, String routingKey, Object contractEvent) {
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import java.util.List;
+
+public record OutboxEventsWritten(List<Object> events) {
+}
@@ -0,0 +1,17 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import com.banking.account.infrastructure.persistence.lock.AdvisoryLock;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class OutboxLeaderLock extends AdvisoryLock {
+
+    static final long LOCK_KEY = 0x6163636F756E74L;
+
+    public OutboxLeaderLock(DataSource dataSource) {
+        super(dataSource, LOCK_KEY, "Outbox relay");
+    }
+
+}
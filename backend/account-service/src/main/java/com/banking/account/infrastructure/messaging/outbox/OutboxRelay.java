@@ -0,0 +1,345 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import com.banking.account.infrastructure.config.OutboxProperties;
+import com.banking.account.infrastructure.messaging.stream.TransactionStreamPublisher;
+import com.banking.account.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import com.banking.account.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String ENVELOPE_SOURCE = "account-service";
+    private static final String TRANSACTION_EVENT_TYPE = TransactionPerformedEventV1.class.getName();
+
+    private final JpaOutboxEventRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionStreamPublisher streamPublisher;
+    private final OutboxLeaderLock leaderLock;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxRelay(
+            JpaOutboxEventRepository outboxRepository,
+            RabbitTemplate rabbitTemplate,
+            TransactionTemplate transactionTemplate,
+            OutboxProperties properties,
+            ObjectMapper objectMapper,
+            ObjectProvider<TransactionStreamPublisher> streamPublisher,
+            OutboxLeaderLock leaderLock
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.streamPublisher = streamPublisher.getIfAvailable();
+        this.leaderLock = leaderLock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (Objects.isNull(streamPublisher)) {
+            Integer dropped = transactionTemplate.execute(status -> outboxRepository.deleteAwaitingStream());
+            if (dropped != null && dropped > 0) {
+                log.warn("Transaction stream is disabled, dropped {} events still waiting for it", dropped);
+            }
+        }
+
+        running = true;
+        worker = Thread.ofVirtual().name("outbox-relay").start(this::pollLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(properties.confirmTimeout().toMillis());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventsWritten(OutboxEventsWritten event) {
+        wakeUps.release();
+    }
+
+    int relayBatch() {
+        List<OutboxEventJpaEntity> batch = claimNextBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> published = new HashSet<>();
+        Map<UUID, String> failures = new HashMap<>();
+        try {
+            publish(batch);
+            batch.forEach(event -> published.add(event.getId()));
+        } catch (AmqpConnectException e) {
+            log.warn("Outbox relay cannot reach the broker, {} events stay pending: {}", batch.size(), e.getMessage());
+        } catch (AmqpException e) {
+            log.warn("Outbox relay could not confirm {} events, publishing them one by one: {}",
+                    batch.size(), e.getMessage());
+            publishIndividually(batch, published, failures);
+        }
+
+        settle(batch, published, failures);
+        log.debug("Outbox relay published {} of {} events", published.size(), batch.size());
+
+        return published.size();
+    }
+
+    private List<OutboxEventJpaEntity> claimNextBatch() {
+        Instant now = Instant.now();
+        List<OutboxEventJpaEntity> batch = transactionTemplate.execute(status -> {
+            List<OutboxEventJpaEntity> claimed = outboxRepository.lockNextBatch(now, properties.batchSize());
+            claimed.forEach(event -> event.setClaimedUntil(now.plus(properties.claimTimeout())));
+            return claimed;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    private void publishIndividually(
+            List<OutboxEventJpaEntity> batch,
+            Set<UUID> published,
+            Map<UUID, String> failures
+    ) {
+        Set<UUID> blockedAggregates = new HashSet<>();
+        for (OutboxEventJpaEntity event : batch) {
+            if (blockedAggregates.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                publish(List.of(event));
+                published.add(event.getId());
+            } catch (AmqpConnectException e) {
+                log.warn("Outbox relay lost the broker connection: {}", e.getMessage());
+                return;
+            } catch (AmqpException e) {
+                failures.put(event.getId(), e.getMessage());
+                blockedAggregates.add(event.getAggregateId());
+            }
+        }
+    }
+
+    int relayStreamBatch() {
+        if (Objects.isNull(streamPublisher)) {
+            return 0;
+        }
+
+        List<OutboxEventJpaEntity> batch = outboxRepository.findNextStreamBatch(properties.batchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            streamPublisher.publish(batch.stream().map(this::toMessage).toList(), properties.confirmTimeout());
+        } catch (AmqpException e) {
+            log.warn("Transaction stream could not confirm {} events, they stay queued for the stream: {}",
+                    batch.size(), e.getMessage());
+            return 0;
+        }
+
+        List<UUID> streamed = batch.stream().map(OutboxEventJpaEntity::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(streamed));
+        log.debug("Outbox relay appended {} events to the transaction stream", streamed.size());
+
+        return streamed.size();
+    }
+
+    private void publish(List<OutboxEventJpaEntity> events) {
+        rabbitTemplate.invoke(operations -> {
+            if (properties.envelopes()) {
+                groupByDestination(events).forEach(group -> operations.send(
+                        group.getFirst().getExchange(), group.getFirst().getRoutingKey(), toMessage(group)));
+            } else {
+                events.forEach(event -> operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event)));
+            }
+            operations.waitForConfirmsOrDie(properties.confirmTimeout().toMillis());
+            return null;
+        });
+    }
+
+    private boolean awaitsStream(OutboxEventJpaEntity event) {
+        return Objects.nonNull(streamPublisher) && TRANSACTION_EVENT_TYPE.equals(event.getEventType());
+    }
+
+    private void settle(List<OutboxEventJpaEntity> batch, Set<UUID> published, Map<UUID, String> failures) {
+        List<UUID> unpublished = new ArrayList<>();
+        List<UUID> awaitingStream = new ArrayList<>();
+        List<UUID> done = new ArrayList<>();
+        batch.forEach(event -> {
+            if (!published.contains(event.getId())) {
+                unpublished.add(event.getId());
+            } else if (awaitsStream(event)) {
+                awaitingStream.add(event.getId());
+            } else {
+                done.add(event.getId());
+            }
+        });
+
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(done);
+            }
+            if (!awaitingStream.isEmpty()) {
+                outboxRepository.markPublished(awaitingStream, now);
+            }
+            if (unpublished.isEmpty()) {
+                return;
+            }
+
+            outboxRepository.findAllById(unpublished).forEach(event -> {
+                String error = failures.get(event.getId());
+                if (Objects.isNull(error)) {
+                    event.setClaimedUntil(null);
+                    return;
+                }
+
+                event.recordFailure(error, properties.maxAttempts(),
+                        now.plus(properties.pollInterval().multipliedBy(event.getAttempts() + 1L)));
+                if (event.isParked()) {
+                    log.error("Outbox event {} ({}) parked after {} attempts: {}",
+                            event.getId(), event.getEventType(), event.getAttempts(), error);
+                }
+            });
+        });
+    }
+
+    private void pollLoop() {
+        log.info("Outbox relay started (batch size {}, poll interval {})",
+                properties.batchSize(), properties.pollInterval());
+
+        while (running) {
+            try {
+                if (!leaderLock.tryAcquire()
+                        || Math.max(relayBatch(), relayStreamBatch()) < properties.batchSize()) {
+                    wakeUps.tryAcquire(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Outbox relay failed: {}", e.getMessage(), e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(properties.pollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        leaderLock.release();
+        log.info("Outbox relay stopped");
+    }
+
+    private Collection<List<OutboxEventJpaEntity>> groupByDestination(List<OutboxEventJpaEntity> batch) {
+        Map<String, List<OutboxEventJpaEntity>> groups = new LinkedHashMap<>();
+        batch.forEach(event -> groups
+                .computeIfAbsent(event.getExchange() + "/" + event.getRoutingKey(), key -> new ArrayList<>())
+                .add(event));
+        return groups.values();
+    }
+
+    private Message toMessage(List<OutboxEventJpaEntity> group) {
+        if (group.size() == 1) {
+            return toMessage(group.getFirst());
+        }
+
+        UUID batchId = UUID.randomUUID();
+        return MessageBuilder.withBody(toEnvelope(batchId, group))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(batchId.toString())
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, EventBatchEnvelopeV1.class.getName())
+                .build();
+    }
+
+    private byte[] toEnvelope(UUID batchId, List<OutboxEventJpaEntity> group) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeStringField("batchId", batchId.toString());
+            generator.writeNumberField("schemaVersion", EventBatchEnvelopeV1.SCHEMA_VERSION);
+            generator.writeStringField("source", ENVELOPE_SOURCE);
+            generator.writeFieldName("createdAt");
+            objectMapper.writeValue(generator, LocalDateTime.now());
+            generator.writeArrayFieldStart("events");
+            for (OutboxEventJpaEntity event : group) {
+                generator.writeStartObject();
+                generator.writeFieldName(simpleTypeName(event.getEventType()));
+                generator.writeRawValue(event.getPayload());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot build event envelope " + batchId, e);
+        }
+        return output.toByteArray();
+    }
+
+    private static String simpleTypeName(String eventType) {
+        return eventType.substring(eventType.lastIndexOf('.') + 1);
+    }
+
+    private Message toMessage(OutboxEventJpaEntity event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(event.getId().toString())
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getEventType())
+                .build();
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.banking.account.infrastructure.messaging.publisher;
+
+import com.banking.account.application.service.CustomerProjectionService;
+import com.banking.account.infrastructure.config.CustomerEventBatchProperties;
+import com.banking.account.infrastructure.messaging.retry.DelayedRetryRecoverer;
+import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
+import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class CustomerEventCoalescer {
+
+    private final CustomerProjectionService customerProjectionService;
+    private final DelayedRetryRecoverer retryRecoverer;
+    private final int maxPending;
+    private final boolean windowed;
+
+    private final Counter receivedCounter;
+    private final Counter writtenCounter;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flushScheduler;
+    private Window window = new Window();
+
+    public CustomerEventCoalescer(
+            CustomerProjectionService customerProjectionService,
+            DelayedRetryRecoverer retryRecoverer,
+            CustomerEventBatchProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.customerProjectionService = customerProjectionService;
+        this.retryRecoverer = retryRecoverer;
+        this.maxPending = Math.max(properties.coalescing().maxPending(), 1);
+        this.windowed = properties.coalescing().window().isPositive();
+        this.receivedCounter = Counter.builder("customer.events.coalescing")
+                .tag("stage", "received")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("customer.events.coalescing")
+                .tag("stage", "written")
+                .register(meterRegistry);
+
+        if (windowed) {
+            long windowMillis = Math.max(properties.coalescing().window().toMillis(), 1L);
+            this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("customer-event-coalescer").factory());
+            this.flushScheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flushScheduler = null;
+        }
+    }
+
+    public void submitUpdated(Channel channel, Message message, List<CustomerUpdatedEventV1> events) {
+        boolean full;
+        synchronized (this) {
+            Set<UUID> customerIds = new HashSet<>();
+            for (CustomerUpdatedEventV1 event : events) {
+                window.updated.merge(event.getCustomerId(), event, (current, candidate) ->
+                        isNewer(candidate.getSequence(), candidate.getOccurredAt(), current.getSequence(), current.getOccurredAt())
+                                ? candidate : current);
+                customerIds.add(event.getCustomerId());
+            }
+            full = window.add(new Delivery(channel, message, customerIds)) >= maxPending;
+        }
+
+        receivedCounter.increment(events.size());
+        if (full || !windowed) {
+            flush();
+        }
+    }
+
+    public void submitStatusChanged(Channel channel, Message message, List<CustomerStatusChangedEventV1> events) {
+        boolean full;
+        synchronized (this) {
+            Set<UUID> customerIds = new HashSet<>();
+            for (CustomerStatusChangedEventV1 event : events) {
+                window.statusChanged.merge(event.getCustomerId(), event, (current, candidate) ->
+                        isNewer(candidate.getSequence(), candidate.getOccurredAt(), current.getSequence(), current.getOccurredAt())
+                                ? candidate : current);
+                customerIds.add(event.getCustomerId());
+            }
+            full = window.add(new Delivery(channel, message, customerIds)) >= maxPending;
+        }
+
+        receivedCounter.increment(events.size());
+        if (full || !windowed) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(flushScheduler)) {
+            flushScheduler.shutdownNow();
+        }
+        flushQuietly();
+    }
+
+    void flush() {
+        flushLock.lock();
+        try {
+            Window ready;
+            synchronized (this) {
+                if (window.deliveries.isEmpty()) {
+                    return;
+                }
+                ready = window;
+                window = new Window();
+            }
+            write(ready);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush coalesced customer events", e);
+        }
+    }
+
+    private void write(Window ready) {
+        List<CustomerUpdatedEventV1> updated = List.copyOf(ready.updated.values());
+        List<CustomerStatusChangedEventV1> statusChanged = List.copyOf(ready.statusChanged.values());
+
+        try {
+            customerProjectionService.handleCustomerChanges(updated, statusChanged);
+            ready.deliveries.forEach(this::acknowledge);
+        } catch (Exception e) {
+            log.warn("Coalesced write of {} customer events failed, retrying one by one",
+                    updated.size() + statusChanged.size(), e);
+
+            Map<UUID, Exception> failed = new HashMap<>();
+            for (CustomerUpdatedEventV1 event : updated) {
+                try {
+                    customerProjectionService.handleCustomerUpdated(event);
+                } catch (Exception single) {
+                    log.error("Error processing customer updated event: customerId={}", event.getCustomerId(), single);
+                    failed.put(event.getCustomerId(), single);
+                }
+            }
+            for (CustomerStatusChangedEventV1 event : statusChanged) {
+                try {
+                    customerProjectionService.handleCustomerStatusChanged(event);
+                } catch (Exception single) {
+                    log.error("Error processing customer status changed event: customerId={}", event.getCustomerId(), single);
+                    failed.putIfAbsent(event.getCustomerId(), single);
+                }
+            }
+
+            ready.deliveries.forEach(delivery -> delivery.customerIds().stream()
+                    .map(failed::get)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .ifPresentOrElse(cause -> retryLater(delivery, cause), () -> acknowledge(delivery)));
+        }
+
+        writtenCounter.increment(updated.size() + statusChanged.size());
+        log.debug("Flushed {} coalesced customer events from {} messages",
+                updated.size() + statusChanged.size(), ready.deliveries.size());
+    }
+
+    private void acknowledge(Delivery delivery) {
+        try {
+            delivery.channel().basicAck(delivery.deliveryTag(), false);
+        } catch (Exception e) {
+            log.warn("Failed to ack customer event message: deliveryTag={}, error={}",
+                    delivery.deliveryTag(), e.getMessage());
+        }
+    }
+
+    private void retryLater(Delivery delivery, Exception cause) {
+        try {
+            retryRecoverer.recover(delivery.channel(), delivery.message(), cause);
+        } catch (Exception e) {
+            log.warn("Failed to schedule a retry for customer event message: deliveryTag={}, error={}",
+                    delivery.deliveryTag(), e.getMessage());
+        }
+    }
+
+    private static boolean isNewer(Long sequence, LocalDateTime occurredAt, Long currentSequence, LocalDateTime currentOccurredAt) {
+        if (Objects.nonNull(sequence) && Objects.nonNull(currentSequence)) {
+            return sequence >= currentSequence;
+        }
+        if (Objects.isNull(occurredAt) || Objects.isNull(currentOccurredAt)) {
+            return true;
+        }
+        return !occurredAt.isBefore(currentOccurredAt);
+    }
+
+    private record Delivery(Channel channel, Message message, Set<UUID> customerIds) {
+
+        private long deliveryTag() {
+            return message.getMessageProperties().getDeliveryTag();
+        }
+
+    }
+
+    private static final class Window {
+
+        private final Map<UUID, CustomerUpdatedEventV1> updated = new LinkedHashMap<>();
+        private final Map<UUID, CustomerStatusChangedEventV1> statusChanged = new LinkedHashMap<>();
+        private final List<Delivery> deliveries = new ArrayList<>();
+
+        private int add(Delivery delivery) {
+            deliveries.add(delivery);
+            return deliveries.size();
+        }
+
+    }
+
+}
@@ -4,7 +4,11 @@ import com.banking.account.application.port.out.CustomerEventListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -22,6 +26,14 @@ public class NoOpCustomerEventListener implements CustomerEventListener {
         return "";
     }
 
+    @Override
+    public Map<UUID, String> getCustomerNames(Collection<UUID> customerIds) {
+        log.debug("Fetching customer names for {} IDs", customerIds.size());
+        return customerIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), customerId -> ""));
+    }
+
     @Override
     public boolean customerExists(UUID customerId) {
         log.debug("Checking if customer exists for ID: {}", customerId);
@@ -5,17 +5,29 @@ import com.banking.account.application.service.CustomerProjectionService;
 import com.banking.account.domain.model.CustomerInfo;
 import com.banking.account.domain.repository.CustomerProjectionRepository;
 import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.banking.account.infrastructure.messaging.envelope.EventEnvelopeReader;
+import com.banking.account.infrastructure.messaging.retry.DelayedRetryRecoverer;
 import com.banking.contracts.events.customer.CustomerCreatedEventV1;
 import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
 import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -23,10 +35,65 @@ import java.util.UUID;
 @Primary
 public class RabbitMQCustomerEventListener implements CustomerEventListener {
 
+    private static final String UNKNOWN_CUSTOMER = "Unknown Customer";
+
     private final CustomerProjectionService customerProjectionService;
     private final CustomerProjectionRepository customerProjectionRepository;
+    private final EventEnvelopeReader envelopeReader;
+    private final CustomerEventCoalescer coalescer;
+    private final DelayedRetryRecoverer retryRecoverer;
+
+    @RabbitListener(
+            queues = RabbitMQConfig.CUSTOMER_CREATED_QUEUE,
+            containerFactory = RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY
+    )
+    public void handleCustomersCreated(List<Message> messages, Channel channel) throws IOException {
+        log.info("Received batch of {} customer created messages", messages.size());
+
+        List<Delivery> deliveries = new ArrayList<>(messages.size());
+
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                deliveries.add(new Delivery(message, envelopeReader.read(message, CustomerCreatedEventV1.class)));
+            } catch (Exception e) {
+                log.error("Rejecting unreadable customer created message: deliveryTag={}", deliveryTag, e);
+                channel.basicNack(deliveryTag, false, false);
+            }
+        }
+
+        List<CustomerCreatedEventV1> events = deliveries.stream()
+                .flatMap(delivery -> delivery.events().stream())
+                .toList();
+
+        try {
+            customerProjectionService.handleCustomersCreated(events);
+            for (Delivery delivery : deliveries) {
+                channel.basicAck(delivery.message().getMessageProperties().getDeliveryTag(), false);
+            }
+        } catch (Exception e) {
+            log.warn("Bulk upsert of {} customer created events failed, retrying one by one", events.size(), e);
+
+            for (Delivery delivery : deliveries) {
+                Exception failure = null;
+                for (CustomerCreatedEventV1 event : delivery.events()) {
+                    try {
+                        customerProjectionService.handleCustomerCreated(event);
+                    } catch (Exception single) {
+                        log.error("Error processing customer created event: customerId={}", event.getCustomerId(), single);
+                        failure = single;
+                    }
+                }
+
+                if (Objects.isNull(failure)) {
+                    channel.basicAck(delivery.message().getMessageProperties().getDeliveryTag(), false);
+                } else {
+                    retryRecoverer.recover(channel, delivery.message(), failure);
+                }
+            }
+        }
+    }
 
-    @RabbitListener(queues = RabbitMQConfig.CUSTOMER_CREATED_QUEUE)
     public void handleCustomerCreated(CustomerCreatedEventV1 event) {
         try {
             log.info("Received customer created event: customerId={}", event.getCustomerId());
@@ -37,7 +104,24 @@ public class RabbitMQCustomerEventListener implements CustomerEventListener {
         }
     }
 
-    @RabbitListener(queues = RabbitMQConfig.CUSTOMER_UPDATED_QUEUE)
+    @RabbitListener(
+            queues = RabbitMQConfig.CUSTOMER_UPDATED_QUEUE,
+            containerFactory = RabbitMQConfig.COALESCING_LISTENER_CONTAINER_FACTORY
+    )
+    public void handleCustomerUpdatedMessage(Message message, Channel channel) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        List<CustomerUpdatedEventV1> events;
+        try {
+            events = envelopeReader.read(message, CustomerUpdatedEventV1.class);
+        } catch (Exception e) {
+            log.error("Rejecting unreadable customer updated message: deliveryTag={}", deliveryTag, e);
+            channel.basicNack(deliveryTag, false, false);
+            return;
+        }
+
+        coalescer.submitUpdated(channel, message, events);
+    }
+
     public void handleCustomerUpdated(CustomerUpdatedEventV1 event) {
         try {
             log.info("Received customer updated event: customerId={}", event.getCustomerId());
@@ -47,7 +131,24 @@ public class RabbitMQCustomerEventListener implements CustomerEventListener {
         }
     }
 
-    @RabbitListener(queues = RabbitMQConfig.CUSTOMER_STATUS_CHANGED_QUEUE)
+    @RabbitListener(
+            queues = RabbitMQConfig.CUSTOMER_STATUS_CHANGED_QUEUE,
+            containerFactory = RabbitMQConfig.COALESCING_LISTENER_CONTAINER_FACTORY
+    )
+    public void handleCustomerStatusChangedMessage(Message message, Channel channel) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        List<CustomerStatusChangedEventV1> events;
+        try {
+            events = envelopeReader.read(message, CustomerStatusChangedEventV1.class);
+        } catch (Exception e) {
+            log.error("Rejecting unreadable customer status changed message: deliveryTag={}", deliveryTag, e);
+            channel.basicNack(deliveryTag, false, false);
+            return;
+        }
+
+        coalescer.submitStatusChanged(channel, message, events);
+    }
+
     public void handleCustomerStatusChanged(CustomerStatusChangedEventV1 event) {
         try {
             log.info("Received customer status changed event: customerId={}, newStatus={}",
@@ -94,7 +195,22 @@ public class RabbitMQCustomerEventListener implements CustomerEventListener {
     public String getCustomerName(UUID customerId) {
         return customerProjectionRepository.findById(customerId)
                 .map(CustomerInfo::fullName)
-                .orElse("Unknown Customer");
+                .filter(name -> !name.isBlank())
+                .orElse(UNKNOWN_CUSTOMER);
+    }
+
+    @Override
+    public Map<UUID, String> getCustomerNames(Collection<UUID> customerIds) {
+        Map<UUID, String> names = customerProjectionRepository.findNamesByIds(customerIds);
+
+        return customerIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), customerId -> Optional.ofNullable(names.get(customerId))
+                        .filter(name -> !name.isBlank())
+                        .orElse(UNKNOWN_CUSTOMER)));
+    }
+
+    private record Delivery(Message message, List<CustomerCreatedEventV1> events) {
     }
 
-}
\ No newline at end of file
+}
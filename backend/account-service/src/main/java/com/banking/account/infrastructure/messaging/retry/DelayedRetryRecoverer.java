@@ -0,0 +1,104 @@
+package com.banking.account.infrastructure.messaging.retry;
+
+import com.banking.account.infrastructure.config.DelayedRetryProperties;
+import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Component
+public class DelayedRetryRecoverer implements MessageRecoverer {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String LAST_ERROR_HEADER = "x-last-error";
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Duration> delays;
+    private final long confirmTimeoutMillis;
+
+    public DelayedRetryRecoverer(RabbitTemplate rabbitTemplate, DelayedRetryProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.delays = List.copyOf(properties.delays());
+        this.confirmTimeoutMillis = properties.confirmTimeout().toMillis();
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = properties.getConsumerQueue();
+        int retryCount = retryCount(properties);
+        Throwable rootCause = rootCause(cause);
+
+        if (rootCause instanceof MessageConversionException) {
+            log.error("Rejecting unreadable message {} from {}", properties.getMessageId(), queue, cause);
+            throw new AmqpRejectAndDontRequeueException("Unreadable message from " + queue, cause);
+        }
+
+        if (Objects.isNull(queue) || retryCount >= delays.size()) {
+            log.error("Retries exhausted for message {} from {} after {} attempts",
+                    properties.getMessageId(), queue, retryCount + 1, cause);
+            throw new AmqpRejectAndDontRequeueException("Retries exhausted for message from " + queue, cause);
+        }
+
+        Duration delay = delays.get(retryCount);
+        properties.setHeader(RETRY_COUNT_HEADER, retryCount + 1);
+        properties.setHeader(LAST_ERROR_HEADER, describe(rootCause));
+
+        rabbitTemplate.invoke(operations -> {
+            operations.send(RabbitMQConfig.retryDelayExchange(delay), queue, message);
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+        });
+
+        log.warn("Message {} from {} failed, retry {} of {} in {}",
+                properties.getMessageId(), queue, retryCount + 1, delays.size(), delay);
+    }
+
+    public void recover(Channel channel, Message message, Throwable cause) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            recover(message, cause);
+            channel.basicAck(deliveryTag, false);
+        } catch (AmqpRejectAndDontRequeueException e) {
+            channel.basicNack(deliveryTag, false, false);
+        } catch (AmqpException e) {
+            log.warn("Could not schedule a retry for message {}, requeueing it: {}",
+                    message.getMessageProperties().getMessageId(), e.getMessage());
+            channel.basicNack(deliveryTag, false, true);
+        }
+    }
+
+    private int retryCount(MessageProperties properties) {
+        Object header = properties.getHeader(RETRY_COUNT_HEADER);
+        return header instanceof Number count ? count.intValue() : 0;
+    }
+
+    private Throwable rootCause(Throwable cause) {
+        Throwable root = cause;
+        while (Objects.nonNull(root.getCause()) && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root;
+    }
+
+    private String describe(Throwable cause) {
+        String description = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+
+public interface TransactionShardConsumer {
+
+    String name();
+
+    void onTransaction(TransactionPerformedEventV1 event);
+
+}
@@ -0,0 +1,39 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionShardHaltingRecoverer implements MessageRecoverer {
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        String queue = message.getMessageProperties().getConsumerQueue();
+
+        listenerRegistry.getListenerContainers().stream()
+                .filter(AbstractMessageListenerContainer.class::isInstance)
+                .map(AbstractMessageListenerContainer.class::cast)
+                .filter(container -> Arrays.asList(container.getQueueNames()).contains(queue))
+                .filter(AbstractMessageListenerContainer::isRunning)
+                .forEach(container -> {
+                    log.error("Halting transaction shard {} after message {} kept failing: {}",
+                            queue, message.getMessageProperties().getMessageId(), cause.getMessage());
+                    Thread.ofVirtual().name("halt-" + queue).start(container::stop);
+                });
+
+        throw new ImmediateRequeueAmqpException("Transaction shard " + queue + " halted", cause);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.banking.account.infrastructure.messaging.envelope.EventEnvelopeReader;
+import com.banking.commons.config.EmbeddedBusConfig;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.SimpleRabbitListenerEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@Profile("!" + EmbeddedBusConfig.EMBEDDED_PROFILE)
+public class TransactionShardListenerConfigurer implements RabbitListenerConfigurer {
+
+    private final TransactionShardRouter shardRouter;
+    private final ObjectProvider<TransactionShardConsumer> consumers;
+    private final SimpleRabbitListenerContainerFactory containerFactory;
+    private final EventEnvelopeReader envelopeReader;
+
+    public TransactionShardListenerConfigurer(
+            TransactionShardRouter shardRouter,
+            ObjectProvider<TransactionShardConsumer> consumers,
+            @Qualifier(RabbitMQConfig.SHARDED_LISTENER_CONTAINER_FACTORY) SimpleRabbitListenerContainerFactory containerFactory,
+            EventEnvelopeReader envelopeReader
+    ) {
+        this.shardRouter = shardRouter;
+        this.consumers = consumers;
+        this.containerFactory = containerFactory;
+        this.envelopeReader = envelopeReader;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        consumers.orderedStream().forEach(consumer -> {
+            List<String> queues = shardRouter.queueNames(consumer.name());
+
+            for (int shard = 0; shard < queues.size(); shard++) {
+                SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+                endpoint.setId(consumer.name() + "-shard-" + shard);
+                endpoint.setQueueNames(queues.get(shard));
+                endpoint.setMessageListener(message -> envelopeReader.read(message, TransactionPerformedEventV1.class)
+                        .forEach(consumer::onTransaction));
+
+                registrar.registerEndpoint(endpoint, containerFactory);
+            }
+
+            log.info("Registered transaction consumer {} on {} shards", consumer.name(), queues.size());
+        });
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.banking.account.infrastructure.config.TransactionShardProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@Component
+public class TransactionShardRouter {
+
+    private final int shardCount;
+
+    public TransactionShardRouter(TransactionShardProperties properties) {
+        if (properties.count() < 1) {
+            throw new IllegalArgumentException("Transaction shard count must be positive: " + properties.count());
+        }
+        this.shardCount = properties.count();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(UUID accountId) {
+        return Math.floorMod(accountId.hashCode(), shardCount);
+    }
+
+    public String routingKey(UUID accountId) {
+        return RabbitMQConfig.transactionShardRoutingKey(shardOf(accountId));
+    }
+
+    public List<String> queueNames(String consumer) {
+        return IntStream.range(0, shardCount)
+                .mapToObj(shard -> RabbitMQConfig.transactionShardQueue(consumer, shard))
+                .toList();
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import com.rabbitmq.stream.OffsetSpecification;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+final class StreamOffsets {
+
+    private static final String OFFSET_PREFIX = "offset:";
+    private static final String TIMESTAMP_PREFIX = "timestamp:";
+
+    private StreamOffsets() {
+    }
+
+    static OffsetSpecification parse(String value) {
+        String spec = value.trim();
+
+        try {
+            return switch (spec) {
+                case "first" -> OffsetSpecification.first();
+                case "last" -> OffsetSpecification.last();
+                case "next" -> OffsetSpecification.next();
+                default -> {
+                    if (spec.startsWith(OFFSET_PREFIX)) {
+                        yield OffsetSpecification.offset(Long.parseLong(spec.substring(OFFSET_PREFIX.length())));
+                    }
+                    if (spec.startsWith(TIMESTAMP_PREFIX)) {
+                        yield OffsetSpecification.timestamp(
+                                Instant.parse(spec.substring(TIMESTAMP_PREFIX.length())).toEpochMilli());
+                    }
+                    throw new IllegalArgumentException("Unknown stream offset: " + value);
+                }
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid stream offset: " + value, e);
+        }
+    }
+
+}
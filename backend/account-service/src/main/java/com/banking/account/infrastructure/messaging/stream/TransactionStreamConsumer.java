@@ -0,0 +1,11 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+
+public interface TransactionStreamConsumer {
+
+    String name();
+
+    void onTransaction(TransactionPerformedEventV1 event);
+
+}
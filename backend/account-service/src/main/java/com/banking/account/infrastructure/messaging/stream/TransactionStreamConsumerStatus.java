@@ -0,0 +1,9 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+public record TransactionStreamConsumerStatus(
+        String name,
+        long lastOffset,
+        boolean replaying,
+        String failure
+) {
+}
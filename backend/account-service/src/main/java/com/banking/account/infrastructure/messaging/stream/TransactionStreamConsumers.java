@@ -0,0 +1,187 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import com.banking.account.infrastructure.config.TransactionStreamProperties;
+import com.banking.account.infrastructure.messaging.envelope.EventEnvelopeReader;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.rabbitmq.stream.Consumer;
+import com.rabbitmq.stream.ConsumerBuilder;
+import com.rabbitmq.stream.Environment;
+import com.rabbitmq.stream.MessageHandler;
+import com.rabbitmq.stream.OffsetSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.rabbit.stream.support.StreamMessageProperties;
+import org.springframework.rabbit.stream.support.converter.DefaultStreamMessageConverter;
+import org.springframework.rabbit.stream.support.converter.StreamMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "messaging.transaction-stream", name = "enabled", havingValue = "true")
+public class TransactionStreamConsumers implements SmartLifecycle {
+
+    private static final String CONSUMER_NAME_PREFIX = "account-service.";
+
+    private final Environment environment;
+    private final TransactionStreamProperties properties;
+    private final EventEnvelopeReader envelopeReader;
+    private final StreamMessageConverter streamConverter = new DefaultStreamMessageConverter();
+    private final Map<String, Subscription> subscriptions = new LinkedHashMap<>();
+
+    private volatile boolean running;
+
+    public TransactionStreamConsumers(
+            Environment rabbitStreamEnvironment,
+            ObjectProvider<TransactionStreamConsumer> consumers,
+            TransactionStreamProperties properties,
+            EventEnvelopeReader envelopeReader
+    ) {
+        this.environment = rabbitStreamEnvironment;
+        this.properties = properties;
+        this.envelopeReader = envelopeReader;
+
+        consumers.orderedStream().forEach(consumer -> {
+            if (subscriptions.putIfAbsent(consumer.name(), new Subscription(consumer)) != null) {
+                throw new IllegalStateException("Duplicate transaction stream consumer name: " + consumer.name());
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        OffsetSpecification startFrom = StreamOffsets.parse(properties.startFrom());
+        subscriptions.values().forEach(subscription -> subscription.open(startFrom, false));
+        running = true;
+
+        log.info("Started {} transaction stream consumers on {} (first start from {})",
+                subscriptions.size(), properties.name(), properties.startFrom());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        subscriptions.values().forEach(Subscription::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public List<TransactionStreamConsumerStatus> status() {
+        return subscriptions.values().stream()
+                .map(Subscription::status)
+                .toList();
+    }
+
+    public boolean isKnownConsumer(String name) {
+        return subscriptions.containsKey(name);
+    }
+
+    public TransactionStreamConsumerStatus replay(String name, String from) {
+        Subscription subscription = subscriptions.get(name);
+        if (Objects.isNull(subscription)) {
+            throw new IllegalArgumentException("Unknown transaction stream consumer: " + name);
+        }
+
+        OffsetSpecification offset = StreamOffsets.parse(from);
+        subscription.close();
+        subscription.open(offset, true);
+
+        log.info("Transaction stream consumer {} replaying from {}", name, from);
+        return subscription.status();
+    }
+
+    private final class Subscription {
+
+        private final TransactionStreamConsumer consumer;
+
+        private Consumer stream;
+        private boolean replaying;
+        private volatile MessageHandler.Context lastContext;
+        private volatile long lastOffset = -1;
+        private volatile String failure;
+        private int uncommitted;
+
+        private Subscription(TransactionStreamConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        private synchronized void open(OffsetSpecification offset, boolean replay) {
+            ConsumerBuilder builder = environment.consumerBuilder()
+                    .stream(properties.name())
+                    .name(CONSUMER_NAME_PREFIX + consumer.name())
+                    .offset(offset)
+                    .messageHandler(this::handle);
+
+            // Tracked consumers resume from their stored offset, so replays run untracked and store offsets themselves.
+            stream = replay
+                    ? builder.noTrackingStrategy().build()
+                    : builder.manualTrackingStrategy().builder().build();
+            replaying = replay;
+            failure = null;
+        }
+
+        private synchronized void close() {
+            if (Objects.isNull(stream)) {
+                return;
+            }
+
+            commit();
+            stream.close();
+            stream = null;
+        }
+
+        private synchronized void closeFailed() {
+            if (Objects.nonNull(failure)) {
+                close();
+            }
+        }
+
+        private TransactionStreamConsumerStatus status() {
+            return new TransactionStreamConsumerStatus(consumer.name(), lastOffset, replaying, failure);
+        }
+
+        private void handle(MessageHandler.Context context, com.rabbitmq.stream.Message streamMessage) {
+            if (Objects.nonNull(failure)) {
+                return;
+            }
+
+            try {
+                Message message = streamConverter.toMessage(streamMessage, new StreamMessageProperties(context));
+                envelopeReader.read(message, TransactionPerformedEventV1.class).forEach(consumer::onTransaction);
+            } catch (RuntimeException e) {
+                // The offset stays on the last handled event, so a restart or replay resumes at the failed one.
+                failure = "offset " + context.offset() + ": " + e.getMessage();
+                log.error("Transaction stream consumer {} stopped at offset {}: {}",
+                        consumer.name(), context.offset(), e.getMessage(), e);
+                Thread.ofVirtual().name("stream-stop-" + consumer.name()).start(this::closeFailed);
+                return;
+            }
+
+            lastContext = context;
+            lastOffset = context.offset();
+            if (++uncommitted >= properties.offsetCommitInterval()) {
+                commit();
+            }
+        }
+
+        private void commit() {
+            MessageHandler.Context context = lastContext;
+            if (Objects.nonNull(context) && uncommitted > 0) {
+                context.storeOffset();
+                uncommitted = 0;
+            }
+        }
+
+    }
+
+}
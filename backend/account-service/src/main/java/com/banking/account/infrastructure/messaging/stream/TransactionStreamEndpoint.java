@@ -0,0 +1,41 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "transactionstream")
+@ConditionalOnProperty(prefix = "messaging.transaction-stream", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TransactionStreamEndpoint {
+
+    private final TransactionStreamConsumers streamConsumers;
+
+    @ReadOperation
+    public List<TransactionStreamConsumerStatus> consumers() {
+        return streamConsumers.status();
+    }
+
+    @WriteOperation
+    public TransactionStreamConsumerStatus replay(@Selector String consumer, String from) {
+        if (!streamConsumers.isKnownConsumer(consumer)) {
+            throw new InvalidEndpointRequestException("Unknown transaction stream consumer: " + consumer,
+                    "Unknown transaction stream consumer");
+        }
+
+        try {
+            return streamConsumers.replay(consumer, from);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Invalid stream offset");
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import com.banking.account.infrastructure.config.TransactionStreamProperties;
+import com.rabbitmq.stream.Environment;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.rabbit.stream.producer.RabbitStreamOperations;
+import org.springframework.rabbit.stream.producer.RabbitStreamTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "messaging.transaction-stream", name = "enabled", havingValue = "true")
+public class TransactionStreamPublisher {
+
+    private final RabbitStreamOperations streamTemplate;
+
+    @Autowired
+    public TransactionStreamPublisher(Environment rabbitStreamEnvironment, TransactionStreamProperties properties) {
+        this(new RabbitStreamTemplate(rabbitStreamEnvironment, properties.name()));
+    }
+
+    TransactionStreamPublisher(RabbitStreamOperations streamTemplate) {
+        this.streamTemplate = streamTemplate;
+    }
+
+    public void publish(List<Message> messages, Duration confirmTimeout) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<?>[] confirms = messages.stream()
+                .map(streamTemplate::send)
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(confirms).get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting for stream confirms", e);
+        } catch (ExecutionException e) {
+            throw new AmqpException("Transaction stream rejected events: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new AmqpTimeoutException("Transaction stream did not confirm " + messages.size()
+                    + " events within " + confirmTimeout, e);
+        }
+
+        log.debug("Appended {} events to the transaction stream", messages.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        streamTemplate.close();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.banking.account.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "event_outbox",
+        schema = "core",
+        indexes = {
+                @Index(name = "idx_event_outbox_pending", columnList = "created_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventJpaEntity extends AbstractEntity implements Persistable<UUID> {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 255)
+    private String eventType;
+
+    @Column(name = "exchange", nullable = false, length = 255)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 255)
+    private String routingKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxEventStatus status = OutboxEventStatus.PENDING;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntry = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = Instant.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        this.newEntry = false;
+    }
+
+    public void recordFailure(String error, int maxAttempts, Instant retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+
+        if (attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.PARKED;
+            this.claimedUntil = null;
+        } else {
+            this.claimedUntil = retryAt;
+        }
+    }
+
+    public boolean isParked() {
+        return status == OutboxEventStatus.PARKED;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.banking.account.infrastructure.persistence.entity;
+
+public enum OutboxEventStatus {
+    PENDING,
+    PARKED
+}
@@ -2,6 +2,7 @@ package com.banking.account.infrastructure.persistence.inmemory;
 
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.domain.model.Account;
+import com.banking.account.domain.model.AccountBalance;
 import com.banking.account.domain.model.AccountNumber;
 import com.banking.account.domain.model.AccountStatus;
 import com.banking.account.domain.repository.AccountRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -40,6 +42,37 @@ public class InMemoryAccountRepository implements AccountRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<Account> findAllByIds(Collection<UUID> ids) {
+        Objects.requireNonNull(ids, "Account ids must not be null");
+        return ids.stream()
+                .map(store::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        Objects.requireNonNull(accountNumbers, "Account numbers must not be null");
+        return store.values().stream()
+                .filter(a -> accountNumbers.contains(a.getAccountNumber()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AccountBalance> findBalancesByIds(Collection<UUID> ids) {
+        return findAllByIds(ids).stream()
+                .map(this::toBalance)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AccountBalance> findBalancesByAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        return findAllByAccountNumbers(accountNumbers).stream()
+                .map(this::toBalance)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Account> findByCustomerId(UUID customerId) {
         Objects.requireNonNull(customerId, "Customer id must not be null");
@@ -49,6 +82,15 @@ public class InMemoryAccountRepository implements AccountRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Account> findByCustomerIds(Collection<UUID> customerIds) {
+        Objects.requireNonNull(customerIds, "Customer ids must not be null");
+        return store.values().stream()
+                .filter(a -> customerIds.contains(a.getCustomerId()))
+                .sorted(Comparator.comparing(Account::getCreatedAt))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Page<Account> findByCustomerId(UUID customerId, Pageable pageable) {
         Objects.requireNonNull(customerId, "Customer id must not be null");
@@ -109,6 +151,21 @@ public class InMemoryAccountRepository implements AccountRepository {
                 .findFirst();
     }
 
+    @Override
+    public Optional<Instant> findLastModifiedById(UUID id) {
+        Objects.requireNonNull(id, "Account id must not be null");
+        return Optional.ofNullable(store.get(id))
+                .map(Account::getUpdatedAt);
+    }
+
+    @Override
+    public Optional<Instant> findLastModified() {
+        return store.values().stream()
+                .map(Account::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+    }
+
     @Override
     public void deleteById(UUID id) {
         Objects.requireNonNull(id, "Account id must not be null");
@@ -125,6 +182,15 @@ public class InMemoryAccountRepository implements AccountRepository {
         return store.size();
     }
 
+    private AccountBalance toBalance(Account account) {
+        return new AccountBalance(
+                account.getId(),
+                account.getAccountNumberValue(),
+                account.getCurrentBalance().value(),
+                account.getStatus()
+        );
+    }
+
     private boolean applyFilter(Account account, AccountFilter filter) {
         if (Objects.isNull(filter)) {
             return true;
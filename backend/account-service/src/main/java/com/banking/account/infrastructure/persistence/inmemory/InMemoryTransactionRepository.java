@@ -2,6 +2,7 @@ package com.banking.account.infrastructure.persistence.inmemory;
 
 import com.banking.account.domain.model.Money;
 import com.banking.account.domain.model.Transaction;
+import com.banking.account.domain.model.TransactionTotals;
 import com.banking.account.domain.model.TransactionType;
 import com.banking.account.domain.repository.TransactionRepository;
 import org.springframework.data.domain.Page;
@@ -97,6 +98,79 @@ public class InMemoryTransactionRepository implements TransactionRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Transaction> findPageByAccountIdAndDateRange(
+            UUID accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Transaction previous,
+            int limit
+    ) {
+        Comparator<Transaction> newestFirst = Comparator.comparing(Transaction::getCreatedAt)
+                .thenComparing(Transaction::getId)
+                .reversed();
+
+        return findByAccountIdAndDateRange(accountId, startDate, endDate).stream()
+                .filter(t -> Objects.isNull(previous) || newestFirst.compare(t, previous) > 0)
+                .sorted(newestFirst)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Transaction> findByAccountIdsAndDateRange(
+            Collection<UUID> accountIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        Objects.requireNonNull(accountIds, "Account ids must not be null");
+        Objects.requireNonNull(startDate, "Start date must not be null");
+        Objects.requireNonNull(endDate, "End date must not be null");
+
+        return store.values().stream()
+                .filter(t -> accountIds.contains(t.getAccountId()))
+                .filter(t -> {
+                    LocalDateTime transactionDate = LocalDateTime.ofInstant(
+                            t.getCreatedAt(),
+                            ZoneId.systemDefault()
+                    );
+                    return !transactionDate.isBefore(startDate) && !transactionDate.isAfter(endDate);
+                })
+                .sorted(Comparator.comparing(Transaction::getAccountId)
+                        .thenComparing(Transaction::getCreatedAt, Comparator.reverseOrder()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TransactionTotals> sumTotalsByAccountIdsAndDateRange(
+            Collection<UUID> accountIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        Map<UUID, TransactionTotals> totals = new LinkedHashMap<>();
+
+        for (Transaction transaction : findByAccountIdsAndDateRange(accountIds, startDate, endDate)) {
+            BigDecimal amount = transaction.getAmount().value();
+            boolean debit = transaction.getType().isWithdrawal();
+
+            totals.merge(
+                    transaction.getAccountId(),
+                    new TransactionTotals(
+                            transaction.getAccountId(),
+                            debit ? amount : BigDecimal.ZERO,
+                            debit ? BigDecimal.ZERO : amount
+                    ),
+                    (a, b) -> new TransactionTotals(
+                            a.accountId(),
+                            a.totalDebits().add(b.totalDebits()),
+                            a.totalCredits().add(b.totalCredits())
+                    )
+            );
+        }
+
+        return new ArrayList<>(totals.values());
+    }
+
     @Override
     public List<Transaction> findByAccountIdAndTypeAndDateRange(
             UUID accountId,
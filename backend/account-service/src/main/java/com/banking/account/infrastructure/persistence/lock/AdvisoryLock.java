@@ -0,0 +1,97 @@
+package com.banking.account.infrastructure.persistence.lock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+@Slf4j
+public abstract class AdvisoryLock {
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(?)";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource dataSource;
+    private final long key;
+    private final String owner;
+
+    private Connection connection;
+
+    protected AdvisoryLock(DataSource dataSource, long key, String owner) {
+        this.dataSource = dataSource;
+        this.key = key;
+        this.owner = owner;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (Objects.nonNull(connection)) {
+            if (isValid(connection)) {
+                return true;
+            }
+            log.warn("{} lost its lock connection", owner);
+            closeQuietly();
+        }
+
+        try {
+            Connection candidate = dataSource.getConnection();
+            candidate.setAutoCommit(true);
+            if (execute(candidate, TRY_LOCK)) {
+                connection = candidate;
+                log.info("{} acquired its lock", owner);
+                return true;
+            }
+            candidate.close();
+        } catch (SQLException e) {
+            log.warn("{} could not acquire its lock: {}", owner, e.getMessage());
+        }
+        return false;
+    }
+
+    public synchronized void release() {
+        if (Objects.isNull(connection)) {
+            return;
+        }
+
+        try {
+            execute(connection, UNLOCK);
+            log.info("{} released its lock", owner);
+        } catch (SQLException e) {
+            log.warn("{} could not release its lock: {}", owner, e.getMessage());
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private boolean execute(Connection target, String sql) throws SQLException {
+        try (PreparedStatement statement = target.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static boolean isValid(Connection target) {
+        try {
+            return target.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Closing the {} lock connection failed: {}", owner, e.getMessage());
+        } finally {
+            connection = null;
+        }
+    }
+
+}
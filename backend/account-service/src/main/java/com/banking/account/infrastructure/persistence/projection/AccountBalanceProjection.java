@@ -0,0 +1,18 @@
+package com.banking.account.infrastructure.persistence.projection;
+
+import com.banking.account.domain.model.AccountStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface AccountBalanceProjection {
+
+    UUID getId();
+
+    String getNumber();
+
+    BigDecimal getCurrentBalance();
+
+    AccountStatus getStatus();
+
+}
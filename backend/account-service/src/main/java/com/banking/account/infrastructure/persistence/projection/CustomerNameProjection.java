@@ -0,0 +1,11 @@
+package com.banking.account.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+public interface CustomerNameProjection {
+
+    UUID getId();
+
+    String getFullName();
+
+}
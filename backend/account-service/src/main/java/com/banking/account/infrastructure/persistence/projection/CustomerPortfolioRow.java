@@ -0,0 +1,37 @@
+package com.banking.account.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface CustomerPortfolioRow {
+
+    UUID getCustomerId();
+
+    String getCustomerIdValue();
+
+    String getFullName();
+
+    String getCustomerStatus();
+
+    UUID getAccountId();
+
+    String getAccountNumber();
+
+    String getAccountType();
+
+    BigDecimal getCurrentBalance();
+
+    String getAccountStatus();
+
+    LocalDateTime getLastTransactionAt();
+
+    String getLastTransactionType();
+
+    BigDecimal getLastTransactionAmount();
+
+    BigDecimal getTotalCredits();
+
+    BigDecimal getTotalDebits();
+
+}
@@ -0,0 +1,14 @@
+package com.banking.account.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface TransactionTotalsProjection {
+
+    UUID getAccountId();
+
+    BigDecimal getTotalDebits();
+
+    BigDecimal getTotalCredits();
+
+}
@@ -2,11 +2,13 @@ package com.banking.account.infrastructure.persistence.repository;
 
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.domain.model.Account;
+import com.banking.account.domain.model.AccountBalance;
 import com.banking.account.domain.model.AccountNumber;
 import com.banking.account.domain.model.AccountStatus;
 import com.banking.account.domain.repository.AccountRepository;
 import com.banking.account.infrastructure.persistence.entity.AccountJpaEntity;
 import com.banking.account.infrastructure.persistence.mapper.AccountPersistenceMapper;
+import com.banking.account.infrastructure.persistence.projection.AccountBalanceProjection;
 import com.banking.account.infrastructure.persistence.specification.AccountSpecification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
@@ -16,6 +18,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -64,6 +68,58 @@ public class AccountRepositoryAdapter implements AccountRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Account> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Account> findAllByAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findByNumberIn(toNumberValues(accountNumbers))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountBalance> findBalancesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findBalancesByIdIn(ids)
+                .stream()
+                .map(this::toBalance)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountBalance> findBalancesByAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findBalancesByNumberIn(toNumberValues(accountNumbers))
+                .stream()
+                .map(this::toBalance)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Account> findByCustomerId(UUID customerId) {
@@ -73,6 +129,19 @@ public class AccountRepositoryAdapter implements AccountRepository {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Account> findByCustomerIds(Collection<UUID> customerIds) {
+        if (customerIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findByCustomerIdInOrderByCreatedAtAsc(customerIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Account> findByCustomerId(UUID customerId, Pageable pageable) {
@@ -116,6 +185,18 @@ public class AccountRepositoryAdapter implements AccountRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findLastModifiedById(UUID id) {
+        return jpaRepository.findLastModifiedById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findLastModified() {
+        return jpaRepository.findLastModified();
+    }
+
     @Override
     @Transactional
     public void deleteById(UUID id) {
@@ -134,4 +215,19 @@ public class AccountRepositoryAdapter implements AccountRepository {
         return jpaRepository.count();
     }
 
+    private List<String> toNumberValues(Collection<AccountNumber> accountNumbers) {
+        return accountNumbers.stream()
+                .map(AccountNumber::value)
+                .toList();
+    }
+
+    private AccountBalance toBalance(AccountBalanceProjection projection) {
+        return new AccountBalance(
+                projection.getId(),
+                projection.getNumber(),
+                projection.getCurrentBalance(),
+                projection.getStatus()
+        );
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.banking.account.infrastructure.persistence.repository;
+
+import com.banking.account.application.dto.CustomerPortfolio;
+import com.banking.account.application.port.out.CustomerPortfolioQuery;
+import com.banking.account.domain.model.AccountStatus;
+import com.banking.account.domain.model.AccountType;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.domain.model.TransactionType;
+import com.banking.account.infrastructure.persistence.projection.CustomerPortfolioRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerPortfolioQueryAdapter implements CustomerPortfolioQuery {
+
+    private final JpaCustomerProjectionRepository jpaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerPortfolio> findPortfolio(UUID customerId, LocalDateTime startDate, LocalDateTime endDate) {
+        Instant startInstant = startDate.atZone(ZoneId.systemDefault()).toInstant();
+        Instant endInstant = endDate.atZone(ZoneId.systemDefault()).toInstant();
+
+        List<CustomerPortfolioRow> rows = jpaRepository.findPortfolioRows(customerId, startInstant, endInstant);
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CustomerPortfolioRow customer = rows.getFirst();
+
+        List<CustomerPortfolio.AccountSummary> accounts = rows.stream()
+                .filter(row -> Objects.nonNull(row.getAccountId()))
+                .map(this::toAccountSummary)
+                .toList();
+
+        BigDecimal totalBalance = accounts.stream()
+                .map(CustomerPortfolio.AccountSummary::getCurrentBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return Optional.of(CustomerPortfolio.builder()
+                .customerId(customer.getCustomerId())
+                .customerIdValue(customer.getCustomerIdValue())
+                .customerName(customer.getFullName())
+                .customerStatus(CustomerStatus.valueOf(customer.getCustomerStatus()))
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalBalance(totalBalance)
+                .accounts(accounts)
+                .build());
+    }
+
+    private CustomerPortfolio.AccountSummary toAccountSummary(CustomerPortfolioRow row) {
+        return CustomerPortfolio.AccountSummary.builder()
+                .accountId(row.getAccountId())
+                .accountNumber(row.getAccountNumber())
+                .accountType(AccountType.valueOf(row.getAccountType()))
+                .currentBalance(row.getCurrentBalance())
+                .status(AccountStatus.valueOf(row.getAccountStatus()))
+                .lastTransactionAt(Objects.nonNull(row.getLastTransactionAt())
+                        ? row.getLastTransactionAt().atZone(ZoneId.systemDefault()).toInstant()
+                        : null)
+                .lastTransactionType(Objects.nonNull(row.getLastTransactionType())
+                        ? TransactionType.valueOf(row.getLastTransactionType())
+                        : null)
+                .lastTransactionAmount(row.getLastTransactionAmount())
+                .totalCredits(row.getTotalCredits())
+                .totalDebits(row.getTotalDebits())
+                .build();
+    }
+
+}
@@ -1,23 +1,63 @@
 package com.banking.account.infrastructure.persistence.repository;
 
 import com.banking.account.domain.model.CustomerInfo;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
+import com.banking.account.domain.model.CustomerStatus;
 import com.banking.account.domain.repository.CustomerProjectionRepository;
 import com.banking.account.infrastructure.persistence.entity.CustomerProjectionJpaEntity;
 import com.banking.account.infrastructure.persistence.mapper.CustomerProjectionMapper;
+import com.banking.account.infrastructure.persistence.projection.CustomerNameProjection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class CustomerProjectionRepositoryAdapter implements CustomerProjectionRepository {
 
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO core.customer_projection AS cp
+                (id, customer_id_value, full_name, status, created_at, updated_at, last_event_at,
+                 name_sequence, status_sequence)
+            VALUES
+            """;
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+            ON CONFLICT (id) DO UPDATE
+                SET full_name       = CASE WHEN EXCLUDED.name_sequence > cp.name_sequence
+                                           THEN EXCLUDED.full_name ELSE cp.full_name END,
+                    name_sequence   = GREATEST(cp.name_sequence, EXCLUDED.name_sequence),
+                    status          = CASE WHEN EXCLUDED.status_sequence > cp.status_sequence
+                                           THEN EXCLUDED.status ELSE cp.status END,
+                    status_sequence = GREATEST(cp.status_sequence, EXCLUDED.status_sequence),
+                    updated_at      = EXCLUDED.updated_at,
+                    last_event_at   = GREATEST(cp.last_event_at, EXCLUDED.last_event_at)
+                WHERE cp.name_sequence < EXCLUDED.name_sequence
+                   OR cp.status_sequence < EXCLUDED.status_sequence
+            """;
+    private static final int UPSERT_COLUMNS = 9;
+    private static final int MAX_UPSERT_ROWS = 7000;
+    private static final String UNKNOWN_NAME = "";
+
     private final JpaCustomerProjectionRepository jpaRepository;
     private final CustomerProjectionMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -36,6 +76,28 @@ public class CustomerProjectionRepositoryAdapter implements CustomerProjectionRe
                 );
     }
 
+    @Override
+    @Transactional
+    public boolean upsert(CustomerProjectionUpdate update) {
+        return executeUpsert(List.of(ProjectionRow.of(update))) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void upsertAll(Collection<CustomerProjectionUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, ProjectionRow> rowsById = new TreeMap<>();
+        updates.forEach(update -> rowsById.merge(update.customerId(), ProjectionRow.of(update), ProjectionRow::merge));
+
+        List<ProjectionRow> rows = List.copyOf(rowsById.values());
+        for (int from = 0; from < rows.size(); from += MAX_UPSERT_ROWS) {
+            executeUpsert(rows.subList(from, Math.min(from + MAX_UPSERT_ROWS, rows.size())));
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<CustomerInfo> findById(UUID customerId) {
@@ -43,10 +105,102 @@ public class CustomerProjectionRepositoryAdapter implements CustomerProjectionRe
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, String> findNamesByIds(Collection<UUID> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return jpaRepository.findNamesByIdIn(customerIds).stream()
+                .collect(Collectors.toMap(CustomerNameProjection::getId, CustomerNameProjection::getFullName));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(UUID customerId) {
         return jpaRepository.existsById(customerId);
     }
 
-}
\ No newline at end of file
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return jpaRepository.findAll(PageRequest.of(0, 1)).isEmpty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerInfo> findActiveAfter(UUID afterCustomerId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        String status = CustomerStatus.ACTIVE.name();
+
+        List<CustomerProjectionJpaEntity> entities = Objects.isNull(afterCustomerId)
+                ? jpaRepository.findByStatusOrderByIdAsc(status, pageable)
+                : jpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterCustomerId, pageable);
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    private int executeUpsert(Collection<ProjectionRow> rows) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object> parameters = new ArrayList<>(rows.size() * UPSERT_COLUMNS);
+
+        for (ProjectionRow row : rows) {
+            parameters.add(row.customerId());
+            parameters.add(row.customerId().toString());
+            parameters.add(row.fullName());
+            parameters.add(row.status());
+            parameters.add(now);
+            parameters.add(now);
+            parameters.add(Timestamp.from(row.occurredAt()));
+            parameters.add(row.nameSequence());
+            parameters.add(row.statusSequence());
+        }
+
+        String sql = UPSERT_PREFIX
+                + String.join(", ", Collections.nCopies(rows.size(), UPSERT_ROW))
+                + "\n"
+                + UPSERT_SUFFIX;
+
+        return jdbcTemplate.update(sql, parameters.toArray());
+    }
+
+    private record ProjectionRow(
+            UUID customerId,
+            String fullName,
+            long nameSequence,
+            String status,
+            long statusSequence,
+            Instant occurredAt
+    ) {
+
+        static ProjectionRow of(CustomerProjectionUpdate update) {
+            return new ProjectionRow(
+                    update.customerId(),
+                    update.setsName() ? update.fullName() : UNKNOWN_NAME,
+                    update.setsName() ? update.sequence() : 0L,
+                    update.setsStatus() ? update.status().name() : CustomerStatus.INACTIVE.name(),
+                    update.setsStatus() ? update.sequence() : 0L,
+                    update.occurredAt()
+            );
+        }
+
+        ProjectionRow merge(ProjectionRow other) {
+            boolean otherName = other.nameSequence > nameSequence;
+            boolean otherStatus = other.statusSequence > statusSequence;
+
+            return new ProjectionRow(
+                    customerId,
+                    otherName ? other.fullName : fullName,
+                    Math.max(nameSequence, other.nameSequence),
+                    otherStatus ? other.status : status,
+                    Math.max(statusSequence, other.statusSequence),
+                    occurredAt.isAfter(other.occurredAt) ? occurredAt : other.occurredAt
+            );
+        }
+
+    }
+
+}
@@ -2,12 +2,17 @@ package com.banking.account.infrastructure.persistence.repository;
 
 import com.banking.account.domain.model.AccountStatus;
 import com.banking.account.infrastructure.persistence.entity.AccountJpaEntity;
+import com.banking.account.infrastructure.persistence.projection.AccountBalanceProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,8 +22,16 @@ public interface JpaAccountRepository extends JpaRepository<AccountJpaEntity, UU
 
     Optional<AccountJpaEntity> findByNumber(String number);
 
+    List<AccountJpaEntity> findByNumberIn(Collection<String> numbers);
+
+    List<AccountBalanceProjection> findBalancesByIdIn(Collection<UUID> ids);
+
+    List<AccountBalanceProjection> findBalancesByNumberIn(Collection<String> numbers);
+
     List<AccountJpaEntity> findByCustomerId(UUID customerId);
 
+    List<AccountJpaEntity> findByCustomerIdInOrderByCreatedAtAsc(Collection<UUID> customerIds);
+
     Page<AccountJpaEntity> findByCustomerId(UUID customerId, Pageable pageable);
 
     List<AccountJpaEntity> findByCustomerIdAndStatus(UUID customerId, AccountStatus status);
@@ -27,4 +40,14 @@ public interface JpaAccountRepository extends JpaRepository<AccountJpaEntity, UU
 
     boolean existsByNumber(String accountNumber);
 
+    @Query("SELECT GREATEST(a.updatedAt, COALESCE(p.updatedAt, a.updatedAt)) FROM AccountJpaEntity a " +
+            "LEFT JOIN CustomerProjectionJpaEntity p ON p.id = a.customerId " +
+            "WHERE a.id = :id")
+    Optional<Instant> findLastModifiedById(@Param("id") UUID id);
+
+    @Query("SELECT GREATEST(MAX(a.updatedAt), " +
+            "COALESCE((SELECT MAX(p.updatedAt) FROM CustomerProjectionJpaEntity p), MAX(a.updatedAt))) " +
+            "FROM AccountJpaEntity a")
+    Optional<Instant> findLastModified();
+
 }
\ No newline at end of file
@@ -1,9 +1,17 @@
 package com.banking.account.infrastructure.persistence.repository;
 
 import com.banking.account.infrastructure.persistence.entity.CustomerProjectionJpaEntity;
+import com.banking.account.infrastructure.persistence.projection.CustomerNameProjection;
+import com.banking.account.infrastructure.persistence.projection.CustomerPortfolioRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +22,50 @@ public interface JpaCustomerProjectionRepository extends JpaRepository<CustomerP
 
     boolean existsByCustomerIdValue(String customerIdValue);
 
+    List<CustomerProjectionJpaEntity> findByStatusOrderByIdAsc(String status, Pageable pageable);
+
+    List<CustomerProjectionJpaEntity> findByStatusAndIdGreaterThanOrderByIdAsc(String status, UUID id, Pageable pageable);
+
+    List<CustomerNameProjection> findNamesByIdIn(Collection<UUID> ids);
+
+    @Query(value = """
+            SELECT cp.id                 AS "customerId",
+                   cp.customer_id_value  AS "customerIdValue",
+                   cp.full_name          AS "fullName",
+                   cp.status             AS "customerStatus",
+                   a.id                  AS "accountId",
+                   a.number              AS "accountNumber",
+                   a.type                AS "accountType",
+                   a.current_balance     AS "currentBalance",
+                   a.status              AS "accountStatus",
+                   lt.created_at         AS "lastTransactionAt",
+                   lt.type               AS "lastTransactionType",
+                   lt.amount             AS "lastTransactionAmount",
+                   pt.total_credits      AS "totalCredits",
+                   pt.total_debits       AS "totalDebits"
+            FROM core.customer_projection cp
+                     LEFT JOIN core.accounts a ON a.customer_id = cp.id
+                     LEFT JOIN LATERAL (
+                SELECT t.created_at, t.type, t.amount
+                FROM core.transactions t
+                WHERE t.account_id = a.id
+                ORDER BY t.created_at DESC
+                LIMIT 1
+                ) lt ON TRUE
+                     LEFT JOIN LATERAL (
+                SELECT COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'DEPOSIT'), 0)    AS total_credits,
+                       COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'WITHDRAWAL'), 0) AS total_debits
+                FROM core.transactions t
+                WHERE t.account_id = a.id
+                  AND t.created_at BETWEEN :startDate AND :endDate
+                ) pt ON TRUE
+            WHERE cp.id = :customerId
+            ORDER BY a.created_at
+            """, nativeQuery = true)
+    List<CustomerPortfolioRow> findPortfolioRows(
+            @Param("customerId") UUID customerId,
+            @Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate
+    );
+
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.banking.account.infrastructure.persistence.repository;
+
+import com.banking.account.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, UUID> {
+
+    @Query(value = """
+            SELECT *
+            FROM core.event_outbox e
+            WHERE e.status = 'PENDING'
+              AND e.published_at IS NULL
+              AND (e.claimed_until IS NULL OR e.claimed_until < :now)
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM core.event_outbox earlier
+                  WHERE earlier.aggregate_id = e.aggregate_id
+                    AND earlier.status = 'PENDING'
+                    AND earlier.created_at < e.created_at
+                    AND earlier.claimed_until >= :now)
+            ORDER BY e.created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEventJpaEntity> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT *
+            FROM core.event_outbox
+            WHERE published_at IS NOT NULL
+            ORDER BY created_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OutboxEventJpaEntity> findNextStreamBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.publishedAt = :publishedAt, e.claimedUntil = null WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<UUID> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.publishedAt IS NOT NULL")
+    int deleteAwaitingStream();
+
+}
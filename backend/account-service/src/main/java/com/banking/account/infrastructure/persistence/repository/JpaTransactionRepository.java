@@ -2,6 +2,7 @@ package com.banking.account.infrastructure.persistence.repository;
 
 import com.banking.account.domain.model.TransactionType;
 import com.banking.account.infrastructure.persistence.entity.TransactionJpaEntity;
+import com.banking.account.infrastructure.persistence.projection.TransactionTotalsProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +25,24 @@ public interface JpaTransactionRepository extends JpaRepository<TransactionJpaEn
 
     List<TransactionJpaEntity> findByAccountIdAndCreatedAtBetweenOrderByCreatedAtDesc(UUID accountId, Instant startDate, Instant endDate);
 
+    List<TransactionJpaEntity> findByAccountIdAndCreatedAtBetweenOrderByCreatedAtDescIdDesc(UUID accountId, Instant startDate, Instant endDate, Pageable pageable);
+
+    @Query("SELECT t FROM TransactionJpaEntity t " +
+            "WHERE t.accountId = :accountId " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionJpaEntity> findByAccountIdAndCreatedAtBetweenBefore(
+            @Param("accountId") UUID accountId,
+            @Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    List<TransactionJpaEntity> findByAccountIdInAndCreatedAtBetweenOrderByAccountIdAscCreatedAtDesc(Collection<UUID> accountIds, Instant startDate, Instant endDate);
+
     List<TransactionJpaEntity> findByAccountIdAndTypeAndCreatedAtBetweenOrderByCreatedAtDesc(UUID accountId, TransactionType type, Instant startDate, Instant endDate);
 
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionJpaEntity t " +
@@ -36,6 +56,20 @@ public interface JpaTransactionRepository extends JpaRepository<TransactionJpaEn
             @Param("endDate") Instant endDate
     );
 
+    @Query("SELECT t.accountId AS accountId, " +
+            "COALESCE(SUM(CASE WHEN t.type = :debitType THEN t.amount ELSE 0 END), 0) AS totalDebits, " +
+            "COALESCE(SUM(CASE WHEN t.type <> :debitType THEN t.amount ELSE 0 END), 0) AS totalCredits " +
+            "FROM TransactionJpaEntity t " +
+            "WHERE t.accountId IN :accountIds " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.accountId")
+    List<TransactionTotalsProjection> sumTotalsByAccountIdInAndCreatedAtBetween(
+            @Param("accountIds") Collection<UUID> accountIds,
+            @Param("debitType") TransactionType debitType,
+            @Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate
+    );
+
     void deleteByAccountId(UUID accountId);
 
 }
\ No newline at end of file
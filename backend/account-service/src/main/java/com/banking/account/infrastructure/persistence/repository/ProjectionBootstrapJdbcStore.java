@@ -0,0 +1,60 @@
+package com.banking.account.infrastructure.persistence.repository;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.application.port.out.ProjectionBootstrapStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectionBootstrapJdbcStore implements ProjectionBootstrapStore {
+
+    private static final String STARTED = "STARTED";
+    private static final String COMPLETED = "COMPLETED";
+
+    private static final String FIND_STATUS = """
+            SELECT status FROM core.customer_projection_bootstrap WHERE id = 1
+            """;
+
+    private static final String MARK_STARTED = """
+            INSERT INTO core.customer_projection_bootstrap (id, status, started_at)
+            VALUES (1, ?, ?)
+            ON CONFLICT (id) DO UPDATE
+                SET status        = EXCLUDED.status,
+                    started_at    = EXCLUDED.started_at,
+                    snapshot_mark = NULL,
+                    customers     = NULL,
+                    completed_at  = NULL
+            """;
+
+    private static final String MARK_COMPLETED = """
+            UPDATE core.customer_projection_bootstrap
+            SET status        = ?,
+                snapshot_mark = ?,
+                customers     = ?,
+                completed_at  = ?
+            WHERE id = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isInProgress() {
+        return jdbcTemplate.queryForList(FIND_STATUS, String.class).contains(STARTED);
+    }
+
+    @Override
+    public void markStarted() {
+        jdbcTemplate.update(MARK_STARTED, STARTED, Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    public void markCompleted(CustomerSnapshotResult result) {
+        jdbcTemplate.update(MARK_COMPLETED, COMPLETED, result.mark(), result.count(), Timestamp.from(Instant.now()));
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.banking.account.infrastructure.persistence.repository;
 
 import com.banking.account.domain.model.Transaction;
+import com.banking.account.domain.model.TransactionTotals;
 import com.banking.account.domain.model.TransactionType;
 import com.banking.account.domain.repository.TransactionRepository;
 import com.banking.account.infrastructure.persistence.entity.TransactionJpaEntity;
@@ -8,6 +9,7 @@ import com.banking.account.infrastructure.persistence.mapper.TransactionPersiste
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -91,6 +94,72 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transaction> findPageByAccountIdAndDateRange(
+            UUID accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Transaction previous,
+            int limit
+    ) {
+        Instant startInstant = startDate.atZone(ZoneId.systemDefault()).toInstant();
+        Instant endInstant = endDate.atZone(ZoneId.systemDefault()).toInstant();
+        Pageable page = PageRequest.of(0, limit);
+
+        List<TransactionJpaEntity> entities = Objects.isNull(previous)
+                ? jpaRepository.findByAccountIdAndCreatedAtBetweenOrderByCreatedAtDescIdDesc(
+                        accountId, startInstant, endInstant, page)
+                : jpaRepository.findByAccountIdAndCreatedAtBetweenBefore(
+                        accountId, startInstant, endInstant, previous.getCreatedAt(), previous.getId(), page);
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transaction> findByAccountIdsAndDateRange(
+            Collection<UUID> accountIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        Instant startInstant = startDate.atZone(ZoneId.systemDefault()).toInstant();
+        Instant endInstant = endDate.atZone(ZoneId.systemDefault()).toInstant();
+
+        return jpaRepository.findByAccountIdInAndCreatedAtBetweenOrderByAccountIdAscCreatedAtDesc(
+                        accountIds, startInstant, endInstant)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionTotals> sumTotalsByAccountIdsAndDateRange(
+            Collection<UUID> accountIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        Instant startInstant = startDate.atZone(ZoneId.systemDefault()).toInstant();
+        Instant endInstant = endDate.atZone(ZoneId.systemDefault()).toInstant();
+
+        return jpaRepository.sumTotalsByAccountIdInAndCreatedAtBetween(
+                        accountIds, TransactionType.WITHDRAWAL, startInstant, endInstant)
+                .stream()
+                .map(row -> new TransactionTotals(row.getAccountId(), row.getTotalDebits(), row.getTotalCredits()))
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Transaction> findByAccountIdAndTypeAndDateRange(
@@ -0,0 +1,46 @@
+package com.banking.account.infrastructure.scheduling;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.application.service.CustomerProjectionBootstrapService;
+import com.banking.account.infrastructure.config.ProjectionBootstrapProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "projection.bootstrap", name = "enabled", havingValue = "true")
+public class CustomerProjectionBootstrapRunner {
+
+    private final CustomerProjectionBootstrapService bootstrapService;
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final ProjectionBootstrapProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!bootstrapService.shouldBootstrap(properties.onlyIfEmpty())) {
+            log.info("Customer projection already populated, skipping snapshot bootstrap");
+            return;
+        }
+
+        log.info("Pausing customer event listeners while the projection is bootstrapped");
+        listenerRegistry.stop();
+
+        CustomerSnapshotResult result;
+        try {
+            result = bootstrapService.bootstrap(properties.batchSize());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(
+                    "Customer projection bootstrap failed, it will be retried on the next start", e);
+        }
+
+        log.info("Resuming customer event listeners after snapshot mark {}", result.mark());
+        listenerRegistry.start();
+    }
+
+}
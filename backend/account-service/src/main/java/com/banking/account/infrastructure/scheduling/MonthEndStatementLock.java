@@ -0,0 +1,19 @@
+package com.banking.account.infrastructure.scheduling;
+
+import com.banking.account.infrastructure.persistence.lock.AdvisoryLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@ConditionalOnProperty(prefix = "report.batch", name = "enabled", havingValue = "true")
+public class MonthEndStatementLock extends AdvisoryLock {
+
+    static final long LOCK_KEY = 0x6D6F6E7468656E64L;
+
+    public MonthEndStatementLock(DataSource dataSource) {
+        super(dataSource, LOCK_KEY, "Month-end statement batch");
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.banking.account.infrastructure.scheduling;
+
+import com.banking.account.application.dto.StatementBatchRequest;
+import com.banking.account.application.port.in.MonthEndStatementBatchUseCase;
+import com.banking.account.infrastructure.config.StatementBatchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "report.batch", name = "enabled", havingValue = "true")
+public class MonthEndStatementScheduler {
+
+    private final MonthEndStatementBatchUseCase batchUseCase;
+    private final StatementBatchProperties properties;
+    private final MonthEndStatementLock batchLock;
+
+    @Scheduled(cron = "${report.batch.cron}")
+    public void runPreviousMonth() {
+        run(YearMonth.now().minusMonths(1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        YearMonth period = YearMonth.now().minusMonths(1);
+
+        if (batchUseCase.isInterrupted(period)) {
+            log.info("Found interrupted month-end statement batch for {}, resuming", period);
+            Thread.ofVirtual().name("month-end-resume").start(() -> run(period));
+        }
+    }
+
+    private synchronized void run(YearMonth period) {
+        if (!batchLock.tryAcquire()) {
+            log.info("Month-end statement batch for {} is running on another instance, skipping", period);
+            return;
+        }
+
+        try {
+            batchUseCase.run(new StatementBatchRequest(
+                    period,
+                    properties.partitionSize(),
+                    properties.parallelism(),
+                    properties.locale()
+            ));
+        } catch (RuntimeException e) {
+            log.error("Month-end statement batch for {} failed: {}", period, e.getMessage(), e);
+        } finally {
+            batchLock.release();
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.banking.account.infrastructure.scheduling;
+
+import com.banking.account.application.port.in.StatementJobUseCase;
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.infrastructure.config.StatementJobProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementResultSweeper {
+
+    private final StatementJobUseCase statementJobUseCase;
+    private final StatementResultStore resultStore;
+    private final StatementJobProperties properties;
+
+    @Scheduled(fixedDelayString = "${report.jobs.sweep-interval:PT5M}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(properties.resultTtl());
+
+        int jobs = statementJobUseCase.evictFinishedBefore(cutoff);
+        int files = resultStore.deleteOlderThan(cutoff);
+
+        if (jobs > 0 || files > 0) {
+            log.info("Statement sweep removed {} finished jobs and {} orphaned result files older than {}",
+                    jobs, files, cutoff);
+        }
+    }
+
+}
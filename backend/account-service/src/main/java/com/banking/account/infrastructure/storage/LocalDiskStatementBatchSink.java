@@ -0,0 +1,150 @@
+package com.banking.account.infrastructure.storage;
+
+import com.banking.account.application.dto.StatementBatchCheckpoint;
+import com.banking.account.application.dto.StatementBatchManifestEntry;
+import com.banking.account.application.port.out.StatementBatchSink;
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.infrastructure.config.StatementBatchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class LocalDiskStatementBatchSink implements StatementBatchSink {
+
+    private static final String STATEMENTS_DIR = "statements";
+    private static final String PARTITIONS_DIR = "partitions";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String MANIFEST_FILE = "manifest.csv";
+    private static final String COMPLETED_MARKER = "_COMPLETED";
+    private static final String MANIFEST_HEADER = "customerId,status,file,bytes,pages,error";
+    private static final String PDF_SUFFIX = ".pdf";
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final Path outputDir;
+
+    public LocalDiskStatementBatchSink(StatementBatchProperties properties) {
+        this.outputDir = properties.outputDir();
+    }
+
+    @Override
+    public boolean isCompleted(YearMonth period) {
+        return Files.exists(runDir(period).resolve(COMPLETED_MARKER));
+    }
+
+    @Override
+    public Optional<StatementBatchCheckpoint> readCheckpoint(YearMonth period) {
+        Path checkpoint = runDir(period).resolve(CHECKPOINT_FILE);
+        if (!Files.isRegularFile(checkpoint)) {
+            return Optional.empty();
+        }
+
+        try {
+            String[] parts = Files.readString(checkpoint, StandardCharsets.UTF_8).trim().split(",");
+            return Optional.of(new StatementBatchCheckpoint(Integer.parseInt(parts[0]), UUID.fromString(parts[1])));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read checkpoint " + checkpoint, e);
+        }
+    }
+
+    @Override
+    public long write(YearMonth period, UUID customerId, StatementResultStore.ResultWriter writer) throws IOException {
+        Path statementsDir = Files.createDirectories(runDir(period).resolve(STATEMENTS_DIR));
+        Path partial = statementsDir.resolve(customerId + PARTIAL_SUFFIX);
+        Path target = statementsDir.resolve(customerId + PDF_SUFFIX);
+
+        try (OutputStream output = Files.newOutputStream(partial)) {
+            writer.writeTo(output);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(target);
+    }
+
+    @Override
+    public void commitPartition(
+            YearMonth period,
+            StatementBatchCheckpoint checkpoint,
+            List<StatementBatchManifestEntry> entries
+    ) throws IOException {
+        Path partitionsDir = Files.createDirectories(runDir(period).resolve(PARTITIONS_DIR));
+        Path partitionFile = partitionsDir.resolve("part-%05d.csv".formatted(checkpoint.partition()));
+
+        StringBuilder lines = new StringBuilder();
+        for (StatementBatchManifestEntry entry : entries) {
+            lines.append(toManifestLine(entry)).append('\n');
+        }
+
+        writeAtomically(partitionFile, lines.toString());
+        writeAtomically(runDir(period).resolve(CHECKPOINT_FILE),
+                checkpoint.partition() + "," + checkpoint.lastCustomerId());
+    }
+
+    @Override
+    public void complete(YearMonth period) throws IOException {
+        Path runDir = Files.createDirectories(runDir(period));
+        Path partitionsDir = runDir.resolve(PARTITIONS_DIR);
+        Path partial = runDir.resolve(MANIFEST_FILE + PARTIAL_SUFFIX);
+
+        try (BufferedWriter manifest = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+            manifest.write(MANIFEST_HEADER);
+            manifest.newLine();
+
+            if (Files.isDirectory(partitionsDir)) {
+                try (Stream<Path> partitions = Files.list(partitionsDir)) {
+                    for (Path partition : partitions.sorted().toList()) {
+                        manifest.write(Files.readString(partition, StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        }
+
+        Files.move(partial, runDir.resolve(MANIFEST_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.writeString(runDir.resolve(COMPLETED_MARKER), "");
+
+        log.info("Month-end statement manifest written to {}", runDir.resolve(MANIFEST_FILE));
+    }
+
+    private String toManifestLine(StatementBatchManifestEntry entry) {
+        String file = entry.generated() ? STATEMENTS_DIR + "/" + entry.customerId() + PDF_SUFFIX : "";
+        String error = Objects.isNull(entry.error()) ? "" : entry.error().replaceAll("[\\r\\n,]", " ");
+
+        return String.join(",",
+                entry.customerId().toString(),
+                entry.generated() ? "GENERATED" : "FAILED",
+                file,
+                String.valueOf(entry.bytes()),
+                String.valueOf(entry.pages()),
+                error);
+    }
+
+    private void writeAtomically(Path target, String content) throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+        Files.writeString(partial, content, StandardCharsets.UTF_8);
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path runDir(YearMonth period) {
+        return outputDir.resolve(period.toString());
+    }
+
+}
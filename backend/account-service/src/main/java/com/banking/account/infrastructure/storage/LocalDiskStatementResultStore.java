@@ -0,0 +1,99 @@
+package com.banking.account.infrastructure.storage;
+
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.infrastructure.config.StatementJobProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class LocalDiskStatementResultStore implements StatementResultStore {
+
+    private static final String RESULT_SUFFIX = ".pdf";
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final Path storageDir;
+
+    public LocalDiskStatementResultStore(StatementJobProperties properties) {
+        this.storageDir = properties.storageDir();
+        try {
+            Files.createDirectories(storageDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create statement storage directory " + storageDir, e);
+        }
+    }
+
+    @Override
+    public long write(UUID jobId, ResultWriter writer) throws IOException {
+        Path partial = storageDir.resolve(jobId + PARTIAL_SUFFIX);
+        Path target = resultPath(jobId);
+
+        try (OutputStream output = Files.newOutputStream(partial)) {
+            writer.writeTo(output);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(target);
+    }
+
+    @Override
+    public Optional<Resource> find(UUID jobId) {
+        Path path = resultPath(jobId);
+        return Files.isRegularFile(path)
+                ? Optional.of(new FileSystemResource(path))
+                : Optional.empty();
+    }
+
+    @Override
+    public void delete(UUID jobId) {
+        try {
+            Files.deleteIfExists(resultPath(jobId));
+        } catch (IOException e) {
+            log.warn("Could not delete statement result for job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    @Override
+    public int deleteOlderThan(Instant cutoff) {
+        int deleted = 0;
+
+        try (Stream<Path> files = Files.list(storageDir)) {
+            for (Path file : files.toList()) {
+                if (isOlderThan(file, cutoff)) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Statement result sweep failed: {}", e.getMessage());
+        }
+
+        return deleted;
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) throws IOException {
+        return Files.isRegularFile(file)
+                && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+    }
+
+    private Path resultPath(UUID jobId) {
+        return storageDir.resolve(jobId + RESULT_SUFFIX);
+    }
+
+}
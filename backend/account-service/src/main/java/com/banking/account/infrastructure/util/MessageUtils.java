@@ -28,4 +28,11 @@ public class MessageUtils {
         return messageSource.getMessage(key, args, key, locale);
     }
 
+    public static String getMessage(Locale locale, String key) {
+        if (Objects.isNull(messageSource)) {
+            return key;
+        }
+        return messageSource.getMessage(key, null, key, locale);
+    }
+
 }
\ No newline at end of file
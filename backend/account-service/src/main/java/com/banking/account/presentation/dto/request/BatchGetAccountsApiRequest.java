@@ -0,0 +1,46 @@
+package com.banking.account.presentation.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetAccountsApiRequest {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private Set<@NotNull UUID> ids;
+
+    private Set<@NotNull @Pattern(regexp = "^[0-9]{6,20}$", message = "{validation.account.accountNumber.pattern}") String> accountNumbers;
+
+    @JsonIgnore
+    @AssertTrue(message = "{validation.account.batch.notEmpty}")
+    public boolean isNotEmpty() {
+        return requestedCount() > 0;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "{validation.account.batch.size}")
+    public boolean isWithinBatchLimit() {
+        return requestedCount() <= MAX_BATCH_SIZE;
+    }
+
+    private int requestedCount() {
+        int idCount = Objects.nonNull(ids) ? ids.size() : 0;
+        int numberCount = Objects.nonNull(accountNumbers) ? accountNumbers.size() : 0;
+        return idCount + numberCount;
+    }
+
+}
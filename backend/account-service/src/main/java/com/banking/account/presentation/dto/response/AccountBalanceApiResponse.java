@@ -0,0 +1,26 @@
+package com.banking.account.presentation.dto.response;
+
+import com.banking.account.domain.model.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceApiResponse {
+
+    private UUID id;
+
+    private String accountNumber;
+
+    private BigDecimal currentBalance;
+
+    private AccountStatus status;
+
+}
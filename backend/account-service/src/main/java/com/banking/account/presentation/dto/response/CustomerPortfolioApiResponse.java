@@ -0,0 +1,63 @@
+package com.banking.account.presentation.dto.response;
+
+import com.banking.account.domain.model.AccountStatus;
+import com.banking.account.domain.model.AccountType;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.domain.model.TransactionType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPortfolioApiResponse {
+
+    private UUID customerId;
+
+    private String customerIdValue;
+
+    private String customerName;
+
+    private CustomerStatus customerStatus;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startDate;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endDate;
+
+    private BigDecimal totalBalance;
+
+    private List<AccountSummary> accounts;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class AccountSummary {
+        private UUID accountId;
+        private String accountNumber;
+        private AccountType accountType;
+        private BigDecimal currentBalance;
+        private AccountStatus status;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private Instant lastTransactionAt;
+        private TransactionType lastTransactionType;
+        private BigDecimal lastTransactionAmount;
+        private BigDecimal totalCredits;
+        private BigDecimal totalDebits;
+    }
+
+}
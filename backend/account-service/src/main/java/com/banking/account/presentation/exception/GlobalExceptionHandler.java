@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -25,6 +26,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,6 +38,7 @@ public class GlobalExceptionHandler {
     private static final String VALIDATION_ERROR_MESSAGE = "Validation failed for one or more fields";
     private static final String INTERNAL_ERROR_MESSAGE = "An unexpected error occurred. Please try again later";
     private static final String INVALID_REQUEST_MESSAGE = "Invalid request format";
+    private static final String RETRY_AFTER_SECONDS = "30";
 
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleAccountNotFound(
@@ -54,6 +57,40 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(StatementJobNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleStatementJobNotFound(
+            StatementJobNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("Statement job not found - ErrorCode: {}, Parameters: {}",
+                ex.getErrorCode(), ex.getParameters());
+
+        String message = resolveMessage(ex);
+
+        return buildErrorResponse(
+                HttpStatus.NOT_FOUND,
+                message,
+                request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(StatementJobResultExpiredException.class)
+    public ResponseEntity<ApiErrorResponse> handleStatementJobResultExpired(
+            StatementJobResultExpiredException ex,
+            HttpServletRequest request) {
+
+        log.warn("Statement job result expired - ErrorCode: {}, Parameters: {}",
+                ex.getErrorCode(), ex.getParameters());
+
+        String message = resolveMessage(ex);
+
+        return buildErrorResponse(
+                HttpStatus.GONE,
+                message,
+                request.getRequestURI()
+        );
+    }
+
     @ExceptionHandler(InactiveAccountException.class)
     public ResponseEntity<ApiErrorResponse> handleInactiveAccount(
             InactiveAccountException ex,
@@ -304,6 +341,26 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiErrorResponse> handleRejectedExecution(
+            RejectedExecutionException ex,
+            HttpServletRequest request) {
+
+        log.warn("Request rejected, executor saturated: {}", ex.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(MessageUtils.getMessage(AccountErrorCode.ACCOUNT_SERVICE_BUSY.getCode()))
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArgument(
             IllegalArgumentException ex,
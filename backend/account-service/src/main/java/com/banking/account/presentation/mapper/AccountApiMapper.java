@@ -1,10 +1,14 @@
 package com.banking.account.presentation.mapper;
 
 import com.banking.account.application.dto.*;
+import com.banking.account.presentation.dto.request.BatchGetAccountsApiRequest;
 import com.banking.account.presentation.dto.request.CreateAccountApiRequest;
 import com.banking.account.presentation.dto.request.TransactionApiRequest;
 import com.banking.account.presentation.dto.response.AccountApiResponse;
+import com.banking.account.presentation.dto.response.AccountBalanceApiResponse;
 import com.banking.account.presentation.dto.response.AccountStatementResponse;
+import com.banking.account.presentation.dto.response.CustomerPortfolioApiResponse;
+import com.banking.account.presentation.dto.response.StatementJobApiResponse;
 import com.banking.account.presentation.dto.response.TransactionApiResponse;
 import org.springframework.stereotype.Component;
 
@@ -30,6 +34,17 @@ public class AccountApiMapper {
                 .build();
     }
 
+    public AccountBatchRequest toBatchRequest(BatchGetAccountsApiRequest apiRequest) {
+        if (Objects.isNull(apiRequest)) {
+            return null;
+        }
+
+        return AccountBatchRequest.builder()
+                .ids(apiRequest.getIds())
+                .accountNumbers(apiRequest.getAccountNumbers())
+                .build();
+    }
+
     public TransactionRequest toTransactionRequest(
             UUID accountId,
             TransactionApiRequest apiRequest
@@ -65,6 +80,19 @@ public class AccountApiMapper {
                 .build();
     }
 
+    public AccountBalanceApiResponse toApiResponse(AccountBalanceResponse response) {
+        if (Objects.isNull(response)) {
+            return null;
+        }
+
+        return AccountBalanceApiResponse.builder()
+                .id(response.getId())
+                .accountNumber(response.getAccountNumber())
+                .currentBalance(response.getCurrentBalance())
+                .status(response.getStatus())
+                .build();
+    }
+
     public TransactionApiResponse toApiResponse(TransactionResponse response) {
         if (Objects.isNull(response)) {
             return null;
@@ -119,4 +147,60 @@ public class AccountApiMapper {
                 .build();
     }
 
+    public CustomerPortfolioApiResponse toApiResponse(CustomerPortfolio portfolio) {
+        if (Objects.isNull(portfolio)) {
+            return null;
+        }
+
+        List<CustomerPortfolioApiResponse.AccountSummary> accounts = portfolio.getAccounts().stream()
+                .map(this::toApiAccountSummary)
+                .toList();
+
+        return CustomerPortfolioApiResponse.builder()
+                .customerId(portfolio.getCustomerId())
+                .customerIdValue(portfolio.getCustomerIdValue())
+                .customerName(portfolio.getCustomerName())
+                .customerStatus(portfolio.getCustomerStatus())
+                .startDate(portfolio.getStartDate())
+                .endDate(portfolio.getEndDate())
+                .totalBalance(portfolio.getTotalBalance())
+                .accounts(accounts)
+                .build();
+    }
+
+    private CustomerPortfolioApiResponse.AccountSummary toApiAccountSummary(CustomerPortfolio.AccountSummary summary) {
+        return CustomerPortfolioApiResponse.AccountSummary.builder()
+                .accountId(summary.getAccountId())
+                .accountNumber(summary.getAccountNumber())
+                .accountType(summary.getAccountType())
+                .currentBalance(summary.getCurrentBalance())
+                .status(summary.getStatus())
+                .lastTransactionAt(summary.getLastTransactionAt())
+                .lastTransactionType(summary.getLastTransactionType())
+                .lastTransactionAmount(summary.getLastTransactionAmount())
+                .totalCredits(summary.getTotalCredits())
+                .totalDebits(summary.getTotalDebits())
+                .build();
+    }
+
+    public StatementJobApiResponse toApiResponse(StatementJob job) {
+        if (Objects.isNull(job)) {
+            return null;
+        }
+
+        return StatementJobApiResponse.builder()
+                .jobId(job.getId())
+                .customerId(job.getCustomerId())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .status(job.getStatus())
+                .progress(job.getProgress())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .resultSize(job.getResultSize())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+
 }
\ No newline at end of file
@@ -5,13 +5,16 @@ import com.banking.account.application.port.in.CreateAccountUseCase;
 import com.banking.account.application.port.in.GetAccountUseCase;
 import com.banking.account.application.port.in.TransactionUseCase;
 import com.banking.account.application.port.in.UpdateAccountUseCase;
+import com.banking.account.presentation.dto.request.BatchGetAccountsApiRequest;
 import com.banking.account.presentation.dto.request.CreateAccountApiRequest;
 import com.banking.account.presentation.dto.request.TransactionApiRequest;
 import com.banking.account.presentation.dto.response.AccountApiResponse;
+import com.banking.account.presentation.dto.response.AccountBalanceApiResponse;
 import com.banking.account.presentation.dto.response.ApiResponse;
 import com.banking.account.presentation.dto.response.PageResponse;
 import com.banking.account.presentation.dto.response.TransactionApiResponse;
 import com.banking.account.presentation.mapper.AccountApiMapper;
+import com.banking.commons.dto.ResourceVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +26,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -58,9 +62,14 @@ public class AccountController {
     }
 
     @GetMapping
-    public ResponseEntity<PageResponse<AccountApiResponse>> getAllAccounts(AccountFilter filter) {
+    public ResponseEntity<PageResponse<AccountApiResponse>> getAllAccounts(AccountFilter filter, WebRequest webRequest) {
         log.debug("REST request to get accounts with filters: {}", filter);
 
+        ResourceVersion version = getAccountUseCase.getAccountsVersion();
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
         int page = Objects.nonNull(filter.getPage()) ? filter.getPage() : 0;
         int size = Objects.nonNull(filter.getSize()) ? filter.getSize() : 10;
         String sortBy = Objects.nonNull(filter.getSortBy()) ? filter.getSortBy() : "createdAt";
@@ -77,10 +86,16 @@ public class AccountController {
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<AccountApiResponse>> getAccountById(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            WebRequest webRequest
     ) {
         log.debug("REST request to get account by ID: {}", id);
 
+        ResourceVersion version = getAccountUseCase.getAccountVersion(id);
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
         AccountResponse response = getAccountUseCase.getAccountById(id);
         AccountApiResponse apiResponse = apiMapper.toApiResponse(response);
 
@@ -99,6 +114,34 @@ public class AccountController {
         return ResponseEntity.ok(ApiResponse.success(apiResponse));
     }
 
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponse<List<AccountApiResponse>>> batchGetAccounts(
+            @Valid @RequestBody BatchGetAccountsApiRequest request
+    ) {
+        log.debug("REST request to batch get accounts: {}", request);
+
+        List<AccountApiResponse> apiResponses = getAccountUseCase.getAccounts(apiMapper.toBatchRequest(request))
+                .stream()
+                .map(apiMapper::toApiResponse)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(apiResponses));
+    }
+
+    @PostMapping(value = "/batch-get", params = "view=balances")
+    public ResponseEntity<ApiResponse<List<AccountBalanceApiResponse>>> batchGetAccountBalances(
+            @Valid @RequestBody BatchGetAccountsApiRequest request
+    ) {
+        log.debug("REST request to batch get account balances: {}", request);
+
+        List<AccountBalanceApiResponse> apiResponses = getAccountUseCase.getAccountBalances(apiMapper.toBatchRequest(request))
+                .stream()
+                .map(apiMapper::toApiResponse)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(apiResponses));
+    }
+
     @PatchMapping("/{id}/activate")
     public ResponseEntity<ApiResponse<AccountApiResponse>> activateAccount(
             @PathVariable UUID id
@@ -0,0 +1,40 @@
+package com.banking.account.presentation.rest;
+
+import com.banking.account.application.dto.CustomerPortfolio;
+import com.banking.account.application.port.in.GetCustomerPortfolioUseCase;
+import com.banking.account.presentation.dto.response.ApiResponse;
+import com.banking.account.presentation.dto.response.CustomerPortfolioApiResponse;
+import com.banking.account.presentation.mapper.AccountApiMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.base-path}/customers")
+public class CustomerPortfolioController {
+
+    private final GetCustomerPortfolioUseCase getCustomerPortfolioUseCase;
+    private final AccountApiMapper apiMapper;
+
+    @GetMapping("/{customerId}/portfolio")
+    public ResponseEntity<ApiResponse<CustomerPortfolioApiResponse>> getPortfolio(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        log.debug("REST request to get portfolio for customer: {} between {} and {}",
+                customerId, startDate, endDate);
+
+        CustomerPortfolio portfolio = getCustomerPortfolioUseCase.getPortfolio(customerId, startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success(apiMapper.toApiResponse(portfolio)));
+    }
+
+}
@@ -4,18 +4,24 @@ import com.banking.account.application.dto.AccountStatementReport;
 import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
 import com.banking.account.application.port.out.CustomerEventListener;
 import com.banking.account.application.service.PdfGeneratorService;
+import com.banking.account.application.service.StatementPdfService;
 import com.banking.account.presentation.dto.response.AccountStatementResponse;
 import com.banking.account.presentation.dto.response.ApiResponse;
 import com.banking.account.presentation.mapper.AccountApiMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -29,6 +35,7 @@ public class ReportController {
     private final AccountApiMapper apiMapper;
     private final CustomerEventListener customerEventListener;
     private final PdfGeneratorService pdfGeneratorService;
+    private final StatementPdfService statementPdfService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<AccountStatementResponse>> generateAccountStatement(
@@ -75,4 +82,24 @@ public class ReportController {
         return ResponseEntity.ok(ApiResponse.success(response, "Report with PDF generated successfully"));
     }
 
+    @GetMapping("/statement.pdf")
+    public ResponseEntity<Resource> streamAccountStatementPdf(
+            @RequestParam UUID customerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) throws IOException {
+        log.info("REST request to stream account statement PDF for customer: {} from {} to {}",
+                customerId, startDate, endDate);
+
+        Resource pdf = statementPdfService.renderStatementPdf(customerId, startDate, endDate);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename("statement-" + customerId + ".pdf")
+                        .build()
+                        .toString())
+                .body(pdf);
+    }
+
 }
\ No newline at end of file
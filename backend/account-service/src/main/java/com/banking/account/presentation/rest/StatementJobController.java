@@ -0,0 +1,83 @@
+package com.banking.account.presentation.rest;
+
+import com.banking.account.application.dto.StatementJob;
+import com.banking.account.application.port.in.StatementJobUseCase;
+import com.banking.account.presentation.dto.response.ApiResponse;
+import com.banking.account.presentation.dto.response.StatementJobApiResponse;
+import com.banking.account.presentation.mapper.AccountApiMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.base-path}/reports/jobs")
+public class StatementJobController {
+
+    private final StatementJobUseCase statementJobUseCase;
+    private final AccountApiMapper apiMapper;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<StatementJobApiResponse>> submitStatementJob(
+            @RequestParam UUID customerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        log.info("REST request to submit statement job for customer: {} from {} to {}",
+                customerId, startDate, endDate);
+
+        StatementJob job = statementJobUseCase.submit(customerId, startDate, endDate);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{jobId}")
+                .buildAndExpand(job.getId())
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(ApiResponse.success(apiMapper.toApiResponse(job), "Statement job accepted"));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<StatementJobApiResponse>> getStatementJob(@PathVariable UUID jobId) {
+        log.info("REST request to get statement job: {}", jobId);
+
+        StatementJob job = statementJobUseCase.getJob(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success(apiMapper.toApiResponse(job)));
+    }
+
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<Resource> getStatementJobResult(@PathVariable UUID jobId) {
+        log.info("REST request to download statement job result: {}", jobId);
+
+        return statementJobUseCase.getResult(jobId)
+                .map(resource -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_PDF)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("statement-" + jobId + ".pdf")
+                                .build()
+                                .toString())
+                        .body(resource))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+}
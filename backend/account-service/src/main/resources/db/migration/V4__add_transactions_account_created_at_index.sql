@@ -0,0 +1 @@
+CREATE INDEX idx_transaction_account_id_created_at ON core.transactions (account_id, created_at DESC);
@@ -0,0 +1,14 @@
+CREATE TABLE core.event_outbox
+(
+    id           UUID PRIMARY KEY,
+    aggregate_id UUID         NOT NULL,
+    event_type   VARCHAR(255) NOT NULL,
+    exchange     VARCHAR(255) NOT NULL,
+    routing_key  VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    last_error   VARCHAR(1000)
+);
+
+CREATE INDEX idx_event_outbox_created_at ON core.event_outbox (created_at);
@@ -0,0 +1,7 @@
+ALTER TABLE core.customer_projection
+    ADD COLUMN name_sequence   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN status_sequence BIGINT NOT NULL DEFAULT 0;
+
+UPDATE core.customer_projection
+SET name_sequence   = (EXTRACT(EPOCH FROM last_event_at) * 1000000)::BIGINT,
+    status_sequence = (EXTRACT(EPOCH FROM last_event_at) * 1000000)::BIGINT;
@@ -0,0 +1,9 @@
+CREATE TABLE core.customer_projection_bootstrap
+(
+    id            SMALLINT PRIMARY KEY CHECK (id = 1),
+    status        VARCHAR(20) NOT NULL,
+    snapshot_mark BIGINT,
+    customers     BIGINT,
+    started_at    TIMESTAMP   NOT NULL,
+    completed_at  TIMESTAMP
+);
@@ -0,0 +1,9 @@
+ALTER TABLE core.event_outbox
+    ADD COLUMN status        VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    ADD COLUMN claimed_until TIMESTAMP;
+
+DROP INDEX core.idx_event_outbox_created_at;
+
+CREATE INDEX idx_event_outbox_pending ON core.event_outbox (created_at) WHERE status = 'PENDING';
+
+CREATE INDEX idx_event_outbox_pending_aggregate ON core.event_outbox (aggregate_id, created_at) WHERE status = 'PENDING';
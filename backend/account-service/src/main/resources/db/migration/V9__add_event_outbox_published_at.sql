@@ -0,0 +1,4 @@
+ALTER TABLE core.event_outbox
+    ADD COLUMN published_at TIMESTAMP;
+
+CREATE INDEX idx_event_outbox_awaiting_stream ON core.event_outbox (created_at) WHERE published_at IS NOT NULL;
@@ -1,5 +1,7 @@
 package com.banking.account.application.service;
 
+import com.banking.account.application.dto.AccountBalanceResponse;
+import com.banking.account.application.dto.AccountBatchRequest;
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.application.dto.AccountRequest;
 import com.banking.account.application.dto.AccountResponse;
@@ -9,9 +11,13 @@ import com.banking.account.application.port.out.DomainEventPublisher;
 import com.banking.account.domain.exception.AccountNotFoundException;
 import com.banking.account.domain.exception.InactiveCustomerException;
 import com.banking.account.domain.model.Account;
+import com.banking.account.domain.model.AccountBalance;
 import com.banking.account.domain.model.AccountNumber;
+import com.banking.account.domain.model.AccountStatus;
 import com.banking.account.domain.model.AccountType;
 import com.banking.account.domain.repository.AccountRepository;
+import com.banking.account.fixtures.builders.AccountBuilder;
+import com.banking.commons.dto.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,14 +32,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.banking.account.fixtures.mothers.AccountMother.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +61,9 @@ class AccountServiceTest {
     @Mock
     private CustomerEventListener customerEventListener;
 
+    @Mock
+    private StatementCacheInvalidator statementCacheInvalidator;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -224,6 +237,92 @@ class AccountServiceTest {
             assertThat(result.getContent()).hasSize(2);
             verify(accountRepository).findAll(filter, pageable);
         }
+
+        @Test
+        void shouldGetAccountVersionWithoutLoadingAccount() {
+            UUID accountId = UUID.randomUUID();
+            Instant updatedAt = Instant.parse("2024-01-15T10:30:00.123Z");
+            when(accountRepository.findLastModifiedById(accountId)).thenReturn(Optional.of(updatedAt));
+
+            ResourceVersion version = accountService.getAccountVersion(accountId);
+
+            assertThat(version.lastModified()).isEqualTo(updatedAt);
+            assertThat(version.etag()).startsWith("\"" + accountId).endsWith("\"");
+            verify(accountRepository, never()).findById(any());
+        }
+
+        @Test
+        void shouldChangeAccountVersionWhenUpdatedAtChanges() {
+            UUID accountId = UUID.randomUUID();
+            Instant updatedAt = Instant.parse("2024-01-15T10:30:00.123Z");
+            when(accountRepository.findLastModifiedById(accountId))
+                    .thenReturn(Optional.of(updatedAt), Optional.of(updatedAt.plusNanos(1000)));
+
+            ResourceVersion first = accountService.getAccountVersion(accountId);
+            ResourceVersion second = accountService.getAccountVersion(accountId);
+
+            assertThat(first.etag()).isNotEqualTo(second.etag());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenAccountVersionNotFound() {
+            UUID accountId = UUID.randomUUID();
+            when(accountRepository.findLastModifiedById(accountId)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.getAccountVersion(accountId))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class BatchGetAccounts {
+
+        @Test
+        void shouldMergeIdAndNumberLookupsWithoutDuplicates() {
+            UUID sharedCustomerId = UUID.randomUUID();
+            Account first = AccountBuilder.anAccount().withCustomerId(sharedCustomerId).build();
+            Account second = AccountBuilder.anAccount()
+                    .withAccountNumber("9876543210")
+                    .withCustomerId(sharedCustomerId)
+                    .build();
+
+            AccountBatchRequest request = AccountBatchRequest.builder()
+                    .ids(Set.of(first.getId()))
+                    .accountNumbers(Set.of("1234567890", "9876543210"))
+                    .build();
+
+            when(accountRepository.findAllByIds(request.getIds())).thenReturn(List.of(first));
+            when(accountRepository.findAllByAccountNumbers(anyCollection())).thenReturn(List.of(first, second));
+            when(customerEventListener.getCustomerNames(Set.of(sharedCustomerId)))
+                    .thenReturn(Map.of(sharedCustomerId, "John Doe"));
+            when(mapper.toResponse(any(Account.class), eq("John Doe"))).thenReturn(new AccountResponse());
+
+            List<AccountResponse> result = accountService.getAccounts(request);
+
+            assertThat(result).hasSize(2);
+            verify(customerEventListener, times(1)).getCustomerNames(anyCollection());
+            verify(customerEventListener, never()).getCustomerName(any());
+            verify(accountRepository, never()).findById(any());
+        }
+
+        @Test
+        void shouldReturnBalancesWithoutLoadingAggregates() {
+            UUID accountId = UUID.randomUUID();
+            AccountBalance balance = new AccountBalance(accountId, "1234567890", new BigDecimal("150.00"), AccountStatus.ACTIVE);
+            AccountBatchRequest request = AccountBatchRequest.builder()
+                    .ids(Set.of(accountId))
+                    .build();
+
+            when(accountRepository.findBalancesByIds(request.getIds())).thenReturn(List.of(balance));
+            when(accountRepository.findBalancesByAccountNumbers(List.of())).thenReturn(List.of());
+            when(mapper.toResponse(balance)).thenReturn(AccountBalanceResponse.builder().id(accountId).build());
+
+            List<AccountBalanceResponse> result = accountService.getAccountBalances(request);
+
+            assertThat(result).extracting(AccountBalanceResponse::getId).containsExactly(accountId);
+            verify(accountRepository, never()).findAllByIds(anyCollection());
+            verifyNoInteractions(customerEventListener);
+        }
     }
 
     @Nested
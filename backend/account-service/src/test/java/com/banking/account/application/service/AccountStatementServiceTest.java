@@ -2,25 +2,33 @@ package com.banking.account.application.service;
 
 import com.banking.account.application.dto.AccountResponse;
 import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementCacheKey;
 import com.banking.account.application.dto.TransactionResponse;
 import com.banking.account.application.mapper.AccountResponseMapper;
 import com.banking.account.application.port.out.CustomerEventListener;
+import com.banking.account.application.port.out.StatementCache;
 import com.banking.account.domain.model.Account;
 import com.banking.account.domain.model.Transaction;
+import com.banking.account.domain.model.TransactionTotals;
 import com.banking.account.domain.repository.AccountRepository;
 import com.banking.account.domain.repository.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static com.banking.account.fixtures.mothers.AccountMother.activeAccount;
 import static com.banking.account.fixtures.mothers.AccountMother.savingsAccount;
@@ -28,6 +36,7 @@ import static com.banking.account.fixtures.mothers.TransactionMother.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +55,9 @@ class AccountStatementServiceTest {
     @Mock
     private CustomerEventListener customerEventListener;
 
+    @Mock
+    private StatementCache statementCache;
+
     @InjectMocks
     private AccountStatementService accountStatementService;
 
@@ -70,7 +82,7 @@ class AccountStatementServiceTest {
             when(customerEventListener.customerExists(customerId)).thenReturn(true);
             when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
             when(accountRepository.findByCustomerId(customerId)).thenReturn(accounts);
-            when(transactionRepository.findByAccountIdAndDateRange(any(), any(), any()))
+            when(transactionRepository.findByAccountIdsAndDateRange(any(), any(), any()))
                     .thenReturn(List.of());
             when(mapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
 
@@ -147,15 +159,20 @@ class AccountStatementServiceTest {
             Account account = activeAccount();
             List<Account> accounts = List.of(account);
             List<Transaction> transactions = List.of(
-                    depositTransaction(),
-                    withdrawalTransaction()
+                    depositTransactionForAccount(account.getId(), new BigDecimal("100.00")),
+                    withdrawalTransactionForAccount(account.getId(), new BigDecimal("40.00"))
+            );
+            TransactionTotals totals = new TransactionTotals(
+                    account.getId(), new BigDecimal("40.00"), new BigDecimal("100.00")
             );
 
             when(customerEventListener.customerExists(customerId)).thenReturn(true);
             when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
             when(accountRepository.findByCustomerId(customerId)).thenReturn(accounts);
-            when(transactionRepository.findByAccountIdAndDateRange(account.getId(), startDate, endDate))
+            when(transactionRepository.findByAccountIdsAndDateRange(List.of(account.getId()), startDate, endDate))
                     .thenReturn(transactions);
+            when(transactionRepository.sumTotalsByAccountIdsAndDateRange(List.of(account.getId()), startDate, endDate))
+                    .thenReturn(List.of(totals));
             when(mapper.toResponse(any(Transaction.class))).thenReturn(new TransactionResponse());
             when(mapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
 
@@ -165,7 +182,9 @@ class AccountStatementServiceTest {
 
             assertThat(result.getAccounts()).hasSize(1);
             assertThat(result.getAccounts().get(0).getTransactions()).hasSize(2);
-            verify(transactionRepository).findByAccountIdAndDateRange(account.getId(), startDate, endDate);
+            assertThat(result.getAccounts().get(0).getTotalDebits()).isEqualByComparingTo("40.00");
+            assertThat(result.getAccounts().get(0).getTotalCredits()).isEqualByComparingTo("100.00");
+            verify(transactionRepository).findByAccountIdsAndDateRange(List.of(account.getId()), startDate, endDate);
         }
 
         @Test
@@ -174,8 +193,8 @@ class AccountStatementServiceTest {
             Account account2 = savingsAccount();
             List<Account> accounts = List.of(account1, account2);
 
-            List<Transaction> transactions1 = List.of(depositTransaction());
-            List<Transaction> transactions2 = List.of(
+            List<Transaction> transactions = List.of(
+                    depositTransactionForAccount(account1.getId(), new BigDecimal("100.00")),
                     depositTransactionForAccount(account2.getId(), new BigDecimal("200.00")),
                     withdrawalTransactionForAccount(account2.getId(), new BigDecimal("50.00"))
             );
@@ -183,10 +202,8 @@ class AccountStatementServiceTest {
             when(customerEventListener.customerExists(customerId)).thenReturn(true);
             when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
             when(accountRepository.findByCustomerId(customerId)).thenReturn(accounts);
-            when(transactionRepository.findByAccountIdAndDateRange(account1.getId(), startDate, endDate))
-                    .thenReturn(transactions1);
-            when(transactionRepository.findByAccountIdAndDateRange(account2.getId(), startDate, endDate))
-                    .thenReturn(transactions2);
+            when(transactionRepository.findByAccountIdsAndDateRange(any(), eq(startDate), eq(endDate)))
+                    .thenReturn(transactions);
             when(mapper.toResponse(any(Transaction.class))).thenReturn(new TransactionResponse());
             when(mapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
 
@@ -197,7 +214,8 @@ class AccountStatementServiceTest {
             assertThat(result.getAccounts()).hasSize(2);
             assertThat(result.getAccounts().get(0).getTransactions()).hasSize(1);
             assertThat(result.getAccounts().get(1).getTransactions()).hasSize(2);
-            verify(transactionRepository, times(2)).findByAccountIdAndDateRange(any(), eq(startDate), eq(endDate));
+            verify(transactionRepository, times(1)).findByAccountIdsAndDateRange(any(), eq(startDate), eq(endDate));
+            verify(transactionRepository, never()).findByAccountIdAndDateRange(any(), any(), any());
         }
 
         @Test
@@ -208,7 +226,7 @@ class AccountStatementServiceTest {
             when(customerEventListener.customerExists(customerId)).thenReturn(true);
             when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
             when(accountRepository.findByCustomerId(customerId)).thenReturn(accounts);
-            when(transactionRepository.findByAccountIdAndDateRange(account.getId(), startDate, endDate))
+            when(transactionRepository.findByAccountIdsAndDateRange(List.of(account.getId()), startDate, endDate))
                     .thenReturn(List.of());
             when(mapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
 
@@ -218,7 +236,8 @@ class AccountStatementServiceTest {
 
             assertThat(result.getAccounts()).hasSize(1);
             assertThat(result.getAccounts().get(0).getTransactions()).isEmpty();
-            verify(transactionRepository).findByAccountIdAndDateRange(account.getId(), startDate, endDate);
+            assertThat(result.getAccounts().get(0).getTotalDebits()).isEqualByComparingTo(BigDecimal.ZERO);
+            verify(transactionRepository).findByAccountIdsAndDateRange(List.of(account.getId()), startDate, endDate);
         }
 
         @Test
@@ -232,7 +251,7 @@ class AccountStatementServiceTest {
             when(customerEventListener.customerExists(customerId)).thenReturn(true);
             when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
             when(accountRepository.findByCustomerId(customerId)).thenReturn(accounts);
-            when(transactionRepository.findByAccountIdAndDateRange(account.getId(), specificStart, specificEnd))
+            when(transactionRepository.findByAccountIdsAndDateRange(List.of(account.getId()), specificStart, specificEnd))
                     .thenReturn(List.of());
             when(mapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
 
@@ -242,7 +261,141 @@ class AccountStatementServiceTest {
 
             assertThat(result.getStartDate()).isEqualTo(specificStart);
             assertThat(result.getEndDate()).isEqualTo(specificEnd);
-            verify(transactionRepository).findByAccountIdAndDateRange(account.getId(), specificStart, specificEnd);
+            verify(transactionRepository).findByAccountIdsAndDateRange(List.of(account.getId()), specificStart, specificEnd);
+        }
+    }
+
+    @Nested
+    class Caching {
+
+        @Test
+        void shouldServeClosedPeriodFromCacheWithoutQueryingTransactions() {
+            LocalDateTime closedStart = LocalDateTime.of(2024, 1, 1, 0, 0);
+            LocalDateTime closedEnd = LocalDateTime.of(2024, 1, 31, 23, 59);
+            AccountStatementReport cached = AccountStatementReport.builder()
+                    .customerId(customerId)
+                    .accounts(List.of())
+                    .build();
+
+            when(customerEventListener.customerExists(customerId)).thenReturn(true);
+            when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
+            when(statementCache.findReport(any())).thenReturn(Optional.of(cached));
+
+            AccountStatementReport result = accountStatementService.generateStatement(
+                    customerId, closedStart, closedEnd
+            );
+
+            assertThat(result).isSameAs(cached);
+            verifyNoInteractions(accountRepository, transactionRepository);
+        }
+
+        @Test
+        void shouldStoreClosedPeriodWithVersionReadBeforeQuerying() {
+            LocalDateTime closedStart = LocalDateTime.of(2024, 1, 1, 0, 0);
+            LocalDateTime closedEnd = LocalDateTime.of(2024, 1, 31, 23, 59);
+
+            when(customerEventListener.customerExists(customerId)).thenReturn(true);
+            when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
+            when(statementCache.findReport(any())).thenReturn(Optional.empty());
+            when(statementCache.version(any(StatementCacheKey.class))).thenReturn(7L);
+            when(accountRepository.findByCustomerId(customerId)).thenReturn(List.of());
+
+            AccountStatementReport result = accountStatementService.generateStatement(
+                    customerId, closedStart, closedEnd
+            );
+
+            ArgumentCaptor<StatementCacheKey> key = ArgumentCaptor.forClass(StatementCacheKey.class);
+            verify(statementCache).putReport(key.capture(), eq(7L), eq(result));
+            assertThat(key.getValue().customerId()).isEqualTo(customerId);
+            assertThat(key.getValue().startDate()).isEqualTo(closedStart);
+            assertThat(key.getValue().endDate()).isEqualTo(closedEnd);
+        }
+
+        @Test
+        void shouldBypassCacheForOpenPeriod() {
+            LocalDateTime openEnd = LocalDateTime.now().plusDays(1);
+
+            when(customerEventListener.customerExists(customerId)).thenReturn(true);
+            when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
+            when(accountRepository.findByCustomerId(customerId)).thenReturn(List.of());
+
+            accountStatementService.generateStatement(customerId, startDate, openEnd);
+
+            verifyNoInteractions(statementCache);
+        }
+    }
+
+    @Nested
+    class StreamingStatements {
+
+        @Test
+        void shouldSummariseAccountsWithoutLoadingTransactionRows() {
+            Account account = activeAccount();
+            TransactionTotals totals = new TransactionTotals(
+                    account.getId(), new BigDecimal("40.00"), new BigDecimal("100.00")
+            );
+
+            when(customerEventListener.customerExists(customerId)).thenReturn(true);
+            when(customerEventListener.isCustomerActive(customerId)).thenReturn(true);
+            when(accountRepository.findByCustomerId(customerId)).thenReturn(List.of(account));
+            when(transactionRepository.sumTotalsByAccountIdsAndDateRange(List.of(account.getId()), startDate, endDate))
+                    .thenReturn(List.of(totals));
+            when(mapper.toResponse(any(Account.class))).thenReturn(new AccountResponse());
+
+            AccountStatementReport summary = accountStatementService.generateStatementSummary(
+                    customerId, startDate, endDate
+            );
+
+            assertThat(summary.getAccounts()).singleElement().satisfies(accountData -> {
+                assertThat(accountData.getTransactions()).isEmpty();
+                assertThat(accountData.getTotalDebits()).isEqualByComparingTo("40.00");
+                assertThat(accountData.getTotalCredits()).isEqualByComparingTo("100.00");
+            });
+            verify(transactionRepository, never()).findByAccountIdsAndDateRange(any(), any(), any());
+            verifyNoInteractions(statementCache);
+        }
+
+        @Test
+        void shouldValidateTheCustomerBeforeSummarising() {
+            when(customerEventListener.customerExists(customerId)).thenReturn(false);
+
+            assertThatThrownBy(() -> accountStatementService.generateStatementSummary(customerId, startDate, endDate))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("does not exist");
+        }
+
+        @Test
+        void shouldPageTransactionsFromTheLastRowOfThePreviousPage() {
+            UUID accountId = UUID.randomUUID();
+            List<Transaction> firstPage = IntStream.range(0, 500)
+                    .mapToObj(i -> transactionForAccount(accountId))
+                    .toList();
+            Transaction last = transactionForAccount(accountId);
+
+            when(transactionRepository.findPageByAccountIdAndDateRange(accountId, startDate, endDate, null, 500))
+                    .thenReturn(firstPage);
+            when(transactionRepository.findPageByAccountIdAndDateRange(
+                    accountId, startDate, endDate, firstPage.getLast(), 500))
+                    .thenReturn(List.of(last));
+            when(mapper.toResponse(any(Transaction.class))).thenReturn(new TransactionResponse());
+
+            Iterator<TransactionResponse> rows = accountStatementService.streamTransactions(accountId, startDate, endDate);
+            int count = 0;
+            while (rows.hasNext()) {
+                rows.next();
+                count++;
+            }
+
+            assertThat(count).isEqualTo(501);
+            verify(transactionRepository, times(2)).findPageByAccountIdAndDateRange(any(), any(), any(), any(), anyInt());
+            assertThatThrownBy(rows::next).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        void shouldNotQueryUntilTheFirstRowIsRequested() {
+            accountStatementService.streamTransactions(UUID.randomUUID(), startDate, endDate);
+
+            verifyNoInteractions(transactionRepository);
         }
     }
-}
\ No newline at end of file
+}
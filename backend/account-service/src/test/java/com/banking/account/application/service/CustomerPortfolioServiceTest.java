@@ -0,0 +1,84 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.CustomerPortfolio;
+import com.banking.account.application.port.out.CustomerPortfolioQuery;
+import com.banking.account.domain.exception.InactiveCustomerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerPortfolioServiceTest {
+
+    @Mock
+    private CustomerPortfolioQuery portfolioQuery;
+
+    @InjectMocks
+    private CustomerPortfolioService customerPortfolioService;
+
+    @Test
+    void shouldReturnPortfolioForRequestedPeriod() {
+        UUID customerId = UUID.randomUUID();
+        LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 1, 31, 23, 59);
+        CustomerPortfolio portfolio = CustomerPortfolio.builder()
+                .customerId(customerId)
+                .accounts(List.of())
+                .build();
+
+        when(portfolioQuery.findPortfolio(customerId, startDate, endDate)).thenReturn(Optional.of(portfolio));
+
+        CustomerPortfolio result = customerPortfolioService.getPortfolio(customerId, startDate, endDate);
+
+        assertThat(result).isEqualTo(portfolio);
+    }
+
+    @Test
+    void shouldDefaultToCurrentMonthWhenPeriodIsMissing() {
+        UUID customerId = UUID.randomUUID();
+        LocalDateTime firstOfMonth = LocalDateTime.now().toLocalDate().withDayOfMonth(1).atStartOfDay();
+
+        when(portfolioQuery.findPortfolio(eq(customerId), eq(firstOfMonth), any()))
+                .thenReturn(Optional.of(CustomerPortfolio.builder().customerId(customerId).build()));
+
+        CustomerPortfolio result = customerPortfolioService.getPortfolio(customerId, null, null);
+
+        assertThat(result.getCustomerId()).isEqualTo(customerId);
+    }
+
+    @Test
+    void shouldThrowWhenCustomerProjectionIsMissing() {
+        UUID customerId = UUID.randomUUID();
+
+        when(portfolioQuery.findPortfolio(eq(customerId), any(), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> customerPortfolioService.getPortfolio(customerId, null, null))
+                .isInstanceOf(InactiveCustomerException.class);
+    }
+
+    @Test
+    void shouldRejectInvertedPeriod() {
+        UUID customerId = UUID.randomUUID();
+        LocalDateTime startDate = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        assertThatThrownBy(() -> customerPortfolioService.getPortfolio(customerId, startDate, endDate))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(portfolioQuery);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.application.port.out.CustomerSnapshotSource;
+import com.banking.account.application.port.out.ProjectionBootstrapStore;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.domain.repository.CustomerProjectionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerProjectionBootstrapServiceTest {
+
+    @Mock
+    private CustomerSnapshotSource snapshotSource;
+
+    @Mock
+    private CustomerProjectionRepository customerProjectionRepository;
+
+    @Mock
+    private ProjectionBootstrapStore bootstrapStore;
+
+    @InjectMocks
+    private CustomerProjectionBootstrapService bootstrapService;
+
+    @Test
+    @DisplayName("Should upsert every streamed batch into the projection")
+    void shouldUpsertEveryStreamedBatch() {
+        List<CustomerProjectionUpdate> first = List.of(update("Ana"), update("Luis"));
+        List<CustomerProjectionUpdate> second = List.of(update("Sofia"));
+
+        when(snapshotSource.stream(eq(2), any())).thenAnswer(invocation -> {
+            Consumer<List<CustomerProjectionUpdate>> consumer = invocation.getArgument(1);
+            consumer.accept(first);
+            consumer.accept(second);
+            return new CustomerSnapshotResult(42L, 3L);
+        });
+
+        CustomerSnapshotResult result = bootstrapService.bootstrap(2);
+
+        assertThat(result.mark()).isEqualTo(42L);
+        assertThat(result.count()).isEqualTo(3L);
+        verify(customerProjectionRepository).upsertAll(first);
+        verify(customerProjectionRepository).upsertAll(second);
+
+        InOrder inOrder = inOrder(bootstrapStore, snapshotSource);
+        inOrder.verify(bootstrapStore).markStarted();
+        inOrder.verify(snapshotSource).stream(eq(2), any());
+        inOrder.verify(bootstrapStore).markCompleted(result);
+    }
+
+    @Test
+    @DisplayName("Should leave the bootstrap marked as started when the snapshot fails")
+    void shouldNotMarkCompletedWhenSnapshotFails() {
+        when(snapshotSource.stream(eq(2), any())).thenThrow(new IllegalStateException("connection reset"));
+
+        assertThatThrownBy(() -> bootstrapService.bootstrap(2))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(bootstrapStore).markStarted();
+        verify(bootstrapStore, never()).markCompleted(any());
+    }
+
+    @Test
+    @DisplayName("Should bootstrap an empty projection")
+    void shouldBootstrapEmptyProjection() {
+        when(customerProjectionRepository.isEmpty()).thenReturn(true);
+
+        assertThat(bootstrapService.shouldBootstrap(true)).isTrue();
+        verifyNoInteractions(snapshotSource);
+    }
+
+    @Test
+    @DisplayName("Should skip a populated projection only when no bootstrap was left unfinished")
+    void shouldResumeUnfinishedBootstrapEvenWhenPopulated() {
+        when(customerProjectionRepository.isEmpty()).thenReturn(false);
+
+        assertThat(bootstrapService.shouldBootstrap(true)).isFalse();
+
+        when(bootstrapStore.isInProgress()).thenReturn(true);
+
+        assertThat(bootstrapService.shouldBootstrap(true)).isTrue();
+    }
+
+    private CustomerProjectionUpdate update(String name) {
+        return new CustomerProjectionUpdate(UUID.randomUUID(), name, CustomerStatus.ACTIVE, Instant.now(), 1L);
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.banking.account.application.service;
 
-import com.banking.account.domain.model.CustomerInfo;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
 import com.banking.account.domain.model.CustomerStatus;
 import com.banking.account.domain.repository.CustomerProjectionRepository;
 import com.banking.contracts.events.customer.CustomerCreatedEventV1;
@@ -15,12 +15,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +35,9 @@ class CustomerProjectionServiceTest {
     @Mock
     private CustomerProjectionRepository customerProjectionRepository;
 
+    @Mock
+    private StatementCacheInvalidator statementCacheInvalidator;
+
     @InjectMocks
     private CustomerProjectionService customerProjectionService;
 
@@ -40,10 +48,8 @@ class CustomerProjectionServiceTest {
         customerId = UUID.randomUUID();
     }
 
-    @Test
-    @DisplayName("Should save customer projection when handling customer created event")
-    void shouldSaveCustomerProjectionWhenHandlingCustomerCreatedEvent() {
-        CustomerCreatedEventV1 event = CustomerCreatedEventV1.builder()
+    private CustomerCreatedEventV1 createdEvent(String status) {
+        return CustomerCreatedEventV1.builder()
                 .customerId(customerId)
                 .customerIdValue("CUST-001")
                 .name("John")
@@ -53,33 +59,14 @@ class CustomerProjectionServiceTest {
                 .identification("1234567890")
                 .address("123 Main St")
                 .phone("555-1234")
-                .status("ACTIVE")
+                .status(status)
                 .occurredAt(LocalDateTime.now())
+                .sequence(10L)
                 .build();
-
-        customerProjectionService.handleCustomerCreated(event);
-
-        ArgumentCaptor<CustomerInfo> captor = ArgumentCaptor.forClass(CustomerInfo.class);
-        verify(customerProjectionRepository).save(captor.capture());
-
-        CustomerInfo savedCustomer = captor.getValue();
-        assertThat(savedCustomer.customerId()).isEqualTo(customerId);
-        assertThat(savedCustomer.fullName()).isEqualTo("John Doe");
-        assertThat(savedCustomer.status()).isEqualTo(CustomerStatus.ACTIVE);
     }
 
-    @Test
-    @DisplayName("Should update customer name when handling customer updated event")
-    void shouldUpdateCustomerNameWhenHandlingCustomerUpdatedEvent() {
-        CustomerInfo existingCustomer = new CustomerInfo(
-                customerId,
-                "John Doe",
-                CustomerStatus.ACTIVE
-        );
-        when(customerProjectionRepository.findById(customerId))
-                .thenReturn(Optional.of(existingCustomer));
-
-        CustomerUpdatedEventV1 event = CustomerUpdatedEventV1.builder()
+    private CustomerUpdatedEventV1 updatedEvent() {
+        return CustomerUpdatedEventV1.builder()
                 .customerId(customerId)
                 .customerIdValue("CUST-001")
                 .name("Jane")
@@ -87,137 +74,179 @@ class CustomerProjectionServiceTest {
                 .address("456 Oak Ave")
                 .phone("555-5678")
                 .occurredAt(LocalDateTime.now())
+                .sequence(20L)
                 .build();
-
-        customerProjectionService.handleCustomerUpdated(event);
-
-        ArgumentCaptor<CustomerInfo> captor = ArgumentCaptor.forClass(CustomerInfo.class);
-        verify(customerProjectionRepository).save(captor.capture());
-
-        CustomerInfo updatedCustomer = captor.getValue();
-        assertThat(updatedCustomer.customerId()).isEqualTo(customerId);
-        assertThat(updatedCustomer.fullName()).isEqualTo("Jane Smith");
-        assertThat(updatedCustomer.status()).isEqualTo(CustomerStatus.ACTIVE);
     }
 
-    @Test
-    @DisplayName("Should not update when customer not found in updated event")
-    void shouldNotUpdateWhenCustomerNotFoundInUpdatedEvent() {
-        when(customerProjectionRepository.findById(customerId))
-                .thenReturn(Optional.empty());
-
-        CustomerUpdatedEventV1 event = CustomerUpdatedEventV1.builder()
+    private CustomerStatusChangedEventV1 statusChangedEvent() {
+        return CustomerStatusChangedEventV1.builder()
                 .customerId(customerId)
                 .customerIdValue("CUST-001")
-                .name("Jane")
-                .lastName("Smith")
-                .address("456 Oak Ave")
-                .phone("555-5678")
+                .newStatus("INACTIVE")
+                .reason("Requested by customer")
                 .occurredAt(LocalDateTime.now())
+                .sequence(30L)
                 .build();
+    }
 
-        customerProjectionService.handleCustomerUpdated(event);
+    private CustomerProjectionUpdate capturedUpsert() {
+        ArgumentCaptor<CustomerProjectionUpdate> captor = ArgumentCaptor.forClass(CustomerProjectionUpdate.class);
+        verify(customerProjectionRepository).upsert(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("Should upsert customer projection when handling customer created event")
+    void shouldUpsertCustomerProjectionWhenHandlingCustomerCreatedEvent() {
+        when(customerProjectionRepository.upsert(any())).thenReturn(true);
 
-        verify(customerProjectionRepository, never()).save(any());
+        customerProjectionService.handleCustomerCreated(createdEvent("ACTIVE"));
+
+        CustomerProjectionUpdate update = capturedUpsert();
+        assertThat(update.customerId()).isEqualTo(customerId);
+        assertThat(update.fullName()).isEqualTo("John Doe");
+        assertThat(update.status()).isEqualTo(CustomerStatus.ACTIVE);
+        assertThat(update.sequence()).isEqualTo(10L);
     }
 
     @Test
-    @DisplayName("Should update customer status when handling status changed event")
-    void shouldUpdateCustomerStatusWhenHandlingStatusChangedEvent() {
-        CustomerInfo existingCustomer = new CustomerInfo(
-                customerId,
-                "John Doe",
-                CustomerStatus.ACTIVE
-        );
-        when(customerProjectionRepository.findById(customerId))
-                .thenReturn(Optional.of(existingCustomer));
+    @DisplayName("Should upsert only the name when handling customer updated event")
+    void shouldUpsertNameWhenHandlingCustomerUpdatedEvent() {
+        when(customerProjectionRepository.upsert(any())).thenReturn(true);
+
+        customerProjectionService.handleCustomerUpdated(updatedEvent());
+
+        CustomerProjectionUpdate update = capturedUpsert();
+        assertThat(update.fullName()).isEqualTo("Jane Smith");
+        assertThat(update.setsStatus()).isFalse();
+        assertThat(update.sequence()).isEqualTo(20L);
+        verify(customerProjectionRepository, never()).findById(any());
+        verify(statementCacheInvalidator).onCustomerChanged(customerId);
+    }
 
-        CustomerStatusChangedEventV1 event = CustomerStatusChangedEventV1.builder()
-                .customerId(customerId)
-                .customerIdValue("CUST-001")
-                .newStatus("INACTIVE")
-                .reason("Requested by customer")
-                .occurredAt(LocalDateTime.now())
-                .build();
+    @Test
+    @DisplayName("Should not invalidate statements when customer updated event is stale")
+    void shouldNotInvalidateWhenCustomerUpdatedEventIsStale() {
+        when(customerProjectionRepository.upsert(any())).thenReturn(false);
 
-        customerProjectionService.handleCustomerStatusChanged(event);
+        customerProjectionService.handleCustomerUpdated(updatedEvent());
 
-        ArgumentCaptor<CustomerInfo> captor = ArgumentCaptor.forClass(CustomerInfo.class);
-        verify(customerProjectionRepository).save(captor.capture());
+        verifyNoInteractions(statementCacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Should upsert only the status when handling status changed event")
+    void shouldUpsertStatusWhenHandlingStatusChangedEvent() {
+        when(customerProjectionRepository.upsert(any())).thenReturn(true);
 
-        CustomerInfo updatedCustomer = captor.getValue();
-        assertThat(updatedCustomer.customerId()).isEqualTo(customerId);
-        assertThat(updatedCustomer.fullName()).isEqualTo("John Doe");
-        assertThat(updatedCustomer.status()).isEqualTo(CustomerStatus.INACTIVE);
+        customerProjectionService.handleCustomerStatusChanged(statusChangedEvent());
+
+        CustomerProjectionUpdate update = capturedUpsert();
+        assertThat(update.status()).isEqualTo(CustomerStatus.INACTIVE);
+        assertThat(update.setsName()).isFalse();
+        assertThat(update.sequence()).isEqualTo(30L);
+        verify(statementCacheInvalidator).onCustomerChanged(customerId);
     }
 
     @Test
-    @DisplayName("Should not update status when customer not found")
-    void shouldNotUpdateStatusWhenCustomerNotFound() {
-        when(customerProjectionRepository.findById(customerId))
-                .thenReturn(Optional.empty());
+    @DisplayName("Should not invalidate statements when status changed event is stale")
+    void shouldNotInvalidateWhenStatusChangedEventIsStale() {
+        when(customerProjectionRepository.upsert(any())).thenReturn(false);
+
+        customerProjectionService.handleCustomerStatusChanged(statusChangedEvent());
 
-        CustomerStatusChangedEventV1 event = CustomerStatusChangedEventV1.builder()
+        verifyNoInteractions(statementCacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Should derive the sequence from event time when the event carries none")
+    void shouldDeriveSequenceFromEventTimeWhenMissing() {
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        CustomerUpdatedEventV1 event = CustomerUpdatedEventV1.builder()
                 .customerId(customerId)
-                .customerIdValue("CUST-001")
-                .newStatus("INACTIVE")
-                .reason("Requested by customer")
-                .occurredAt(LocalDateTime.now())
+                .name("Jane")
+                .occurredAt(occurredAt)
                 .build();
+        when(customerProjectionRepository.upsert(any())).thenReturn(true);
 
-        customerProjectionService.handleCustomerStatusChanged(event);
+        customerProjectionService.handleCustomerUpdated(event);
 
-        verify(customerProjectionRepository, never()).save(any());
+        assertThat(capturedUpsert().sequence()).isEqualTo(ChronoUnit.MICROS.between(
+                Instant.EPOCH,
+                occurredAt.atZone(ZoneId.systemDefault()).toInstant()
+        ));
     }
 
     @Test
     @DisplayName("Should map ACTIVE status correctly")
     void shouldMapActiveStatusCorrectly() {
-        CustomerCreatedEventV1 event = CustomerCreatedEventV1.builder()
-                .customerId(customerId)
-                .customerIdValue("CUST-001")
-                .name("John")
-                .lastName("Doe")
-                .gender("M")
-                .birthDate(LocalDate.of(1990, 1, 1))
-                .identification("1234567890")
-                .address("123 Main St")
-                .phone("555-1234")
-                .status("ACTIVE")
-                .occurredAt(LocalDateTime.now())
-                .build();
+        when(customerProjectionRepository.upsert(any())).thenReturn(true);
 
-        customerProjectionService.handleCustomerCreated(event);
+        customerProjectionService.handleCustomerCreated(createdEvent("ACTIVE"));
 
-        ArgumentCaptor<CustomerInfo> captor = ArgumentCaptor.forClass(CustomerInfo.class);
-        verify(customerProjectionRepository).save(captor.capture());
-
-        assertThat(captor.getValue().status()).isEqualTo(CustomerStatus.ACTIVE);
+        assertThat(capturedUpsert().status()).isEqualTo(CustomerStatus.ACTIVE);
     }
 
     @Test
     @DisplayName("Should map non-ACTIVE status to INACTIVE")
     void shouldMapNonActiveStatusToInactive() {
-        CustomerCreatedEventV1 event = CustomerCreatedEventV1.builder()
-                .customerId(customerId)
-                .customerIdValue("CUST-001")
-                .name("John")
-                .lastName("Doe")
-                .gender("M")
-                .birthDate(LocalDate.of(1990, 1, 1))
-                .identification("1234567890")
-                .address("123 Main St")
-                .phone("555-1234")
-                .status("SUSPENDED")
-                .occurredAt(LocalDateTime.now())
-                .build();
+        when(customerProjectionRepository.upsert(any())).thenReturn(true);
+
+        customerProjectionService.handleCustomerCreated(createdEvent("SUSPENDED"));
+
+        assertThat(capturedUpsert().status()).isEqualTo(CustomerStatus.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should upsert all customer projections in one call when handling a batch of created events")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertCustomerProjectionsInBulk() {
+        UUID otherCustomerId = UUID.randomUUID();
+        List<CustomerCreatedEventV1> events = List.of(
+                CustomerCreatedEventV1.builder()
+                        .customerId(customerId)
+                        .name("John")
+                        .lastName("Doe")
+                        .status("ACTIVE")
+                        .sequence(1L)
+                        .build(),
+                CustomerCreatedEventV1.builder()
+                        .customerId(otherCustomerId)
+                        .name("Jane")
+                        .status("INACTIVE")
+                        .sequence(2L)
+                        .build()
+        );
 
-        customerProjectionService.handleCustomerCreated(event);
+        customerProjectionService.handleCustomersCreated(events);
 
-        ArgumentCaptor<CustomerInfo> captor = ArgumentCaptor.forClass(CustomerInfo.class);
-        verify(customerProjectionRepository).save(captor.capture());
+        ArgumentCaptor<Collection<CustomerProjectionUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(customerProjectionRepository).upsertAll(captor.capture());
+        verify(customerProjectionRepository, never()).upsert(any());
 
-        assertThat(captor.getValue().status()).isEqualTo(CustomerStatus.INACTIVE);
+        assertThat(captor.getValue())
+                .extracting(CustomerProjectionUpdate::customerId, CustomerProjectionUpdate::fullName,
+                        CustomerProjectionUpdate::status, CustomerProjectionUpdate::sequence)
+                .containsExactly(
+                        tuple(customerId, "John Doe", CustomerStatus.ACTIVE, 1L),
+                        tuple(otherCustomerId, "Jane", CustomerStatus.INACTIVE, 2L)
+                );
+    }
+
+    @Test
+    @DisplayName("Should write coalesced customer changes in one call and invalidate each customer once")
+    @SuppressWarnings("unchecked")
+    void shouldWriteCoalescedCustomerChangesInBulk() {
+        customerProjectionService.handleCustomerChanges(List.of(updatedEvent()), List.of(statusChangedEvent()));
+
+        ArgumentCaptor<Collection<CustomerProjectionUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(customerProjectionRepository).upsertAll(captor.capture());
+        verify(customerProjectionRepository, never()).upsert(any());
+        verify(statementCacheInvalidator, times(1)).onCustomerChanged(customerId);
+
+        assertThat(captor.getValue())
+                .extracting(CustomerProjectionUpdate::customerId, CustomerProjectionUpdate::sequence)
+                .containsExactly(tuple(customerId, 20L), tuple(customerId, 30L));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementBatchCheckpoint;
+import com.banking.account.application.dto.StatementBatchManifestEntry;
+import com.banking.account.application.dto.StatementBatchRequest;
+import com.banking.account.application.dto.StatementBatchSummary;
+import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
+import com.banking.account.application.port.out.StatementBatchSink;
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.domain.model.CustomerInfo;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.domain.repository.CustomerProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonthEndStatementBatchServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    @Mock
+    private CustomerProjectionRepository customerProjectionRepository;
+
+    @Mock
+    private GenerateAccountStatementUseCase generateStatementUseCase;
+
+    @Mock
+    private PdfGeneratorService pdfGeneratorService;
+
+    @Mock
+    private StatementBatchSink batchSink;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MonthEndStatementBatchService batchService;
+    private StatementBatchRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchService = new MonthEndStatementBatchService(
+                customerProjectionRepository,
+                generateStatementUseCase,
+                pdfGeneratorService,
+                batchSink,
+                meterRegistry
+        );
+        request = new StatementBatchRequest(PERIOD, 2, 2, Locale.ENGLISH);
+    }
+
+    private CustomerInfo customer(String name) {
+        return new CustomerInfo(UUID.randomUUID(), name, CustomerStatus.ACTIVE);
+    }
+
+    private void writeThroughSink() throws Exception {
+        when(batchSink.write(eq(PERIOD), any(UUID.class), any())).thenAnswer(invocation -> {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            invocation.getArgument(2, StatementResultStore.ResultWriter.class).writeTo(output);
+            return 42L;
+        });
+    }
+
+    @Nested
+    @DisplayName("Run")
+    class Run {
+
+        @Test
+        @DisplayName("Should skip periods that already completed")
+        void shouldSkipCompletedPeriod() {
+            when(batchSink.isCompleted(PERIOD)).thenReturn(true);
+
+            StatementBatchSummary summary = batchService.run(request);
+
+            assertThat(summary.skipped()).isTrue();
+            verifyNoInteractions(customerProjectionRepository, generateStatementUseCase);
+        }
+
+        @Test
+        @DisplayName("Should render every partition and checkpoint after each one")
+        void shouldRenderPartitionsAndCheckpoint() throws Exception {
+            CustomerInfo first = customer("Ana");
+            CustomerInfo second = customer("Luis");
+            CustomerInfo third = customer("Eva");
+
+            when(batchSink.readCheckpoint(PERIOD)).thenReturn(Optional.empty());
+            when(customerProjectionRepository.findActiveAfter(isNull(), eq(2))).thenReturn(List.of(first, second));
+            when(customerProjectionRepository.findActiveAfter(second.customerId(), 2)).thenReturn(List.of(third));
+            when(customerProjectionRepository.findActiveAfter(third.customerId(), 2)).thenReturn(List.of());
+            when(generateStatementUseCase.generateStatements(anyCollection(), any(), any()))
+                    .thenReturn(Map.of(
+                            first.customerId(), new AccountStatementReport(),
+                            second.customerId(), new AccountStatementReport(),
+                            third.customerId(), new AccountStatementReport()
+                    ));
+            when(pdfGeneratorService.writeAccountStatementPdf(any(), any(), any())).thenReturn(3);
+            writeThroughSink();
+
+            StatementBatchSummary summary = batchService.run(request);
+
+            assertThat(summary.partitions()).isEqualTo(2);
+            assertThat(summary.generated()).isEqualTo(3);
+            assertThat(summary.failed()).isZero();
+            verify(batchSink).commitPartition(eq(PERIOD), eq(new StatementBatchCheckpoint(0, second.customerId())), anyList());
+            verify(batchSink).commitPartition(eq(PERIOD), eq(new StatementBatchCheckpoint(1, third.customerId())), anyList());
+            verify(batchSink).complete(PERIOD);
+            assertThat(meterRegistry.get("statement.batch.statements").tag("outcome", "generated").counter().count())
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should resume after the last committed partition")
+        void shouldResumeFromCheckpoint() throws Exception {
+            UUID lastCustomerId = UUID.randomUUID();
+            CustomerInfo next = customer("Eva");
+
+            when(batchSink.readCheckpoint(PERIOD)).thenReturn(Optional.of(new StatementBatchCheckpoint(4, lastCustomerId)));
+            when(customerProjectionRepository.findActiveAfter(lastCustomerId, 2)).thenReturn(List.of(next));
+            when(customerProjectionRepository.findActiveAfter(next.customerId(), 2)).thenReturn(List.of());
+            when(generateStatementUseCase.generateStatements(anyCollection(), any(), any()))
+                    .thenReturn(Map.of(next.customerId(), new AccountStatementReport()));
+            writeThroughSink();
+
+            batchService.run(request);
+
+            verify(batchSink).commitPartition(eq(PERIOD), eq(new StatementBatchCheckpoint(5, next.customerId())), anyList());
+            verify(customerProjectionRepository, never()).findActiveAfter(isNull(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should record failed statements in the manifest and keep going")
+        @SuppressWarnings("unchecked")
+        void shouldRecordFailures() throws Exception {
+            CustomerInfo failing = customer("Ana");
+            CustomerInfo healthy = customer("Luis");
+
+            when(batchSink.readCheckpoint(PERIOD)).thenReturn(Optional.empty());
+            when(customerProjectionRepository.findActiveAfter(isNull(), eq(2))).thenReturn(List.of(failing, healthy));
+            when(customerProjectionRepository.findActiveAfter(healthy.customerId(), 2)).thenReturn(List.of());
+            when(generateStatementUseCase.generateStatements(anyCollection(), any(), any()))
+                    .thenReturn(Map.of(
+                            failing.customerId(), new AccountStatementReport(),
+                            healthy.customerId(), new AccountStatementReport()
+                    ));
+            when(pdfGeneratorService.writeAccountStatementPdf(any(), any(), any())).thenAnswer(invocation -> {
+                if ("Ana".equals(invocation.getArgument(1))) {
+                    throw new RuntimeException("Failed to generate PDF");
+                }
+                return 1;
+            });
+            writeThroughSink();
+
+            StatementBatchSummary summary = batchService.run(request);
+
+            ArgumentCaptor<List<StatementBatchManifestEntry>> entries = ArgumentCaptor.forClass(List.class);
+            verify(batchSink).commitPartition(eq(PERIOD), any(), entries.capture());
+
+            assertThat(summary.generated()).isEqualTo(1);
+            assertThat(summary.failed()).isEqualTo(1);
+            assertThat(entries.getValue())
+                    .extracting(StatementBatchManifestEntry::customerId, StatementBatchManifestEntry::generated)
+                    .containsExactly(
+                            tuple(failing.customerId(), false),
+                            tuple(healthy.customerId(), true)
+                    );
+            verify(batchSink).complete(PERIOD);
+        }
+
+    }
+
+}
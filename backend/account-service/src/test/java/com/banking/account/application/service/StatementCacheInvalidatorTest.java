@@ -0,0 +1,67 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.port.out.StatementCache;
+import com.banking.account.domain.event.TransactionPerformedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCacheInvalidatorTest {
+
+    @Mock
+    private StatementCache statementCache;
+
+    @InjectMocks
+    private StatementCacheInvalidator invalidator;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldEvictImmediatelyOutsideATransaction() {
+        UUID customerId = UUID.randomUUID();
+
+        invalidator.onCustomerChanged(customerId);
+
+        verify(statementCache).evictCustomer(customerId);
+    }
+
+    @Test
+    void shouldDeferEvictionUntilTheTransactionCommits() {
+        UUID customerId = UUID.randomUUID();
+        LocalDateTime occurredAt = LocalDateTime.now();
+        List<Object> domainEvents = new ArrayList<>(List.of(TransactionPerformedEvent.builder()
+                .customerId(customerId)
+                .occurredAt(occurredAt)
+                .build()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        invalidator.onDomainEvents(domainEvents);
+        invalidator.onCustomerChanged(customerId);
+        domainEvents.clear();
+
+        verifyNoInteractions(statementCache);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(statementCache, times(2)).evictCustomer(customerId);
+    }
+
+}
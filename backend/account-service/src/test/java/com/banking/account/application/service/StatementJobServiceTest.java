@@ -0,0 +1,212 @@
+package com.banking.account.application.service;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementJob;
+import com.banking.account.application.dto.StatementJobStatus;
+import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
+import com.banking.account.application.port.out.CustomerEventListener;
+import com.banking.account.application.port.out.StatementResultStore;
+import com.banking.account.domain.exception.StatementJobNotFoundException;
+import com.banking.account.domain.exception.StatementJobResultExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementJobServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 1, 31, 23, 59);
+
+    @Mock
+    private GenerateAccountStatementUseCase generateStatementUseCase;
+
+    @Mock
+    private PdfGeneratorService pdfGeneratorService;
+
+    @Mock
+    private CustomerEventListener customerEventListener;
+
+    @Mock
+    private StatementResultStore resultStore;
+
+    private StatementJobService statementJobService;
+
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        statementJobService = new StatementJobService(
+                generateStatementUseCase,
+                pdfGeneratorService,
+                customerEventListener,
+                resultStore,
+                Runnable::run
+        );
+        customerId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("Submit")
+    class Submit {
+
+        @Test
+        void shouldCompleteJobAndRecordResultSize() throws Exception {
+            AccountStatementReport report = AccountStatementReport.builder()
+                    .customerId(customerId)
+                    .accounts(List.of())
+                    .build();
+
+            when(generateStatementUseCase.generateStatement(customerId, START, END)).thenReturn(report);
+            when(customerEventListener.getCustomerName(customerId)).thenReturn("John Doe");
+            when(resultStore.write(any(UUID.class), any())).thenReturn(2048L);
+
+            StatementJob submitted = statementJobService.submit(customerId, START, END);
+            StatementJob job = statementJobService.getJob(submitted.getId());
+
+            assertThat(job.getStatus()).isEqualTo(StatementJobStatus.COMPLETED);
+            assertThat(job.getProgress()).isEqualTo(100);
+            assertThat(job.getResultSize()).isEqualTo(2048L);
+            assertThat(job.getCompletedAt()).isNotNull();
+        }
+
+        @Test
+        void shouldMarkJobAsFailedWhenGenerationThrows() {
+            when(generateStatementUseCase.generateStatement(customerId, START, END))
+                    .thenThrow(new IllegalStateException("boom"));
+
+            StatementJob submitted = statementJobService.submit(customerId, START, END);
+            StatementJob job = statementJobService.getJob(submitted.getId());
+
+            assertThat(job.getStatus()).isEqualTo(StatementJobStatus.FAILED);
+            assertThat(job.getErrorMessage()).isEqualTo("boom");
+        }
+
+        @Test
+        void shouldRejectInvertedDateRange() {
+            assertThatThrownBy(() -> statementJobService.submit(customerId, END, START))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldForgetJobWhenExecutorRejectsIt() {
+            StatementJobService saturated = new StatementJobService(
+                    generateStatementUseCase,
+                    pdfGeneratorService,
+                    customerEventListener,
+                    resultStore,
+                    task -> {
+                        throw new RejectedExecutionException("full");
+                    }
+            );
+
+            assertThatThrownBy(() -> saturated.submit(customerId, START, END))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(saturated.evictFinishedBefore(Instant.MAX)).isZero();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class Lookup {
+
+        @Test
+        void shouldThrowWhenJobIsUnknown() {
+            assertThatThrownBy(() -> statementJobService.getJob(UUID.randomUUID()))
+                    .isInstanceOf(StatementJobNotFoundException.class);
+        }
+
+        @Test
+        void shouldNotExposeResultOfFailedJob() {
+            when(generateStatementUseCase.generateStatement(customerId, START, END))
+                    .thenThrow(new IllegalStateException("boom"));
+
+            StatementJob job = statementJobService.submit(customerId, START, END);
+
+            assertThat(statementJobService.getResult(job.getId())).isEmpty();
+            verify(resultStore, never()).find(any());
+        }
+
+        @Test
+        void shouldReturnStoredResultOfCompletedJob() throws Exception {
+            Resource pdf = new ByteArrayResource(new byte[]{1, 2, 3});
+
+            when(generateStatementUseCase.generateStatement(customerId, START, END))
+                    .thenReturn(AccountStatementReport.builder().accounts(List.of()).build());
+            when(resultStore.write(any(UUID.class), any())).thenReturn(3L);
+
+            StatementJob job = statementJobService.submit(customerId, START, END);
+            when(resultStore.find(eq(job.getId()))).thenReturn(Optional.of(pdf));
+
+            assertThat(statementJobService.getResult(job.getId())).contains(pdf);
+        }
+
+        @Test
+        void shouldEvictFinishedJobsOlderThanCutoff() throws Exception {
+            when(generateStatementUseCase.generateStatement(customerId, START, END))
+                    .thenReturn(AccountStatementReport.builder().accounts(List.of()).build());
+
+            StatementJob job = statementJobService.submit(customerId, START, END);
+
+            assertThat(statementJobService.evictFinishedBefore(Instant.now().plusSeconds(60))).isEqualTo(1);
+            assertThatThrownBy(() -> statementJobService.getJob(job.getId()))
+                    .isInstanceOf(StatementJobNotFoundException.class);
+            verify(resultStore).delete(job.getId());
+        }
+
+        @Test
+        void shouldExpireCompletedJobWhoseResultIsGone() throws Exception {
+            when(generateStatementUseCase.generateStatement(customerId, START, END))
+                    .thenReturn(AccountStatementReport.builder().accounts(List.of()).build());
+            when(resultStore.write(any(UUID.class), any())).thenReturn(3L);
+
+            StatementJob job = statementJobService.submit(customerId, START, END);
+            when(resultStore.find(eq(job.getId()))).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> statementJobService.getResult(job.getId()))
+                    .isInstanceOf(StatementJobResultExpiredException.class);
+            assertThatThrownBy(() -> statementJobService.getJob(job.getId()))
+                    .isInstanceOf(StatementJobNotFoundException.class);
+        }
+
+        @Test
+        void shouldKeepUnfinishedJobsAndTheirResults() {
+            StatementJobService queued = new StatementJobService(
+                    generateStatementUseCase,
+                    pdfGeneratorService,
+                    customerEventListener,
+                    resultStore,
+                    task -> {
+                    }
+            );
+
+            StatementJob job = queued.submit(customerId, START, END);
+
+            assertThat(queued.evictFinishedBefore(Instant.now().plusSeconds(60))).isZero();
+            assertThat(queued.getJob(job.getId()).getStatus()).isEqualTo(StatementJobStatus.PENDING);
+            verify(resultStore, never()).delete(any());
+        }
+
+    }
+
+}
@@ -52,6 +52,9 @@ class TransactionServiceTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private StatementCacheInvalidator statementCacheInvalidator;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -0,0 +1,148 @@
+package com.banking.account.infrastructure.cache;
+
+import com.banking.account.application.dto.AccountStatementReport;
+import com.banking.account.application.dto.StatementCacheKey;
+import com.banking.account.infrastructure.config.StatementCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredStatementCacheTest {
+
+    private static final LocalDateTime JANUARY_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime JANUARY_END = LocalDateTime.of(2024, 1, 31, 23, 59);
+    private static final LocalDateTime FEBRUARY_START = LocalDateTime.of(2024, 2, 1, 0, 0);
+    private static final LocalDateTime FEBRUARY_END = LocalDateTime.of(2024, 2, 29, 23, 59);
+
+    @TempDir
+    Path storageDir;
+
+    private TieredStatementCache cache;
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TieredStatementCache(new StatementCacheProperties(2, DataSize.ofBytes(10), storageDir));
+        customerId = UUID.randomUUID();
+    }
+
+    @Nested
+    class Reports {
+
+        @Test
+        void shouldEvictLeastRecentlyUsedReportWhenFull() {
+            StatementCacheKey first = key(JANUARY_START, JANUARY_END);
+            StatementCacheKey second = key(FEBRUARY_START, FEBRUARY_END);
+            StatementCacheKey third = key(JANUARY_START, FEBRUARY_END);
+
+            cache.putReport(first, 0, report());
+            cache.putReport(second, 0, report());
+            cache.findReport(first);
+            cache.putReport(third, 0, report());
+
+            assertThat(cache.findReport(first)).isPresent();
+            assertThat(cache.findReport(second)).isEmpty();
+            assertThat(cache.findReport(third)).isPresent();
+        }
+
+        @Test
+        void shouldEvictEveryPeriodOfTheCustomerButNoOtherCustomer() {
+            StatementCacheKey january = key(JANUARY_START, JANUARY_END);
+            StatementCacheKey february = key(FEBRUARY_START, FEBRUARY_END);
+            StatementCacheKey otherCustomer = new StatementCacheKey(UUID.randomUUID(), JANUARY_START, JANUARY_END, "en");
+            cache.putReport(january, 0, report());
+            cache.putReport(february, 0, report());
+
+            long otherVersion = cache.version(otherCustomer);
+            cache.putReport(otherCustomer, otherVersion, report());
+
+            assertThat(cache.evictCustomer(customerId)).isEqualTo(2);
+            assertThat(cache.findReport(january)).isEmpty();
+            assertThat(cache.findReport(february)).isEmpty();
+            assertThat(cache.findReport(otherCustomer)).isPresent();
+        }
+
+        @Test
+        void shouldNotReuseAVersionAfterItsCustomerIsForgotten() {
+            StatementCacheKey january = key(JANUARY_START, JANUARY_END);
+            long version = cache.version(january);
+            cache.evictCustomer(customerId);
+
+            for (int i = 0; i < 10_001; i++) {
+                cache.evictCustomer(UUID.randomUUID());
+            }
+            cache.putReport(january, version, report());
+
+            assertThat(cache.findReport(january)).isEmpty();
+        }
+
+        @Test
+        void shouldDropPutsStartedBeforeAnEviction() {
+            StatementCacheKey january = key(JANUARY_START, JANUARY_END);
+            long version = cache.version(january);
+
+            cache.evictCustomer(customerId);
+            cache.putReport(january, version, report());
+
+            assertThat(cache.findReport(january)).isEmpty();
+        }
+    }
+
+    @Nested
+    class Pdfs {
+
+        @Test
+        void shouldStorePdfOnDiskAndServeItBack() throws Exception {
+            StatementCacheKey january = key(JANUARY_START, JANUARY_END);
+
+            Optional<Resource> stored = cache.putPdf(january, 0, output -> output.write(new byte[]{1, 2, 3}));
+
+            assertThat(stored).isPresent();
+            assertThat(cache.findPdf(january)).isPresent()
+                    .get()
+                    .satisfies(resource -> assertThat(resource.getContentAsByteArray()).containsExactly(1, 2, 3));
+        }
+
+        @Test
+        void shouldEvictOldestPdfWhenDiskBudgetIsExceeded() throws Exception {
+            StatementCacheKey january = key(JANUARY_START, JANUARY_END);
+            StatementCacheKey february = key(FEBRUARY_START, FEBRUARY_END);
+
+            cache.putPdf(january, 0, output -> output.write(new byte[6]));
+            cache.putPdf(february, 0, output -> output.write(new byte[6]));
+
+            assertThat(cache.findPdf(january)).isEmpty();
+            assertThat(cache.findPdf(february)).isPresent();
+        }
+
+        @Test
+        void shouldDeletePdfWhenCustomerIsEvicted() throws Exception {
+            StatementCacheKey january = key(JANUARY_START, JANUARY_END);
+            Resource stored = cache.putPdf(january, 0, output -> output.write(new byte[]{1})).orElseThrow();
+
+            cache.evictCustomer(customerId);
+
+            assertThat(cache.findPdf(january)).isEmpty();
+            assertThat(stored.exists()).isFalse();
+        }
+    }
+
+    private StatementCacheKey key(LocalDateTime startDate, LocalDateTime endDate) {
+        return new StatementCacheKey(customerId, startDate, endDate, "en");
+    }
+
+    private AccountStatementReport report() {
+        return AccountStatementReport.builder().customerId(customerId).build();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.banking.account.infrastructure.client;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.domain.model.CustomerProjectionUpdate;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.infrastructure.config.ProjectionBootstrapProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class HttpCustomerSnapshotSourceTest {
+
+    private static final URI SNAPSHOT_URI = URI.create("http://customer-service/api/v1/customers/snapshot");
+
+    private MockRestServiceServer server;
+
+    private HttpCustomerSnapshotSource snapshotSource;
+
+    private final List<List<CustomerProjectionUpdate>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(restClientBuilder).build();
+        snapshotSource = new HttpCustomerSnapshotSource(restClientBuilder, Jackson2ObjectMapperBuilder.json().build(),
+                new ProjectionBootstrapProperties(true, true, SNAPSHOT_URI, 2));
+    }
+
+    @Test
+    void shouldStreamRowsInBatchesUntilTheTrailer() {
+        UUID first = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        respondWith(row(first, "ACTIVE", 10) + row(UUID.randomUUID(), "ACTIVE", 11)
+                + row(third, "INACTIVE", 12) + trailer(500, 3));
+
+        CustomerSnapshotResult result = snapshotSource.stream(2, batches::add);
+
+        server.verify();
+        assertThat(result).isEqualTo(new CustomerSnapshotResult(500, 3));
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(batches.getFirst().getFirst()).isEqualTo(CustomerProjectionUpdate.created(
+                first, "John Doe", CustomerStatus.ACTIVE, Instant.EPOCH.plusNanos(10_000), 10));
+        assertThat(batches.getLast().getFirst().customerId()).isEqualTo(third);
+        assertThat(batches.getLast().getFirst().status()).isEqualTo(CustomerStatus.INACTIVE);
+    }
+
+    @Test
+    void shouldRejectATrailerThatDisagreesWithTheRows() {
+        respondWith(row(UUID.randomUUID(), "ACTIVE", 10) + trailer(500, 2));
+
+        assertThatThrownBy(() -> snapshotSource.stream(2, batches::add))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Customer snapshot announced 2 customers but streamed 1");
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void shouldRejectASnapshotWithoutATrailer() {
+        respondWith(row(UUID.randomUUID(), "ACTIVE", 10));
+
+        assertThatThrownBy(() -> snapshotSource.stream(2, batches::add))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Customer snapshot ended after 1 customers without a trailer");
+    }
+
+    @Test
+    void shouldFailOnErrorResponses() {
+        server.expect(requestTo(SNAPSHOT_URI))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThatThrownBy(() -> snapshotSource.stream(2, batches::add))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Customer snapshot request failed with 503");
+    }
+
+    private void respondWith(String body) {
+        server.expect(requestTo(SNAPSHOT_URI))
+                .andExpect(header("Accept", MediaType.APPLICATION_NDJSON_VALUE))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_NDJSON));
+    }
+
+    private static String row(UUID id, String status, long sequence) {
+        return """
+                {"id":"%s","customerId":"CUS-1","name":"John Doe","status":"%s","sequence":%d}
+                """.formatted(id, status, sequence);
+    }
+
+    private static String trailer(long mark, long count) {
+        return """
+                {"mark":%d,"count":%d}
+                """.formatted(mark, count);
+    }
+
+}
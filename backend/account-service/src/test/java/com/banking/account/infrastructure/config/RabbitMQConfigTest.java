@@ -0,0 +1,69 @@
+package com.banking.account.infrastructure.config;
+
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardConsumer;
+import com.banking.commons.config.EmbeddedBusConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RabbitMQConfigTest {
+
+    private final RabbitMQConfig config = new RabbitMQConfig();
+
+    @Test
+    void shouldDeclareSeparateShardQueuesForEveryConsumer() {
+        Declarables declarables = config.transactionShardQueues(
+                new TransactionShardProperties(false, 2, 10), consumers("ledger", "fraud"), new MockEnvironment());
+
+        assertThat(declarables.getDeclarablesByType(Queue.class)).extracting(Queue::getName).containsExactly(
+                "transaction.created.ledger.shard.0",
+                "transaction.created.fraud.shard.0",
+                "transaction.created.ledger.shard.1",
+                "transaction.created.fraud.shard.1");
+        assertThat(declarables.getDeclarablesByType(Queue.class))
+                .allSatisfy(queue -> assertThat(queue.getArguments()).containsEntry("x-single-active-consumer", true));
+        assertThat(declarables.getDeclarablesByType(Binding.class)).extracting(Binding::getRoutingKey)
+                .containsExactly("transaction.created.0", "transaction.created.0",
+                        "transaction.created.1", "transaction.created.1");
+    }
+
+    @Test
+    void shouldKeepTheSharedShardQueuesWhenShardingIsEnabled() {
+        Declarables declarables = config.transactionShardQueues(
+                new TransactionShardProperties(true, 2, 10), consumers(), new MockEnvironment());
+
+        assertThat(declarables.getDeclarablesByType(Queue.class)).extracting(Queue::getName)
+                .containsExactly("transaction.created.shard.0", "transaction.created.shard.1");
+    }
+
+    @Test
+    void shouldNotDeclareConsumerQueuesUnderTheEmbeddedProfile() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(EmbeddedBusConfig.EMBEDDED_PROFILE);
+
+        Declarables declarables = config.transactionShardQueues(
+                new TransactionShardProperties(false, 2, 10), consumers("ledger"), environment);
+
+        assertThat(declarables.getDeclarables()).isEmpty();
+    }
+
+    private static ObjectProvider<TransactionShardConsumer> consumers(String... names) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        for (String name : names) {
+            TransactionShardConsumer consumer = mock(TransactionShardConsumer.class);
+            when(consumer.name()).thenReturn(name);
+            beanFactory.addBean(name, consumer);
+        }
+        return beanFactory.getBeanProvider(TransactionShardConsumer.class);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import com.banking.account.infrastructure.config.DeadLetterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterEndpointTest {
+
+    private static final String DLQ = "transaction.created.dlq";
+
+    @Mock
+    private DeadLetterQueueService deadLetterQueueService;
+
+    private DeadLetterEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new DeadLetterEndpoint(deadLetterQueueService,
+                new DeadLetterProperties(List.of(DLQ), 100, 25, 3, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void shouldListQueueDepths() {
+        when(deadLetterQueueService.depths()).thenReturn(Map.of(DLQ, 4L));
+
+        assertThat(endpoint.queues()).containsEntry(DLQ, 4L);
+    }
+
+    @Test
+    void shouldPageWithDefaults() {
+        DeadLetterPage page = new DeadLetterPage(DLQ, 0, 0, List.of());
+        when(deadLetterQueueService.isKnownQueue(DLQ)).thenReturn(true);
+        when(deadLetterQueueService.page(DLQ, 0, 20)).thenReturn(page);
+
+        assertThat(endpoint.page(DLQ, null, null)).isSameAs(page);
+    }
+
+    @Test
+    void shouldReplayWithConfiguredDefaults() {
+        when(deadLetterQueueService.isKnownQueue(DLQ)).thenReturn(true);
+
+        endpoint.replay(DLQ, "transaction.created.1", null, null, null, null, null, null);
+
+        ArgumentCaptor<DeadLetterReplayRequest> request = ArgumentCaptor.forClass(DeadLetterReplayRequest.class);
+        verify(deadLetterQueueService).replay(eq(DLQ), request.capture());
+        assertThat(request.getValue())
+                .isEqualTo(new DeadLetterReplayRequest("transaction.created.1", null, null, 0L, 25, 3, false));
+    }
+
+    @Test
+    void shouldRejectUnknownQueues() {
+        when(deadLetterQueueService.isKnownQueue(anyString())).thenReturn(false);
+
+        assertThatThrownBy(() -> endpoint.page("customer.created.account", 0, 10))
+                .isInstanceOf(InvalidEndpointRequestException.class)
+                .hasMessage("Unknown dead letter queue: customer.created.account");
+        assertThatThrownBy(() -> endpoint.replay("customer.created.account", null, null, null, 1L, 1.0, 1, true))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        verify(deadLetterQueueService, never()).page(anyString(), anyInt(), anyInt());
+        verify(deadLetterQueueService, never()).replay(anyString(), any());
+    }
+
+}
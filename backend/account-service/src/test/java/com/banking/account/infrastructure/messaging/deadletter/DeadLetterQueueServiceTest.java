@@ -0,0 +1,211 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import com.banking.account.infrastructure.config.DeadLetterProperties;
+import com.banking.account.infrastructure.messaging.retry.DelayedRetryRecoverer;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterQueueServiceTest {
+
+    private static final String DLQ = "transaction.created.dlq";
+
+    @Mock
+    private CachingConnectionFactory connectionFactory;
+
+    @Mock
+    private ConnectionFactory rabbitConnectionFactory;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private MessageConverter messageConverter;
+
+    private DeadLetterQueueService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(connectionFactory.getRabbitConnectionFactory()).thenReturn(rabbitConnectionFactory);
+        lenient().when(rabbitConnectionFactory.newConnection(anyString())).thenReturn(connection);
+        lenient().when(connection.createChannel()).thenReturn(channel);
+
+        service = new DeadLetterQueueService(connectionFactory, amqpAdmin, messageConverter,
+                new DeadLetterProperties(List.of(DLQ), 2, 0, 1, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void shouldOnlyKnowConfiguredQueues() {
+        assertThat(service.isKnownQueue(DLQ)).isTrue();
+        assertThat(service.isKnownQueue("customer.created.account")).isFalse();
+    }
+
+    @Test
+    void shouldReportZeroDepthForMissingQueues() {
+        when(amqpAdmin.getQueueInfo(DLQ)).thenReturn(null);
+
+        assertThat(service.depths()).containsExactly(Map.entry(DLQ, 0L));
+    }
+
+    @Test
+    void shouldPageFromTheOffsetWithoutAcking() throws Exception {
+        when(amqpAdmin.getQueueInfo(DLQ)).thenReturn(new QueueInformation(DLQ, 3, 0));
+        when(channel.basicGet(DLQ, false)).thenReturn(deadLetter(1, "m-1"), deadLetter(2, "m-2"), deadLetter(3, "m-3"));
+        when(messageConverter.fromMessage(any(Message.class))).thenThrow(new MessageConversionException("unknown type"));
+
+        DeadLetterPage page = service.page(DLQ, 1, 10);
+
+        assertThat(page.depth()).isEqualTo(3);
+        assertThat(page.offset()).isEqualTo(1);
+        assertThat(page.messages()).extracting(DeadLetterMessage::messageId).containsExactly("m-2", "m-3");
+        DeadLetterMessage first = page.messages().getFirst();
+        assertThat(first.position()).isEqualTo(1);
+        assertThat(first.originExchange()).isEqualTo("account.exchange");
+        assertThat(first.originRoutingKey()).isEqualTo("transaction.created.1");
+        assertThat(first.originQueue()).isEqualTo("transaction.created");
+        assertThat(first.reason()).isEqualTo("rejected");
+        assertThat(first.deathCount()).isEqualTo(1);
+        assertThat(first.lastError()).isEqualTo("projection unavailable");
+        assertThat(first.payload()).isEqualTo("{}");
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldClampTheOffsetToTheQueueDepth() throws Exception {
+        when(amqpAdmin.getQueueInfo(DLQ)).thenReturn(new QueueInformation(DLQ, 1, 0));
+        when(channel.basicGet(DLQ, false)).thenReturn(deadLetter(1, "m-1"), (GetResponse) null);
+
+        DeadLetterPage page = service.page(DLQ, Integer.MAX_VALUE, 10);
+
+        assertThat(page.offset()).isEqualTo(1);
+        assertThat(page.messages()).isEmpty();
+        verify(channel, times(2)).basicGet(DLQ, false);
+    }
+
+    @Test
+    void shouldClampNegativeOffsetsAndThePageSize() throws Exception {
+        when(amqpAdmin.getQueueInfo(DLQ)).thenReturn(new QueueInformation(DLQ, 3, 0));
+        when(channel.basicGet(DLQ, false)).thenReturn(deadLetter(1, "m-1"), deadLetter(2, "m-2"));
+        when(messageConverter.fromMessage(any(Message.class))).thenReturn("event");
+
+        DeadLetterPage page = service.page(DLQ, -5, 50);
+
+        assertThat(page.offset()).isZero();
+        assertThat(page.messages()).extracting(DeadLetterMessage::messageId).containsExactly("m-1", "m-2");
+        verify(channel, times(2)).basicGet(DLQ, false);
+    }
+
+    @Test
+    void shouldReplayThroughTheDefaultExchangeToTheQueueThatRejectedTheMessage() throws Exception {
+        when(channel.basicGet(DLQ, false)).thenReturn(deadLetter(7, "m-1"), (GetResponse) null);
+        when(messageConverter.fromMessage(any(Message.class))).thenReturn("event");
+
+        DeadLetterReplayResult result = service.replay(DLQ, request(false));
+
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).confirmSelect();
+        verify(channel).basicPublish(eq(""), eq("transaction.created"), properties.capture(), any(byte[].class));
+        verify(channel).waitForConfirmsOrDie(5000L);
+        verify(channel).basicAck(7L, false);
+
+        Map<String, Object> headers = properties.getValue().getHeaders();
+        assertThat(headers).doesNotContainKeys("x-death", DelayedRetryRecoverer.RETRY_COUNT_HEADER);
+        assertThat(headers).containsEntry("x-replayed-from", DLQ).containsKey("x-replay-id");
+        assertThat(result.replayed()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+    }
+
+    @Test
+    void shouldLeaveDeadLettersWithoutAnOriginQueueInPlace() throws Exception {
+        GetResponse orphan = response(3, "m-1", new HashMap<>());
+        when(channel.basicGet(DLQ, false)).thenReturn(orphan, (GetResponse) null);
+        when(messageConverter.fromMessage(any(Message.class))).thenReturn("event");
+
+        DeadLetterReplayResult result = service.replay(DLQ, request(false));
+
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(AMQP.BasicProperties.class), any(byte[].class));
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.replayed()).isZero();
+    }
+
+    @Test
+    void shouldOnlyCountMatchesOnDryRun() throws Exception {
+        when(channel.basicGet(DLQ, false)).thenReturn(deadLetter(1, "m-1"), deadLetter(2, "m-2"), null);
+        when(messageConverter.fromMessage(any(Message.class))).thenReturn("event");
+
+        DeadLetterReplayResult result = service.replay(DLQ, request(true));
+
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(AMQP.BasicProperties.class), any(byte[].class));
+        assertThat(result.dryRun()).isTrue();
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.matched()).isEqualTo(2);
+        assertThat(result.replayed()).isZero();
+    }
+
+    private static DeadLetterReplayRequest request(boolean dryRun) {
+        return new DeadLetterReplayRequest(null, null, null, 0L, 0, 1, dryRun);
+    }
+
+    private static GetResponse deadLetter(long deliveryTag, String messageId) {
+        Map<String, Object> death = new HashMap<>();
+        death.put("queue", "transaction.created");
+        death.put("exchange", "account.exchange");
+        death.put("routing-keys", List.of("transaction.created.1"));
+        death.put("reason", "rejected");
+        death.put("count", 1L);
+        death.put("time", new Date());
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("x-death", List.of(death));
+        headers.put(DelayedRetryRecoverer.LAST_ERROR_HEADER, "projection unavailable");
+        headers.put(DelayedRetryRecoverer.RETRY_COUNT_HEADER, 3);
+        return response(deliveryTag, messageId, headers);
+    }
+
+    private static GetResponse response(long deliveryTag, String messageId, Map<String, Object> headers) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .messageId(messageId)
+                .contentType("application/json")
+                .headers(headers)
+                .build();
+        return new GetResponse(new Envelope(deliveryTag, false, "", DLQ), properties, "{}".getBytes(), 0);
+    }
+
+}
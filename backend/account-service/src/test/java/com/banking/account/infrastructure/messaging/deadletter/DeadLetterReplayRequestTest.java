@@ -0,0 +1,49 @@
+package com.banking.account.infrastructure.messaging.deadletter;
+
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadLetterReplayRequestTest {
+
+    private final DeadLetterMessage deadLetter = new DeadLetterMessage(
+            0L,
+            "message-1",
+            TransactionPerformedEventV1.class.getName(),
+            "account.exchange",
+            "transaction.created.3",
+            "transaction.created",
+            "rejected",
+            1L,
+            Instant.now(),
+            "IllegalStateException: projection unavailable",
+            "{}"
+    );
+
+    @Test
+    void shouldMatchEverythingWithoutFilters() {
+        assertThat(request(null, null, null).matches(deadLetter)).isTrue();
+    }
+
+    @Test
+    void shouldMatchEventTypeBySimpleOrQualifiedName() {
+        assertThat(request(null, "TransactionPerformedEventV1", null).matches(deadLetter)).isTrue();
+        assertThat(request(null, TransactionPerformedEventV1.class.getName(), null).matches(deadLetter)).isTrue();
+        assertThat(request(null, "AccountCreatedEventV1", null).matches(deadLetter)).isFalse();
+    }
+
+    @Test
+    void shouldRequireEveryFilterToMatch() {
+        assertThat(request("transaction.created.3", null, "unavailable").matches(deadLetter)).isTrue();
+        assertThat(request("transaction.created.1", null, "unavailable").matches(deadLetter)).isFalse();
+        assertThat(request("transaction.created.3", null, "timeout").matches(deadLetter)).isFalse();
+    }
+
+    private DeadLetterReplayRequest request(String routingKey, String eventType, String errorContains) {
+        return new DeadLetterReplayRequest(routingKey, eventType, errorContains, 0L, 0, 1, true);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.banking.account.infrastructure.messaging.embedded;
+
+import com.banking.account.infrastructure.messaging.outbox.OutboxEventsWritten;
+import com.banking.commons.messaging.embedded.EmbeddedEventBus;
+import com.banking.contracts.events.account.AccountCreatedEventV1;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddedEventForwarderTest {
+
+    @Mock
+    private EmbeddedEventBus eventBus;
+
+    @InjectMocks
+    private EmbeddedEventForwarder forwarder;
+
+    @Test
+    void shouldForwardTheCommittedContractEventsToTheBus() {
+        AccountCreatedEventV1 created = AccountCreatedEventV1.builder().build();
+        TransactionPerformedEventV1 transaction = TransactionPerformedEventV1.builder().build();
+
+        forwarder.onOutboxEventsWritten(new OutboxEventsWritten(List.of(created, transaction)));
+
+        verify(eventBus).publish(List.of(created, transaction));
+    }
+
+    @Test
+    void shouldNotFailTheCommittedRequestWhenTheBusIsFull() {
+        List<Object> events = List.of(AccountCreatedEventV1.builder().build());
+        doThrow(new IllegalStateException("Embedded event bus is full")).when(eventBus).publish(events);
+
+        assertThatCode(() -> forwarder.onOutboxEventsWritten(new OutboxEventsWritten(events))).doesNotThrowAnyException();
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.banking.account.infrastructure.messaging.embedded;
+
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardConsumer;
+import com.banking.contracts.events.account.AccountCreatedEventV1;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionShardSubscriberTest {
+
+    @Mock
+    private ObjectProvider<TransactionShardConsumer> consumers;
+
+    @Mock
+    private TransactionShardConsumer fraudConsumer;
+
+    @Test
+    void shouldHandTransactionsToEveryShardConsumer() {
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(fraudConsumer));
+        TransactionPerformedEventV1 first = TransactionPerformedEventV1.builder().build();
+        TransactionPerformedEventV1 second = TransactionPerformedEventV1.builder().build();
+        TransactionShardSubscriber subscriber = new TransactionShardSubscriber(consumers);
+
+        subscriber.onEvents(List.of(first, AccountCreatedEventV1.builder().build(), second));
+
+        assertThat(subscriber.name()).isEqualTo("transactions");
+        verify(fraudConsumer).onTransaction(first);
+        verify(fraudConsumer).onTransaction(second);
+        verify(consumers, times(2)).orderedStream();
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.banking.account.infrastructure.messaging.envelope;
+
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventEnvelopeReaderTest {
+
+    private Jackson2JsonMessageConverter converter;
+    private EventEnvelopeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        converter = new Jackson2JsonMessageConverter();
+        reader = new EventEnvelopeReader(converter);
+    }
+
+    @Test
+    @DisplayName("Should read a plain event message as a single event")
+    void shouldReadPlainEvent() {
+        CustomerCreatedEventV1 event = created("John");
+
+        List<CustomerCreatedEventV1> events = reader.read(
+                converter.toMessage(event, new MessageProperties()), CustomerCreatedEventV1.class);
+
+        assertThat(events).singleElement()
+                .satisfies(read -> assertThat(read.getCustomerId()).isEqualTo(event.getCustomerId()));
+    }
+
+    @Test
+    @DisplayName("Should unpack every event of an envelope in order")
+    void shouldUnpackEnvelope() {
+        CustomerCreatedEventV1 first = created("John");
+        CustomerCreatedEventV1 second = created("Jane");
+        Message message = converter.toMessage(envelope(first, second), new MessageProperties());
+
+        List<CustomerCreatedEventV1> events = reader.read(message, CustomerCreatedEventV1.class);
+
+        assertThat(EventEnvelopeReader.isEnvelope(message)).isTrue();
+        assertThat(events).extracting(CustomerCreatedEventV1::getCustomerId)
+                .containsExactly(first.getCustomerId(), second.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("Should reject an envelope carrying an unexpected event type")
+    void shouldRejectUnexpectedEventType() {
+        Message message = converter.toMessage(envelope(
+                created("John"),
+                CustomerUpdatedEventV1.builder().customerId(UUID.randomUUID()).build()
+        ), new MessageProperties());
+
+        assertThatThrownBy(() -> reader.read(message, CustomerCreatedEventV1.class))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    private EventBatchEnvelopeV1 envelope(Object... events) {
+        return EventBatchEnvelopeV1.builder()
+                .batchId(UUID.randomUUID())
+                .schemaVersion(EventBatchEnvelopeV1.SCHEMA_VERSION)
+                .source("customer-service")
+                .createdAt(LocalDateTime.now())
+                .events(List.of(events))
+                .build();
+    }
+
+    private CustomerCreatedEventV1 created(String name) {
+        return CustomerCreatedEventV1.builder()
+                .customerId(UUID.randomUUID())
+                .name(name)
+                .lastName("Doe")
+                .status("ACTIVE")
+                .build();
+    }
+
+}
@@ -8,17 +8,25 @@ import com.banking.account.infrastructure.messaging.publisher.RabbitMQCustomerEv
 import com.banking.contracts.events.customer.CustomerCreatedEventV1;
 import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
 import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+import com.rabbitmq.client.Channel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class RabbitMQCustomerEventListenerImplIntegrationTest extends IntegrationTest {
 
@@ -62,6 +70,48 @@ class RabbitMQCustomerEventListenerImplIntegrationTest extends IntegrationTest {
         assertThat(result.get().status()).isEqualTo(CustomerStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("Should upsert a batch of created events and dead-letter unreadable messages")
+    void shouldUpsertBatchAndRejectUnreadableMessages() throws Exception {
+        UUID otherCustomerId = UUID.randomUUID();
+        customerProjectionRepository.save(new CustomerInfo(otherCustomerId, "Old Name", CustomerStatus.INACTIVE));
+
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        Message first = converter.toMessage(CustomerCreatedEventV1.builder()
+                .customerId(customerId)
+                .name("John")
+                .lastName("Doe")
+                .status("ACTIVE")
+                .build(), deliveryTag(1));
+        Message unreadable = MessageBuilder.withBody("{not json".getBytes())
+                .andProperties(deliveryTag(2))
+                .build();
+        Message second = converter.toMessage(CustomerCreatedEventV1.builder()
+                .customerId(otherCustomerId)
+                .name("Jane")
+                .lastName("Smith")
+                .status("ACTIVE")
+                .build(), deliveryTag(3));
+        Channel channel = mock(Channel.class);
+
+        eventListener.handleCustomersCreated(List.of(first, unreadable, second), channel);
+
+        assertThat(customerProjectionRepository.findById(customerId))
+                .contains(new CustomerInfo(customerId, "John Doe", CustomerStatus.ACTIVE));
+        assertThat(customerProjectionRepository.findById(otherCustomerId))
+                .contains(new CustomerInfo(otherCustomerId, "Jane Smith", CustomerStatus.ACTIVE));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicNack(2, false, false);
+        verify(channel).basicAck(3, false);
+    }
+
+    private MessageProperties deliveryTag(long tag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setDeliveryTag(tag);
+        return properties;
+    }
+
     @Test
     @DisplayName("Should update customer name when customer updated event is received")
     void shouldUpdateCustomerNameWhenCustomerUpdatedEventReceived() {
@@ -118,6 +168,41 @@ class RabbitMQCustomerEventListenerImplIntegrationTest extends IntegrationTest {
         assertThat(result.get().status()).isEqualTo(CustomerStatus.INACTIVE);
     }
 
+    @Test
+    @DisplayName("Should ignore events older than the ones already applied")
+    void shouldIgnoreStaleEvents() {
+        eventListener.handleCustomerCreated(CustomerCreatedEventV1.builder()
+                .customerId(customerId)
+                .name("John")
+                .lastName("Doe")
+                .status("ACTIVE")
+                .occurredAt(LocalDateTime.now())
+                .sequence(100L)
+                .build());
+        eventListener.handleCustomerStatusChanged(CustomerStatusChangedEventV1.builder()
+                .customerId(customerId)
+                .newStatus("INACTIVE")
+                .occurredAt(LocalDateTime.now())
+                .sequence(300L)
+                .build());
+        eventListener.handleCustomerUpdated(CustomerUpdatedEventV1.builder()
+                .customerId(customerId)
+                .name("Jane")
+                .lastName("Smith")
+                .occurredAt(LocalDateTime.now())
+                .sequence(200L)
+                .build());
+        eventListener.handleCustomerStatusChanged(CustomerStatusChangedEventV1.builder()
+                .customerId(customerId)
+                .newStatus("ACTIVE")
+                .occurredAt(LocalDateTime.now())
+                .sequence(250L)
+                .build());
+
+        assertThat(customerProjectionRepository.findById(customerId))
+                .contains(new CustomerInfo(customerId, "Jane Smith", CustomerStatus.INACTIVE));
+    }
+
     @Test
     @DisplayName("Should return true when customer exists")
     void shouldReturnTrueWhenCustomerExists() {
@@ -0,0 +1,138 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import com.banking.account.domain.event.AccountCreatedEvent;
+import com.banking.account.domain.event.TransactionPerformedEvent;
+import com.banking.account.domain.model.AccountStatus;
+import com.banking.account.domain.model.AccountType;
+import com.banking.account.domain.model.TransactionType;
+import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.banking.account.infrastructure.config.TransactionShardProperties;
+import com.banking.account.infrastructure.messaging.publisher.mapper.AccountEventMapper;
+import com.banking.account.infrastructure.messaging.sharding.TransactionShardRouter;
+import com.banking.account.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import com.banking.account.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import com.banking.contracts.events.account.AccountCreatedEventV1;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDomainEventPublisherTest {
+
+    @Mock
+    private JpaOutboxEventRepository outboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final TransactionShardRouter shardRouter = new TransactionShardRouter(new TransactionShardProperties(true, 4, 10));
+
+    private OutboxDomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OutboxDomainEventPublisher(
+                outboxRepository,
+                new AccountEventMapper(),
+                shardRouter,
+                new Jackson2JsonMessageConverter(),
+                applicationEventPublisher
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteContractEventsToOutbox() {
+        UUID accountId = UUID.randomUUID();
+        AccountCreatedEvent event = AccountCreatedEvent.builder()
+                .accountId(accountId)
+                .accountNumber("1234567890")
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.SAVINGS)
+                .initialBalance(new BigDecimal("1000.00"))
+                .status(AccountStatus.ACTIVE)
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        publisher.publish(List.of(event));
+
+        ArgumentCaptor<List<OutboxEventJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+
+        OutboxEventJpaEntity entry = captor.getValue().getFirst();
+        assertThat(entry.isNew()).isTrue();
+        assertThat(entry.getAggregateId()).isEqualTo(accountId);
+        assertThat(entry.getExchange()).isEqualTo(RabbitMQConfig.ACCOUNT_EXCHANGE);
+        assertThat(entry.getRoutingKey()).isEqualTo(RabbitMQConfig.ACCOUNT_CREATED_ROUTING_KEY);
+        assertThat(entry.getEventType()).isEqualTo(AccountCreatedEventV1.class.getName());
+        assertThat(entry.getPayload()).contains("\"accountNumber\":\"1234567890\"");
+
+        ArgumentCaptor<OutboxEventsWritten> written = ArgumentCaptor.forClass(OutboxEventsWritten.class);
+        verify(applicationEventPublisher).publishEvent(written.capture());
+        assertThat(written.getValue().events()).singleElement().isInstanceOf(AccountCreatedEventV1.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRouteTransactionsOfTheSameAccountToTheSameShard() {
+        UUID accountId = UUID.randomUUID();
+
+        publisher.publish(List.of(transactionEvent(accountId), transactionEvent(accountId)));
+
+        ArgumentCaptor<List<OutboxEventJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+
+        String expectedRoutingKey = RabbitMQConfig.transactionShardRoutingKey(shardRouter.shardOf(accountId));
+        assertThat(captor.getValue())
+                .extracting(OutboxEventJpaEntity::getRoutingKey)
+                .containsExactly(expectedRoutingKey, expectedRoutingKey);
+    }
+
+    @Test
+    void shouldSpreadAccountsAcrossAllShards() {
+        Set<Integer> shards = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            shards.add(shardRouter.shardOf(UUID.randomUUID()));
+        }
+
+        assertThat(shards).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void shouldIgnoreEmptyEventLists() {
+        publisher.publish(List.of());
+
+        verifyNoInteractions(outboxRepository, applicationEventPublisher);
+    }
+
+    private TransactionPerformedEvent transactionEvent(UUID accountId) {
+        return new TransactionPerformedEvent(
+                UUID.randomUUID(),
+                accountId,
+                "1234567890",
+                UUID.randomUUID(),
+                TransactionType.DEPOSIT,
+                new BigDecimal("50.00"),
+                new BigDecimal("100.00"),
+                new BigDecimal("150.00"),
+                null,
+                LocalDateTime.now()
+        );
+    }
+
+}
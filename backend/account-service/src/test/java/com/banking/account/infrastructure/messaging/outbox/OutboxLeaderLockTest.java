@@ -0,0 +1,101 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxLeaderLockTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private OutboxLeaderLock leaderLock;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(statement.executeQuery()).thenReturn(resultSet);
+        lenient().when(resultSet.next()).thenReturn(true);
+    }
+
+    @Test
+    void shouldHoldTheLockOnOneConnectionOnceAcquired() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(connection.isValid(anyInt())).thenReturn(true);
+
+        assertThat(leaderLock.tryAcquire()).isTrue();
+        assertThat(leaderLock.tryAcquire()).isTrue();
+
+        verify(dataSource).getConnection();
+        verify(connection).prepareStatement("SELECT pg_try_advisory_lock(?)");
+        verify(statement).setLong(1, OutboxLeaderLock.LOCK_KEY);
+        verify(connection, never()).close();
+    }
+
+    @Test
+    void shouldReturnTheConnectionWhenAnotherInstanceLeads() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(false);
+
+        assertThat(leaderLock.tryAcquire()).isFalse();
+
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldCompeteAgainWhenTheLeaderConnectionDies() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true, false);
+        when(connection.isValid(anyInt())).thenReturn(false);
+
+        assertThat(leaderLock.tryAcquire()).isTrue();
+        assertThat(leaderLock.tryAcquire()).isFalse();
+
+        verify(dataSource, times(2)).getConnection();
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void shouldUnlockAndCloseOnRelease() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        leaderLock.tryAcquire();
+
+        leaderLock.release();
+        leaderLock.release();
+
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(?)");
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldNotLeadWhenNoConnectionIsAvailable() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThat(leaderLock.tryAcquire()).isFalse();
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.banking.account.infrastructure.messaging.outbox;
+
+import com.banking.account.infrastructure.config.OutboxProperties;
+import com.banking.account.infrastructure.messaging.stream.TransactionStreamPublisher;
+import com.banking.account.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import com.banking.account.infrastructure.persistence.entity.OutboxEventStatus;
+import com.banking.account.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private JpaOutboxEventRepository outboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ObjectProvider<TransactionStreamPublisher> streamPublisher;
+
+    @Mock
+    private OutboxLeaderLock leaderLock;
+
+    @Mock
+    private TransactionStreamPublisher transactionStream;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any(TransactionCallback.class)))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+                        .doInTransaction(mock(TransactionStatus.class)));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        lenient().when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class)))
+                .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0)
+                        .doInRabbit(operations));
+
+        relay = relay();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldClaimPublishAndDeleteBatch() {
+        OutboxEventJpaEntity first = event(UUID.randomUUID(), "account.created", 0);
+        OutboxEventJpaEntity second = event(UUID.randomUUID(), "account.created", 0);
+        when(outboxRepository.lockNextBatch(any(Instant.class), eq(10))).thenReturn(List.of(first, second));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(first.getClaimedUntil()).isNotNull();
+        verify(operations, times(2)).send(anyString(), eq("account.created"), any(Message.class));
+        verify(operations).waitForConfirmsOrDie(5000L);
+
+        ArgumentCaptor<Collection<UUID>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).deleteAllByIdInBatch(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(first.getId(), second.getId());
+        verify(outboxRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void shouldNotTouchTheBrokerWhenNothingIsPending() {
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of());
+
+        assertThat(relay.relayBatch()).isZero();
+
+        verifyNoInteractions(rabbitTemplate);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldPublishAroundAPoisonEventAndHoldBackLaterEventsOfItsAggregate() {
+        UUID poisonedAggregate = UUID.randomUUID();
+        OutboxEventJpaEntity poison = event(poisonedAggregate, "poison", 0);
+        OutboxEventJpaEntity blocked = event(poisonedAggregate, "account.created", 0);
+        OutboxEventJpaEntity healthy = event(UUID.randomUUID(), "account.created", 0);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(poison, blocked, healthy));
+        doThrow(new AmqpException("NOT_FOUND - no exchange"))
+                .when(operations).send(anyString(), eq("poison"), any(Message.class));
+        when(outboxRepository.findAllById(anyCollection())).thenReturn(List.of(poison, blocked));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(1);
+        verify(outboxRepository).deleteAllByIdInBatch(argThat(ids -> containsOnly(ids, healthy.getId())));
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(poison.getLastError()).isEqualTo("NOT_FOUND - no exchange");
+        assertThat(poison.getClaimedUntil()).isAfter(Instant.now());
+        assertThat(poison.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(blocked.getAttempts()).isZero();
+        assertThat(blocked.getClaimedUntil()).isNull();
+    }
+
+    @Test
+    void shouldParkEventAfterMaxAttempts() {
+        OutboxEventJpaEntity poison = event(UUID.randomUUID(), "poison", MAX_ATTEMPTS - 1);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(poison));
+        doThrow(new AmqpException("rejected"))
+                .when(operations).send(anyString(), eq("poison"), any(Message.class));
+        when(outboxRepository.findAllById(anyCollection())).thenReturn(List.of(poison));
+
+        assertThat(relay.relayBatch()).isZero();
+
+        assertThat(poison.isParked()).isTrue();
+        assertThat(poison.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(poison.getClaimedUntil()).isNull();
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void shouldReleaseClaimWithoutCountingAttemptsWhenBrokerIsUnreachable() {
+        OutboxEventJpaEntity event = event(UUID.randomUUID(), "account.created", 0);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+        doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(rabbitTemplate).invoke(any(RabbitOperations.OperationsCallback.class));
+        when(outboxRepository.findAllById(anyCollection())).thenReturn(List.of(event));
+
+        assertThat(relay.relayBatch()).isZero();
+
+        assertThat(event.getAttempts()).isZero();
+        assertThat(event.getClaimedUntil()).isNull();
+        assertThat(event.isParked()).isFalse();
+    }
+
+    @Test
+    void shouldKeepConfirmedTransactionsQueuedForTheStreamInsteadOfDeletingThem() {
+        OutboxEventJpaEntity transaction = event(UUID.randomUUID(), "transaction.created.1", 0);
+        transaction.setEventType(TransactionPerformedEventV1.class.getName());
+        OutboxEventJpaEntity created = event(UUID.randomUUID(), "account.created", 0);
+        when(streamPublisher.getIfAvailable()).thenReturn(transactionStream);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(transaction, created));
+
+        assertThat(relay().relayBatch()).isEqualTo(2);
+
+        verify(outboxRepository).deleteAllByIdInBatch(argThat(ids -> containsOnly(ids, created.getId())));
+        verify(outboxRepository).markPublished(eq(List.of(transaction.getId())), any(Instant.class));
+        verifyNoInteractions(transactionStream);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAppendConfirmedTransactionsToTheStreamAndDeleteThem() {
+        OutboxEventJpaEntity transaction = event(UUID.randomUUID(), "transaction.created.1", 0);
+        when(streamPublisher.getIfAvailable()).thenReturn(transactionStream);
+        when(outboxRepository.findNextStreamBatch(10)).thenReturn(List.of(transaction));
+
+        assertThat(relay().relayStreamBatch()).isEqualTo(1);
+
+        ArgumentCaptor<List<Message>> messages = ArgumentCaptor.forClass(List.class);
+        verify(transactionStream).publish(messages.capture(), eq(Duration.ofSeconds(5)));
+        assertThat(messages.getValue()).singleElement()
+                .satisfies(message -> assertThat(message.getMessageProperties().getMessageId())
+                        .isEqualTo(transaction.getId().toString()));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(transaction.getId()));
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void shouldNotRepublishToTheBrokerWhenTheStreamFails() {
+        OutboxEventJpaEntity transaction = event(UUID.randomUUID(), "transaction.created.1", 0);
+        when(streamPublisher.getIfAvailable()).thenReturn(transactionStream);
+        when(outboxRepository.findNextStreamBatch(anyInt())).thenReturn(List.of(transaction));
+        doThrow(new AmqpException("stream unavailable")).when(transactionStream).publish(anyList(), any(Duration.class));
+
+        assertThat(relay().relayStreamBatch()).isZero();
+
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void shouldSkipTheStreamWhenItIsDisabled() {
+        assertThat(relay.relayStreamBatch()).isZero();
+
+        verifyNoInteractions(outboxRepository);
+    }
+
+    private OutboxRelay relay() {
+        return new OutboxRelay(
+                outboxRepository,
+                rabbitTemplate,
+                transactionTemplate,
+                new OutboxProperties(10, Duration.ofSeconds(1), Duration.ofSeconds(5),
+                        Duration.ofMinutes(1), MAX_ATTEMPTS, false),
+                new ObjectMapper(),
+                streamPublisher,
+                leaderLock
+        );
+    }
+
+    private static boolean containsOnly(Iterable<UUID> ids, UUID id) {
+        List<UUID> values = new ArrayList<>();
+        ids.forEach(values::add);
+        return values.equals(List.of(id));
+    }
+
+    private static OutboxEventJpaEntity event(UUID aggregateId, String routingKey, int attempts) {
+        OutboxEventJpaEntity event = OutboxEventJpaEntity.builder()
+                .aggregateId(aggregateId)
+                .eventType("com.banking.contracts.events.account.AccountCreatedEventV1")
+                .exchange("account.exchange")
+                .routingKey(routingKey)
+                .payload("{}")
+                .attempts(attempts)
+                .build();
+        event.setId(UUID.randomUUID());
+        return event;
+    }
+
+}
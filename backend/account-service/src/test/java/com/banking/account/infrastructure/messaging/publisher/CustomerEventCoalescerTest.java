@@ -0,0 +1,155 @@
+package com.banking.account.infrastructure.messaging.publisher;
+
+import com.banking.account.application.service.CustomerProjectionService;
+import com.banking.account.infrastructure.config.CustomerEventBatchProperties;
+import com.banking.account.infrastructure.messaging.retry.DelayedRetryRecoverer;
+import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
+import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerEventCoalescerTest {
+
+    @Mock
+    private CustomerProjectionService customerProjectionService;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private DelayedRetryRecoverer retryRecoverer;
+
+    private CustomerEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = coalescer(Duration.ofHours(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    private CustomerEventCoalescer coalescer(Duration window, int maxPending) {
+        return new CustomerEventCoalescer(
+                customerProjectionService,
+                retryRecoverer,
+                new CustomerEventBatchProperties(100, Duration.ofMillis(500),
+                        new CustomerEventBatchProperties.Coalescing(window, maxPending)),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private static CustomerUpdatedEventV1 updated(UUID customerId, String name, long sequence) {
+        return CustomerUpdatedEventV1.builder()
+                .customerId(customerId)
+                .name(name)
+                .occurredAt(LocalDateTime.now())
+                .sequence(sequence)
+                .build();
+    }
+
+    private static CustomerStatusChangedEventV1 statusChanged(UUID customerId, String status, long sequence) {
+        return CustomerStatusChangedEventV1.builder()
+                .customerId(customerId)
+                .newStatus(status)
+                .occurredAt(LocalDateTime.now())
+                .sequence(sequence)
+                .build();
+    }
+
+    private static Message message(long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message("{}".getBytes(), properties);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOnlyTheLatestEventPerCustomerAndAckEveryMessage() throws Exception {
+        UUID customerId = UUID.randomUUID();
+
+        coalescer.submitUpdated(channel, message(1L), List.of(updated(customerId, "First", 1L)));
+        coalescer.submitUpdated(channel, message(2L), List.of(updated(customerId, "Third", 3L)));
+        coalescer.submitUpdated(channel, message(3L), List.of(updated(customerId, "Second", 2L)));
+        coalescer.submitStatusChanged(channel, message(4L), List.of(statusChanged(customerId, "INACTIVE", 4L)));
+
+        verifyNoInteractions(customerProjectionService, channel);
+
+        coalescer.flush();
+
+        ArgumentCaptor<List<CustomerUpdatedEventV1>> updatedCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<CustomerStatusChangedEventV1>> statusCaptor = ArgumentCaptor.forClass(List.class);
+        verify(customerProjectionService).handleCustomerChanges(updatedCaptor.capture(), statusCaptor.capture());
+
+        assertThat(updatedCaptor.getValue()).extracting(CustomerUpdatedEventV1::getName).containsExactly("Third");
+        assertThat(statusCaptor.getValue()).extracting(CustomerStatusChangedEventV1::getNewStatus)
+                .containsExactly("INACTIVE");
+        for (long deliveryTag = 1L; deliveryTag <= 4L; deliveryTag++) {
+            verify(channel).basicAck(deliveryTag, false);
+        }
+    }
+
+    @Test
+    void shouldRetryOnlyMessagesOfCustomersThatStillFailAfterFallback() throws Exception {
+        UUID healthy = UUID.randomUUID();
+        UUID broken = UUID.randomUUID();
+        CustomerUpdatedEventV1 brokenEvent = updated(broken, "Broken", 1L);
+
+        doThrow(new IllegalStateException("bulk failed"))
+                .when(customerProjectionService).handleCustomerChanges(anyList(), anyList());
+        lenient().doThrow(new IllegalStateException("single failed"))
+                .when(customerProjectionService).handleCustomerUpdated(brokenEvent);
+
+        coalescer.submitUpdated(channel, message(1L), List.of(updated(healthy, "Healthy", 1L)));
+        coalescer.submitUpdated(channel, message(2L), List.of(brokenEvent));
+        coalescer.flush();
+
+        verify(channel).basicAck(1L, false);
+        verify(retryRecoverer).recover(eq(channel),
+                argThat(message -> message.getMessageProperties().getDeliveryTag() == 2L),
+                any(IllegalStateException.class));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldFlushImmediatelyWhenMaxPendingIsReached() throws Exception {
+        coalescer.shutdown();
+        coalescer = coalescer(Duration.ofHours(1), 2);
+        UUID customerId = UUID.randomUUID();
+
+        coalescer.submitUpdated(channel, message(1L), List.of(updated(customerId, "First", 1L)));
+        verifyNoInteractions(customerProjectionService);
+
+        coalescer.submitUpdated(channel, message(2L), List.of(updated(customerId, "Second", 2L)));
+
+        verify(customerProjectionService).handleCustomerChanges(anyList(), anyList());
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.banking.account.infrastructure.messaging.retry;
+
+import com.banking.account.infrastructure.config.DelayedRetryProperties;
+import com.banking.account.infrastructure.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DelayedRetryRecovererTest {
+
+    private static final String QUEUE = RabbitMQConfig.CUSTOMER_UPDATED_QUEUE;
+    private static final long DELIVERY_TAG = 7L;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    @Mock
+    private Channel channel;
+
+    private DelayedRetryRecoverer recoverer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class)))
+                .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0)
+                        .doInRabbit(operations));
+
+        recoverer = new DelayedRetryRecoverer(rabbitTemplate, new DelayedRetryProperties(List.of(
+                Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60)), Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void shouldSendFirstFailureToTheShortestTier() {
+        Message message = message(null);
+
+        recoverer.recover(message, new IllegalStateException("boom"));
+
+        verify(operations).send(RabbitMQConfig.retryDelayExchange(Duration.ofSeconds(1)), QUEUE, message);
+        assertThat((Integer) message.getMessageProperties().getHeader(DelayedRetryRecoverer.RETRY_COUNT_HEADER))
+                .isEqualTo(1);
+        assertThat((String) message.getMessageProperties().getHeader(DelayedRetryRecoverer.LAST_ERROR_HEADER))
+                .isEqualTo("IllegalStateException: boom");
+    }
+
+    @Test
+    void shouldEscalateToTheNextTierOnRepeatedFailures() {
+        Message message = message(2);
+
+        recoverer.recover(message, new IllegalStateException("boom"));
+
+        verify(operations).send(RabbitMQConfig.retryDelayExchange(Duration.ofSeconds(60)), QUEUE, message);
+        assertThat((Integer) message.getMessageProperties().getHeader(DelayedRetryRecoverer.RETRY_COUNT_HEADER))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectOnceAllTiersAreExhausted() {
+        Message message = message(3);
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("boom")))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+
+        verifyNoInteractions(operations);
+    }
+
+    @Test
+    void shouldRejectUnreadableMessagesWithoutRetrying() {
+        Message message = message(null);
+
+        assertThatThrownBy(() -> recoverer.recover(message,
+                new IllegalStateException("listener failed", new MessageConversionException("bad json"))))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void shouldAckManualDeliveryOnceItsRetryIsScheduled() throws Exception {
+        Message message = message(null);
+
+        recoverer.recover(channel, message, new IllegalStateException("boom"));
+
+        InOrder inOrder = inOrder(operations, channel);
+        inOrder.verify(operations).send(RabbitMQConfig.retryDelayExchange(Duration.ofSeconds(1)), QUEUE, message);
+        inOrder.verify(operations).waitForConfirmsOrDie(5000L);
+        inOrder.verify(channel).basicAck(DELIVERY_TAG, false);
+    }
+
+    @Test
+    void shouldDeadLetterManualDeliveryOnceAllTiersAreExhausted() throws Exception {
+        recoverer.recover(channel, message(3), new IllegalStateException("boom"));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldRequeueManualDeliveryWhenTheRetryCannotBeScheduled() throws Exception {
+        doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(operations).send(anyString(), anyString(), any(Message.class));
+
+        recoverer.recover(channel, message(null), new IllegalStateException("boom"));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, true);
+    }
+
+    @Test
+    void shouldRequeueManualDeliveryWhenTheRetryIsNotConfirmed() throws Exception {
+        doThrow(new AmqpTimeoutException("Timed out waiting for confirms"))
+                .when(operations).waitForConfirmsOrDie(anyLong());
+
+        recoverer.recover(channel, message(null), new IllegalStateException("boom"));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    private Message message(Integer retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(QUEUE);
+        properties.setDeliveryTag(DELIVERY_TAG);
+        if (retryCount != null) {
+            properties.setHeader(DelayedRetryRecoverer.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+
+}
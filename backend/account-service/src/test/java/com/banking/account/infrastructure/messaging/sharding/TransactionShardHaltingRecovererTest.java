@@ -0,0 +1,53 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionShardHaltingRecovererTest {
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private SimpleMessageListenerContainer shardContainer;
+
+    @Mock
+    private SimpleMessageListenerContainer otherContainer;
+
+    @InjectMocks
+    private TransactionShardHaltingRecoverer recoverer;
+
+    @Test
+    void shouldStopTheShardContainerAndRequeueTheMessage() {
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(shardContainer, otherContainer));
+        when(shardContainer.getQueueNames()).thenReturn(new String[]{"transaction.created.shard.3"});
+        when(shardContainer.isRunning()).thenReturn(true);
+        when(otherContainer.getQueueNames()).thenReturn(new String[]{"transaction.created.shard.4"});
+
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue("transaction.created.shard.3");
+        Message message = new Message(new byte[0], properties);
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("boom")))
+                .isInstanceOf(ImmediateRequeueAmqpException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        verify(shardContainer, timeout(1000)).stop();
+        verify(otherContainer, never()).stop();
+    }
+
+}
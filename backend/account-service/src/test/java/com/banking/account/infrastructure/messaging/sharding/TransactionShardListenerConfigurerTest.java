@@ -0,0 +1,93 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import com.banking.account.infrastructure.config.TransactionShardProperties;
+import com.banking.account.infrastructure.messaging.envelope.EventEnvelopeReader;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.SimpleRabbitListenerEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionShardListenerConfigurerTest {
+
+    @Mock
+    private ObjectProvider<TransactionShardConsumer> consumers;
+
+    @Mock
+    private SimpleRabbitListenerContainerFactory containerFactory;
+
+    @Mock
+    private EventEnvelopeReader envelopeReader;
+
+    @Mock
+    private RabbitListenerEndpointRegistrar registrar;
+
+    @Mock
+    private TransactionShardConsumer ledger;
+
+    @Mock
+    private TransactionShardConsumer fraud;
+
+    private TransactionShardListenerConfigurer configurer;
+
+    @BeforeEach
+    void setUp() {
+        TransactionShardRouter router = new TransactionShardRouter(new TransactionShardProperties(true, 2, 10));
+        configurer = new TransactionShardListenerConfigurer(router, consumers, containerFactory, envelopeReader);
+
+        when(ledger.name()).thenReturn("ledger");
+        when(fraud.name()).thenReturn("fraud");
+        when(consumers.orderedStream()).thenReturn(Stream.of(ledger, fraud));
+    }
+
+    @Test
+    void shouldRegisterOneEndpointPerConsumerAndShardOnItsOwnQueue() {
+        configurer.configureRabbitListeners(registrar);
+
+        List<SimpleRabbitListenerEndpoint> endpoints = registeredEndpoints();
+        assertThat(endpoints).extracting(SimpleRabbitListenerEndpoint::getId)
+                .containsExactly("ledger-shard-0", "ledger-shard-1", "fraud-shard-0", "fraud-shard-1");
+        assertThat(endpoints).flatExtracting(SimpleRabbitListenerEndpoint::getQueueNames).containsExactly(
+                "transaction.created.ledger.shard.0",
+                "transaction.created.ledger.shard.1",
+                "transaction.created.fraud.shard.0",
+                "transaction.created.fraud.shard.1");
+    }
+
+    @Test
+    void shouldDeliverEachShardMessageOnlyToItsConsumer() throws Exception {
+        TransactionPerformedEventV1 event = TransactionPerformedEventV1.builder().build();
+        Message message = new Message(new byte[0], new MessageProperties());
+        when(envelopeReader.read(message, TransactionPerformedEventV1.class)).thenReturn(List.of(event));
+
+        configurer.configureRabbitListeners(registrar);
+        registeredEndpoints().get(2).getMessageListener().onMessage(message);
+
+        verify(fraud).onTransaction(event);
+        verify(ledger, never()).onTransaction(any());
+    }
+
+    private List<SimpleRabbitListenerEndpoint> registeredEndpoints() {
+        ArgumentCaptor<SimpleRabbitListenerEndpoint> endpoints = ArgumentCaptor.forClass(SimpleRabbitListenerEndpoint.class);
+        verify(registrar, times(4)).registerEndpoint(endpoints.capture(), eq(containerFactory));
+        return endpoints.getAllValues();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.banking.account.infrastructure.messaging.sharding;
+
+import com.banking.account.infrastructure.config.TransactionShardProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionShardRouterTest {
+
+    private final TransactionShardRouter router = new TransactionShardRouter(new TransactionShardProperties(true, 4, 10));
+
+    @Test
+    void shouldRouteAnAccountToTheSameShardEveryTime() {
+        UUID accountId = UUID.randomUUID();
+        int shard = router.shardOf(accountId);
+
+        assertThat(shard).isBetween(0, 3);
+        assertThat(router.shardOf(accountId)).isEqualTo(shard);
+        assertThat(router.routingKey(accountId)).isEqualTo("transaction.created." + shard);
+    }
+
+    @Test
+    void shouldGiveEveryConsumerItsOwnShardQueues() {
+        assertThat(router.queueNames("ledger")).containsExactly(
+                "transaction.created.ledger.shard.0",
+                "transaction.created.ledger.shard.1",
+                "transaction.created.ledger.shard.2",
+                "transaction.created.ledger.shard.3");
+        assertThat(router.queueNames("fraud")).doesNotContainAnyElementsOf(router.queueNames("ledger"));
+    }
+
+    @Test
+    void shouldRejectANonPositiveShardCount() {
+        assertThatThrownBy(() -> new TransactionShardRouter(new TransactionShardProperties(true, 0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
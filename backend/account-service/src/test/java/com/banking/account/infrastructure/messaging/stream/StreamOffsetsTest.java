@@ -0,0 +1,40 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import com.rabbitmq.stream.OffsetSpecification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamOffsetsTest {
+
+    @Test
+    void shouldParseNamedOffsets() {
+        assertThat(StreamOffsets.parse("first")).isEqualTo(OffsetSpecification.first());
+        assertThat(StreamOffsets.parse(" last ")).isEqualTo(OffsetSpecification.last());
+        assertThat(StreamOffsets.parse("next")).isEqualTo(OffsetSpecification.next());
+    }
+
+    @Test
+    void shouldParseAbsoluteOffsetsAndTimestamps() {
+        assertThat(StreamOffsets.parse("offset:42")).isEqualTo(OffsetSpecification.offset(42));
+        assertThat(StreamOffsets.parse("timestamp:2025-01-15T10:00:00Z"))
+                .isEqualTo(OffsetSpecification.timestamp(Instant.parse("2025-01-15T10:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void shouldRejectUnknownOffsets() {
+        assertThatThrownBy(() -> StreamOffsets.parse("latest"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown stream offset: latest");
+        assertThatThrownBy(() -> StreamOffsets.parse("offset:abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid stream offset: offset:abc");
+        assertThatThrownBy(() -> StreamOffsets.parse("timestamp:yesterday"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid stream offset: timestamp:yesterday");
+    }
+
+}
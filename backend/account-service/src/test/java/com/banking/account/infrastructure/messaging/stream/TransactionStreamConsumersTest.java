@@ -0,0 +1,187 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import com.banking.account.infrastructure.config.TransactionStreamProperties;
+import com.banking.account.infrastructure.messaging.envelope.EventEnvelopeReader;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.rabbitmq.stream.Consumer;
+import com.rabbitmq.stream.ConsumerBuilder;
+import com.rabbitmq.stream.Environment;
+import com.rabbitmq.stream.MessageHandler;
+import com.rabbitmq.stream.OffsetSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStreamConsumersTest {
+
+    private static final String STREAM = "transaction.created.stream";
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private Consumer streamConsumer;
+
+    @Mock
+    private ConsumerBuilder.ManualTrackingConfiguration tracking;
+
+    @Mock
+    private ObjectProvider<TransactionStreamConsumer> consumers;
+
+    @Mock
+    private TransactionStreamConsumer fraudConsumer;
+
+    @Mock
+    private EventEnvelopeReader envelopeReader;
+
+    private final ConsumerBuilder builder = mock(ConsumerBuilder.class, RETURNS_SELF);
+
+    private final TransactionStreamProperties properties = new TransactionStreamProperties(
+            true, STREAM, Duration.ofDays(30), DataSize.ofGigabytes(1), DataSize.ofMegabytes(100), "first", 2);
+
+    private TransactionStreamConsumers streamConsumers;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(environment.consumerBuilder()).thenReturn(builder);
+        lenient().when(builder.manualTrackingStrategy()).thenReturn(tracking);
+        lenient().when(tracking.builder()).thenReturn(builder);
+        lenient().when(builder.build()).thenReturn(streamConsumer);
+        lenient().when(fraudConsumer.name()).thenReturn("fraud");
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(fraudConsumer));
+
+        streamConsumers = new TransactionStreamConsumers(environment, consumers, properties, envelopeReader);
+    }
+
+    @Test
+    void shouldOpenTrackedConsumersFromTheConfiguredOffset() {
+        streamConsumers.start();
+
+        verify(builder).stream(STREAM);
+        verify(builder).name("account-service.fraud");
+        verify(builder).offset(OffsetSpecification.first());
+        verify(builder).manualTrackingStrategy();
+        assertThat(streamConsumers.isRunning()).isTrue();
+        assertThat(streamConsumers.isKnownConsumer("fraud")).isTrue();
+        assertThat(streamConsumers.status())
+                .containsExactly(new TransactionStreamConsumerStatus("fraud", -1, false, null));
+    }
+
+    @Test
+    void shouldRejectDuplicateConsumerNames() {
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(fraudConsumer, fraudConsumer));
+
+        assertThatThrownBy(() -> new TransactionStreamConsumers(environment, consumers, properties, envelopeReader))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Duplicate transaction stream consumer name: fraud");
+    }
+
+    @Test
+    void shouldDeliverEventsAndStoreOffsetsEveryCommitInterval() {
+        TransactionPerformedEventV1 event = mock(TransactionPerformedEventV1.class);
+        when(envelopeReader.read(any(Message.class), eq(TransactionPerformedEventV1.class))).thenReturn(List.of(event));
+        MessageHandler handler = startAndCaptureHandler();
+
+        MessageHandler.Context first = context(10);
+        MessageHandler.Context second = context(11);
+        handler.handle(first, streamMessage());
+        handler.handle(second, streamMessage());
+
+        verify(fraudConsumer, times(2)).onTransaction(event);
+        verify(first, never()).storeOffset();
+        verify(second).storeOffset();
+        assertThat(streamConsumers.status().getFirst().lastOffset()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldStopAtAFailingEventWithoutStoringItsOffset() {
+        TransactionPerformedEventV1 event = mock(TransactionPerformedEventV1.class);
+        when(envelopeReader.read(any(Message.class), eq(TransactionPerformedEventV1.class))).thenReturn(List.of(event));
+        doNothing().doThrow(new IllegalStateException("fraud store down")).when(fraudConsumer).onTransaction(event);
+        MessageHandler handler = startAndCaptureHandler();
+
+        MessageHandler.Context handled = context(10);
+        MessageHandler.Context failed = context(11);
+        handler.handle(handled, streamMessage());
+        handler.handle(failed, streamMessage());
+        handler.handle(context(12), streamMessage());
+
+        verify(streamConsumer, timeout(1000)).close();
+        verify(handled).storeOffset();
+        verify(failed, never()).storeOffset();
+        verify(fraudConsumer, times(2)).onTransaction(event);
+
+        TransactionStreamConsumerStatus status = streamConsumers.status().getFirst();
+        assertThat(status.lastOffset()).isEqualTo(10);
+        assertThat(status.failure()).isEqualTo("offset 11: fraud store down");
+    }
+
+    @Test
+    void shouldReplayUntrackedFromTheRequestedOffsetAndClearTheFailure() {
+        when(envelopeReader.read(any(Message.class), eq(TransactionPerformedEventV1.class)))
+                .thenThrow(new IllegalStateException("bad payload"));
+        MessageHandler handler = startAndCaptureHandler();
+        handler.handle(context(5), streamMessage());
+
+        TransactionStreamConsumerStatus status = streamConsumers.replay("fraud", "offset:5");
+
+        verify(builder).noTrackingStrategy();
+        verify(builder).offset(OffsetSpecification.offset(5));
+        assertThat(status.replaying()).isTrue();
+        assertThat(status.failure()).isNull();
+    }
+
+    @Test
+    void shouldRejectReplayOfUnknownConsumer() {
+        assertThatThrownBy(() -> streamConsumers.replay("missing", "first"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown transaction stream consumer: missing");
+    }
+
+    @Test
+    void shouldCloseConsumersOnStop() {
+        streamConsumers.start();
+
+        streamConsumers.stop();
+
+        verify(streamConsumer).close();
+        assertThat(streamConsumers.isRunning()).isFalse();
+    }
+
+    private MessageHandler startAndCaptureHandler() {
+        streamConsumers.start();
+        ArgumentCaptor<MessageHandler> handler = ArgumentCaptor.forClass(MessageHandler.class);
+        verify(builder).messageHandler(handler.capture());
+        return handler.getValue();
+    }
+
+    private static MessageHandler.Context context(long offset) {
+        MessageHandler.Context context = mock(MessageHandler.Context.class);
+        lenient().when(context.offset()).thenReturn(offset);
+        return context;
+    }
+
+    private static com.rabbitmq.stream.Message streamMessage() {
+        com.rabbitmq.stream.Message message = mock(com.rabbitmq.stream.Message.class);
+        lenient().when(message.getBodyAsBinary()).thenReturn("{}".getBytes());
+        return message;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStreamEndpointTest {
+
+    @Mock
+    private TransactionStreamConsumers streamConsumers;
+
+    @InjectMocks
+    private TransactionStreamEndpoint endpoint;
+
+    @Test
+    void shouldListConsumerStatus() {
+        List<TransactionStreamConsumerStatus> status =
+                List.of(new TransactionStreamConsumerStatus("fraud", 41, false, null));
+        when(streamConsumers.status()).thenReturn(status);
+
+        assertThat(endpoint.consumers()).isEqualTo(status);
+    }
+
+    @Test
+    void shouldReplayKnownConsumer() {
+        TransactionStreamConsumerStatus replaying = new TransactionStreamConsumerStatus("fraud", -1, true, null);
+        when(streamConsumers.isKnownConsumer("fraud")).thenReturn(true);
+        when(streamConsumers.replay("fraud", "offset:10")).thenReturn(replaying);
+
+        assertThat(endpoint.replay("fraud", "offset:10")).isEqualTo(replaying);
+    }
+
+    @Test
+    void shouldRejectUnknownConsumer() {
+        when(streamConsumers.isKnownConsumer("missing")).thenReturn(false);
+
+        assertThatThrownBy(() -> endpoint.replay("missing", "first"))
+                .isInstanceOf(InvalidEndpointRequestException.class)
+                .hasMessage("Unknown transaction stream consumer: missing");
+        verify(streamConsumers, never()).replay(any(), any());
+    }
+
+    @Test
+    void shouldRejectInvalidOffset() {
+        when(streamConsumers.isKnownConsumer("fraud")).thenReturn(true);
+        when(streamConsumers.replay("fraud", "latest"))
+                .thenThrow(new IllegalArgumentException("Unknown stream offset: latest"));
+
+        assertThatThrownBy(() -> endpoint.replay("fraud", "latest"))
+                .isInstanceOf(InvalidEndpointRequestException.class)
+                .hasMessage("Unknown stream offset: latest");
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.banking.account.infrastructure.messaging.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.rabbit.stream.producer.RabbitStreamOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStreamPublisherTest {
+
+    private static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(1);
+
+    @Mock
+    private RabbitStreamOperations streamOperations;
+
+    private TransactionStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new TransactionStreamPublisher(streamOperations);
+    }
+
+    @Test
+    void shouldSendEveryMessageAndWaitForConfirms() {
+        when(streamOperations.send(any(Message.class))).thenReturn(CompletableFuture.completedFuture(true));
+
+        publisher.publish(List.of(message(), message()), CONFIRM_TIMEOUT);
+
+        verify(streamOperations, times(2)).send(any(Message.class));
+    }
+
+    @Test
+    void shouldSkipEmptyBatches() {
+        assertThatCode(() -> publisher.publish(List.of(), CONFIRM_TIMEOUT)).doesNotThrowAnyException();
+
+        verifyNoInteractions(streamOperations);
+    }
+
+    @Test
+    void shouldFailWhenTheStreamRejectsAMessage() {
+        when(streamOperations.send(any(Message.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stream closed")));
+
+        assertThatThrownBy(() -> publisher.publish(List.of(message()), CONFIRM_TIMEOUT))
+                .isInstanceOf(AmqpException.class)
+                .hasMessage("Transaction stream rejected events: stream closed");
+    }
+
+    @Test
+    void shouldFailWhenConfirmsDoNotArriveInTime() {
+        when(streamOperations.send(any(Message.class))).thenReturn(new CompletableFuture<>());
+
+        assertThatThrownBy(() -> publisher.publish(List.of(message()), Duration.ofMillis(10)))
+                .isInstanceOf(AmqpTimeoutException.class)
+                .hasMessageContaining("did not confirm 1 events");
+    }
+
+    @Test
+    void shouldCloseTheStreamProducer() {
+        publisher.close();
+
+        verify(streamOperations).close();
+    }
+
+    private static Message message() {
+        return new Message("{}".getBytes(), new MessageProperties());
+    }
+
+}
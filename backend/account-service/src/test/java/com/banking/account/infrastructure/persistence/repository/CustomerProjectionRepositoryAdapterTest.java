@@ -0,0 +1,108 @@
+package com.banking.account.infrastructure.persistence.repository;
+
+import com.banking.account.domain.model.CustomerProjectionUpdate;
+import com.banking.account.domain.model.CustomerStatus;
+import com.banking.account.infrastructure.persistence.mapper.CustomerProjectionMapper;
+import com.banking.account.infrastructure.persistence.projection.CustomerNameProjection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerProjectionRepositoryAdapterTest {
+
+    @Mock
+    private JpaCustomerProjectionRepository jpaRepository;
+
+    @Mock
+    private CustomerProjectionMapper mapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CustomerProjectionRepositoryAdapter adapter;
+
+    private static CustomerProjectionUpdate created(UUID customerId, long sequence) {
+        return CustomerProjectionUpdate.created(customerId, "John Doe", CustomerStatus.ACTIVE, Instant.now(), sequence);
+    }
+
+    @Test
+    void shouldSplitLargeUpsertsBelowTheBindParameterLimit() {
+        List<CustomerProjectionUpdate> updates = IntStream.range(0, 7001)
+                .mapToObj(i -> created(UUID.randomUUID(), 1L))
+                .toList();
+
+        adapter.upsertAll(updates);
+
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(anyString(), parameters.capture());
+        assertThat(parameters.getAllValues())
+                .extracting(values -> values.length)
+                .containsExactly(7000 * 9, 9);
+    }
+
+    @Test
+    void shouldUpsertOneRowPerCustomerOrderedById() {
+        List<UUID> customerIds = IntStream.range(0, 20).mapToObj(i -> UUID.randomUUID()).toList();
+        List<CustomerProjectionUpdate> updates = new ArrayList<>();
+        customerIds.forEach(customerId -> updates.add(created(customerId, 1L)));
+        customerIds.forEach(customerId -> updates.add(
+                CustomerProjectionUpdate.statusChanged(customerId, CustomerStatus.INACTIVE, Instant.now(), 2L)));
+
+        adapter.upsertAll(updates);
+
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), parameters.capture());
+
+        Object[] values = parameters.getValue();
+        List<UUID> upsertedIds = IntStream.range(0, values.length / 9)
+                .mapToObj(row -> (UUID) values[row * 9])
+                .toList();
+        assertThat(upsertedIds).containsExactlyElementsOf(
+                customerIds.stream().sorted(Comparator.naturalOrder()).toList());
+        assertThat(values[3]).isEqualTo(CustomerStatus.INACTIVE.name());
+        assertThat(values[8]).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldResolveNamesWithOneQuery() {
+        UUID known = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        CustomerNameProjection name = mock(CustomerNameProjection.class);
+        when(name.getId()).thenReturn(known);
+        when(name.getFullName()).thenReturn("John Doe");
+        when(jpaRepository.findNamesByIdIn(List.of(known, missing))).thenReturn(List.of(name));
+
+        Map<UUID, String> names = adapter.findNamesByIds(List.of(known, missing));
+
+        assertThat(names).containsExactly(entry(known, "John Doe"));
+        verify(jpaRepository, times(1)).findNamesByIdIn(anyCollection());
+    }
+
+    @Test
+    void shouldSkipTheNameQueryForNoCustomers() {
+        assertThat(adapter.findNamesByIds(List.of())).isEmpty();
+
+        verifyNoInteractions(jpaRepository);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.banking.account.infrastructure.persistence.repository;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionBootstrapJdbcStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ProjectionBootstrapJdbcStore bootstrapStore;
+
+    @Test
+    void shouldReportABootstrapThatNeverCompletedAsInProgress() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("STARTED"));
+
+        assertThat(bootstrapStore.isInProgress()).isTrue();
+    }
+
+    @Test
+    void shouldNotReportCompletedOrMissingBootstrapsAsInProgress() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("COMPLETED"), List.of());
+
+        assertThat(bootstrapStore.isInProgress()).isFalse();
+        assertThat(bootstrapStore.isInProgress()).isFalse();
+    }
+
+    @Test
+    void shouldResetProgressWhenStarting() {
+        bootstrapStore.markStarted();
+
+        verify(jdbcTemplate).update(contains("ON CONFLICT (id) DO UPDATE"), eq("STARTED"), any(Timestamp.class));
+    }
+
+    @Test
+    void shouldRecordTheSnapshotMarkAndCountWhenCompleting() {
+        bootstrapStore.markCompleted(new CustomerSnapshotResult(500L, 3L));
+
+        verify(jdbcTemplate).update(contains("UPDATE core.customer_projection_bootstrap"),
+                eq("COMPLETED"), eq(500L), eq(3L), any(Timestamp.class));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.banking.account.infrastructure.scheduling;
+
+import com.banking.account.application.dto.CustomerSnapshotResult;
+import com.banking.account.application.service.CustomerProjectionBootstrapService;
+import com.banking.account.infrastructure.config.ProjectionBootstrapProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerProjectionBootstrapRunnerTest {
+
+    @Mock
+    private CustomerProjectionBootstrapService bootstrapService;
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    private CustomerProjectionBootstrapRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new CustomerProjectionBootstrapRunner(
+                bootstrapService,
+                listenerRegistry,
+                new ProjectionBootstrapProperties(true, true, URI.create("http://localhost/snapshot"), 500)
+        );
+    }
+
+    @Test
+    void shouldSkipWhenNoBootstrapIsNeeded() {
+        when(bootstrapService.shouldBootstrap(true)).thenReturn(false);
+
+        runner.bootstrap();
+
+        verify(bootstrapService, never()).bootstrap(anyInt());
+        verifyNoInteractions(listenerRegistry);
+    }
+
+    @Test
+    void shouldPauseListenersWhileBootstrapping() {
+        when(bootstrapService.shouldBootstrap(true)).thenReturn(true);
+        when(bootstrapService.bootstrap(500)).thenReturn(new CustomerSnapshotResult(42L, 3L));
+
+        runner.bootstrap();
+
+        InOrder inOrder = inOrder(listenerRegistry, bootstrapService);
+        inOrder.verify(listenerRegistry).stop();
+        inOrder.verify(bootstrapService).bootstrap(500);
+        inOrder.verify(listenerRegistry).start();
+    }
+
+    @Test
+    void shouldFailStartupAndKeepListenersStoppedWhenBootstrapFails() {
+        when(bootstrapService.shouldBootstrap(true)).thenReturn(true);
+        when(bootstrapService.bootstrap(500)).thenThrow(new IllegalStateException("snapshot unavailable"));
+
+        assertThatThrownBy(() -> runner.bootstrap())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("retried on the next start");
+
+        verify(listenerRegistry).stop();
+        verify(listenerRegistry, never()).start();
+    }
+
+}
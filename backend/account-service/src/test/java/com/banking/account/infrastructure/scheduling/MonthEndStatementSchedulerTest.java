@@ -0,0 +1,85 @@
+package com.banking.account.infrastructure.scheduling;
+
+import com.banking.account.application.dto.StatementBatchRequest;
+import com.banking.account.application.port.in.MonthEndStatementBatchUseCase;
+import com.banking.account.infrastructure.config.StatementBatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonthEndStatementSchedulerTest {
+
+    @Mock
+    private MonthEndStatementBatchUseCase batchUseCase;
+
+    @Mock
+    private MonthEndStatementLock batchLock;
+
+    private MonthEndStatementScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new MonthEndStatementScheduler(
+                batchUseCase,
+                new StatementBatchProperties(true, "0 0 2 1 * *", Path.of("month-end"), 200, 4, Locale.ENGLISH),
+                batchLock
+        );
+    }
+
+    @Test
+    void shouldRunThePreviousMonthWhileHoldingTheLock() {
+        when(batchLock.tryAcquire()).thenReturn(true);
+
+        scheduler.runPreviousMonth();
+
+        InOrder inOrder = inOrder(batchLock, batchUseCase);
+        inOrder.verify(batchLock).tryAcquire();
+        inOrder.verify(batchUseCase).run(new StatementBatchRequest(
+                YearMonth.now().minusMonths(1), 200, 4, Locale.ENGLISH));
+        inOrder.verify(batchLock).release();
+    }
+
+    @Test
+    void shouldSkipWhenAnotherInstanceHoldsTheLock() {
+        when(batchLock.tryAcquire()).thenReturn(false);
+
+        scheduler.runPreviousMonth();
+
+        verify(batchUseCase, never()).run(any());
+        verify(batchLock, never()).release();
+    }
+
+    @Test
+    void shouldReleaseTheLockWhenTheBatchFails() {
+        when(batchLock.tryAcquire()).thenReturn(true);
+        when(batchUseCase.run(any())).thenThrow(new IllegalStateException("disk full"));
+
+        scheduler.runPreviousMonth();
+
+        verify(batchLock).release();
+    }
+
+    @Test
+    void shouldResumeAnInterruptedBatchOnlyUnderTheLock() {
+        YearMonth period = YearMonth.now().minusMonths(1);
+        when(batchUseCase.isInterrupted(period)).thenReturn(true);
+        when(batchLock.tryAcquire()).thenReturn(false);
+
+        scheduler.resumeInterrupted();
+
+        verify(batchLock, timeout(1000)).tryAcquire();
+        verify(batchUseCase, never()).run(any());
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.banking.account.presentation.rest;
 
+import com.banking.account.application.dto.AccountBalanceResponse;
 import com.banking.account.application.dto.AccountFilter;
 import com.banking.account.application.dto.AccountResponse;
 import com.banking.account.application.dto.TransactionResponse;
@@ -11,30 +12,42 @@ import com.banking.account.domain.exception.AccountNotFoundException;
 import com.banking.account.domain.exception.InsufficientBalanceException;
 import com.banking.account.fixtures.mothers.*;
 import com.banking.account.infrastructure.util.MessageUtils;
+import com.banking.account.presentation.dto.request.BatchGetAccountsApiRequest;
+import com.banking.account.presentation.dto.response.AccountBalanceApiResponse;
 import com.banking.account.presentation.mapper.AccountApiMapper;
+import com.banking.commons.config.HttpMessageConverterConfig;
+import com.banking.commons.dto.ResourceVersion;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
+@ImportAutoConfiguration(HttpMessageConverterConfig.class)
 class AccountControllerTest {
 
     @Autowired
@@ -138,23 +151,55 @@ class AccountControllerTest {
             UUID accountId = UUID.randomUUID();
             UUID customerId = UUID.randomUUID();
 
+            ResourceVersion version = ResourceVersion.of(Instant.parse("2024-01-15T10:30:00Z"), accountId);
             AccountResponse serviceResponse = AccountResponseMother.defaultResponse(accountId, customerId);
+            when(getAccountUseCase.getAccountVersion(accountId)).thenReturn(version);
             when(getAccountUseCase.getAccountById(accountId)).thenReturn(serviceResponse);
             when(apiMapper.toApiResponse(serviceResponse)).thenReturn(AccountApiResponseMother.defaultResponse(accountId, customerId));
 
             mockMvc.perform(get(BASE_PATH + "/{id}", accountId))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, version.etag()))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.id").value(accountId.toString()));
 
             verify(getAccountUseCase).getAccountById(accountId);
         }
 
+        @Test
+        void shouldReturn304WhenETagMatches() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            ResourceVersion version = ResourceVersion.of(Instant.parse("2024-01-15T10:30:00Z"), accountId);
+            when(getAccountUseCase.getAccountVersion(accountId)).thenReturn(version);
+
+            mockMvc.perform(get(BASE_PATH + "/{id}", accountId)
+                            .header(HttpHeaders.IF_NONE_MATCH, version.etag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, version.etag()));
+
+            verify(getAccountUseCase, never()).getAccountById(any());
+            verifyNoInteractions(apiMapper);
+        }
+
+        @Test
+        void shouldReturn304WhenNotModifiedSince() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            ResourceVersion version = ResourceVersion.of(Instant.parse("2024-01-15T10:30:00Z"), accountId);
+            when(getAccountUseCase.getAccountVersion(accountId)).thenReturn(version);
+
+            mockMvc.perform(get(BASE_PATH + "/{id}", accountId)
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 15 Jan 2024 10:30:00 GMT"))
+                    .andExpect(status().isNotModified());
+
+            verify(getAccountUseCase, never()).getAccountById(any());
+        }
+
         @Test
         void shouldReturn404WhenAccountNotFound() throws Exception {
             UUID accountId = UUID.randomUUID();
 
-            when(getAccountUseCase.getAccountById(accountId))
+            when(getAccountUseCase.getAccountVersion(accountId))
                     .thenThrow(AccountNotFoundException.withId(accountId));
 
             mockMvc.perform(get(BASE_PATH + "/{id}", accountId))
@@ -184,6 +229,7 @@ class AccountControllerTest {
             AccountResponse serviceResponse = AccountResponseMother.defaultResponse(accountId, customerId);
             Page<AccountResponse> page = new PageImpl<>(List.of(serviceResponse));
 
+            when(getAccountUseCase.getAccountsVersion()).thenReturn(ResourceVersion.of(Instant.parse("2024-01-15T10:30:00Z"), 1L));
             when(getAccountUseCase.getAllAccounts(any(AccountFilter.class), any(Pageable.class))).thenReturn(page);
             when(apiMapper.toApiResponse(serviceResponse)).thenReturn(AccountApiResponseMother.defaultResponse(accountId, customerId));
 
@@ -196,6 +242,92 @@ class AccountControllerTest {
         }
     }
 
+    @Nested
+    class BatchGetAccounts {
+
+        @Test
+        void shouldBatchGetAccountsAndReturn200() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            UUID customerId = UUID.randomUUID();
+
+            String requestJson = """
+                    {
+                        "ids": ["%s"],
+                        "accountNumbers": ["1234567890"]
+                    }
+                    """.formatted(accountId);
+
+            AccountResponse serviceResponse = AccountResponseMother.defaultResponse(accountId, customerId);
+            when(getAccountUseCase.getAccounts(any())).thenReturn(List.of(serviceResponse));
+            when(apiMapper.toApiResponse(serviceResponse)).thenReturn(AccountApiResponseMother.defaultResponse(accountId, customerId));
+
+            mockMvc.perform(post(BASE_PATH + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].id").value(accountId.toString()));
+
+            verify(getAccountUseCase, never()).getAccountBalances(any());
+        }
+
+        @Test
+        void shouldBatchGetBalancesWhenBalancesViewRequested() throws Exception {
+            UUID accountId = UUID.randomUUID();
+
+            String requestJson = """
+                    {
+                        "ids": ["%s"]
+                    }
+                    """.formatted(accountId);
+
+            AccountBalanceResponse serviceResponse = AccountBalanceResponse.builder()
+                    .id(accountId)
+                    .accountNumber("1234567890")
+                    .currentBalance(new BigDecimal("1000.00"))
+                    .build();
+            when(getAccountUseCase.getAccountBalances(any())).thenReturn(List.of(serviceResponse));
+            when(apiMapper.toApiResponse(serviceResponse)).thenReturn(AccountBalanceApiResponse.builder()
+                    .id(accountId)
+                    .accountNumber("1234567890")
+                    .currentBalance(new BigDecimal("1000.00"))
+                    .build());
+
+            mockMvc.perform(post(BASE_PATH + "/batch-get")
+                            .param("view", "balances")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].currentBalance").value(1000.00))
+                    .andExpect(jsonPath("$.data[0].customerName").doesNotExist());
+
+            verify(getAccountUseCase, never()).getAccounts(any());
+        }
+
+        @Test
+        void shouldReturn400WhenBatchIsEmpty() throws Exception {
+            mockMvc.perform(post(BASE_PATH + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(getAccountUseCase);
+        }
+
+        @Test
+        void shouldReturn400WhenBatchExceedsLimit() throws Exception {
+            String ids = IntStream.range(0, BatchGetAccountsApiRequest.MAX_BATCH_SIZE + 1)
+                    .mapToObj(i -> "\"" + UUID.randomUUID() + "\"")
+                    .collect(Collectors.joining(","));
+
+            mockMvc.perform(post(BASE_PATH + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [" + ids + "]}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(getAccountUseCase);
+        }
+    }
+
     @Nested
     class UpdateAccountStatus {
 
@@ -320,6 +452,38 @@ class AccountControllerTest {
                     .andExpect(jsonPath("$.content").isArray());
         }
 
+        @Test
+        void shouldGetTransactionsAsSmileWhenRequested() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            UUID transactionId = UUID.randomUUID();
+
+            TransactionResponse serviceResponse = TransactionResponseMother.depositResponse(transactionId, accountId);
+            when(transactionUseCase.getTransactionsByAccountId(eq(accountId), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(serviceResponse)));
+            when(apiMapper.toApiResponse(serviceResponse)).thenReturn(TransactionApiResponseMother.depositResponse(transactionId, accountId));
+
+            mockMvc.perform(get(BASE_PATH + "/{accountId}/transactions", accountId)
+                            .accept("application/x-jackson-smile"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-jackson-smile"));
+        }
+
+        @Test
+        void shouldGetTransactionsAsCborWhenRequested() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            UUID transactionId = UUID.randomUUID();
+
+            TransactionResponse serviceResponse = TransactionResponseMother.depositResponse(transactionId, accountId);
+            when(transactionUseCase.getTransactionsByAccountId(eq(accountId), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(serviceResponse)));
+            when(apiMapper.toApiResponse(serviceResponse)).thenReturn(TransactionApiResponseMother.depositResponse(transactionId, accountId));
+
+            mockMvc.perform(get(BASE_PATH + "/{accountId}/transactions", accountId)
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        }
+
         @Test
         void shouldGetTransactionsByDateRange() throws Exception {
             UUID accountId = UUID.randomUUID();
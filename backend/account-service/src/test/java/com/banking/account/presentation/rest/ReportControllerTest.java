@@ -4,6 +4,7 @@ import com.banking.account.application.dto.AccountStatementReport;
 import com.banking.account.application.port.in.GenerateAccountStatementUseCase;
 import com.banking.account.application.port.out.CustomerEventListener;
 import com.banking.account.application.service.PdfGeneratorService;
+import com.banking.account.application.service.StatementPdfService;
 import com.banking.account.fixtures.mothers.ReportMother;
 import com.banking.account.fixtures.mothers.StatementResponseMother;
 import com.banking.account.infrastructure.util.MessageUtils;
@@ -13,13 +14,19 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -42,6 +49,9 @@ class ReportControllerTest {
     @MockitoBean
     private PdfGeneratorService pdfGeneratorService;
 
+    @MockitoBean
+    private StatementPdfService statementPdfService;
+
     @MockitoBean
     private MessageUtils messageUtils;
 
@@ -226,4 +236,57 @@ class ReportControllerTest {
         }
     }
 
+    @Nested
+    class StreamAccountStatementPdf {
+
+        @Test
+        void shouldStreamPdfBytesWithPdfContentType() throws Exception {
+            UUID customerId = UUID.randomUUID();
+            LocalDateTime startDate = LocalDateTime.now().minusDays(30);
+            LocalDateTime endDate = LocalDateTime.now();
+            byte[] pdfBytes = "%PDF-1.7".getBytes(StandardCharsets.US_ASCII);
+
+            when(statementPdfService.renderStatementPdf(eq(customerId), any(), any()))
+                    .thenReturn(new ByteArrayResource(pdfBytes));
+
+            mockMvc.perform(get(BASE_PATH + "/statement.pdf")
+                            .param("customerId", customerId.toString())
+                            .param("startDate", startDate.toString())
+                            .param("endDate", endDate.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                            "inline; filename=\"statement-" + customerId + ".pdf\""))
+                    .andExpect(content().bytes(pdfBytes));
+
+            verify(statementPdfService).renderStatementPdf(eq(customerId), any(), any());
+        }
+
+        @Test
+        void shouldReturnAnErrorResponseWhenRenderingFails() throws Exception {
+            UUID customerId = UUID.randomUUID();
+
+            when(statementPdfService.renderStatementPdf(eq(customerId), any(), any()))
+                    .thenThrow(new RuntimeException("Failed to generate PDF"));
+
+            mockMvc.perform(get(BASE_PATH + "/statement.pdf")
+                            .param("customerId", customerId.toString())
+                            .param("startDate", LocalDateTime.now().minusDays(30).toString())
+                            .param("endDate", LocalDateTime.now().toString()))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+        }
+
+        @Test
+        void shouldReturn400WhenCustomerIdIsMissing() throws Exception {
+            mockMvc.perform(get(BASE_PATH + "/statement.pdf")
+                            .param("startDate", LocalDateTime.now().minusDays(30).toString())
+                            .param("endDate", LocalDateTime.now().toString()))
+                    .andExpect(status().isBadRequest());
+
+            verify(statementPdfService, never()).renderStatementPdf(any(), any(), any());
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.banking.commons.config;
+
+import com.banking.commons.messaging.embedded.EmbeddedEventBus;
+import com.banking.commons.messaging.embedded.EmbeddedEventSubscriber;
+import com.banking.commons.messaging.embedded.MappedEventJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.util.List;
+
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@Profile(EmbeddedBusConfig.EMBEDDED_PROFILE)
+@EnableConfigurationProperties(EmbeddedBusProperties.class)
+public class EmbeddedBusConfig {
+
+    public static final String EMBEDDED_PROFILE = "embedded";
+
+    @Bean
+    public EmbeddedEventBus embeddedEventBus(
+            EmbeddedBusProperties properties,
+            ObjectProvider<EmbeddedEventSubscriber> subscribers,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        List<EmbeddedEventSubscriber> eventSubscribers = subscribers.orderedStream().toList();
+        if (eventSubscribers.isEmpty()) {
+            throw new IllegalStateException("The " + EMBEDDED_PROFILE
+                    + " profile needs at least one EmbeddedEventSubscriber, otherwise every published event is dropped");
+        }
+
+        EmbeddedBusProperties.Journal journal = properties.journal();
+        MappedEventJournal eventJournal = journal.enabled()
+                ? new MappedEventJournal(
+                        journal.directory(),
+                        Math.toIntExact(journal.segmentSize().toBytes()),
+                        journal.syncOnPublish(),
+                        objectMapper)
+                : null;
+
+        return new EmbeddedEventBus(
+                properties.ringSize(),
+                properties.maxBatchSize(),
+                properties.maxAttempts(),
+                properties.publishTimeout(),
+                eventSubscribers,
+                eventJournal
+        );
+    }
+
+}
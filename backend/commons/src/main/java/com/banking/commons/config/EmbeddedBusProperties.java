@@ -0,0 +1,26 @@
+package com.banking.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "messaging.embedded")
+public record EmbeddedBusProperties(
+        int ringSize,
+        int maxBatchSize,
+        int maxAttempts,
+        Duration publishTimeout,
+        Journal journal
+) {
+
+    public record Journal(
+            boolean enabled,
+            Path directory,
+            DataSize segmentSize,
+            boolean syncOnPublish
+    ) {
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.banking.commons.dto;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+public record ResourceVersion(
+        String etag,
+        Instant lastModified
+) {
+
+    public static ResourceVersion of(Instant lastModified, Object... discriminators) {
+        Instant modified = Objects.nonNull(lastModified) ? lastModified : Instant.EPOCH;
+
+        StringJoiner tag = new StringJoiner("-", "\"", "\"");
+        for (Object discriminator : discriminators) {
+            tag.add(String.valueOf(discriminator));
+        }
+        tag.add(Long.toHexString(modified.getEpochSecond()) + "." + Integer.toHexString(modified.getNano()));
+
+        return new ResourceVersion(tag.toString(), modified);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified.toEpochMilli();
+    }
+
+}
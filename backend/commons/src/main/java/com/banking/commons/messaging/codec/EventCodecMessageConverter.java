@@ -0,0 +1,64 @@
+package com.banking.commons.messaging.codec;
+
+import com.banking.contracts.codec.BinaryEventCodec;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+public class EventCodecMessageConverter implements MessageConverter {
+
+    private final MessageConverter jsonConverter;
+    private final BinaryEventCodec binaryCodec;
+    private final boolean binaryOutbound;
+
+    public EventCodecMessageConverter(MessageConverter jsonConverter, BinaryEventCodec binaryCodec, boolean binaryOutbound) {
+        this.jsonConverter = jsonConverter;
+        this.binaryCodec = binaryCodec;
+        this.binaryOutbound = binaryOutbound;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!binaryOutbound || !binaryCodec.supports(object.getClass())) {
+            return jsonConverter.toMessage(object, messageProperties);
+        }
+
+        byte[] body = binaryCodec.encode(object);
+        messageProperties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        messageProperties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, object.getClass().getName());
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        if (!isBinary(properties.getContentType())) {
+            return jsonConverter.fromMessage(message);
+        }
+
+        Object event;
+        try {
+            event = binaryCodec.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Cannot decode binary event: " + e.getMessage(), e);
+        }
+
+        Type inferred = properties.getInferredArgumentType();
+        if (inferred instanceof Class<?> expected && expected != Object.class && !expected.isInstance(event)) {
+            throw new MessageConversionException("Expected " + expected.getName()
+                    + " but binary payload holds " + event.getClass().getName());
+        }
+        return event;
+    }
+
+    private boolean isBinary(String contentType) {
+        return Objects.nonNull(contentType) && contentType.startsWith(BinaryEventCodec.CONTENT_TYPE);
+    }
+
+}
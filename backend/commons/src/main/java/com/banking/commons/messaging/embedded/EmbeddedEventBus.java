@@ -0,0 +1,365 @@
+package com.banking.commons.messaging.embedded;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class EmbeddedEventBus implements SmartLifecycle {
+
+    private static final int SPIN_TRIES = 200;
+    private static final long CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long RETRY_BASE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long RETRY_MAX_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
+    private final EventSlot[] slots;
+    private final int mask;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long publishTimeoutNanos;
+    private final List<SubscriberWorker> workers;
+    private final MappedEventJournal journal;
+
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final AtomicLong cursor;
+    private final AtomicLong parked = new AtomicLong();
+    private long claimed;
+
+    private volatile boolean running;
+
+    public EmbeddedEventBus(
+            int ringSize,
+            int maxBatchSize,
+            int maxAttempts,
+            Duration publishTimeout,
+            List<EmbeddedEventSubscriber> subscribers,
+            MappedEventJournal journal
+    ) {
+        if (ringSize < 2 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("Ring size must be a power of two: " + ringSize);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1: " + maxAttempts);
+        }
+
+        this.slots = new EventSlot[ringSize];
+        for (int i = 0; i < ringSize; i++) {
+            slots[i] = new EventSlot();
+        }
+        this.mask = ringSize - 1;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.maxAttempts = maxAttempts;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+        this.journal = journal;
+
+        long start = Objects.isNull(journal) ? -1L : journal.checkpoint();
+        this.claimed = start;
+        this.cursor = new AtomicLong(start);
+        this.workers = subscribers.stream()
+                .map(subscriber -> new SubscriberWorker(subscriber, start))
+                .toList();
+    }
+
+    public void publish(List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!running) {
+            throw new IllegalStateException("Embedded event bus is not running");
+        }
+        if (events.size() > slots.length) {
+            throw new IllegalArgumentException("Cannot publish " + events.size()
+                    + " events at once into a ring of " + slots.length + " slots");
+        }
+
+        List<MappedEventJournal.EncodedEvent> encoded = Objects.isNull(journal)
+                ? List.of()
+                : events.stream().map(journal::encode).toList();
+
+        publishLock.lock();
+        try {
+            awaitCapacity(claimed + events.size(), publishTimeoutNanos);
+            for (int i = 0; i < events.size(); i++) {
+                long sequence = ++claimed;
+                if (Objects.nonNull(journal)) {
+                    journal.append(sequence, encoded.get(i));
+                }
+                slots[index(sequence)].event = events.get(i);
+            }
+
+            if (Objects.nonNull(journal)) {
+                journal.flush();
+                if (workers.isEmpty()) {
+                    journal.checkpoint(claimed);
+                }
+            }
+            cursor.set(claimed);
+        } catch (RuntimeException e) {
+            claimed = cursor.get();
+            throw e;
+        } finally {
+            publishLock.unlock();
+        }
+
+        wakeWorkers();
+    }
+
+    public long cursor() {
+        return cursor.get();
+    }
+
+    public long parkedEvents() {
+        return parked.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers.forEach(SubscriberWorker::start);
+
+        if (Objects.nonNull(journal)) {
+            replayJournal();
+        }
+
+        log.info("Embedded event bus started ({} slots, {} subscribers, journal {})",
+                slots.length, workers.size(), Objects.nonNull(journal) ? "enabled" : "disabled");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeWorkers();
+
+        for (SubscriberWorker worker : workers) {
+            worker.join();
+        }
+
+        if (Objects.nonNull(journal)) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("Failed to close event journal: {}", e.getMessage());
+            }
+        }
+
+        log.info("Embedded event bus stopped at sequence {}", cursor.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void replayJournal() {
+        long[] replayed = new long[1];
+
+        publishLock.lock();
+        try {
+            journal.replay((sequence, event) -> {
+                long next = ++claimed;
+                awaitCapacity(next, Long.MAX_VALUE);
+                if (next != sequence) {
+                    throw new IllegalStateException("Event journal gap: expected " + next + " but found " + sequence);
+                }
+                slots[index(next)].event = event;
+                cursor.set(next);
+                replayed[0]++;
+                wakeWorkers();
+            });
+        } finally {
+            publishLock.unlock();
+        }
+
+        if (replayed[0] > 0) {
+            log.info("Replayed {} journaled events up to sequence {}", replayed[0], cursor.get());
+        }
+    }
+
+    private void awaitCapacity(long sequence, long timeoutNanos) {
+        long wrapPoint = sequence - slots.length;
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        while (wrapPoint > minWorkerSequence()) {
+            if (!running) {
+                throw new IllegalStateException("Embedded event bus stopped while waiting for capacity");
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Embedded event bus is full: no capacity for sequence "
+                        + sequence + " within " + Duration.ofNanos(timeoutNanos));
+            }
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+    }
+
+    private long minWorkerSequence() {
+        long min = Long.MAX_VALUE;
+        for (SubscriberWorker worker : workers) {
+            min = Math.min(min, worker.sequence.get());
+        }
+        return min;
+    }
+
+    private void wakeWorkers() {
+        for (SubscriberWorker worker : workers) {
+            if (worker.waiting) {
+                LockSupport.unpark(worker.thread);
+            }
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private static final class EventSlot {
+
+        private Object event;
+
+    }
+
+    private final class SubscriberWorker implements Runnable {
+
+        private final EmbeddedEventSubscriber subscriber;
+        private final AtomicLong sequence;
+        private final List<Object> batch;
+
+        private volatile boolean waiting;
+        private Thread thread;
+
+        private SubscriberWorker(EmbeddedEventSubscriber subscriber, long start) {
+            this.subscriber = subscriber;
+            this.sequence = new AtomicLong(start);
+            this.batch = new ArrayList<>(maxBatchSize);
+        }
+
+        private void start() {
+            thread = Thread.ofPlatform()
+                    .name("event-bus-" + subscriber.name())
+                    .daemon(true)
+                    .start(this);
+        }
+
+        private void join() {
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int failures = 0;
+
+            while (running || next <= cursor.get()) {
+                long available = cursor.get();
+                if (available < next) {
+                    idle(next);
+                    continue;
+                }
+
+                long end = Math.min(available, next + maxBatchSize - 1);
+                for (long s = next; s <= end; s++) {
+                    batch.add(slots[index(s)].event);
+                }
+
+                try {
+                    subscriber.onEvents(Collections.unmodifiableList(batch));
+                    failures = 0;
+                } catch (RuntimeException e) {
+                    if (!running) {
+                        log.error("Embedded subscriber {} stopped with events {}-{} undelivered: {}",
+                                subscriber.name(), next, end, e.getMessage(), e);
+                        return;
+                    }
+                    failures++;
+                    if (failures < maxAttempts) {
+                        log.error("Embedded subscriber {} failed on events {}-{} (attempt {}), retrying: {}",
+                                subscriber.name(), next, end, failures, e.getMessage(), e);
+                        backOff(failures);
+                        continue;
+                    }
+                    failures = 0;
+                    deliverOneByOne(next, e);
+                } finally {
+                    batch.clear();
+                }
+
+                sequence.set(end);
+                if (Objects.nonNull(journal)) {
+                    journal.checkpoint(minWorkerSequence());
+                }
+                next = end + 1;
+            }
+        }
+
+        private void deliverOneByOne(long first, RuntimeException batchError) {
+            if (batch.size() == 1) {
+                park(first, batch.getFirst(), batchError);
+                return;
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                Object event = batch.get(i);
+                try {
+                    subscriber.onEvents(List.of(event));
+                } catch (RuntimeException e) {
+                    park(first + i, event, e);
+                }
+            }
+        }
+
+        private void park(long sequence, Object event, RuntimeException error) {
+            parked.incrementAndGet();
+            log.error("Embedded subscriber {} parked event {} ({}) after {} attempts: {}",
+                    subscriber.name(), sequence, event.getClass().getSimpleName(), maxAttempts, error.getMessage(), error);
+
+            try {
+                subscriber.onParked(event, error);
+            } catch (RuntimeException e) {
+                log.warn("Embedded subscriber {} failed to dead-letter event {}: {}",
+                        subscriber.name(), sequence, e.getMessage());
+            }
+        }
+
+        private void backOff(int failures) {
+            long delay = RETRY_BASE_NANOS << Math.min(failures - 1, 10);
+            LockSupport.parkNanos(Math.min(delay, RETRY_MAX_NANOS));
+        }
+
+        private void idle(long next) {
+            for (int i = 0; i < SPIN_TRIES; i++) {
+                if (cursor.get() >= next) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+
+            waiting = true;
+            if (running && cursor.get() < next) {
+                LockSupport.parkNanos(CONSUMER_PARK_NANOS);
+            }
+            waiting = false;
+        }
+
+    }
+
+}
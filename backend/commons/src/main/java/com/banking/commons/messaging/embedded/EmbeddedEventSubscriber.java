@@ -0,0 +1,14 @@
+package com.banking.commons.messaging.embedded;
+
+import java.util.List;
+
+public interface EmbeddedEventSubscriber {
+
+    String name();
+
+    void onEvents(List<Object> events);
+
+    default void onParked(Object event, RuntimeException error) {
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.banking.commons.messaging.embedded;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+@Slf4j
+public class MappedEventJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean syncOnPublish;
+    private final ObjectMapper objectMapper;
+
+    private final FileChannel checkpointChannel;
+    private final MappedByteBuffer checkpointBuffer;
+    private final Deque<Long> segments = new ArrayDeque<>();
+    private final long recoveredSequence;
+
+    private volatile long checkpoint;
+    private long lastSequence;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+
+    public MappedEventJournal(Path directory, int segmentBytes, boolean syncOnPublish, ObjectMapper objectMapper)
+            throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        this.syncOnPublish = syncOnPublish;
+        this.objectMapper = objectMapper;
+
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.checkpointBuffer = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        this.checkpoint = checkpointBuffer.getLong(0) - 1;
+        this.lastSequence = checkpoint;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(segments::addLast);
+        }
+
+        if (segments.isEmpty()) {
+            openSegment(checkpoint + 1);
+        } else {
+            for (long first : segments) {
+                scan(first, (sequence, record) -> lastSequence = Math.max(lastSequence, sequence));
+            }
+            openSegment(segments.getLast());
+        }
+
+        this.recoveredSequence = lastSequence;
+
+        log.info("Event journal opened at {} (checkpoint {}, last sequence {})", directory, checkpoint, lastSequence);
+    }
+
+    public long checkpoint() {
+        return checkpoint;
+    }
+
+    public synchronized void checkpoint(long sequence) {
+        if (sequence > checkpoint) {
+            checkpoint = sequence;
+            checkpointBuffer.putLong(0, sequence + 1);
+        }
+    }
+
+    public void replay(BiConsumer<Long, Object> consumer) {
+        long from = checkpoint;
+        for (long first : List.copyOf(segments)) {
+            scan(first, (sequence, record) -> {
+                if (sequence > from && sequence <= recoveredSequence) {
+                    Object event = decode(record);
+                    if (event != null) {
+                        consumer.accept(sequence, event);
+                    }
+                }
+            });
+        }
+    }
+
+    public EncodedEvent encode(Object event) {
+        EncodedEvent encoded;
+        try {
+            encoded = new EncodedEvent(
+                    event.getClass().getName().getBytes(StandardCharsets.UTF_8),
+                    objectMapper.writeValueAsBytes(event)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot journal event " + event.getClass().getName(), e);
+        }
+
+        if (encoded.recordBytes() > segmentBytes) {
+            throw new IllegalArgumentException("Event of " + encoded.recordBytes() + " bytes exceeds the journal segment size");
+        }
+        return encoded;
+    }
+
+    public void append(long sequence, EncodedEvent event) {
+        byte[] type = event.type();
+        byte[] payload = event.payload();
+
+        if (segment.remaining() < event.recordBytes()) {
+            roll(sequence);
+        }
+
+        int start = segment.position();
+        segment.position(start + Integer.BYTES);
+        segment.putLong(sequence).putInt(type.length).put(type).put(payload);
+
+        int end = segment.position();
+        segment.putInt(end, 0);
+        segment.putInt(start, end - start - Integer.BYTES);
+
+        lastSequence = sequence;
+    }
+
+    public void flush() {
+        if (syncOnPublish) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        segment.force();
+        checkpointBuffer.force();
+        segmentChannel.close();
+        checkpointChannel.close();
+    }
+
+    private void roll(long firstSequence) {
+        segment.force();
+        try {
+            segmentChannel.close();
+            openSegment(firstSequence);
+            segments.addLast(firstSequence);
+            deleteConsumedSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll event journal in " + directory, e);
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        if (segments.isEmpty()) {
+            segments.addLast(firstSequence);
+        }
+
+        segmentChannel = FileChannel.open(segmentPath(firstSequence),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segment.position(endOf(segment));
+    }
+
+    private void deleteConsumedSegments() throws IOException {
+        while (segments.size() > 1) {
+            long first = segments.removeFirst();
+            long next = segments.getFirst();
+            if (next > checkpoint + 1) {
+                segments.addFirst(first);
+                return;
+            }
+            Files.deleteIfExists(segmentPath(first));
+        }
+    }
+
+    private void scan(long firstSequence, BiConsumer<Long, EncodedEvent> visitor) {
+        try (FileChannel channel = FileChannel.open(segmentPath(firstSequence), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    return;
+                }
+
+                long sequence = buffer.getLong();
+                byte[] type = new byte[buffer.getInt()];
+                buffer.get(type);
+                byte[] payload = new byte[length - Long.BYTES - Integer.BYTES - type.length];
+                buffer.get(payload);
+
+                visitor.accept(sequence, new EncodedEvent(type, payload));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read event journal segment " + firstSequence, e);
+        }
+    }
+
+    private int endOf(MappedByteBuffer buffer) {
+        int position = 0;
+        while (position + RECORD_HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + Integer.BYTES + length > buffer.limit()) {
+                break;
+            }
+            position += Integer.BYTES + length;
+        }
+        return position;
+    }
+
+    private Object decode(EncodedEvent record) {
+        String type = new String(record.type(), StandardCharsets.UTF_8);
+        try {
+            return objectMapper.readValue(record.payload(), Class.forName(type));
+        } catch (ClassNotFoundException | IOException e) {
+            log.warn("Skipping unreadable journaled event of type {}: {}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(SEGMENT_PREFIX + "%020d".formatted(firstSequence) + SEGMENT_SUFFIX);
+    }
+
+    public record EncodedEvent(byte[] type, byte[] payload) {
+
+        int recordBytes() {
+            return RECORD_HEADER_BYTES + type.length + payload.length + Integer.BYTES;
+        }
+
+    }
+
+}
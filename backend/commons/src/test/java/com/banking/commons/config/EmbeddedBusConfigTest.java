@@ -0,0 +1,64 @@
+package com.banking.commons.config;
+
+import com.banking.commons.messaging.embedded.EmbeddedEventBus;
+import com.banking.commons.messaging.embedded.EmbeddedEventSubscriber;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedBusConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, EmbeddedBusConfig.class))
+            .withPropertyValues(
+                    "messaging.embedded.ring-size=8",
+                    "messaging.embedded.max-batch-size=4",
+                    "messaging.embedded.max-attempts=5",
+                    "messaging.embedded.publish-timeout=PT1S",
+                    "messaging.embedded.journal.enabled=false"
+            );
+
+    @Test
+    void shouldRefuseToStartWithoutSubscribers() {
+        contextRunner.withInitializer(context -> context.getEnvironment().setActiveProfiles(EmbeddedBusConfig.EMBEDDED_PROFILE))
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure()
+                        .rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("EmbeddedEventSubscriber"));
+    }
+
+    @Test
+    void shouldStartTheBusForRegisteredSubscribers() {
+        contextRunner.withInitializer(context -> context.getEnvironment().setActiveProfiles(EmbeddedBusConfig.EMBEDDED_PROFILE))
+                .withBean(EmbeddedEventSubscriber.class, NoOpSubscriber::new)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(EmbeddedEventBus.class);
+                    assertThat(context.getBean(EmbeddedEventBus.class).isRunning()).isTrue();
+                });
+    }
+
+    @Test
+    void shouldStayOffOutsideTheEmbeddedProfile() {
+        contextRunner.run(context -> assertThat(context).hasNotFailed().doesNotHaveBean(EmbeddedEventBus.class));
+    }
+
+    private static final class NoOpSubscriber implements EmbeddedEventSubscriber {
+
+        @Override
+        public String name() {
+            return "noop";
+        }
+
+        @Override
+        public void onEvents(List<Object> events) {
+        }
+
+    }
+
+}
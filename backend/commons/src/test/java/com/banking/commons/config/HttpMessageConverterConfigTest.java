@@ -0,0 +1,28 @@
+package com.banking.commons.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpMessageConverterConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, HttpMessageConverterConfig.class));
+
+    @Test
+    void shouldRegisterSmileAndCborConverters() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(MappingJackson2SmileHttpMessageConverter.class).getSupportedMediaTypes())
+                    .contains(MediaType.valueOf("application/x-jackson-smile"));
+            assertThat(context.getBean(MappingJackson2CborHttpMessageConverter.class).getSupportedMediaTypes())
+                    .contains(MediaType.APPLICATION_CBOR);
+        });
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.banking.commons.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionTest {
+
+    @Test
+    void shouldBuildQuotedEtagFromDiscriminatorsAndTimestamp() {
+        Instant modified = Instant.ofEpochSecond(0x10, 0x20);
+
+        ResourceVersion version = ResourceVersion.of(modified, "account", 3);
+
+        assertThat(version.etag()).isEqualTo("\"account-3-10.20\"");
+        assertThat(version.lastModified()).isEqualTo(modified);
+    }
+
+    @Test
+    void shouldFallBackToEpochWithoutTimestamp() {
+        ResourceVersion version = ResourceVersion.of(null);
+
+        assertThat(version.etag()).isEqualTo("\"0.0\"");
+        assertThat(version.lastModifiedMillis()).isZero();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.banking.commons.messaging.codec;
+
+import com.banking.contracts.codec.BinaryEventCodec;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class EventCodecMessageConverterTest {
+
+    private final MessageConverter jsonConverter = mock(MessageConverter.class);
+    private final BinaryEventCodec binaryCodec = new BinaryEventCodec();
+
+    @Test
+    void shouldEncodeSupportedEventsAsBinaryWhenEnabled() {
+        TransactionPerformedEventV1 event = transaction();
+
+        Message message = new EventCodecMessageConverter(jsonConverter, binaryCodec, true)
+                .toMessage(event, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(BinaryEventCodec.CONTENT_TYPE);
+        assertThat(message.getMessageProperties().getContentLength()).isEqualTo(message.getBody().length);
+        assertThat(message.getMessageProperties().<String>getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+                .isEqualTo(TransactionPerformedEventV1.class.getName());
+        verifyNoInteractions(jsonConverter);
+    }
+
+    @Test
+    void shouldFallBackToJsonWhenBinaryIsDisabledOrUnsupported() {
+        TransactionPerformedEventV1 event = transaction();
+        MessageProperties properties = new MessageProperties();
+        Message json = new Message("{}".getBytes(), properties);
+        when(jsonConverter.toMessage(any(), eq(properties))).thenReturn(json);
+
+        assertThat(new EventCodecMessageConverter(jsonConverter, binaryCodec, false).toMessage(event, properties))
+                .isSameAs(json);
+        assertThat(new EventCodecMessageConverter(jsonConverter, binaryCodec, true).toMessage(Map.of(), properties))
+                .isSameAs(json);
+    }
+
+    @Test
+    void shouldDecodeBinaryPayloadsWithoutTheJsonConverter() {
+        TransactionPerformedEventV1 event = transaction();
+        EventCodecMessageConverter converter = new EventCodecMessageConverter(jsonConverter, binaryCodec, true);
+        Message message = converter.toMessage(event, new MessageProperties());
+        message.getMessageProperties().setInferredArgumentType(TransactionPerformedEventV1.class);
+
+        Object decoded = converter.fromMessage(message);
+
+        assertThat(decoded).isInstanceOf(TransactionPerformedEventV1.class);
+        assertThat(((TransactionPerformedEventV1) decoded).getTransactionId()).isEqualTo(event.getTransactionId());
+        verifyNoInteractions(jsonConverter);
+    }
+
+    @Test
+    void shouldRejectBinaryPayloadsOfAnotherType() {
+        EventCodecMessageConverter converter = new EventCodecMessageConverter(jsonConverter, binaryCodec, true);
+        Message message = converter.toMessage(transaction(), new MessageProperties());
+        message.getMessageProperties().setInferredArgumentType(CustomerCreatedEventV1.class);
+
+        assertThatThrownBy(() -> converter.fromMessage(message))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining(CustomerCreatedEventV1.class.getName());
+    }
+
+    @Test
+    void shouldWrapCorruptBinaryPayloads() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+        Message message = new Message(new byte[]{(byte) 0xFF}, properties);
+
+        assertThatThrownBy(() -> new EventCodecMessageConverter(jsonConverter, binaryCodec, false).fromMessage(message))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageStartingWith("Cannot decode binary event");
+    }
+
+    @Test
+    void shouldDelegateJsonPayloadsToTheJsonConverter() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        Message message = new Message("{}".getBytes(), properties);
+        when(jsonConverter.fromMessage(message)).thenReturn("json");
+
+        assertThat(new EventCodecMessageConverter(jsonConverter, binaryCodec, true).fromMessage(message))
+                .isEqualTo("json");
+    }
+
+    private static TransactionPerformedEventV1 transaction() {
+        return TransactionPerformedEventV1.builder()
+                .transactionId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .accountNumber("478758")
+                .customerId(UUID.randomUUID())
+                .transactionType("DEPOSIT")
+                .amount(new BigDecimal("100.00"))
+                .balanceBefore(new BigDecimal("0.00"))
+                .balanceAfter(new BigDecimal("100.00"))
+                .reference("REF-1")
+                .occurredAt(LocalDateTime.of(2024, 3, 15, 10, 30))
+                .build();
+    }
+
+}
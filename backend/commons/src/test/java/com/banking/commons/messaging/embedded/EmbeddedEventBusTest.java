@@ -0,0 +1,309 @@
+package com.banking.commons.messaging.embedded;
+
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmbeddedEventBusTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+    private static final int MAX_ATTEMPTS = 100;
+    private static final Duration PUBLISH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    private Path journalDir;
+
+    @Test
+    void shouldDeliverEventsInOrderAcrossRingWraps() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber(100);
+        EmbeddedEventBus bus = new EmbeddedEventBus(8, 4, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(subscriber), null);
+        bus.start();
+
+        try {
+            IntStream.range(0, 100).forEach(i -> bus.publish(List.of(i)));
+
+            assertThat(subscriber.await()).isTrue();
+            assertThat(subscriber.events).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        } finally {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void shouldRejectRingSizesThatAreNotPowersOfTwo() {
+        assertThatThrownBy(() -> new EmbeddedEventBus(100, 4, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReplayJournaledEventsNotYetCheckpointed() throws Exception {
+        TransactionPerformedEventV1 event = transaction();
+
+        MappedEventJournal journal = new MappedEventJournal(journalDir, SEGMENT_BYTES, false, objectMapper);
+        journal.append(0, journal.encode(event));
+        journal.append(1, journal.encode(event));
+        journal.checkpoint(0);
+        journal.close();
+
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        EmbeddedEventBus bus = new EmbeddedEventBus(8, 4, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(subscriber),
+                new MappedEventJournal(journalDir, SEGMENT_BYTES, false, objectMapper));
+        bus.start();
+
+        try {
+            assertThat(subscriber.await()).isTrue();
+            assertThat(subscriber.events).singleElement()
+                    .isInstanceOfSatisfying(TransactionPerformedEventV1.class,
+                            replayed -> assertThat(replayed.getTransactionId()).isEqualTo(event.getTransactionId()));
+            assertThat(bus.cursor()).isEqualTo(1);
+        } finally {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void shouldRetryAFailedBatchBeforeMovingOn() throws Exception {
+        FlakySubscriber subscriber = new FlakySubscriber(2, 3);
+        MappedEventJournal journal = new MappedEventJournal(journalDir, SEGMENT_BYTES, false, objectMapper);
+        EmbeddedEventBus bus = new EmbeddedEventBus(8, 4, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(subscriber), journal);
+        bus.start();
+
+        try {
+            bus.publish(List.of(transaction()));
+
+            assertThat(subscriber.await()).isTrue();
+        } finally {
+            bus.stop();
+        }
+
+        assertThat(subscriber.attempts.get()).isEqualTo(3);
+        assertThat(subscriber.delivered).hasSize(1);
+        assertThat(journal.checkpoint()).isZero();
+    }
+
+    @Test
+    void shouldKeepFailedEventsJournaledForReplay() throws Exception {
+        TransactionPerformedEventV1 event = transaction();
+        FlakySubscriber subscriber = new FlakySubscriber(Integer.MAX_VALUE, 2);
+        MappedEventJournal journal = new MappedEventJournal(journalDir, SEGMENT_BYTES, false, objectMapper);
+        EmbeddedEventBus bus = new EmbeddedEventBus(8, 4, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(subscriber), journal);
+        bus.start();
+
+        try {
+            bus.publish(List.of(event));
+
+            assertThat(subscriber.await()).isTrue();
+            assertThat(journal.checkpoint()).isEqualTo(-1);
+        } finally {
+            bus.stop();
+        }
+
+        RecordingSubscriber recovered = new RecordingSubscriber(1);
+        EmbeddedEventBus restarted = new EmbeddedEventBus(8, 4, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(recovered),
+                new MappedEventJournal(journalDir, SEGMENT_BYTES, false, objectMapper));
+        restarted.start();
+
+        try {
+            assertThat(recovered.await()).isTrue();
+            assertThat(recovered.events).singleElement()
+                    .isInstanceOfSatisfying(TransactionPerformedEventV1.class,
+                            replayed -> assertThat(replayed.getTransactionId()).isEqualTo(event.getTransactionId()));
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    void shouldParkAPoisonEventAndKeepDeliveringTheRestOfItsBatch() throws InterruptedException {
+        PoisonSubscriber subscriber = new PoisonSubscriber("poison", 10);
+        EmbeddedEventBus bus = new EmbeddedEventBus(4, 4, 3, PUBLISH_TIMEOUT, List.of(subscriber), null);
+        bus.start();
+
+        try {
+            bus.publish(List.of("first", "poison", "second"));
+            IntStream.range(0, 8).forEach(i -> bus.publish(List.of("after-" + i)));
+
+            assertThat(subscriber.await()).isTrue();
+            assertThat(subscriber.delivered).startsWith("first", "second").hasSize(10);
+            assertThat(subscriber.parked).containsExactly("poison");
+            assertThat(bus.parkedEvents()).isEqualTo(1);
+        } finally {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void shouldFailFastWhenTheRingStaysFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber subscriber = new RecordingSubscriber(3) {
+            @Override
+            public void onEvents(List<Object> batch) {
+                awaitUninterruptibly(release);
+                super.onEvents(batch);
+            }
+        };
+        EmbeddedEventBus bus = new EmbeddedEventBus(2, 1, MAX_ATTEMPTS, Duration.ofMillis(50), List.of(subscriber), null);
+        bus.start();
+
+        try {
+            bus.publish(List.of(1, 2));
+
+            assertThatThrownBy(() -> bus.publish(List.of(3)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageStartingWith("Embedded event bus is full");
+
+            release.countDown();
+            bus.publish(List.of(3));
+
+            assertThat(subscriber.await()).isTrue();
+            assertThat(subscriber.events).containsExactly(1, 2, 3);
+        } finally {
+            release.countDown();
+            bus.stop();
+        }
+    }
+
+    @Test
+    void shouldRejectBatchesLargerThanTheRing() {
+        EmbeddedEventBus bus = new EmbeddedEventBus(2, 1, MAX_ATTEMPTS, PUBLISH_TIMEOUT, List.of(new RecordingSubscriber(0)), null);
+        bus.start();
+
+        try {
+            assertThatThrownBy(() -> bus.publish(List.of(1, 2, 3))).isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            bus.stop();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TransactionPerformedEventV1 transaction() {
+        return TransactionPerformedEventV1.builder()
+                .transactionId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .amount(new BigDecimal("10.00"))
+                .build();
+    }
+
+    private static final class FlakySubscriber implements EmbeddedEventSubscriber {
+
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<Object> delivered = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private FlakySubscriber(int failures, int expectedAttempts) {
+            this.failures = failures;
+            this.latch = new CountDownLatch(expectedAttempts);
+        }
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public void onEvents(List<Object> batch) {
+            int attempt = attempts.incrementAndGet();
+            latch.countDown();
+            if (attempt <= failures) {
+                throw new IllegalStateException("attempt " + attempt + " failed");
+            }
+            delivered.addAll(batch);
+        }
+
+        private boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+    }
+
+    private static final class PoisonSubscriber implements EmbeddedEventSubscriber {
+
+        private final Object poison;
+        private final List<Object> delivered = new CopyOnWriteArrayList<>();
+        private final List<Object> parked = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private PoisonSubscriber(Object poison, int expected) {
+            this.poison = poison;
+            this.latch = new CountDownLatch(expected + 1);
+        }
+
+        @Override
+        public String name() {
+            return "poison";
+        }
+
+        @Override
+        public void onEvents(List<Object> batch) {
+            if (batch.contains(poison)) {
+                throw new IllegalArgumentException("cannot handle " + poison);
+            }
+            delivered.addAll(batch);
+            batch.forEach(event -> latch.countDown());
+        }
+
+        @Override
+        public void onParked(Object event, RuntimeException error) {
+            parked.add(event);
+            latch.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+    }
+
+    private static class RecordingSubscriber implements EmbeddedEventSubscriber {
+
+        private final List<Object> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private RecordingSubscriber(int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void onEvents(List<Object> batch) {
+            events.addAll(batch);
+            batch.forEach(event -> latch.countDown());
+        }
+
+        private boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.banking.contracts.codec;
+
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the event contracts. A frame starts with a magic byte and the format
+ * version, followed by the schema type id and schema version as varints and then the non-null fields
+ * as tag/value pairs. Unknown fields are skipped, so frames from newer schema versions stay readable.
+ */
+public final class BinaryEventCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.banking.event+binary";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte MAGIC = (byte) 0xBE;
+    private static final int ENVELOPE_TYPE_ID = 16;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<Class<?>, EventSchema<?, ?>> schemasByType = new HashMap<>();
+    private final Map<Integer, EventSchema<?, ?>> schemasById = new HashMap<>();
+
+    public BinaryEventCodec() {
+        this(EventSchemas.V1);
+    }
+
+    public BinaryEventCodec(List<EventSchema<?, ?>> schemas) {
+        schemas.forEach(this::register);
+        register(envelopeSchema());
+    }
+
+    public boolean supports(Class<?> type) {
+        return schemasByType.containsKey(type);
+    }
+
+    public byte[] encode(Object event) {
+        BinaryEventWriter out = new BinaryEventWriter(INITIAL_CAPACITY);
+        encode(event, out);
+        return out.toByteArray();
+    }
+
+    public Object decode(byte[] payload) {
+        return decode(new BinaryEventReader(payload));
+    }
+
+    public <T> T decode(byte[] payload, Class<T> type) {
+        Object event = decode(payload);
+        if (!type.isInstance(event)) {
+            throw new IllegalArgumentException("Expected " + type.getName() + " but payload holds " + event.getClass().getName());
+        }
+        return type.cast(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void encode(Object event, BinaryEventWriter out) {
+        EventSchema<Object, ?> schema = (EventSchema<Object, ?>) schemasByType.get(event.getClass());
+        if (schema == null) {
+            throw new IllegalArgumentException("No binary schema for " + event.getClass().getName());
+        }
+
+        out.writeRaw(new byte[]{MAGIC, FORMAT_VERSION})
+                .writeVarint(schema.typeId())
+                .writeVarint(schema.version());
+        schema.write(event, out);
+    }
+
+    private Object decode(BinaryEventReader in) {
+        if (in.readByte() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary event payload");
+        }
+        int format = in.readByte();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary event format version " + format);
+        }
+
+        int typeId = in.readVarint32();
+        int version = in.readVarint32();
+        EventSchema<?, ?> schema = schemasById.get(typeId);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event type id " + typeId + " (schema version " + version + ")");
+        }
+
+        return schema.read(in);
+    }
+
+    private void register(EventSchema<?, ?> schema) {
+        if (schemasById.putIfAbsent(schema.typeId(), schema) != null) {
+            throw new IllegalArgumentException("Duplicate event type id " + schema.typeId());
+        }
+        schemasByType.put(schema.type(), schema);
+    }
+
+    private EventSchema<EventBatchEnvelopeV1, ?> envelopeSchema() {
+        return EventSchema
+                .builder(EventBatchEnvelopeV1.class, ENVELOPE_TYPE_ID, EventBatchEnvelopeV1.SCHEMA_VERSION,
+                        EventBatchEnvelopeV1::builder, EventBatchEnvelopeV1.EventBatchEnvelopeV1Builder::build)
+                .field(1, FieldCodecs.UUID, EventBatchEnvelopeV1::getBatchId, (b, v) -> b.batchId(v))
+                .field(2, FieldCodecs.INT32, EventBatchEnvelopeV1::getSchemaVersion, (b, v) -> b.schemaVersion(v))
+                .field(3, FieldCodecs.STRING, EventBatchEnvelopeV1::getSource, (b, v) -> b.source(v))
+                .field(4, FieldCodecs.TIMESTAMP, EventBatchEnvelopeV1::getCreatedAt, (b, v) -> b.createdAt(v))
+                .field(5, new EventListCodec(), EventBatchEnvelopeV1::getEvents, (b, v) -> b.events(v))
+                .build();
+    }
+
+    private final class EventListCodec implements FieldCodec<List<Object>> {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, List<Object> events) {
+            List<byte[]> frames = new ArrayList<>(events.size());
+            int length = 0;
+            for (Object event : events) {
+                byte[] frame = encode(event);
+                frames.add(frame);
+                length += BinaryEventWriter.varintSize(frame.length) + frame.length;
+            }
+
+            out.writeVarint(length);
+            frames.forEach(out::writeBytes);
+        }
+
+        @Override
+        public List<Object> read(BinaryEventReader in) {
+            BinaryEventReader nested = in.readNested();
+            List<Object> events = new ArrayList<>();
+            while (nested.hasRemaining()) {
+                events.add(decode(nested.readNested()));
+            }
+            return events;
+        }
+
+    }
+
+}
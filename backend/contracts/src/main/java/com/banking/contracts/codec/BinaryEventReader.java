@@ -0,0 +1,106 @@
+package com.banking.contracts.codec;
+
+public final class BinaryEventReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryEventReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    public byte readByte() {
+        require(1);
+        return buffer[position++];
+    }
+
+    public long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    public int readVarint32() {
+        long value = readVarint();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readZigZag() {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readFixed64() {
+        require(Long.BYTES);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value |= (buffer[position++] & 0xFFL) << (i * 8);
+        }
+        return value;
+    }
+
+    public byte[] readRaw(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public byte[] readBytes() {
+        return readRaw(readVarint32());
+    }
+
+    public BinaryEventReader readNested() {
+        int length = readVarint32();
+        require(length);
+        BinaryEventReader nested = new BinaryEventReader(buffer, position, length);
+        position += length;
+        return nested;
+    }
+
+    public void skip(WireType wireType) {
+        switch (wireType) {
+            case VARINT -> readVarint();
+            case FIXED64 -> skipBytes(Long.BYTES);
+            case FIXED128 -> skipBytes(2 * Long.BYTES);
+            case LENGTH_DELIMITED -> skipBytes(readVarint32());
+        }
+    }
+
+    private void skipBytes(int length) {
+        require(length);
+        position += length;
+    }
+
+    private void require(int bytes) {
+        if (bytes < 0 || limit - position < bytes) {
+            throw new IllegalArgumentException("Truncated event payload at offset " + position);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.banking.contracts.codec;
+
+import java.util.Arrays;
+
+public final class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public BinaryEventWriter writeTag(int fieldNumber, WireType wireType) {
+        return writeVarint(((long) fieldNumber << 3) | wireType.id());
+    }
+
+    public BinaryEventWriter writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeZigZag(long value) {
+        return writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryEventWriter writeFixed64(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[position++] = (byte) (value >>> (i * 8));
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    public BinaryEventWriter writeBytes(byte[] bytes) {
+        return writeVarint(bytes.length).writeRaw(bytes);
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    public static int zigZagSize(long value) {
+        return varintSize((value << 1) ^ (value >> 63));
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+}
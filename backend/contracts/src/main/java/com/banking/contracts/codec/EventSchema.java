@@ -0,0 +1,142 @@
+package com.banking.contracts.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class EventSchema<T, B> {
+
+    private final Class<T> type;
+    private final int typeId;
+    private final int version;
+    private final Supplier<B> newBuilder;
+    private final Function<B, T> build;
+    private final List<Field<T, B, ?>> fields;
+    private final Field<T, B, ?>[] fieldsByNumber;
+
+    @SuppressWarnings("unchecked")
+    private EventSchema(Builder<T, B> builder) {
+        this.type = builder.type;
+        this.typeId = builder.typeId;
+        this.version = builder.version;
+        this.newBuilder = builder.newBuilder;
+        this.build = builder.build;
+        this.fields = List.copyOf(builder.fields);
+
+        int maxNumber = fields.stream().mapToInt(Field::number).max().orElse(0);
+        this.fieldsByNumber = new Field[maxNumber + 1];
+        for (Field<T, B, ?> field : fields) {
+            if (fieldsByNumber[field.number()] != null) {
+                throw new IllegalArgumentException("Duplicate field " + field.number() + " in schema of " + type.getName());
+            }
+            fieldsByNumber[field.number()] = field;
+        }
+    }
+
+    public static <T, B> Builder<T, B> builder(
+            Class<T> type,
+            int typeId,
+            int version,
+            Supplier<B> newBuilder,
+            Function<B, T> build
+    ) {
+        return new Builder<>(type, typeId, version, newBuilder, build);
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public int typeId() {
+        return typeId;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public void write(T event, BinaryEventWriter out) {
+        for (Field<T, B, ?> field : fields) {
+            field.write(event, out);
+        }
+    }
+
+    public T read(BinaryEventReader in) {
+        B builder = newBuilder.get();
+
+        while (in.hasRemaining()) {
+            long tag = in.readVarint();
+            int number = (int) (tag >>> 3);
+            WireType wireType = WireType.of((int) (tag & 0x7));
+
+            Field<T, B, ?> field = number < fieldsByNumber.length ? fieldsByNumber[number] : null;
+            if (field == null) {
+                in.skip(wireType);
+                continue;
+            }
+            if (field.codec().wireType() != wireType) {
+                throw new IllegalArgumentException("Field " + number + " of " + type.getSimpleName()
+                        + " expected " + field.codec().wireType() + " but was " + wireType);
+            }
+
+            field.read(in, builder);
+        }
+
+        return build.apply(builder);
+    }
+
+    private record Field<T, B, V>(
+            int number,
+            FieldCodec<V> codec,
+            Function<T, V> getter,
+            BiConsumer<B, V> setter
+    ) {
+
+        void write(T event, BinaryEventWriter out) {
+            V value = getter.apply(event);
+            if (value != null) {
+                out.writeTag(number, codec.wireType());
+                codec.write(out, value);
+            }
+        }
+
+        void read(BinaryEventReader in, B builder) {
+            setter.accept(builder, codec.read(in));
+        }
+
+    }
+
+    public static final class Builder<T, B> {
+
+        private final Class<T> type;
+        private final int typeId;
+        private final int version;
+        private final Supplier<B> newBuilder;
+        private final Function<B, T> build;
+        private final List<Field<T, B, ?>> fields = new ArrayList<>();
+
+        private Builder(Class<T> type, int typeId, int version, Supplier<B> newBuilder, Function<B, T> build) {
+            this.type = type;
+            this.typeId = typeId;
+            this.version = version;
+            this.newBuilder = newBuilder;
+            this.build = build;
+        }
+
+        public <V> Builder<T, B> field(int number, FieldCodec<V> codec, Function<T, V> getter, BiConsumer<B, V> setter) {
+            if (number < 1) {
+                throw new IllegalArgumentException("Field numbers start at 1: " + number);
+            }
+            fields.add(new Field<>(number, codec, getter, setter));
+            return this;
+        }
+
+        public EventSchema<T, B> build() {
+            return new EventSchema<>(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.banking.contracts.codec;
+
+import com.banking.contracts.events.account.AccountCreatedEventV1;
+import com.banking.contracts.events.account.AccountUpdatedEventV1;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
+import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+
+import java.util.List;
+
+/**
+ * Wire schemas of the V1 event contracts. Field numbers are part of the format:
+ * new fields get new numbers and retired numbers are never reused.
+ */
+public final class EventSchemas {
+
+    public static final EventSchema<AccountCreatedEventV1, ?> ACCOUNT_CREATED_V1 = EventSchema
+            .builder(AccountCreatedEventV1.class, 1, 1,
+                    AccountCreatedEventV1::builder, AccountCreatedEventV1.AccountCreatedEventV1Builder::build)
+            .field(1, FieldCodecs.UUID, AccountCreatedEventV1::getAccountId, (b, v) -> b.accountId(v))
+            .field(2, FieldCodecs.STRING, AccountCreatedEventV1::getAccountNumber, (b, v) -> b.accountNumber(v))
+            .field(3, FieldCodecs.UUID, AccountCreatedEventV1::getCustomerId, (b, v) -> b.customerId(v))
+            .field(4, FieldCodecs.STRING, AccountCreatedEventV1::getAccountType, (b, v) -> b.accountType(v))
+            .field(5, FieldCodecs.DECIMAL, AccountCreatedEventV1::getInitialBalance, (b, v) -> b.initialBalance(v))
+            .field(6, FieldCodecs.DECIMAL, AccountCreatedEventV1::getCurrentBalance, (b, v) -> b.currentBalance(v))
+            .field(7, FieldCodecs.STRING, AccountCreatedEventV1::getStatus, (b, v) -> b.status(v))
+            .field(8, FieldCodecs.TIMESTAMP, AccountCreatedEventV1::getOccurredAt, (b, v) -> b.occurredAt(v))
+            .build();
+
+    public static final EventSchema<AccountUpdatedEventV1, ?> ACCOUNT_UPDATED_V1 = EventSchema
+            .builder(AccountUpdatedEventV1.class, 2, 1,
+                    AccountUpdatedEventV1::builder, AccountUpdatedEventV1.AccountUpdatedEventV1Builder::build)
+            .field(1, FieldCodecs.UUID, AccountUpdatedEventV1::getAccountId, (b, v) -> b.accountId(v))
+            .field(2, FieldCodecs.STRING, AccountUpdatedEventV1::getAccountNumber, (b, v) -> b.accountNumber(v))
+            .field(3, FieldCodecs.UUID, AccountUpdatedEventV1::getCustomerId, (b, v) -> b.customerId(v))
+            .field(4, FieldCodecs.STRING, AccountUpdatedEventV1::getStatus, (b, v) -> b.status(v))
+            .field(5, FieldCodecs.TIMESTAMP, AccountUpdatedEventV1::getOccurredAt, (b, v) -> b.occurredAt(v))
+            .build();
+
+    public static final EventSchema<TransactionPerformedEventV1, ?> TRANSACTION_PERFORMED_V1 = EventSchema
+            .builder(TransactionPerformedEventV1.class, 3, 1,
+                    TransactionPerformedEventV1::builder, TransactionPerformedEventV1.TransactionPerformedEventV1Builder::build)
+            .field(1, FieldCodecs.UUID, TransactionPerformedEventV1::getTransactionId, (b, v) -> b.transactionId(v))
+            .field(2, FieldCodecs.UUID, TransactionPerformedEventV1::getAccountId, (b, v) -> b.accountId(v))
+            .field(3, FieldCodecs.STRING, TransactionPerformedEventV1::getAccountNumber, (b, v) -> b.accountNumber(v))
+            .field(4, FieldCodecs.UUID, TransactionPerformedEventV1::getCustomerId, (b, v) -> b.customerId(v))
+            .field(5, FieldCodecs.STRING, TransactionPerformedEventV1::getTransactionType, (b, v) -> b.transactionType(v))
+            .field(6, FieldCodecs.DECIMAL, TransactionPerformedEventV1::getAmount, (b, v) -> b.amount(v))
+            .field(7, FieldCodecs.DECIMAL, TransactionPerformedEventV1::getBalanceBefore, (b, v) -> b.balanceBefore(v))
+            .field(8, FieldCodecs.DECIMAL, TransactionPerformedEventV1::getBalanceAfter, (b, v) -> b.balanceAfter(v))
+            .field(9, FieldCodecs.STRING, TransactionPerformedEventV1::getReference, (b, v) -> b.reference(v))
+            .field(10, FieldCodecs.TIMESTAMP, TransactionPerformedEventV1::getOccurredAt, (b, v) -> b.occurredAt(v))
+            .build();
+
+    public static final EventSchema<CustomerCreatedEventV1, ?> CUSTOMER_CREATED_V1 = EventSchema
+            .builder(CustomerCreatedEventV1.class, 4, 1,
+                    CustomerCreatedEventV1::builder, CustomerCreatedEventV1.CustomerCreatedEventV1Builder::build)
+            .field(1, FieldCodecs.UUID, CustomerCreatedEventV1::getCustomerId, (b, v) -> b.customerId(v))
+            .field(2, FieldCodecs.STRING, CustomerCreatedEventV1::getCustomerIdValue, (b, v) -> b.customerIdValue(v))
+            .field(3, FieldCodecs.STRING, CustomerCreatedEventV1::getName, (b, v) -> b.name(v))
+            .field(4, FieldCodecs.STRING, CustomerCreatedEventV1::getLastName, (b, v) -> b.lastName(v))
+            .field(5, FieldCodecs.STRING, CustomerCreatedEventV1::getGender, (b, v) -> b.gender(v))
+            .field(6, FieldCodecs.DATE, CustomerCreatedEventV1::getBirthDate, (b, v) -> b.birthDate(v))
+            .field(7, FieldCodecs.STRING, CustomerCreatedEventV1::getIdentification, (b, v) -> b.identification(v))
+            .field(8, FieldCodecs.STRING, CustomerCreatedEventV1::getAddress, (b, v) -> b.address(v))
+            .field(9, FieldCodecs.STRING, CustomerCreatedEventV1::getPhone, (b, v) -> b.phone(v))
+            .field(10, FieldCodecs.STRING, CustomerCreatedEventV1::getStatus, (b, v) -> b.status(v))
+            .field(11, FieldCodecs.TIMESTAMP, CustomerCreatedEventV1::getOccurredAt, (b, v) -> b.occurredAt(v))
+            .field(12, FieldCodecs.INT64, CustomerCreatedEventV1::getSequence, (b, v) -> b.sequence(v))
+            .build();
+
+    public static final EventSchema<CustomerUpdatedEventV1, ?> CUSTOMER_UPDATED_V1 = EventSchema
+            .builder(CustomerUpdatedEventV1.class, 5, 1,
+                    CustomerUpdatedEventV1::builder, CustomerUpdatedEventV1.CustomerUpdatedEventV1Builder::build)
+            .field(1, FieldCodecs.UUID, CustomerUpdatedEventV1::getCustomerId, (b, v) -> b.customerId(v))
+            .field(2, FieldCodecs.STRING, CustomerUpdatedEventV1::getCustomerIdValue, (b, v) -> b.customerIdValue(v))
+            .field(3, FieldCodecs.STRING, CustomerUpdatedEventV1::getName, (b, v) -> b.name(v))
+            .field(4, FieldCodecs.STRING, CustomerUpdatedEventV1::getLastName, (b, v) -> b.lastName(v))
+            .field(5, FieldCodecs.STRING, CustomerUpdatedEventV1::getAddress, (b, v) -> b.address(v))
+            .field(6, FieldCodecs.STRING, CustomerUpdatedEventV1::getPhone, (b, v) -> b.phone(v))
+            .field(7, FieldCodecs.TIMESTAMP, CustomerUpdatedEventV1::getOccurredAt, (b, v) -> b.occurredAt(v))
+            .field(8, FieldCodecs.INT64, CustomerUpdatedEventV1::getSequence, (b, v) -> b.sequence(v))
+            .build();
+
+    public static final EventSchema<CustomerStatusChangedEventV1, ?> CUSTOMER_STATUS_CHANGED_V1 = EventSchema
+            .builder(CustomerStatusChangedEventV1.class, 6, 1,
+                    CustomerStatusChangedEventV1::builder, CustomerStatusChangedEventV1.CustomerStatusChangedEventV1Builder::build)
+            .field(1, FieldCodecs.UUID, CustomerStatusChangedEventV1::getCustomerId, (b, v) -> b.customerId(v))
+            .field(2, FieldCodecs.STRING, CustomerStatusChangedEventV1::getCustomerIdValue, (b, v) -> b.customerIdValue(v))
+            .field(3, FieldCodecs.STRING, CustomerStatusChangedEventV1::getNewStatus, (b, v) -> b.newStatus(v))
+            .field(4, FieldCodecs.STRING, CustomerStatusChangedEventV1::getReason, (b, v) -> b.reason(v))
+            .field(5, FieldCodecs.TIMESTAMP, CustomerStatusChangedEventV1::getOccurredAt, (b, v) -> b.occurredAt(v))
+            .field(6, FieldCodecs.INT64, CustomerStatusChangedEventV1::getSequence, (b, v) -> b.sequence(v))
+            .build();
+
+    public static final List<EventSchema<?, ?>> V1 = List.of(
+            ACCOUNT_CREATED_V1,
+            ACCOUNT_UPDATED_V1,
+            TRANSACTION_PERFORMED_V1,
+            CUSTOMER_CREATED_V1,
+            CUSTOMER_UPDATED_V1,
+            CUSTOMER_STATUS_CHANGED_V1
+    );
+
+    private EventSchemas() {
+    }
+
+}
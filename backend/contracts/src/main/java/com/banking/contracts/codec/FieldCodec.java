@@ -0,0 +1,11 @@
+package com.banking.contracts.codec;
+
+public interface FieldCodec<V> {
+
+    WireType wireType();
+
+    void write(BinaryEventWriter out, V value);
+
+    V read(BinaryEventReader in);
+
+}
@@ -0,0 +1,161 @@
+package com.banking.contracts.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+public final class FieldCodecs {
+
+    public static final FieldCodec<UUID> UUID = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.FIXED128;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, UUID value) {
+            out.writeFixed64(value.getMostSignificantBits()).writeFixed64(value.getLeastSignificantBits());
+        }
+
+        @Override
+        public UUID read(BinaryEventReader in) {
+            return new UUID(in.readFixed64(), in.readFixed64());
+        }
+
+    };
+
+    public static final FieldCodec<String> STRING = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, String value) {
+            out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(BinaryEventReader in) {
+            return new String(in.readBytes(), StandardCharsets.UTF_8);
+        }
+
+    };
+
+    public static final FieldCodec<Long> INT64 = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.VARINT;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, Long value) {
+            out.writeZigZag(value);
+        }
+
+        @Override
+        public Long read(BinaryEventReader in) {
+            return in.readZigZag();
+        }
+
+    };
+
+    public static final FieldCodec<Integer> INT32 = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.VARINT;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, Integer value) {
+            out.writeZigZag(value);
+        }
+
+        @Override
+        public Integer read(BinaryEventReader in) {
+            return Math.toIntExact(in.readZigZag());
+        }
+
+    };
+
+    public static final FieldCodec<BigDecimal> DECIMAL = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, BigDecimal value) {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            out.writeVarint(BinaryEventWriter.zigZagSize(value.scale()) + unscaled.length)
+                    .writeZigZag(value.scale())
+                    .writeRaw(unscaled);
+        }
+
+        @Override
+        public BigDecimal read(BinaryEventReader in) {
+            BinaryEventReader nested = in.readNested();
+            int scale = Math.toIntExact(nested.readZigZag());
+            return new BigDecimal(new BigInteger(nested.readRaw(nested.remaining())), scale);
+        }
+
+    };
+
+    public static final FieldCodec<LocalDateTime> TIMESTAMP = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, LocalDateTime value) {
+            long seconds = value.toEpochSecond(ZoneOffset.UTC);
+            int nanos = value.getNano();
+            out.writeVarint(BinaryEventWriter.zigZagSize(seconds) + BinaryEventWriter.varintSize(nanos))
+                    .writeZigZag(seconds)
+                    .writeVarint(nanos);
+        }
+
+        @Override
+        public LocalDateTime read(BinaryEventReader in) {
+            BinaryEventReader nested = in.readNested();
+            long seconds = nested.readZigZag();
+            int nanos = nested.readVarint32();
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+
+    };
+
+    public static final FieldCodec<LocalDate> DATE = new FieldCodec<>() {
+
+        @Override
+        public WireType wireType() {
+            return WireType.VARINT;
+        }
+
+        @Override
+        public void write(BinaryEventWriter out, LocalDate value) {
+            out.writeZigZag(value.toEpochDay());
+        }
+
+        @Override
+        public LocalDate read(BinaryEventReader in) {
+            return LocalDate.ofEpochDay(in.readZigZag());
+        }
+
+    };
+
+    private FieldCodecs() {
+    }
+
+}
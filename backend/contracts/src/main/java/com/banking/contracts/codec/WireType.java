@@ -0,0 +1,29 @@
+package com.banking.contracts.codec;
+
+public enum WireType {
+
+    VARINT(0),
+    FIXED64(1),
+    LENGTH_DELIMITED(2),
+    FIXED128(3);
+
+    private static final WireType[] BY_ID = values();
+
+    private final int id;
+
+    WireType(int id) {
+        this.id = id;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public static WireType of(int id) {
+        if (id < 0 || id >= BY_ID.length) {
+            throw new IllegalArgumentException("Unknown wire type " + id);
+        }
+        return BY_ID[id];
+    }
+
+}
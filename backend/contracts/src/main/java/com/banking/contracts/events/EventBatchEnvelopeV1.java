@@ -0,0 +1,47 @@
+package com.banking.contracts.events;
+
+import com.banking.contracts.events.account.AccountCreatedEventV1;
+import com.banking.contracts.events.account.AccountUpdatedEventV1;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
+import com.banking.contracts.events.customer.CustomerUpdatedEventV1;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class EventBatchEnvelopeV1 implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private UUID batchId;
+    private int schemaVersion;
+    private String source;
+    private LocalDateTime createdAt;
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT)
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = AccountCreatedEventV1.class, name = "AccountCreatedEventV1"),
+            @JsonSubTypes.Type(value = AccountUpdatedEventV1.class, name = "AccountUpdatedEventV1"),
+            @JsonSubTypes.Type(value = TransactionPerformedEventV1.class, name = "TransactionPerformedEventV1"),
+            @JsonSubTypes.Type(value = CustomerCreatedEventV1.class, name = "CustomerCreatedEventV1"),
+            @JsonSubTypes.Type(value = CustomerUpdatedEventV1.class, name = "CustomerUpdatedEventV1"),
+            @JsonSubTypes.Type(value = CustomerStatusChangedEventV1.class, name = "CustomerStatusChangedEventV1")
+    })
+    private List<Object> events;
+
+}
@@ -29,5 +29,6 @@ public class CustomerCreatedEventV1 implements Serializable {
     private String phone;
     private String status;
     private LocalDateTime occurredAt;
+    private Long sequence;
 
 }
\ No newline at end of file
@@ -22,5 +22,6 @@ public class CustomerStatusChangedEventV1 implements Serializable {
     private String newStatus;
     private String reason;
     private LocalDateTime occurredAt;
+    private Long sequence;
 
 }
\ No newline at end of file
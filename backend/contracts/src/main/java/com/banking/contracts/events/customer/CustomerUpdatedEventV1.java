@@ -24,5 +24,6 @@ public class CustomerUpdatedEventV1 implements Serializable {
     private String address;
     private String phone;
     private LocalDateTime occurredAt;
+    private Long sequence;
 
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.banking.contracts.codec;
+
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+import com.banking.contracts.events.account.TransactionPerformedEventV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryEventCodecTest {
+
+    private final BinaryEventCodec codec = new BinaryEventCodec();
+
+    @Test
+    @DisplayName("Should round-trip a transaction event with exact decimals and timestamps")
+    void shouldRoundTripTransactionEvent() {
+        TransactionPerformedEventV1 event = transaction();
+
+        TransactionPerformedEventV1 decoded = codec.decode(codec.encode(event), TransactionPerformedEventV1.class);
+
+        assertEquals(event.toString(), decoded.toString());
+        assertEquals(event.getBalanceAfter().scale(), decoded.getBalanceAfter().scale());
+    }
+
+    @Test
+    @DisplayName("Should leave absent fields null")
+    void shouldLeaveAbsentFieldsNull() {
+        CustomerCreatedEventV1 event = CustomerCreatedEventV1.builder()
+                .customerId(UUID.randomUUID())
+                .name("Jöhn")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .sequence(42L)
+                .build();
+
+        CustomerCreatedEventV1 decoded = codec.decode(codec.encode(event), CustomerCreatedEventV1.class);
+
+        assertEquals(event.toString(), decoded.toString());
+    }
+
+    @Test
+    @DisplayName("Should round-trip an envelope of mixed events in order")
+    void shouldRoundTripEnvelope() {
+        TransactionPerformedEventV1 transaction = transaction();
+        CustomerCreatedEventV1 customer = CustomerCreatedEventV1.builder().customerId(UUID.randomUUID()).build();
+        EventBatchEnvelopeV1 envelope = EventBatchEnvelopeV1.builder()
+                .batchId(UUID.randomUUID())
+                .schemaVersion(EventBatchEnvelopeV1.SCHEMA_VERSION)
+                .source("account-service")
+                .createdAt(LocalDateTime.now())
+                .events(List.of(transaction, customer))
+                .build();
+
+        EventBatchEnvelopeV1 decoded = codec.decode(codec.encode(envelope), EventBatchEnvelopeV1.class);
+
+        assertEquals(envelope.getBatchId(), decoded.getBatchId());
+        assertEquals(envelope.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(2, decoded.getEvents().size());
+        assertEquals(transaction.toString(), decoded.getEvents().get(0).toString());
+        assertEquals(customer.toString(), decoded.getEvents().get(1).toString());
+    }
+
+    @Test
+    @DisplayName("Should skip fields added by newer schema versions")
+    void shouldSkipUnknownFields() {
+        TransactionPerformedEventV1 event = transaction();
+        BinaryEventWriter newer = new BinaryEventWriter(256).writeRaw(codec.encode(event));
+        newer.writeTag(40, WireType.LENGTH_DELIMITED).writeBytes(new byte[]{1, 2, 3});
+        newer.writeTag(41, WireType.VARINT).writeVarint(300);
+        newer.writeTag(42, WireType.FIXED128).writeFixed64(1L).writeFixed64(2L);
+
+        TransactionPerformedEventV1 decoded = codec.decode(newer.toByteArray(), TransactionPerformedEventV1.class);
+
+        assertEquals(event.toString(), decoded.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated payloads and unexpected event types")
+    void shouldRejectInvalidPayloads() {
+        byte[] payload = codec.encode(transaction());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(Arrays.copyOf(payload, payload.length - 3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(payload, CustomerCreatedEventV1.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode("{\"amount\":1}".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Should support every contract type and keep frames compact")
+    void shouldSupportContractTypes() {
+        assertTrue(codec.supports(TransactionPerformedEventV1.class));
+        assertTrue(codec.supports(EventBatchEnvelopeV1.class));
+        assertTrue(codec.encode(transaction()).length < 150);
+    }
+
+    private TransactionPerformedEventV1 transaction() {
+        return TransactionPerformedEventV1.builder()
+                .transactionId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .accountNumber("478758")
+                .customerId(UUID.randomUUID())
+                .transactionType("WITHDRAWAL")
+                .amount(new BigDecimal("-575.00"))
+                .balanceBefore(new BigDecimal("2000.00"))
+                .balanceAfter(new BigDecimal("123456789012345678901234.5678"))
+                .reference("REF-1")
+                .occurredAt(LocalDateTime.of(2024, 3, 15, 10, 30, 0, 123456789))
+                .build();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.infrastructure.config.PasswordHashingProperties;
+import com.banking.customer.infrastructure.security.PasswordEncoders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Sup3r-Secret-Passw0rd";
+
+    @Param({
+            "bcrypt:10",
+            "bcrypt:12",
+            "argon2id:19456:2:1",
+            "argon2id:47104:1:1",
+            "argon2id:65536:3:1"
+    })
+    private String parameters;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = parameters.split(":");
+        encoder = PasswordEncoders.BCRYPT.equals(parts[0])
+                ? PasswordEncoders.bcrypt(new PasswordHashingProperties.Bcrypt(Integer.parseInt(parts[1])))
+                : PasswordEncoders.argon2id(new PasswordHashingProperties.Argon2(
+                        16, 32, Integer.parseInt(parts[3]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.banking.customer.application.dto;
+
+public record CustomerImportCheckpoint(
+        String importId,
+        long lastLine,
+        long imported,
+        long failed
+) {
+
+    public static CustomerImportCheckpoint start(String importId) {
+        return new CustomerImportCheckpoint(importId, 0, 0, 0);
+    }
+
+    public CustomerImportCheckpoint advance(long line, long importedRows, long failedRows) {
+        return new CustomerImportCheckpoint(importId, line, imported + importedRows, failed + failedRows);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.banking.customer.application.dto;
+
+public record CustomerImportError(
+        long line,
+        String customerId,
+        String errorCode,
+        String argument
+) {
+}
@@ -0,0 +1,17 @@
+package com.banking.customer.application.dto;
+
+public record CustomerImportRow(
+        long line,
+        CustomerRequest request,
+        String error
+) {
+
+    public static CustomerImportRow of(long line, CustomerRequest request) {
+        return new CustomerImportRow(line, request, null);
+    }
+
+    public static CustomerImportRow unreadable(long line, String error) {
+        return new CustomerImportRow(line, null, error);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.banking.customer.application.dto;
+
+import java.time.Duration;
+
+public record CustomerImportSummary(
+        String importId,
+        long resumedAfterLine,
+        long lastLine,
+        long imported,
+        long failed,
+        Duration elapsed
+) {
+}
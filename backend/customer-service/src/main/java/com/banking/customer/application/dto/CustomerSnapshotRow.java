@@ -0,0 +1,12 @@
+package com.banking.customer.application.dto;
+
+import java.util.UUID;
+
+public record CustomerSnapshotRow(
+        UUID id,
+        String customerId,
+        String name,
+        String status,
+        long sequence
+) {
+}
@@ -0,0 +1,7 @@
+package com.banking.customer.application.dto;
+
+public record CustomerSnapshotTrailer(
+        long mark,
+        long count
+) {
+}
@@ -1,5 +1,6 @@
 package com.banking.customer.application.port.in;
 
+import com.banking.commons.dto.ResourceVersion;
 import com.banking.customer.application.dto.CustomerFilter;
 import com.banking.customer.application.dto.CustomerResponse;
 import org.springframework.data.domain.Page;
@@ -11,6 +12,8 @@ public interface GetCustomerUseCase {
 
     CustomerResponse findById(UUID id);
 
+    ResourceVersion findVersionById(UUID id);
+
     Page<CustomerResponse> findAll(CustomerFilter filter, Pageable pageable);
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.banking.customer.application.port.in;
+
+import com.banking.customer.application.dto.CustomerImportError;
+import com.banking.customer.application.dto.CustomerImportRequest;
+import com.banking.customer.application.dto.CustomerImportRow;
+import com.banking.customer.application.dto.CustomerImportSummary;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ImportCustomersUseCase {
+
+    CustomerImportSummary importCustomers(
+            CustomerImportRequest request,
+            Iterator<CustomerImportRow> rows,
+            Consumer<CustomerImportError> errors
+    );
+
+}
@@ -0,0 +1,14 @@
+package com.banking.customer.application.port.in;
+
+import com.banking.customer.application.dto.CustomerSnapshotRow;
+import com.banking.customer.application.dto.CustomerSnapshotTrailer;
+
+import java.util.function.Consumer;
+
+public interface StreamCustomerSnapshotUseCase {
+
+    long highWaterMark();
+
+    CustomerSnapshotTrailer streamSnapshot(long mark, Consumer<CustomerSnapshotRow> consumer);
+
+}
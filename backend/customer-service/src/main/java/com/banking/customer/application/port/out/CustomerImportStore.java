@@ -0,0 +1,23 @@
+package com.banking.customer.application.port.out;
+
+import com.banking.customer.application.dto.CustomerImportCheckpoint;
+import com.banking.customer.domain.model.Customer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CustomerImportStore {
+
+    Optional<CustomerImportCheckpoint> findCheckpoint(String importId);
+
+    void saveCheckpoint(CustomerImportCheckpoint checkpoint);
+
+    Set<String> findExistingCustomerIds(Collection<String> customerIds);
+
+    Set<String> findExistingIdentifications(Collection<String> identifications);
+
+    void insertAll(List<Customer> customers);
+
+}
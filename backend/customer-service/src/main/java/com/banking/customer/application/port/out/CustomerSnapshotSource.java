@@ -0,0 +1,11 @@
+package com.banking.customer.application.port.out;
+
+import com.banking.customer.application.dto.CustomerSnapshotRow;
+
+import java.util.function.Consumer;
+
+public interface CustomerSnapshotSource {
+
+    long forEach(Consumer<CustomerSnapshotRow> consumer);
+
+}
@@ -0,0 +1,15 @@
+package com.banking.customer.application.port.out;
+
+import java.util.List;
+
+public interface PasswordHasher {
+
+    String hash(String plainPassword);
+
+    default List<String> hashAll(List<String> plainPasswords) {
+        return plainPasswords.stream().map(this::hash).toList();
+    }
+
+    boolean matches(String plainPassword, String hashedPassword);
+
+}
@@ -0,0 +1,217 @@
+package com.banking.customer.application.service;
+
+import com.banking.customer.application.dto.CustomerImportCheckpoint;
+import com.banking.customer.application.dto.CustomerImportError;
+import com.banking.customer.application.dto.CustomerImportRequest;
+import com.banking.customer.application.dto.CustomerImportRow;
+import com.banking.customer.application.dto.CustomerImportSummary;
+import com.banking.customer.application.dto.CustomerRequest;
+import com.banking.customer.application.port.in.ImportCustomersUseCase;
+import com.banking.customer.application.port.out.CustomerImportStore;
+import com.banking.customer.application.port.out.DomainEventPublisher;
+import com.banking.customer.domain.exception.CustomerErrorCode;
+import com.banking.customer.domain.model.Customer;
+import com.banking.customer.domain.model.CustomerId;
+import com.banking.customer.domain.model.Identification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerImportService implements ImportCustomersUseCase {
+
+    private final CustomerImportStore importStore;
+    private final PasswordHashingService passwordHashingService;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public CustomerImportSummary importCustomers(
+            CustomerImportRequest request,
+            Iterator<CustomerImportRow> rows,
+            Consumer<CustomerImportError> errors
+    ) {
+        CustomerImportCheckpoint checkpoint = importStore.findCheckpoint(request.importId())
+                .orElseGet(() -> CustomerImportCheckpoint.start(request.importId()));
+        long resumeAfter = checkpoint.lastLine();
+
+        if (resumeAfter > 0) {
+            log.info("Resuming customer import {} after line {} ({} imported, {} failed so far)",
+                    request.importId(), resumeAfter, checkpoint.imported(), checkpoint.failed());
+        }
+
+        long startedAt = System.nanoTime();
+        List<CustomerImportRow> chunk = new ArrayList<>(request.batchSize());
+
+        while (rows.hasNext()) {
+            CustomerImportRow row = rows.next();
+            if (row.line() <= resumeAfter) {
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() >= request.batchSize()) {
+                checkpoint = importChunk(checkpoint, chunk, errors);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            checkpoint = importChunk(checkpoint, chunk, errors);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        log.info("Customer import {} completed up to line {}: {} imported, {} failed in {}",
+                request.importId(), checkpoint.lastLine(), checkpoint.imported(), checkpoint.failed(), elapsed);
+
+        return new CustomerImportSummary(
+                request.importId(),
+                resumeAfter,
+                checkpoint.lastLine(),
+                checkpoint.imported(),
+                checkpoint.failed(),
+                elapsed
+        );
+    }
+
+    private CustomerImportCheckpoint importChunk(
+            CustomerImportCheckpoint checkpoint,
+            List<CustomerImportRow> chunk,
+            Consumer<CustomerImportError> errors
+    ) {
+        List<CustomerImportError> failures = new ArrayList<>();
+        List<Candidate> candidates = validate(chunk, failures);
+        candidates = rejectExisting(candidates, failures);
+
+        List<String> hashes = candidates.isEmpty()
+                ? List.of()
+                : passwordHashingService.hashPasswords(candidates.stream()
+                        .map(candidate -> candidate.request().getPassword())
+                        .toList());
+
+        List<Customer> customers = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            CustomerRequest request = candidate.request();
+            try {
+                customers.add(Customer.create(
+                        request.getName(),
+                        request.getLastName(),
+                        request.getGender(),
+                        request.getBirthDate(),
+                        candidate.identification(),
+                        request.getAddress(),
+                        request.getPhone(),
+                        candidate.customerId(),
+                        hashes.get(i)
+                ));
+            } catch (IllegalArgumentException e) {
+                failures.add(new CustomerImportError(candidate.line(), candidate.customerId(), e.getMessage(), null));
+            }
+        }
+
+        CustomerImportCheckpoint next = checkpoint.advance(chunk.getLast().line(), customers.size(), failures.size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            importStore.insertAll(customers);
+            eventPublisher.publish(customers.stream()
+                    .flatMap(customer -> customer.getDomainEvents().stream())
+                    .toList());
+            importStore.saveCheckpoint(next);
+        });
+        customers.forEach(Customer::clearDomainEvents);
+
+        failures.sort(Comparator.comparingLong(CustomerImportError::line));
+        failures.forEach(errors);
+
+        log.debug("Customer import {}: lines up to {} committed ({} imported, {} failed)",
+                next.importId(), next.lastLine(), customers.size(), failures.size());
+
+        return next;
+    }
+
+    private List<Candidate> validate(List<CustomerImportRow> chunk, List<CustomerImportError> failures) {
+        Set<String> customerIds = new HashSet<>();
+        Set<String> identifications = new HashSet<>();
+        List<Candidate> candidates = new ArrayList<>(chunk.size());
+
+        for (CustomerImportRow row : chunk) {
+            if (Objects.nonNull(row.error())) {
+                failures.add(new CustomerImportError(row.line(), null,
+                        CustomerErrorCode.CUSTOMER_IMPORT_UNREADABLE_ROW.getCode(), row.error()));
+                continue;
+            }
+
+            CustomerRequest request = row.request();
+            String rawCustomerId = request.getCustomerId();
+
+            String customerId;
+            String identification;
+            try {
+                customerId = CustomerId.of(rawCustomerId).value();
+                identification = Identification.of(request.getIdentification()).value();
+            } catch (IllegalArgumentException e) {
+                failures.add(new CustomerImportError(row.line(), rawCustomerId, e.getMessage(), null));
+                continue;
+            }
+
+            if (Objects.isNull(request.getPassword()) || request.getPassword().isBlank()) {
+                failures.add(new CustomerImportError(row.line(), customerId,
+                        CustomerErrorCode.CUSTOMER_VALIDATION_PASSWORD_EMPTY.getCode(), null));
+            } else if (!customerIds.add(customerId)) {
+                failures.add(new CustomerImportError(row.line(), customerId,
+                        CustomerErrorCode.CUSTOMER_BUSINESS_DUPLICATE_ID.getCode(), customerId));
+            } else if (!identifications.add(identification)) {
+                failures.add(new CustomerImportError(row.line(), customerId,
+                        CustomerErrorCode.CUSTOMER_BUSINESS_DUPLICATE_IDENTIFICATION.getCode(), identification));
+            } else {
+                candidates.add(new Candidate(row.line(), request, customerId, identification));
+            }
+        }
+
+        return candidates;
+    }
+
+    private List<Candidate> rejectExisting(List<Candidate> candidates, List<CustomerImportError> failures) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> existingCustomerIds = importStore.findExistingCustomerIds(
+                candidates.stream().map(Candidate::customerId).toList());
+        Set<String> existingIdentifications = importStore.findExistingIdentifications(
+                candidates.stream().map(Candidate::identification).toList());
+
+        List<Candidate> accepted = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (existingCustomerIds.contains(candidate.customerId())) {
+                failures.add(new CustomerImportError(candidate.line(), candidate.customerId(),
+                        CustomerErrorCode.CUSTOMER_BUSINESS_DUPLICATE_ID.getCode(), candidate.customerId()));
+            } else if (existingIdentifications.contains(candidate.identification())) {
+                failures.add(new CustomerImportError(candidate.line(), candidate.customerId(),
+                        CustomerErrorCode.CUSTOMER_BUSINESS_DUPLICATE_IDENTIFICATION.getCode(), candidate.identification()));
+            } else {
+                accepted.add(candidate);
+            }
+        }
+
+        return accepted;
+    }
+
+    private record Candidate(long line, CustomerRequest request, String customerId, String identification) {
+    }
+
+}
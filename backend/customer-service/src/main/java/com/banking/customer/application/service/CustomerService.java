@@ -1,5 +1,6 @@
 package com.banking.customer.application.service;
 
+import com.banking.commons.dto.ResourceVersion;
 import com.banking.customer.application.dto.CustomerFilter;
 import com.banking.customer.application.dto.CustomerRequest;
 import com.banking.customer.application.dto.CustomerResponse;
@@ -23,7 +24,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -40,9 +43,9 @@ public class CustomerService implements
     private final CustomerResponseMapper customerMapper;
     private final PasswordHashingService passwordHashingService;
     private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public CustomerResponse create(CustomerRequest request) {
         log.info("Creating customer with customerId: {}", request.getCustomerId());
 
@@ -50,70 +53,78 @@ public class CustomerService implements
 
         String hashedPassword = passwordHashingService.hashPassword(request.getPassword());
 
-        Customer customer = Customer.create(
-                request.getName(),
-                request.getLastName(),
-                request.getGender(),
-                request.getBirthDate(),
-                request.getIdentification(),
-                request.getAddress(),
-                request.getPhone(),
-                request.getCustomerId(),
-                hashedPassword
-        );
-
-        Customer savedCustomer = customerRepository.save(customer);
-
-        eventPublisher.publish(savedCustomer.getDomainEvents());
-        savedCustomer.clearDomainEvents();
-
-        log.info("Customer created successfully with ID: {}", savedCustomer.getId());
-        return customerMapper.toResponse(savedCustomer);
+        return transactionTemplate.execute(status -> {
+            Customer customer = Customer.create(
+                    request.getName(),
+                    request.getLastName(),
+                    request.getGender(),
+                    request.getBirthDate(),
+                    request.getIdentification(),
+                    request.getAddress(),
+                    request.getPhone(),
+                    request.getCustomerId(),
+                    hashedPassword
+            );
+
+            Customer savedCustomer = customerRepository.save(customer);
+
+            eventPublisher.publish(savedCustomer.getDomainEvents());
+            savedCustomer.clearDomainEvents();
+
+            log.info("Customer created successfully with ID: {}", savedCustomer.getId());
+            return customerMapper.toResponse(savedCustomer);
+        });
     }
 
     @Override
-    @Transactional
     public CustomerResponse update(UUID id, CustomerRequest request) {
         log.info("Updating customer: {}", id);
 
-        Customer customer = findCustomerById(id);
+        PasswordHash newPasswordHash = hashPasswordIfProvided(request.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            Customer customer = findCustomerById(id);
 
-        customer.updatePersonalInfo(
-                request.getName(),
-                request.getLastName(),
-                request.getAddress(),
-                request.getPhone()
-        );
+            customer.updatePersonalInfo(
+                    request.getName(),
+                    request.getLastName(),
+                    request.getAddress(),
+                    request.getPhone()
+            );
 
-        updatePasswordIfProvided(customer, request.getPassword());
+            updatePasswordIfProvided(customer, newPasswordHash);
 
-        Customer updated = customerRepository.save(customer);
+            Customer updated = customerRepository.save(customer);
 
-        eventPublisher.publish(updated.getDomainEvents());
-        updated.clearDomainEvents();
+            eventPublisher.publish(updated.getDomainEvents());
+            updated.clearDomainEvents();
 
-        log.info("Customer updated successfully: {}", id);
-        return customerMapper.toResponse(updated);
+            log.info("Customer updated successfully: {}", id);
+            return customerMapper.toResponse(updated);
+        });
     }
 
     @Override
-    @Transactional
     public CustomerResponse patch(UUID id, CustomerUpdateRequest request) {
         log.info("Partial update for customer: {}", id);
 
-        Customer customer = findCustomerById(id);
+        PasswordHash newPasswordHash = hashPasswordIfProvided(request.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            Customer customer = findCustomerById(id);
 
-        updateContactInfoIfProvided(customer, request);
-        updatePasswordIfProvided(customer, request.getPassword());
-        updateStatusIfProvided(customer, request.getStatus());
+            updateContactInfoIfProvided(customer, request);
+            updatePasswordIfProvided(customer, newPasswordHash);
+            updateStatusIfProvided(customer, request.getStatus());
 
-        Customer updated = customerRepository.save(customer);
+            Customer updated = customerRepository.save(customer);
 
-        eventPublisher.publish(updated.getDomainEvents());
-        updated.clearDomainEvents();
+            eventPublisher.publish(updated.getDomainEvents());
+            updated.clearDomainEvents();
 
-        log.info("Customer partially updated successfully: {}", id);
-        return customerMapper.toResponse(updated);
+            log.info("Customer partially updated successfully: {}", id);
+            return customerMapper.toResponse(updated);
+        });
     }
 
     @Override
@@ -125,6 +136,15 @@ public class CustomerService implements
         return customerMapper.toResponse(customer);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionById(UUID id) {
+        Instant lastModified = customerRepository.findLastModifiedById(id)
+                .orElseThrow(() -> CustomerNotFoundException.withId(id));
+
+        return ResourceVersion.of(lastModified, id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<CustomerResponse> findAll(CustomerFilter filter, Pageable pageable) {
@@ -185,10 +205,15 @@ public class CustomerService implements
         }
     }
 
-    private void updatePasswordIfProvided(Customer customer, String password) {
+    private PasswordHash hashPasswordIfProvided(String password) {
         if (Objects.nonNull(password) && !password.isBlank()) {
-            String hashedPassword = passwordHashingService.hashPassword(password);
-            PasswordHash newPasswordHash = PasswordHash.fromHash(hashedPassword);
+            return PasswordHash.fromHash(passwordHashingService.hashPassword(password));
+        }
+        return null;
+    }
+
+    private void updatePasswordIfProvided(Customer customer, PasswordHash newPasswordHash) {
+        if (Objects.nonNull(newPasswordHash)) {
             customer.updatePassword(newPasswordHash);
         }
     }
@@ -0,0 +1,40 @@
+package com.banking.customer.application.service;
+
+import com.banking.customer.application.dto.CustomerSnapshotRow;
+import com.banking.customer.application.dto.CustomerSnapshotTrailer;
+import com.banking.customer.application.port.in.StreamCustomerSnapshotUseCase;
+import com.banking.customer.application.port.out.CustomerSnapshotSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerSnapshotService implements StreamCustomerSnapshotUseCase {
+
+    private final CustomerSnapshotSource snapshotSource;
+
+    @Override
+    public long highWaterMark() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    }
+
+    @Override
+    public CustomerSnapshotTrailer streamSnapshot(long mark, Consumer<CustomerSnapshotRow> consumer) {
+        log.info("Streaming customer snapshot at mark {}", mark);
+
+        long startedAt = System.nanoTime();
+        long count = snapshotSource.forEach(consumer);
+
+        log.info("Customer snapshot at mark {} streamed {} customers in {} ms",
+                mark, count, (System.nanoTime() - startedAt) / 1_000_000);
+
+        return new CustomerSnapshotTrailer(mark, count);
+    }
+
+}
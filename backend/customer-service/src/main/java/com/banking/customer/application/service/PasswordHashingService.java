@@ -1,32 +1,37 @@
 package com.banking.customer.application.service;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.banking.customer.application.port.out.PasswordHasher;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Objects;
 
 @Service
+@RequiredArgsConstructor
 public class PasswordHashingService {
 
-    private final PasswordEncoder passwordEncoder;
-
-    public PasswordHashingService() {
-        this.passwordEncoder = new BCryptPasswordEncoder(12);
-    }
+    private final PasswordHasher passwordHasher;
 
     public String hashPassword(String plainPassword) {
         if (Objects.isNull(plainPassword) || plainPassword.isBlank()) {
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
-        return passwordEncoder.encode(plainPassword);
+        return passwordHasher.hash(plainPassword);
+    }
+
+    public List<String> hashPasswords(List<String> plainPasswords) {
+        if (plainPasswords.stream().anyMatch(password -> Objects.isNull(password) || password.isBlank())) {
+            throw new IllegalArgumentException("Password cannot be null or empty");
+        }
+        return passwordHasher.hashAll(plainPasswords);
     }
 
     public boolean verifyPassword(String plainPassword, String hashedPassword) {
         if (Objects.isNull(plainPassword) || Objects.isNull(hashedPassword)) {
             return false;
         }
-        return passwordEncoder.matches(plainPassword, hashedPassword);
+        return passwordHasher.matches(plainPassword, hashedPassword);
     }
 
-}
\ No newline at end of file
+}
@@ -43,7 +43,11 @@ public enum CustomerErrorCode {
 
     CUSTOMER_OPERATION_UPDATE_FAILED("error.customer.operation.update.failed"),
     CUSTOMER_OPERATION_DELETE_FAILED("error.customer.operation.delete.failed"),
-    CUSTOMER_OPERATION_CREATE_FAILED("error.customer.operation.create.failed");
+    CUSTOMER_OPERATION_CREATE_FAILED("error.customer.operation.create.failed"),
+
+    CUSTOMER_IMPORT_UNREADABLE_ROW("error.customer.import.unreadable.row"),
+
+    CUSTOMER_SERVICE_BUSY("error.customer.service.busy");
 
     private final String code;
 
@@ -6,6 +6,7 @@ import com.banking.customer.domain.model.Identification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +16,8 @@ public interface CustomerRepository {
 
     Optional<Customer> findById(UUID id);
 
+    Optional<Instant> findLastModifiedById(UUID id);
+
     Page<Customer> findAll(Object filter, Pageable pageable);
 
     boolean existsByCustomerId(CustomerId customerId);
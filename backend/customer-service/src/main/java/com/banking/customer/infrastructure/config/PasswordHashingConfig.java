@@ -0,0 +1,18 @@
+package com.banking.customer.infrastructure.config;
+
+import com.banking.customer.infrastructure.security.BoundedPasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHashingConfig {
+
+    @Bean
+    public BoundedPasswordHasher passwordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordHasher(properties, meterRegistry);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.banking.customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "security.password-hashing")
+public record PasswordHashingProperties(
+        String algorithm,
+        int threads,
+        int queueCapacity,
+        Bcrypt bcrypt,
+        Argon2 argon2
+) {
+
+    public record Bcrypt(
+            int strength
+    ) {
+    }
+
+    public record Argon2(
+            int saltLength,
+            int hashLength,
+            int parallelism,
+            int memoryKib,
+            int iterations
+    ) {
+    }
+
+}
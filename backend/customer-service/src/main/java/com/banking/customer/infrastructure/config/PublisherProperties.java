@@ -0,0 +1,19 @@
+package com.banking.customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "messaging.publisher")
+public record PublisherProperties(
+        String mode,
+        String codec,
+        int maxInFlight,
+        Duration publishTimeout,
+        int retryBufferCapacity,
+        Duration retryInterval,
+        int maxAttempts,
+        int maxBatchSize,
+        Duration batchWindow
+) {
+}
@@ -1,5 +1,7 @@
 package com.banking.customer.infrastructure.config;
 
+import com.banking.commons.messaging.codec.EventCodecMessageConverter;
+import com.banking.contracts.codec.BinaryEventCodec;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -7,6 +9,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
@@ -14,12 +17,15 @@ import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 
 @Configuration
+@EnableConfigurationProperties(PublisherProperties.class)
 public class RabbitMQConfig {
 
     public static final String CUSTOMER_EXCHANGE = "customer.exchange";
     public static final String CUSTOMER_CREATED_ROUTING_KEY = "customer.created";
     public static final String CUSTOMER_UPDATED_ROUTING_KEY = "customer.updated";
 
+    private static final String BINARY_CODEC = "binary";
+
     private static final int MAX_RETRY_ATTEMPTS = 3;
     private static final long INITIAL_RETRY_INTERVAL = 1000L;
     private static final double RETRY_MULTIPLIER = 2.0;
@@ -32,26 +38,31 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter(PublisherProperties publisherProperties) {
+        return new EventCodecMessageConverter(
+                new Jackson2JsonMessageConverter(),
+                new BinaryEventCodec(),
+                BINARY_CODEC.equals(publisherProperties.codec())
+        );
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
         return rabbitTemplate;
     }
 
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            SimpleRabbitListenerContainerFactoryConfigurer configurer
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            MessageConverter messageConverter
     ) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         configurer.configure(factory, connectionFactory);
 
-        factory.setMessageConverter(jsonMessageConverter());
+        factory.setMessageConverter(messageConverter);
         factory.setPrefetchCount(PREFETCH_COUNT);
         factory.setRetryTemplate(retryTemplate());
         factory.setDefaultRequeueRejected(false);
@@ -8,9 +8,15 @@ import com.banking.customer.domain.event.CustomerStatusChangedEvent;
 import com.banking.customer.domain.event.CustomerUpdatedEvent;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Component
 public class CustomerEventMapper {
 
+    private final AtomicLong lastSequence = new AtomicLong();
+
     public CustomerCreatedEventV1 toContract(CustomerCreatedEvent event) {
         return CustomerCreatedEventV1.builder()
                 .customerId(event.customerId())
@@ -24,6 +30,7 @@ public class CustomerEventMapper {
                 .phone(event.phone())
                 .status(event.status().name())
                 .occurredAt(event.occurredAt())
+                .sequence(nextSequence())
                 .build();
     }
 
@@ -36,6 +43,7 @@ public class CustomerEventMapper {
                 .address(event.address())
                 .phone(event.phone())
                 .occurredAt(event.occurredAt())
+                .sequence(nextSequence())
                 .build();
     }
 
@@ -46,7 +54,13 @@ public class CustomerEventMapper {
                 .newStatus(event.newStatus().name())
                 .reason(event.reason())
                 .occurredAt(event.occurredAt())
+                .sequence(nextSequence())
                 .build();
     }
 
-}
\ No newline at end of file
+    private long nextSequence() {
+        long now = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        return lastSequence.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.banking.customer.infrastructure.messaging.publisher;
+
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+import com.banking.customer.application.port.out.DomainEventPublisher;
+import com.banking.customer.domain.event.CustomerCreatedEvent;
+import com.banking.customer.domain.event.CustomerStatusChangedEvent;
+import com.banking.customer.domain.event.CustomerUpdatedEvent;
+import com.banking.customer.infrastructure.config.PublisherProperties;
+import com.banking.customer.infrastructure.config.RabbitMQConfig;
+import com.banking.customer.infrastructure.messaging.mapper.CustomerEventMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "messaging.publisher", name = "mode", havingValue = "batched")
+public class BatchingDomainEventPublisher implements DomainEventPublisher {
+
+    private static final String SOURCE = "customer-service";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final CustomerEventMapper eventMapper;
+    private final int maxBatchSize;
+    private final boolean windowed;
+
+    private final List<RoutedEvent> pending = new ArrayList<>();
+    private final ScheduledExecutorService flushScheduler;
+
+    public BatchingDomainEventPublisher(
+            RabbitTemplate rabbitTemplate,
+            CustomerEventMapper eventMapper,
+            PublisherProperties properties
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.eventMapper = eventMapper;
+        this.maxBatchSize = Math.max(properties.maxBatchSize(), 1);
+        this.windowed = properties.batchWindow().isPositive();
+
+        if (windowed) {
+            long windowMillis = Math.max(properties.batchWindow().toMillis(), 1L);
+            this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("event-publisher-batch").factory());
+            this.flushScheduler.scheduleWithFixedDelay(this::flushPending, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flushScheduler = null;
+        }
+    }
+
+    @Override
+    public void publish(List<Object> domainEvents) {
+        if (Objects.isNull(domainEvents) || domainEvents.isEmpty()) {
+            return;
+        }
+
+        List<RoutedEvent> events = domainEvents.stream()
+                .map(this::toRoutedEvent)
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            unitOfWork().events.addAll(events);
+        } else {
+            submit(events);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(flushScheduler)) {
+            flushScheduler.shutdownNow();
+            flushPending();
+        }
+    }
+
+    private UnitOfWork unitOfWork() {
+        UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+        if (Objects.isNull(unitOfWork)) {
+            unitOfWork = new UnitOfWork();
+            TransactionSynchronizationManager.bindResource(this, unitOfWork);
+            TransactionSynchronizationManager.registerSynchronization(unitOfWork);
+        }
+        return unitOfWork;
+    }
+
+    private void submit(List<RoutedEvent> events) {
+        if (!windowed) {
+            send(events);
+            return;
+        }
+
+        List<RoutedEvent> ready = null;
+        synchronized (pending) {
+            pending.addAll(events);
+            if (pending.size() >= maxBatchSize) {
+                ready = List.copyOf(pending);
+                pending.clear();
+            }
+        }
+
+        if (Objects.nonNull(ready)) {
+            send(ready);
+        }
+    }
+
+    private void flushPending() {
+        List<RoutedEvent> ready;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ready = List.copyOf(pending);
+            pending.clear();
+        }
+
+        try {
+            send(ready);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish {} batched customer events: {}", ready.size(), e.getMessage(), e);
+        }
+    }
+
+    private void send(List<RoutedEvent> events) {
+        Map<String, List<Object>> byRoutingKey = new LinkedHashMap<>();
+        events.forEach(event -> byRoutingKey
+                .computeIfAbsent(event.routingKey(), key -> new ArrayList<>())
+                .add(event.payload()));
+
+        byRoutingKey.forEach((routingKey, payloads) -> {
+            for (int from = 0; from < payloads.size(); from += maxBatchSize) {
+                List<Object> chunk = payloads.subList(from, Math.min(from + maxBatchSize, payloads.size()));
+                rabbitTemplate.convertAndSend(RabbitMQConfig.CUSTOMER_EXCHANGE, routingKey, toMessagePayload(chunk));
+            }
+
+            log.debug("Published {} customer events with routing key {}", payloads.size(), routingKey);
+        });
+    }
+
+    private Object toMessagePayload(List<Object> chunk) {
+        if (chunk.size() == 1) {
+            return chunk.getFirst();
+        }
+
+        return EventBatchEnvelopeV1.builder()
+                .batchId(UUID.randomUUID())
+                .schemaVersion(EventBatchEnvelopeV1.SCHEMA_VERSION)
+                .source(SOURCE)
+                .createdAt(LocalDateTime.now())
+                .events(List.copyOf(chunk))
+                .build();
+    }
+
+    private Optional<RoutedEvent> toRoutedEvent(Object event) {
+        return switch (event) {
+            case CustomerCreatedEvent e -> Optional.of(new RoutedEvent(
+                    RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY,
+                    eventMapper.toContract(e)
+            ));
+            case CustomerStatusChangedEvent e -> Optional.of(new RoutedEvent(
+                    e.newStatus().isActive()
+                            ? RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".activated"
+                            : RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".deactivated",
+                    eventMapper.toContract(e)
+            ));
+            case CustomerUpdatedEvent e -> Optional.of(new RoutedEvent(
+                    RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY,
+                    eventMapper.toContract(e)
+            ));
+            default -> {
+                log.warn("Unknown event type: {}", event.getClass().getName());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    private record RoutedEvent(String routingKey, Object payload) {
+    }
+
+    private final class UnitOfWork implements TransactionSynchronization {
+
+        private final List<RoutedEvent> events = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            submit(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BatchingDomainEventPublisher.this);
+        }
+
+    }
+
+}
@@ -0,0 +1,310 @@
+package com.banking.customer.infrastructure.messaging.publisher;
+
+import com.banking.customer.application.port.out.DomainEventPublisher;
+import com.banking.customer.domain.event.CustomerCreatedEvent;
+import com.banking.customer.domain.event.CustomerStatusChangedEvent;
+import com.banking.customer.domain.event.CustomerUpdatedEvent;
+import com.banking.customer.infrastructure.config.PublisherProperties;
+import com.banking.customer.infrastructure.config.RabbitMQConfig;
+import com.banking.customer.infrastructure.messaging.mapper.CustomerEventMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "messaging.publisher", name = "mode", havingValue = "confirmed")
+public class ConfirmingDomainEventPublisher implements DomainEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final CustomerEventMapper eventMapper;
+    private final PublisherProperties properties;
+
+    private final Semaphore inFlightWindow;
+    private final Map<String, PendingPublish> inFlight = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingPublish> retryBuffer;
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Timer confirmLatency;
+    private final Counter ackedCounter;
+    private final Counter nackedCounter;
+    private final Counter returnedCounter;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public ConfirmingDomainEventPublisher(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            CustomerEventMapper eventMapper,
+            PublisherProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this(new RabbitTemplate(connectionFactory), messageConverter, eventMapper, properties, meterRegistry);
+    }
+
+    ConfirmingDomainEventPublisher(
+            RabbitTemplate rabbitTemplate,
+            MessageConverter messageConverter,
+            CustomerEventMapper eventMapper,
+            PublisherProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventMapper = eventMapper;
+        this.properties = properties;
+
+        this.rabbitTemplate = rabbitTemplate;
+        this.rabbitTemplate.setMessageConverter(messageConverter);
+        this.rabbitTemplate.setMandatory(true);
+        this.rabbitTemplate.setConfirmCallback(this::onConfirm);
+
+        this.inFlightWindow = new Semaphore(properties.maxInFlight());
+        this.retryBuffer = new ArrayBlockingQueue<>(properties.retryBufferCapacity());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("event-publisher-retry").factory());
+        this.retryScheduler.scheduleWithFixedDelay(
+                this::drainRetryBuffer,
+                properties.retryInterval().toMillis(),
+                properties.retryInterval().toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+
+        this.confirmLatency = Timer.builder("customer.events.confirm.latency")
+                .description("Time between publishing a customer event and the broker confirm")
+                .register(meterRegistry);
+        this.ackedCounter = publishCounter(meterRegistry, "acked");
+        this.nackedCounter = publishCounter(meterRegistry, "nacked");
+        this.returnedCounter = publishCounter(meterRegistry, "returned");
+        this.droppedCounter = publishCounter(meterRegistry, "dropped");
+
+        Gauge.builder("customer.events.retry.buffer", retryBuffer, BlockingQueue::size)
+                .description("Customer events waiting to be republished")
+                .register(meterRegistry);
+        Gauge.builder("customer.events.in.flight", inFlight, Map::size)
+                .description("Customer events published but not yet confirmed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<Object> domainEvents) {
+        if (Objects.isNull(domainEvents) || domainEvents.isEmpty()) {
+            return;
+        }
+
+        List<PendingPublish> publishes = domainEvents.stream()
+                .map(this::toPendingPublish)
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            unitOfWork().publishes.addAll(publishes);
+        } else {
+            publishes.forEach(publish -> send(publish, 0L));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+
+        if (!inFlight.isEmpty() || !retryBuffer.isEmpty()) {
+            log.warn("Shutting down with {} unconfirmed and {} buffered customer events",
+                    inFlight.size(), retryBuffer.size());
+        }
+    }
+
+    private UnitOfWork unitOfWork() {
+        UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+        if (Objects.isNull(unitOfWork)) {
+            unitOfWork = new UnitOfWork();
+            TransactionSynchronizationManager.bindResource(this, unitOfWork);
+            TransactionSynchronizationManager.registerSynchronization(unitOfWork);
+        }
+        return unitOfWork;
+    }
+
+    private Optional<PendingPublish> toPendingPublish(Object event) {
+        return switch (event) {
+            case CustomerCreatedEvent e -> Optional.of(pending(
+                    RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY,
+                    eventMapper.toContract(e)
+            ));
+            case CustomerStatusChangedEvent e -> Optional.of(pending(
+                    e.newStatus().isActive()
+                            ? RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".activated"
+                            : RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".deactivated",
+                    eventMapper.toContract(e)
+            ));
+            case CustomerUpdatedEvent e -> Optional.of(pending(
+                    RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY,
+                    eventMapper.toContract(e)
+            ));
+            default -> {
+                log.warn("Unknown event type: {}", event.getClass().getName());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    private PendingPublish pending(String routingKey, Object contractEvent) {
+        String id = UUID.randomUUID().toString();
+
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setMessageId(id);
+        Message message = rabbitTemplate.getMessageConverter().toMessage(contractEvent, messageProperties);
+
+        return new PendingPublish(id, RabbitMQConfig.CUSTOMER_EXCHANGE, routingKey, message, 1, 0L);
+    }
+
+    private void send(PendingPublish publish, long windowTimeoutMillis) {
+        try {
+            if (!inFlightWindow.tryAcquire(windowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                buffer(publish, "in-flight window full");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            buffer(publish, "interrupted while waiting for the in-flight window");
+            return;
+        }
+
+        PendingPublish sent = publish.sentAt(System.nanoTime());
+        inFlight.put(sent.id(), sent);
+
+        try {
+            rabbitTemplate.send(sent.exchange(), sent.routingKey(), sent.message(), new CorrelationData(sent.id()));
+            log.debug("Customer event {} published to {}", sent.id(), sent.routingKey());
+        } catch (AmqpException e) {
+            if (inFlight.remove(sent.id()) != null) {
+                inFlightWindow.release();
+            }
+            buffer(sent, e.getMessage());
+        }
+    }
+
+    private void onConfirm(CorrelationData correlation, boolean ack, String cause) {
+        if (Objects.isNull(correlation)) {
+            return;
+        }
+
+        PendingPublish publish = inFlight.remove(correlation.getId());
+        if (Objects.isNull(publish)) {
+            return;
+        }
+
+        inFlightWindow.release();
+        confirmLatency.record(System.nanoTime() - publish.sentAtNanos(), TimeUnit.NANOSECONDS);
+
+        ReturnedMessage returned = correlation.getReturned();
+        if (!ack) {
+            nackedCounter.increment();
+            buffer(publish, cause);
+        } else if (Objects.nonNull(returned)) {
+            returnedCounter.increment();
+            buffer(publish, returned.getReplyText());
+        } else {
+            ackedCounter.increment();
+        }
+    }
+
+    private void buffer(PendingPublish publish, String reason) {
+        if (publish.attempt() >= properties.maxAttempts()) {
+            log.error("Dropping customer event {} to {} after {} attempts: {}",
+                    publish.id(), publish.routingKey(), publish.attempt(), reason);
+            droppedCounter.increment();
+            return;
+        }
+
+        if (!retryBuffer.offer(publish.nextAttempt())) {
+            log.error("Retry buffer full, dropping customer event {} to {}: {}",
+                    publish.id(), publish.routingKey(), reason);
+            droppedCounter.increment();
+            return;
+        }
+
+        log.warn("Customer event {} to {} buffered for retry (attempt {}): {}",
+                publish.id(), publish.routingKey(), publish.attempt(), reason);
+    }
+
+    private void drainRetryBuffer() {
+        int pending = retryBuffer.size();
+        PendingPublish publish;
+
+        while (pending-- > 0 && (publish = retryBuffer.poll()) != null) {
+            send(publish, properties.publishTimeout().toMillis());
+        }
+    }
+
+    private static Counter publishCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("customer.events.publish")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class UnitOfWork implements TransactionSynchronization {
+
+        private final List<PendingPublish> publishes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            publishes.forEach(publish -> send(publish, 0L));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ConfirmingDomainEventPublisher.this);
+        }
+
+    }
+
+    private record PendingPublish(
+            String id,
+            String exchange,
+            String routingKey,
+            Message message,
+            int attempt,
+            long sentAtNanos
+    ) {
+
+        PendingPublish sentAt(long nanos) {
+            return new PendingPublish(id, exchange, routingKey, message, attempt, nanos);
+        }
+
+        PendingPublish nextAttempt() {
+            return new PendingPublish(id, exchange, routingKey, message, attempt + 1, 0L);
+        }
+
+    }
+
+}
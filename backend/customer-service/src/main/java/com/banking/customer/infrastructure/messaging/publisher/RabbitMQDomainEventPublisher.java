@@ -12,6 +12,7 @@ import com.banking.customer.infrastructure.messaging.mapper.CustomerEventMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +23,7 @@ import java.util.Objects;
 @Component
 @RequiredArgsConstructor
 @Primary
+@ConditionalOnProperty(prefix = "messaging.publisher", name = "mode", havingValue = "direct", matchIfMissing = true)
 public class RabbitMQDomainEventPublisher implements DomainEventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,6 +31,13 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         return Optional.ofNullable(store.get(id));
     }
 
+    @Override
+    public Optional<Instant> findLastModifiedById(UUID id) {
+        Objects.requireNonNull(id, "Customer id must not be null");
+        return Optional.ofNullable(store.get(id))
+                .map(Customer::getUpdatedAt);
+    }
+
 
     @Override
     public Page<Customer> findAll(Object filter, Pageable pageable) {
@@ -0,0 +1,145 @@
+package com.banking.customer.infrastructure.persistence.repository;
+
+import com.banking.customer.application.dto.CustomerImportCheckpoint;
+import com.banking.customer.application.port.out.CustomerImportStore;
+import com.banking.customer.domain.model.Customer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class CustomerImportJdbcStore implements CustomerImportStore {
+
+    private static final String FIND_CHECKPOINT = """
+            SELECT import_id, last_line, imported, failed
+            FROM core.customer_imports
+            WHERE import_id = ?
+            """;
+
+    private static final String SAVE_CHECKPOINT = """
+            INSERT INTO core.customer_imports (import_id, last_line, imported, failed, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (import_id) DO UPDATE
+                SET last_line  = EXCLUDED.last_line,
+                    imported   = EXCLUDED.imported,
+                    failed     = EXCLUDED.failed,
+                    updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String EXISTING_CUSTOMER_IDS = """
+            SELECT customer_id FROM core.customers WHERE customer_id = ANY (?)
+            """;
+
+    private static final String EXISTING_IDENTIFICATIONS = """
+            SELECT identification FROM core.persons WHERE identification = ANY (?)
+            """;
+
+    private static final String INSERT_PERSON = """
+            INSERT INTO core.persons
+                (id, name, last_name, gender, birth_date, identification, address, phone, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_CUSTOMER = """
+            INSERT INTO core.customers (id, customer_id, password_hash, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public CustomerImportJdbcStore(DataSource dataSource) {
+        this(new JdbcTemplate(dataSource));
+    }
+
+    CustomerImportJdbcStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<CustomerImportCheckpoint> findCheckpoint(String importId) {
+        return jdbcTemplate.query(FIND_CHECKPOINT, (resultSet, rowNum) -> new CustomerImportCheckpoint(
+                resultSet.getString("import_id"),
+                resultSet.getLong("last_line"),
+                resultSet.getLong("imported"),
+                resultSet.getLong("failed")
+        ), importId).stream().findFirst();
+    }
+
+    @Override
+    public void saveCheckpoint(CustomerImportCheckpoint checkpoint) {
+        jdbcTemplate.update(SAVE_CHECKPOINT,
+                checkpoint.importId(),
+                checkpoint.lastLine(),
+                checkpoint.imported(),
+                checkpoint.failed(),
+                LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    @Override
+    public Set<String> findExistingCustomerIds(Collection<String> customerIds) {
+        return findExisting(EXISTING_CUSTOMER_IDS, customerIds);
+    }
+
+    @Override
+    public Set<String> findExistingIdentifications(Collection<String> identifications) {
+        return findExisting(EXISTING_IDENTIFICATIONS, identifications);
+    }
+
+    @Override
+    public void insertAll(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PERSON, customers, customers.size(), (statement, customer) -> {
+            statement.setObject(1, customer.getId());
+            statement.setString(2, customer.getName());
+            statement.setString(3, customer.getLastName());
+            statement.setString(4, customer.getGender().name());
+            statement.setObject(5, customer.getBirthDate());
+            statement.setString(6, customer.getIdentificationValue());
+            statement.setString(7, customer.getAddress());
+            statement.setString(8, customer.getPhoneValue());
+            statement.setObject(9, toUtc(customer.getCreatedAt()));
+            statement.setObject(10, toUtc(customer.getUpdatedAt()));
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER, customers, customers.size(), (statement, customer) -> {
+            statement.setObject(1, customer.getId());
+            statement.setString(2, customer.getCustomerId().value());
+            statement.setString(3, customer.getPasswordHash().value());
+            statement.setString(4, customer.getStatus().name());
+            statement.setObject(5, toUtc(customer.getCreatedAt()));
+            statement.setObject(6, toUtc(customer.getUpdatedAt()));
+        });
+    }
+
+    private Set<String> findExisting(String sql, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("varchar", values.toArray()));
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getString(1)));
+    }
+
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+}
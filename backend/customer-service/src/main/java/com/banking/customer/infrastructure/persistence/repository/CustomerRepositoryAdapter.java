@@ -16,6 +16,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,6 +59,12 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findLastModifiedById(UUID id) {
+        return jpaRepository.findUpdatedAtById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Customer> findAll(Object filter, Pageable pageable) {
@@ -0,0 +1,65 @@
+package com.banking.customer.infrastructure.persistence.repository;
+
+import com.banking.customer.application.dto.CustomerSnapshotRow;
+import com.banking.customer.application.port.out.CustomerSnapshotSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+public class CustomerSnapshotJdbcSource implements CustomerSnapshotSource {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String SNAPSHOT_QUERY = """
+            SELECT c.id,
+                   c.customer_id,
+                   p.name,
+                   p.last_name,
+                   c.status,
+                   GREATEST(c.updated_at, p.updated_at) AS updated_at
+            FROM core.customers c
+                     JOIN core.persons p ON p.id = c.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerSnapshotJdbcSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long forEach(Consumer<CustomerSnapshotRow> consumer) {
+        long[] count = new long[1];
+
+        jdbcTemplate.query(SNAPSHOT_QUERY, resultSet -> {
+            String lastName = resultSet.getString("last_name");
+            String name = lastName == null || lastName.isBlank()
+                    ? resultSet.getString("name")
+                    : resultSet.getString("name") + " " + lastName;
+            LocalDateTime updatedAt = resultSet.getObject("updated_at", LocalDateTime.class);
+
+            consumer.accept(new CustomerSnapshotRow(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getString("customer_id"),
+                    name,
+                    resultSet.getString("status"),
+                    ChronoUnit.MICROS.between(EPOCH, updatedAt)
+            ));
+            count[0]++;
+        });
+
+        return count[0];
+    }
+
+}
@@ -3,8 +3,11 @@ package com.banking.customer.infrastructure.persistence.repository;
 import com.banking.customer.infrastructure.persistence.entity.CustomerJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +22,7 @@ public interface JpaCustomerRepository extends JpaRepository<CustomerJpaEntity,
 
     boolean existsByIdentification(String identification);
 
+    @Query("SELECT c.updatedAt FROM CustomerJpaEntity c WHERE c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") UUID id);
+
 }
\ No newline at end of file
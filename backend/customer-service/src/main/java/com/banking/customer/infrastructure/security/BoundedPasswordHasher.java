@@ -0,0 +1,173 @@
+package com.banking.customer.infrastructure.security;
+
+import com.banking.customer.application.port.out.PasswordHasher;
+import com.banking.customer.infrastructure.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+public class BoundedPasswordHasher implements PasswordHasher, AutoCloseable {
+
+    private final PasswordEncoder bcrypt;
+    private final PasswordEncoder argon2;
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore bulkPermits;
+
+    private final Timer queueWait;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.bcrypt = PasswordEncoders.bcrypt(properties.bcrypt());
+        this.argon2 = PasswordEncoders.argon2id(properties.argon2());
+        this.encoder = switch (properties.algorithm().toLowerCase()) {
+            case PasswordEncoders.BCRYPT -> bcrypt;
+            case PasswordEncoders.ARGON2ID -> argon2;
+            default -> throw new IllegalArgumentException("Unsupported password hashing algorithm: " + properties.algorithm());
+        };
+
+        int threads = properties.threads() > 0 ? properties.threads() : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(properties.queueCapacity(), 1)),
+                Thread.ofPlatform().name("password-hasher-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.prestartAllCoreThreads();
+        this.bulkPermits = new Semaphore(threads);
+
+        String algorithm = properties.algorithm().toLowerCase();
+        this.queueWait = Timer.builder("password.hashing.queue.wait")
+                .description("Time a password hashing task waits for a worker")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "hash")
+                .tag("algorithm", algorithm)
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "verify")
+                .tag("algorithm", algorithm)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing tasks shed because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+
+        log.info("Password hashing uses {} on {} threads with a queue of {}",
+                algorithm, threads, properties.queueCapacity());
+    }
+
+    @Override
+    public String hash(String plainPassword) {
+        return execute(hashTimer, () -> encoder.encode(plainPassword));
+    }
+
+    @Override
+    public List<String> hashAll(List<String> plainPasswords) {
+        List<Future<String>> futures = new ArrayList<>(plainPasswords.size());
+        try {
+            for (String plainPassword : plainPasswords) {
+                bulkPermits.acquire();
+                futures.add(submitBulk(plainPassword));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            hashes.add(await(future));
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean matches(String plainPassword, String hashedPassword) {
+        PasswordEncoder matcher = PasswordEncoders.isArgon2(hashedPassword) ? argon2 : bcrypt;
+        return execute(verifyTimer, () -> matcher.matches(plainPassword, hashedPassword));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Password hashing queue is full, try again later", e);
+        }
+
+        return await(future);
+    }
+
+    private Future<String> submitBulk(String plainPassword) throws InterruptedException {
+        FutureTask<String> task = new FutureTask<>(() -> {
+            try {
+                return hashTimer.record(() -> encoder.encode(plainPassword));
+            } finally {
+                bulkPermits.release();
+            }
+        });
+
+        if (executor.isShutdown()) {
+            bulkPermits.release();
+            throw new RejectedExecutionException("Password hashing has been shut down");
+        }
+
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            bulkPermits.release();
+            throw e;
+        }
+        return task;
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.banking.customer.infrastructure.security;
+
+import com.banking.customer.infrastructure.config.PasswordHashingProperties;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2ID = "argon2id";
+
+    private static final String ARGON2_HASH_PREFIX = "$argon2";
+
+    private PasswordEncoders() {
+    }
+
+    public static PasswordEncoder bcrypt(PasswordHashingProperties.Bcrypt bcrypt) {
+        return new BCryptPasswordEncoder(bcrypt.strength());
+    }
+
+    public static PasswordEncoder argon2id(PasswordHashingProperties.Argon2 argon2) {
+        return new Argon2PasswordEncoder(
+                argon2.saltLength(),
+                argon2.hashLength(),
+                argon2.parallelism(),
+                argon2.memoryKib(),
+                argon2.iterations()
+        );
+    }
+
+    public static boolean isArgon2(String hashedPassword) {
+        return hashedPassword.startsWith(ARGON2_HASH_PREFIX);
+    }
+
+}
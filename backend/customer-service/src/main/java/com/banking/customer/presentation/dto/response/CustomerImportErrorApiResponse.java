@@ -0,0 +1,24 @@
+package com.banking.customer.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerImportErrorApiResponse {
+
+    private long line;
+
+    private String customerId;
+
+    private String code;
+
+    private String message;
+
+}
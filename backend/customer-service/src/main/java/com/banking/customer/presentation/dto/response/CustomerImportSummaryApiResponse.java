@@ -0,0 +1,26 @@
+package com.banking.customer.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerImportSummaryApiResponse {
+
+    private String importId;
+
+    private long resumedAfterLine;
+
+    private long lastLine;
+
+    private long imported;
+
+    private long failed;
+
+    private long elapsedMillis;
+
+}
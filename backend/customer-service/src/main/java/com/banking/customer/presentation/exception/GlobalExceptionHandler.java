@@ -1,6 +1,7 @@
 package com.banking.customer.presentation.exception;
 
 import com.banking.customer.domain.exception.CustomerDomainException;
+import com.banking.customer.domain.exception.CustomerErrorCode;
 import com.banking.customer.domain.exception.CustomerNotFoundException;
 import com.banking.customer.domain.exception.DuplicateCustomerException;
 import com.banking.customer.domain.exception.InactiveCustomerException;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -28,6 +30,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,6 +42,7 @@ public class GlobalExceptionHandler {
     private static final String VALIDATION_ERROR_MESSAGE = "Validation failed for one or more fields";
     private static final String INTERNAL_ERROR_MESSAGE = "An unexpected error occurred. Please try again later";
     private static final String INVALID_REQUEST_MESSAGE = "Invalid request format";
+    private static final String RETRY_AFTER_SECONDS = "5";
 
     @ExceptionHandler(CustomerNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleCustomerNotFound(
@@ -273,6 +277,26 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiErrorResponse> handleRejectedExecution(
+            RejectedExecutionException ex,
+            HttpServletRequest request) {
+
+        log.warn("Request rejected, executor saturated: {}", ex.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(MessageUtils.getMessage(CustomerErrorCode.CUSTOMER_SERVICE_BUSY.getCode()))
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArgument(
             IllegalArgumentException ex,
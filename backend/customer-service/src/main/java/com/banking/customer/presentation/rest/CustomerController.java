@@ -1,5 +1,6 @@
 package com.banking.customer.presentation.rest;
 
+import com.banking.commons.dto.ResourceVersion;
 import com.banking.customer.application.dto.CustomerFilter;
 import com.banking.customer.application.dto.CustomerRequest;
 import com.banking.customer.application.dto.CustomerResponse;
@@ -25,6 +26,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -76,10 +78,15 @@ public class CustomerController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CustomerApiResponse>> getCustomerById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<CustomerApiResponse>> getCustomerById(@PathVariable UUID id, WebRequest webRequest) {
 
         log.debug("REST request to get customer by ID: {}", id);
 
+        ResourceVersion version = getCustomerUseCase.findVersionById(id);
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
         CustomerResponse response = getCustomerUseCase.findById(id);
         CustomerApiResponse apiResponse = apiMapper.toApiResponse(response);
 
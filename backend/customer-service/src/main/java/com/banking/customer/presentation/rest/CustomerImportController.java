@@ -0,0 +1,119 @@
+package com.banking.customer.presentation.rest;
+
+import com.banking.customer.application.dto.CustomerImportError;
+import com.banking.customer.application.dto.CustomerImportRequest;
+import com.banking.customer.application.dto.CustomerImportSummary;
+import com.banking.customer.application.port.in.ImportCustomersUseCase;
+import com.banking.customer.infrastructure.util.MessageUtils;
+import com.banking.customer.presentation.dto.response.CustomerImportErrorApiResponse;
+import com.banking.customer.presentation.dto.response.CustomerImportSummaryApiResponse;
+import com.banking.customer.presentation.mapper.CustomerApiMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.base-path}/customers/imports")
+public class CustomerImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final Pattern IMPORT_ID_PATTERN = Pattern.compile("^[A-Za-z0-9._-]{1,100}$");
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    private final ImportCustomersUseCase importCustomersUseCase;
+    private final CustomerApiMapper apiMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @PostMapping(
+            value = "/{importId}",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void importCustomers(
+            @PathVariable String importId,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!IMPORT_ID_PATTERN.matcher(importId).matches()) {
+            throw new IllegalArgumentException("Import id must be 1 to 100 letters, digits, '.', '_' or '-'");
+        }
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+
+        log.info("REST request to import customers: importId={}, batchSize={}", importId, batchSize);
+
+        boolean csv = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE));
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream output = response.getOutputStream();
+
+        try (CustomerImportReader rows = csv
+                ? CustomerImportReader.csv(request.getInputStream(), objectMapper, validator, apiMapper)
+                : CustomerImportReader.ndjson(request.getInputStream(), objectMapper, validator, apiMapper);
+             SequenceWriter writer = objectMapper.writer()
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator("\n")
+                     .writeValues(output)) {
+
+            CustomerImportSummary summary = importCustomersUseCase.importCustomers(
+                    new CustomerImportRequest(importId, batchSize),
+                    rows,
+                    error -> {
+                        try {
+                            writer.write(toApiResponse(error));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+
+            writer.write(CustomerImportSummaryApiResponse.builder()
+                    .importId(summary.importId())
+                    .resumedAfterLine(summary.resumedAfterLine())
+                    .lastLine(summary.lastLine())
+                    .imported(summary.imported())
+                    .failed(summary.failed())
+                    .elapsedMillis(summary.elapsed().toMillis())
+                    .build());
+            writer.flush();
+            output.write('\n');
+        }
+    }
+
+    private CustomerImportErrorApiResponse toApiResponse(CustomerImportError error) {
+        String message = Objects.isNull(error.argument())
+                ? MessageUtils.getMessage(error.errorCode())
+                : MessageUtils.getMessage(error.errorCode(), error.argument());
+
+        return CustomerImportErrorApiResponse.builder()
+                .line(error.line())
+                .customerId(error.customerId())
+                .code(error.errorCode())
+                .message(message)
+                .build();
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.banking.customer.presentation.rest;
+
+import com.banking.customer.application.dto.CustomerImportRow;
+import com.banking.customer.presentation.dto.request.CreateCustomerApiRequest;
+import com.banking.customer.presentation.mapper.CustomerApiMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class CustomerImportReader implements Iterator<CustomerImportRow>, Closeable {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CustomerApiMapper apiMapper;
+    private final List<String> csvHeader;
+
+    private long lineNumber;
+    private CustomerImportRow next;
+
+    private CustomerImportReader(
+            InputStream input,
+            boolean csv,
+            ObjectMapper objectMapper,
+            Validator validator,
+            CustomerApiMapper apiMapper
+    ) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.apiMapper = apiMapper;
+        this.csvHeader = csv ? readHeader() : null;
+    }
+
+    static CustomerImportReader ndjson(InputStream input, ObjectMapper objectMapper, Validator validator, CustomerApiMapper apiMapper) {
+        return new CustomerImportReader(input, false, objectMapper, validator, apiMapper);
+    }
+
+    static CustomerImportReader csv(InputStream input, ObjectMapper objectMapper, Validator validator, CustomerApiMapper apiMapper) {
+        return new CustomerImportReader(input, true, objectMapper, validator, apiMapper);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(next)) {
+            next = readRow();
+        }
+        return Objects.nonNull(next);
+    }
+
+    @Override
+    public CustomerImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CustomerImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readHeader() {
+        String header = readLine();
+        if (Objects.isNull(header)) {
+            return List.of();
+        }
+        return splitCsv(header.strip()).stream().map(String::strip).toList();
+    }
+
+    private CustomerImportRow readRow() {
+        String line;
+        do {
+            line = readLine();
+            if (Objects.isNull(line)) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        CreateCustomerApiRequest request;
+        try {
+            request = Objects.isNull(csvHeader)
+                    ? objectMapper.readValue(line, CreateCustomerApiRequest.class)
+                    : objectMapper.convertValue(toCsvRecord(line), CreateCustomerApiRequest.class);
+        } catch (JsonProcessingException e) {
+            return CustomerImportRow.unreadable(lineNumber, e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return CustomerImportRow.unreadable(lineNumber, e.getMessage());
+        }
+
+        Set<ConstraintViolation<CreateCustomerApiRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return CustomerImportRow.unreadable(lineNumber, violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return CustomerImportRow.of(lineNumber, apiMapper.toApplicationRequest(request));
+    }
+
+    private Map<String, String> toCsvRecord(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != csvHeader.size()) {
+            throw new IllegalArgumentException("Expected " + csvHeader.size() + " columns but found " + values.size());
+        }
+
+        Map<String, String> record = new LinkedHashMap<>();
+        for (int i = 0; i < csvHeader.size(); i++) {
+            String value = values.get(i);
+            record.put(csvHeader.get(i), value.isEmpty() ? null : value);
+        }
+        return record;
+    }
+
+    private List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (Objects.nonNull(line)) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
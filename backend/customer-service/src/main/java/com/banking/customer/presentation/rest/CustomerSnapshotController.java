@@ -0,0 +1,60 @@
+package com.banking.customer.presentation.rest;
+
+import com.banking.customer.application.dto.CustomerSnapshotTrailer;
+import com.banking.customer.application.port.in.StreamCustomerSnapshotUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("${api.base-path}/customers/snapshot")
+public class CustomerSnapshotController {
+
+    public static final String SNAPSHOT_MARK_HEADER = "X-Snapshot-Mark";
+
+    private final StreamCustomerSnapshotUseCase snapshotUseCase;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamSnapshot(HttpServletResponse response) throws IOException {
+        log.info("REST request to stream customer snapshot");
+
+        long mark = snapshotUseCase.highWaterMark();
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(SNAPSHOT_MARK_HEADER, Long.toString(mark));
+
+        OutputStream output = response.getOutputStream();
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(output)) {
+
+            CustomerSnapshotTrailer trailer = snapshotUseCase.streamSnapshot(mark, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.write(trailer);
+            writer.flush();
+            output.write('\n');
+        }
+    }
+
+}
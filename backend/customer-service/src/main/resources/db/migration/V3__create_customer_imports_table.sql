@@ -0,0 +1,8 @@
+CREATE TABLE core.customer_imports
+(
+    import_id  VARCHAR(100) PRIMARY KEY,
+    last_line  BIGINT    NOT NULL,
+    imported   BIGINT    NOT NULL,
+    failed     BIGINT    NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,146 @@
+package com.banking.customer.application.service;
+
+import com.banking.customer.application.dto.CustomerImportCheckpoint;
+import com.banking.customer.application.dto.CustomerImportError;
+import com.banking.customer.application.dto.CustomerImportRequest;
+import com.banking.customer.application.dto.CustomerImportRow;
+import com.banking.customer.application.dto.CustomerImportSummary;
+import com.banking.customer.application.dto.CustomerRequest;
+import com.banking.customer.application.port.out.CustomerImportStore;
+import com.banking.customer.application.port.out.DomainEventPublisher;
+import com.banking.customer.domain.exception.CustomerErrorCode;
+import com.banking.customer.domain.model.Customer;
+import com.banking.customer.domain.model.Gender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportServiceTest {
+
+    private static final String IMPORT_ID = "legacy-core-01";
+
+    @Mock
+    private CustomerImportStore importStore;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CustomerImportService importService;
+
+    private final List<CustomerImportError> errors = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        lenient().when(passwordHashingService.hashPasswords(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                        .map(password -> "hashed-" + password)
+                        .toList());
+    }
+
+    private static CustomerImportRow row(long line, String customerId, String identification) {
+        return CustomerImportRow.of(line, new CustomerRequest(
+                "John", "Doe", Gender.MALE, LocalDate.of(1990, 1, 1), identification,
+                "123 Main St", "5551234567", customerId, "secret"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertValidRowsAndReportDuplicatesAndUnreadableRows() {
+        when(importStore.findCheckpoint(IMPORT_ID)).thenReturn(Optional.empty());
+        when(importStore.findExistingCustomerIds(anyCollection())).thenReturn(Set.of("CUST-3"));
+        when(importStore.findExistingIdentifications(anyCollection())).thenReturn(Set.of());
+
+        List<CustomerImportRow> rows = List.of(
+                row(2, "CUST-1", "1000000001"),
+                row(3, "CUST-1", "1000000002"),
+                CustomerImportRow.unreadable(4, "name: must not be blank"),
+                row(5, "CUST-3", "1000000003"),
+                row(6, "CUST-4", "1000000004")
+        );
+
+        CustomerImportSummary summary = importService.importCustomers(
+                new CustomerImportRequest(IMPORT_ID, 100), rows.iterator(), errors::add);
+
+        ArgumentCaptor<List<Customer>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(importStore).insertAll(inserted.capture());
+        assertThat(inserted.getValue())
+                .extracting(Customer::getCustomerIdValue, customer -> customer.getPasswordHash().value())
+                .containsExactly(tuple("CUST-1", "hashed-secret"), tuple("CUST-4", "hashed-secret"));
+
+        ArgumentCaptor<List<Object>> published = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publish(published.capture());
+        assertThat(published.getValue()).hasSize(2);
+
+        assertThat(errors)
+                .extracting(CustomerImportError::line, CustomerImportError::errorCode)
+                .containsExactly(
+                        tuple(3L, CustomerErrorCode.CUSTOMER_BUSINESS_DUPLICATE_ID.getCode()),
+                        tuple(4L, CustomerErrorCode.CUSTOMER_IMPORT_UNREADABLE_ROW.getCode()),
+                        tuple(5L, CustomerErrorCode.CUSTOMER_BUSINESS_DUPLICATE_ID.getCode())
+                );
+
+        verify(importStore).saveCheckpoint(new CustomerImportCheckpoint(IMPORT_ID, 6, 2, 3));
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(3);
+        assertThat(summary.lastLine()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldSkipRowsUpToTheCheckpointWhenResuming() {
+        when(importStore.findCheckpoint(IMPORT_ID))
+                .thenReturn(Optional.of(new CustomerImportCheckpoint(IMPORT_ID, 3, 2, 0)));
+        when(importStore.findExistingCustomerIds(anyCollection())).thenReturn(Set.of());
+        when(importStore.findExistingIdentifications(anyCollection())).thenReturn(Set.of());
+
+        List<CustomerImportRow> rows = List.of(
+                row(2, "CUST-1", "1000000001"),
+                row(3, "CUST-2", "1000000002"),
+                row(4, "CUST-3", "1000000003"),
+                row(5, "CUST-4", "1000000004")
+        );
+
+        CustomerImportSummary summary = importService.importCustomers(
+                new CustomerImportRequest(IMPORT_ID, 1), rows.iterator(), errors::add);
+
+        verify(importStore, times(2)).insertAll(anyList());
+        verify(importStore).saveCheckpoint(new CustomerImportCheckpoint(IMPORT_ID, 4, 3, 0));
+        verify(importStore).saveCheckpoint(new CustomerImportCheckpoint(IMPORT_ID, 5, 4, 0));
+        assertThat(summary.resumedAfterLine()).isEqualTo(3);
+        assertThat(summary.imported()).isEqualTo(4);
+        assertThat(errors).isEmpty();
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.banking.customer.infrastructure.messaging.publisher;
+
+import com.banking.contracts.events.EventBatchEnvelopeV1;
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
+import com.banking.customer.domain.event.CustomerCreatedEvent;
+import com.banking.customer.domain.event.CustomerStatusChangedEvent;
+import com.banking.customer.domain.model.CustomerStatus;
+import com.banking.customer.infrastructure.config.PublisherProperties;
+import com.banking.customer.infrastructure.config.RabbitMQConfig;
+import com.banking.customer.infrastructure.messaging.mapper.CustomerEventMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingDomainEventPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private CustomerEventMapper eventMapper;
+
+    private BatchingDomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSendASingleEventUnwrapped() {
+        publisher = publisher(10, Duration.ZERO);
+        CustomerCreatedEvent event = created();
+        CustomerCreatedEventV1 contract = CustomerCreatedEventV1.builder().build();
+        when(eventMapper.toContract(event)).thenReturn(contract);
+
+        publisher.publish(List.of(event));
+
+        verify(rabbitTemplate).convertAndSend(RabbitMQConfig.CUSTOMER_EXCHANGE,
+                RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY, (Object) contract);
+    }
+
+    @Test
+    void shouldGroupByRoutingKeyAndChunkAtMaxBatchSize() {
+        publisher = publisher(2, Duration.ZERO);
+        CustomerCreatedEventV1 first = CustomerCreatedEventV1.builder().build();
+        CustomerCreatedEventV1 second = CustomerCreatedEventV1.builder().build();
+        CustomerCreatedEventV1 third = CustomerCreatedEventV1.builder().build();
+        CustomerStatusChangedEventV1 deactivated = CustomerStatusChangedEventV1.builder().build();
+        when(eventMapper.toContract(any(CustomerCreatedEvent.class))).thenReturn(first, second, third);
+        when(eventMapper.toContract(any(CustomerStatusChangedEvent.class))).thenReturn(deactivated);
+
+        publisher.publish(List.of(created(), statusChanged(CustomerStatus.INACTIVE), created(), created()));
+
+        ArgumentCaptor<Object> createdPayloads = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(RabbitMQConfig.CUSTOMER_EXCHANGE),
+                eq(RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY), createdPayloads.capture());
+        assertThat(createdPayloads.getAllValues().getFirst())
+                .isInstanceOfSatisfying(EventBatchEnvelopeV1.class, envelope -> {
+                    assertThat(envelope.getEvents()).containsExactly(first, second);
+                    assertThat(envelope.getSource()).isEqualTo("customer-service");
+                    assertThat(envelope.getSchemaVersion()).isEqualTo(EventBatchEnvelopeV1.SCHEMA_VERSION);
+                });
+        assertThat(createdPayloads.getAllValues().getLast()).isSameAs(third);
+        verify(rabbitTemplate).convertAndSend(RabbitMQConfig.CUSTOMER_EXCHANGE,
+                RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".deactivated", (Object) deactivated);
+    }
+
+    @Test
+    void shouldPublishTheWholeTransactionAfterCommit() {
+        publisher = publisher(10, Duration.ZERO);
+        when(eventMapper.toContract(any(CustomerCreatedEvent.class)))
+                .thenAnswer(invocation -> CustomerCreatedEventV1.builder().build());
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(List.of(created()));
+        publisher.publish(List.of(created()));
+
+        verifyNoInteractions(rabbitTemplate);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.CUSTOMER_EXCHANGE),
+                eq(RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(EventBatchEnvelopeV1.class,
+                envelope -> assertThat(envelope.getEvents()).hasSize(2));
+        assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+    }
+
+    @Test
+    void shouldHoldEventsUntilTheBatchIsFull() {
+        publisher = publisher(3, Duration.ofHours(1));
+        when(eventMapper.toContract(any(CustomerCreatedEvent.class)))
+                .thenAnswer(invocation -> CustomerCreatedEventV1.builder().build());
+
+        publisher.publish(List.of(created(), created()));
+        verifyNoInteractions(rabbitTemplate);
+
+        publisher.publish(List.of(created()));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.CUSTOMER_EXCHANGE),
+                eq(RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(EventBatchEnvelopeV1.class,
+                envelope -> assertThat(envelope.getEvents()).hasSize(3));
+    }
+
+    @Test
+    void shouldFlushAPartialBatchWhenTheWindowElapses() {
+        publisher = publisher(10, Duration.ofMillis(10));
+        CustomerCreatedEvent event = created();
+        CustomerCreatedEventV1 contract = CustomerCreatedEventV1.builder().build();
+        when(eventMapper.toContract(event)).thenReturn(contract);
+
+        publisher.publish(List.of(event));
+
+        verify(rabbitTemplate, timeout(1000)).convertAndSend(RabbitMQConfig.CUSTOMER_EXCHANGE,
+                RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY, (Object) contract);
+    }
+
+    @Test
+    void shouldFlushPendingEventsOnShutdownAndSwallowSendFailures() {
+        publisher = publisher(10, Duration.ofHours(1));
+        when(eventMapper.toContract(any(CustomerCreatedEvent.class)))
+                .thenAnswer(invocation -> CustomerCreatedEventV1.builder().build());
+        doThrow(new AmqpException("connection reset"))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        publisher.publish(List.of(created()));
+
+        assertThatCode(publisher::shutdown).doesNotThrowAnyException();
+        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    void shouldIgnoreEmptyAndUnknownEvents() {
+        publisher = publisher(10, Duration.ZERO);
+
+        publisher.publish(null);
+        publisher.publish(List.of());
+        publisher.publish(List.of("unknown"));
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private BatchingDomainEventPublisher publisher(int maxBatchSize, Duration batchWindow) {
+        return new BatchingDomainEventPublisher(rabbitTemplate, eventMapper, new PublisherProperties(
+                "batched", "json", 10, Duration.ofMillis(1), 100, Duration.ofSeconds(1), 3, maxBatchSize, batchWindow));
+    }
+
+    private static CustomerCreatedEvent created() {
+        return CustomerCreatedEvent.builder().customerId(UUID.randomUUID()).build();
+    }
+
+    private static CustomerStatusChangedEvent statusChanged(CustomerStatus status) {
+        return CustomerStatusChangedEvent.builder().customerId(UUID.randomUUID()).newStatus(status).build();
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.banking.customer.infrastructure.messaging.publisher;
+
+import com.banking.contracts.events.customer.CustomerCreatedEventV1;
+import com.banking.contracts.events.customer.CustomerStatusChangedEventV1;
+import com.banking.customer.domain.event.CustomerCreatedEvent;
+import com.banking.customer.domain.event.CustomerStatusChangedEvent;
+import com.banking.customer.domain.model.CustomerStatus;
+import com.banking.customer.infrastructure.config.PublisherProperties;
+import com.banking.customer.infrastructure.config.RabbitMQConfig;
+import com.banking.customer.infrastructure.messaging.mapper.CustomerEventMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmingDomainEventPublisherTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private MessageConverter messageConverter;
+
+    @Mock
+    private CustomerEventMapper eventMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConfirmingDomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+        lenient().when(messageConverter.toMessage(any(), any(MessageProperties.class)))
+                .thenAnswer(invocation -> new Message("{}".getBytes(), invocation.getArgument(1)));
+        lenient().when(eventMapper.toContract(any(CustomerCreatedEvent.class)))
+                .thenAnswer(invocation -> CustomerCreatedEventV1.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldCountAckedPublishesAndFreeTheWindow() {
+        publisher = publisher(properties(1, 3, NEVER));
+
+        publisher.publish(List.of(created()));
+        confirm(true, null);
+        publisher.publish(List.of(created()));
+
+        verify(rabbitTemplate, times(2)).send(eq(RabbitMQConfig.CUSTOMER_EXCHANGE),
+                eq(RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY), any(Message.class), any(CorrelationData.class));
+        assertThat(count("acked")).isEqualTo(1);
+        assertThat(meterRegistry.get("customer.events.confirm.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHoldPublishesUntilTheTransactionCommits() {
+        publisher = publisher(properties(10, 3, NEVER));
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(List.of(created()));
+        publisher.publish(List.of(created()));
+
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(rabbitTemplate, times(2)).send(eq(RabbitMQConfig.CUSTOMER_EXCHANGE),
+                eq(RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY), any(Message.class), any(CorrelationData.class));
+        assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+    }
+
+    @Test
+    void shouldDiscardPublishesOfARolledBackTransaction() {
+        publisher = publisher(properties(10, 3, NEVER));
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(List.of(created()));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+    }
+
+    @Test
+    void shouldRouteStatusChangesByNewStatus() {
+        publisher = publisher(properties(10, 3, NEVER));
+        when(eventMapper.toContract(any(CustomerStatusChangedEvent.class)))
+                .thenAnswer(invocation -> CustomerStatusChangedEventV1.builder().build());
+
+        publisher.publish(List.of(statusChanged(CustomerStatus.ACTIVE), statusChanged(CustomerStatus.INACTIVE)));
+
+        verify(rabbitTemplate).send(anyString(), eq(RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".activated"),
+                any(Message.class), any(CorrelationData.class));
+        verify(rabbitTemplate).send(anyString(), eq(RabbitMQConfig.CUSTOMER_UPDATED_ROUTING_KEY + ".deactivated"),
+                any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldRepublishNackedEventsWithTheSameMessageId() {
+        publisher = publisher(properties(10, 3, Duration.ofMillis(10)));
+
+        publisher.publish(List.of(created()));
+        CorrelationData first = confirm(false, "broker overloaded");
+
+        ArgumentCaptor<CorrelationData> correlations = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate, timeout(1000).times(2)).send(anyString(), anyString(), any(Message.class), correlations.capture());
+        assertThat(correlations.getAllValues().getLast().getId()).isEqualTo(first.getId());
+        assertThat(count("nacked")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryReturnedMessages() {
+        publisher = publisher(properties(10, 3, Duration.ofMillis(10)));
+
+        publisher.publish(List.of(created()));
+        CorrelationData correlation = lastCorrelation();
+        correlation.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE",
+                RabbitMQConfig.CUSTOMER_EXCHANGE, RabbitMQConfig.CUSTOMER_CREATED_ROUTING_KEY));
+        onConfirm().confirm(correlation, true, null);
+
+        verify(rabbitTemplate, timeout(1000).times(2)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(count("returned")).isEqualTo(1);
+        assertThat(count("acked")).isZero();
+    }
+
+    @Test
+    void shouldDropEventsAfterMaxAttempts() {
+        publisher = publisher(properties(10, 1, NEVER));
+
+        publisher.publish(List.of(created()));
+        confirm(false, "rejected");
+
+        assertThat(count("dropped")).isEqualTo(1);
+        assertThat(gauge("customer.events.retry.buffer")).isZero();
+    }
+
+    @Test
+    void shouldBufferWhenTheInFlightWindowIsFull() {
+        publisher = publisher(properties(1, 3, NEVER));
+
+        publisher.publish(List.of(created(), created()));
+
+        verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(gauge("customer.events.in.flight")).isEqualTo(1);
+        assertThat(gauge("customer.events.retry.buffer")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseTheWindowAndBufferWhenSendFails() {
+        publisher = publisher(properties(1, 3, NEVER));
+        doThrow(new AmqpException("connection reset"))
+                .doNothing()
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        publisher.publish(List.of(created(), created()));
+
+        verify(rabbitTemplate, times(2)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(gauge("customer.events.in.flight")).isEqualTo(1);
+        assertThat(gauge("customer.events.retry.buffer")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreEmptyAndUnknownEvents() {
+        publisher = publisher(properties(10, 3, NEVER));
+
+        publisher.publish(null);
+        publisher.publish(List.of());
+        publisher.publish(List.of("unknown"));
+        onConfirm().confirm(null, true, null);
+        onConfirm().confirm(new CorrelationData("unknown"), true, null);
+
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(count("acked")).isZero();
+    }
+
+    private ConfirmingDomainEventPublisher publisher(PublisherProperties properties) {
+        ConfirmingDomainEventPublisher created =
+                new ConfirmingDomainEventPublisher(rabbitTemplate, messageConverter, eventMapper, properties, meterRegistry);
+        verify(rabbitTemplate).setMandatory(true);
+        return created;
+    }
+
+    private CorrelationData confirm(boolean ack, String cause) {
+        CorrelationData correlation = lastCorrelation();
+        onConfirm().confirm(correlation, ack, cause);
+        return correlation;
+    }
+
+    private CorrelationData lastCorrelation() {
+        ArgumentCaptor<CorrelationData> correlation = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate, atLeastOnce()).send(anyString(), anyString(), any(Message.class), correlation.capture());
+        return correlation.getValue();
+    }
+
+    private RabbitTemplate.ConfirmCallback onConfirm() {
+        ArgumentCaptor<RabbitTemplate.ConfirmCallback> callback = ArgumentCaptor.forClass(RabbitTemplate.ConfirmCallback.class);
+        verify(rabbitTemplate).setConfirmCallback(callback.capture());
+        return callback.getValue();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("customer.events.publish").tag("outcome", outcome).counter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static PublisherProperties properties(int maxInFlight, int maxAttempts, Duration retryInterval) {
+        return new PublisherProperties("confirmed", "json", maxInFlight, Duration.ofMillis(1), 100,
+                retryInterval, maxAttempts, 100, Duration.ofMillis(5));
+    }
+
+    private static CustomerCreatedEvent created() {
+        return CustomerCreatedEvent.builder().customerId(UUID.randomUUID()).build();
+    }
+
+    private static CustomerStatusChangedEvent statusChanged(CustomerStatus status) {
+        return CustomerStatusChangedEvent.builder().customerId(UUID.randomUUID()).newStatus(status).build();
+    }
+
+}
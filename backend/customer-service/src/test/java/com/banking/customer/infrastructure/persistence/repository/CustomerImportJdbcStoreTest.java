@@ -0,0 +1,171 @@
+package com.banking.customer.infrastructure.persistence.repository;
+
+import com.banking.customer.application.dto.CustomerImportCheckpoint;
+import com.banking.customer.domain.model.Customer;
+import com.banking.customer.fixtures.mothers.CustomerMother;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportJdbcStoreTest {
+
+    private static final String IMPORT_ID = "legacy-core-01";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<ParameterizedPreparedStatementSetter<Customer>> setters;
+
+    private CustomerImportJdbcStore importStore;
+
+    @BeforeEach
+    void setUp() {
+        importStore = new CustomerImportJdbcStore(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMapTheStoredCheckpoint() throws Exception {
+        when(resultSet.getString("import_id")).thenReturn(IMPORT_ID);
+        when(resultSet.getLong("last_line")).thenReturn(10L);
+        when(resultSet.getLong("imported")).thenReturn(8L);
+        when(resultSet.getLong("failed")).thenReturn(2L);
+        when(jdbcTemplate.query(contains("FROM core.customer_imports"), any(RowMapper.class), eq(IMPORT_ID)))
+                .thenAnswer(invocation -> List.of(invocation.<RowMapper<CustomerImportCheckpoint>>getArgument(1)
+                        .mapRow(resultSet, 0)));
+
+        Optional<CustomerImportCheckpoint> checkpoint = importStore.findCheckpoint(IMPORT_ID);
+
+        assertThat(checkpoint).contains(new CustomerImportCheckpoint(IMPORT_ID, 10L, 8L, 2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnEmptyWhenNoCheckpointExists() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(IMPORT_ID))).thenReturn(List.of());
+
+        assertThat(importStore.findCheckpoint(IMPORT_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldUpsertTheCheckpoint() {
+        importStore.saveCheckpoint(new CustomerImportCheckpoint(IMPORT_ID, 10L, 8L, 2L));
+
+        verify(jdbcTemplate).update(contains("ON CONFLICT (import_id) DO UPDATE"),
+                eq(IMPORT_ID), eq(10L), eq(8L), eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLookUpExistingCustomerIdsWithOneArrayParameter() throws Exception {
+        Array array = mock(Array.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.createArrayOf(eq("varchar"), any(Object[].class))).thenReturn(array);
+        when(resultSet.getString(1)).thenReturn("CUS-1");
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+            return List.of(invocation.<RowMapper<String>>getArgument(1).mapRow(resultSet, 0));
+        });
+
+        assertThat(importStore.findExistingCustomerIds(List.of("CUS-1", "CUS-2"))).containsExactly("CUS-1");
+
+        verify(connection).prepareStatement(contains("FROM core.customers WHERE customer_id = ANY (?)"));
+        verify(connection).createArrayOf("varchar", new Object[]{"CUS-1", "CUS-2"});
+        verify(statement).setArray(1, array);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLookUpExistingIdentificationsAgainstPersons() throws Exception {
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+            return List.of();
+        });
+
+        assertThat(importStore.findExistingIdentifications(List.of("1234567890"))).isEmpty();
+
+        verify(connection).prepareStatement(contains("FROM core.persons WHERE identification = ANY (?)"));
+    }
+
+    @Test
+    void shouldSkipLookupsAndInsertsForEmptyInput() {
+        assertThat(importStore.findExistingCustomerIds(List.of())).isEmpty();
+        assertThat(importStore.findExistingIdentifications(List.of())).isEmpty();
+        importStore.insertAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldBatchInsertPersonsBeforeCustomers() throws Exception {
+        Customer customer = CustomerMother.newlyCreatedCustomer();
+        List<Customer> customers = List.of(customer);
+        LocalDateTime createdAt = LocalDateTime.ofInstant(customer.getCreatedAt(), ZoneOffset.UTC);
+
+        importStore.insertAll(customers);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(sql.capture(), eq(customers), eq(1), setters.capture());
+        assertThat(sql.getAllValues().getFirst()).contains("INSERT INTO core.persons");
+        assertThat(sql.getAllValues().getLast()).contains("INSERT INTO core.customers");
+
+        PreparedStatement person = mock(PreparedStatement.class);
+        setters.getAllValues().getFirst().setValues(person, customer);
+        verify(person).setObject(1, customer.getId());
+        verify(person).setString(2, "John");
+        verify(person).setString(3, "Doe");
+        verify(person).setString(4, "MALE");
+        verify(person).setObject(5, customer.getBirthDate());
+        verify(person).setString(6, "1234567890");
+        verify(person).setString(7, "123 Main Street");
+        verify(person).setString(8, "0987654321");
+        verify(person).setObject(9, createdAt);
+
+        PreparedStatement row = mock(PreparedStatement.class);
+        setters.getAllValues().getLast().setValues(row, customer);
+        verify(row).setObject(1, customer.getId());
+        verify(row).setString(2, "CUST001");
+        verify(row).setString(3, "$2a$10$validhash");
+        verify(row).setString(4, "ACTIVE");
+        verify(row).setObject(5, createdAt);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.banking.customer.infrastructure.persistence.repository;
+
+import com.banking.customer.application.dto.CustomerSnapshotRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSnapshotJdbcSourceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private CustomerSnapshotJdbcSource snapshotSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(contains("FROM core.customers c"))).thenReturn(resultSet);
+
+        snapshotSource = new CustomerSnapshotJdbcSource(dataSource);
+    }
+
+    @Test
+    void shouldStreamEveryRowWithAFullNameAndMicrosecondSequence() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject("id", UUID.class)).thenReturn(first, second);
+        when(resultSet.getString("customer_id")).thenReturn("CUS-1", "CUS-2");
+        when(resultSet.getString("name")).thenReturn("John", "Jane");
+        when(resultSet.getString("last_name")).thenReturn("Doe", " ");
+        when(resultSet.getString("status")).thenReturn("ACTIVE", "INACTIVE");
+        when(resultSet.getObject("updated_at", LocalDateTime.class)).thenReturn(
+                LocalDateTime.of(1970, 1, 1, 0, 0, 1),
+                LocalDateTime.of(1970, 1, 1, 0, 0, 0, 2_000));
+        List<CustomerSnapshotRow> rows = new ArrayList<>();
+
+        long count = snapshotSource.forEach(rows::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(rows).containsExactly(
+                new CustomerSnapshotRow(first, "CUS-1", "John Doe", "ACTIVE", 1_000_000L),
+                new CustomerSnapshotRow(second, "CUS-2", "Jane", "INACTIVE", 2L));
+        verify(statement).setFetchSize(1000);
+        verify(resultSet).close();
+        verify(statement).close();
+    }
+
+    @Test
+    void shouldReturnZeroForAnEmptyTable() throws Exception {
+        when(resultSet.next()).thenReturn(false);
+        List<CustomerSnapshotRow> rows = new ArrayList<>();
+
+        assertThat(snapshotSource.forEach(rows::add)).isZero();
+        assertThat(rows).isEmpty();
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.banking.customer.infrastructure.security;
+
+import com.banking.customer.infrastructure.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bounded Password Hasher Tests")
+class BoundedPasswordHasherTest {
+
+    private static final String PASSWORD = "Sup3r-Secret-Passw0rd";
+
+    private static PasswordHashingProperties properties(String algorithm) {
+        return new PasswordHashingProperties(
+                algorithm,
+                1,
+                4,
+                new PasswordHashingProperties.Bcrypt(4),
+                new PasswordHashingProperties.Argon2(16, 32, 1, 1024, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should hash and verify with bcrypt")
+    void shouldHashAndVerifyWithBcrypt() {
+        try (BoundedPasswordHasher hasher = new BoundedPasswordHasher(properties("bcrypt"), new SimpleMeterRegistry())) {
+            String hash = hasher.hash(PASSWORD);
+
+            assertThat(hash).startsWith("$2");
+            assertThat(hasher.matches(PASSWORD, hash)).isTrue();
+            assertThat(hasher.matches("wrong", hash)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash with Argon2id and still verify existing bcrypt hashes")
+    void shouldHashWithArgon2AndVerifyLegacyBcryptHashes() {
+        String legacyHash;
+        try (BoundedPasswordHasher bcrypt = new BoundedPasswordHasher(properties("bcrypt"), new SimpleMeterRegistry())) {
+            legacyHash = bcrypt.hash(PASSWORD);
+        }
+
+        try (BoundedPasswordHasher hasher = new BoundedPasswordHasher(properties("argon2id"), new SimpleMeterRegistry())) {
+            String hash = hasher.hash(PASSWORD);
+
+            assertThat(hash).startsWith("$argon2id$");
+            assertThat(hasher.matches(PASSWORD, hash)).isTrue();
+            assertThat(hasher.matches(PASSWORD, legacyHash)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash a bulk of passwords on the pool even when it is larger than the queue")
+    void shouldHashBulkLargerThanTheQueue() {
+        List<String> passwords = IntStream.range(0, 10).mapToObj(i -> PASSWORD + i).toList();
+
+        try (BoundedPasswordHasher hasher = new BoundedPasswordHasher(properties("bcrypt"), new SimpleMeterRegistry())) {
+            List<String> hashes = hasher.hashAll(passwords);
+
+            assertThat(hashes).hasSize(passwords.size());
+            for (int i = 0; i < passwords.size(); i++) {
+                assertThat(hasher.matches(passwords.get(i), hashes.get(i))).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject bulk hashing once closed")
+    void shouldRejectBulkHashingOnceClosed() {
+        BoundedPasswordHasher hasher = new BoundedPasswordHasher(properties("bcrypt"), new SimpleMeterRegistry());
+        hasher.close();
+
+        assertThatThrownBy(() -> hasher.hashAll(List.of(PASSWORD)))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown algorithms")
+    void shouldRejectUnknownAlgorithms() {
+        assertThatThrownBy(() -> new BoundedPasswordHasher(properties("md5"), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("md5");
+    }
+
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -25,6 +26,7 @@ import static com.banking.customer.fixtures.mothers.CustomerApiRequestMother.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -332,6 +334,37 @@ class CustomerControllerIntegrationTest extends IntegrationTest {
                     .andExpect(jsonPath("$.data.customerId").value(createRequest.getCustomerId()));
         }
 
+        @Test
+        @DisplayName("Should return 304 when ETag matches")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            CreateCustomerApiRequest createRequest = createCustomer()
+                    .withCustomerId("ETAGTEST" + System.currentTimeMillis())
+                    .withIdentification("IDETAG" + System.currentTimeMillis())
+                    .build();
+
+            MvcResult createResult = mockMvc.perform(post(baseUrl)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            String responseContent = createResult.getResponse().getContentAsString();
+            UUID customerId = UUID.fromString(objectMapper.readTree(responseContent).get("data").get("id").asText());
+
+            MvcResult getResult = mockMvc.perform(get(baseUrl + "/{id}", customerId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andReturn();
+
+            String etag = getResult.getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(baseUrl + "/{id}", customerId)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag));
+        }
+
         @Test
         @DisplayName("Should return 404 when customer not found")
         void shouldReturn404WhenCustomerNotFound() throws Exception {
@@ -0,0 +1,141 @@
+package com.banking.customer.presentation.rest;
+
+import com.banking.customer.application.dto.CustomerImportError;
+import com.banking.customer.application.dto.CustomerImportRequest;
+import com.banking.customer.application.dto.CustomerImportRow;
+import com.banking.customer.application.dto.CustomerImportSummary;
+import com.banking.customer.application.port.in.ImportCustomersUseCase;
+import com.banking.customer.infrastructure.util.MessageUtils;
+import com.banking.customer.presentation.mapper.CustomerApiMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportControllerTest {
+
+    private static final String IMPORT_ID = "legacy-core-01";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private ImportCustomersUseCase importCustomersUseCase;
+
+    @Mock
+    private CustomerApiMapper apiMapper;
+
+    private CustomerImportController controller;
+
+    private final List<CustomerImportRow> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        controller = new CustomerImportController(importCustomersUseCase, apiMapper, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void shouldStreamErrorsFollowedByTheSummary() throws Exception {
+        when(importCustomersUseCase.importCustomers(eq(new CustomerImportRequest(IMPORT_ID, 500)), any(), any()))
+                .thenAnswer(invocation -> {
+                    Iterator<CustomerImportRow> rows = invocation.getArgument(1);
+                    rows.forEachRemaining(received::add);
+                    Consumer<CustomerImportError> errors = invocation.getArgument(2);
+                    errors.accept(new CustomerImportError(1, null, "import.row.unreadable", "bad row"));
+                    errors.accept(new CustomerImportError(2, "CUS-2", "customer.alreadyExists", null));
+                    return new CustomerImportSummary(IMPORT_ID, 0, 2, 0, 2, Duration.ofMillis(42));
+                });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.importCustomers(IMPORT_ID, 500, request(MediaType.APPLICATION_NDJSON_VALUE, "{not json\n"), response);
+
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(received).extracting(CustomerImportRow::line).containsExactly(1L);
+
+        List<JsonNode> lines = lines(response);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).get("line").asLong()).isEqualTo(1);
+        assertThat(lines.get(0).has("customerId")).isFalse();
+        assertThat(lines.get(0).get("message").asText())
+                .isEqualTo(MessageUtils.getMessage("import.row.unreadable", "bad row"));
+        assertThat(lines.get(1).get("customerId").asText()).isEqualTo("CUS-2");
+        assertThat(lines.get(1).get("code").asText()).isEqualTo("customer.alreadyExists");
+        assertThat(lines.get(1).get("message").asText()).isEqualTo(MessageUtils.getMessage("customer.alreadyExists"));
+        assertThat(lines.get(2).get("importId").asText()).isEqualTo(IMPORT_ID);
+        assertThat(lines.get(2).get("lastLine").asLong()).isEqualTo(2);
+        assertThat(lines.get(2).get("failed").asLong()).isEqualTo(2);
+        assertThat(lines.get(2).get("elapsedMillis").asLong()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldReadCsvBodiesByContentType() throws Exception {
+        when(importCustomersUseCase.importCustomers(any(), any(), any())).thenAnswer(invocation -> {
+            Iterator<CustomerImportRow> rows = invocation.getArgument(1);
+            rows.forEachRemaining(received::add);
+            return new CustomerImportSummary(IMPORT_ID, 0, 2, 0, 1, Duration.ZERO);
+        });
+
+        controller.importCustomers(IMPORT_ID, 1000,
+                request("text/csv;charset=UTF-8", "name,lastName\nJane\n"), new MockHttpServletResponse());
+
+        assertThat(received).extracting(CustomerImportRow::line, CustomerImportRow::error)
+                .containsExactly(tuple(2L, "Expected 2 columns but found 1"));
+    }
+
+    @Test
+    void shouldRejectInvalidImportIdsAndBatchSizes() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> controller.importCustomers("../etc", 1000,
+                request(MediaType.APPLICATION_NDJSON_VALUE, ""), response))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Import id must be");
+        assertThatThrownBy(() -> controller.importCustomers(IMPORT_ID, 0,
+                request(MediaType.APPLICATION_NDJSON_VALUE, ""), response))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch size must be between 1 and 5000");
+        assertThatThrownBy(() -> controller.importCustomers(IMPORT_ID, 5001,
+                request(MediaType.APPLICATION_NDJSON_VALUE, ""), response))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(importCustomersUseCase);
+    }
+
+    private List<JsonNode> lines(MockHttpServletResponse response) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.getContentAsString().split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static MockHttpServletRequest request(String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/customers/imports/" + IMPORT_ID);
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+}
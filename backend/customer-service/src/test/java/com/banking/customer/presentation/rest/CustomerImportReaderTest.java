@@ -0,0 +1,140 @@
+package com.banking.customer.presentation.rest;
+
+import com.banking.customer.application.dto.CustomerImportRow;
+import com.banking.customer.application.dto.CustomerRequest;
+import com.banking.customer.domain.model.Gender;
+import com.banking.customer.presentation.dto.request.CreateCustomerApiRequest;
+import com.banking.customer.presentation.mapper.CustomerApiMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportReaderTest {
+
+    private static final String CSV_HEADER =
+            "name,lastName,gender,birthDate,identification,address,phone,customerId,password\n";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private CustomerApiMapper apiMapper;
+
+    private final CustomerRequest customerRequest = new CustomerRequest();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(apiMapper.toApplicationRequest(any(CreateCustomerApiRequest.class))).thenReturn(customerRequest);
+    }
+
+    @Test
+    void shouldReadNdjsonRowsAndSkipBlankLines() throws Exception {
+        List<CustomerImportRow> rows = readAll(CustomerImportReader.ndjson(input(
+                ndjson("CUS-1") + "\n   \n" + ndjson("CUS-2")), objectMapper, validator, apiMapper));
+
+        assertThat(rows).extracting(CustomerImportRow::line, CustomerImportRow::request, CustomerImportRow::error)
+                .containsExactly(tuple(1L, customerRequest, null), tuple(4L, customerRequest, null));
+
+        ArgumentCaptor<CreateCustomerApiRequest> request = ArgumentCaptor.forClass(CreateCustomerApiRequest.class);
+        verify(apiMapper, times(2)).toApplicationRequest(request.capture());
+        assertThat(request.getAllValues()).extracting(CreateCustomerApiRequest::getCustomerId)
+                .containsExactly("CUS-1", "CUS-2");
+        assertThat(request.getValue().getGender()).isEqualTo(Gender.FEMALE);
+        assertThat(request.getValue().getBirthDate()).isEqualTo(LocalDate.of(1990, 5, 1));
+    }
+
+    @Test
+    void shouldReportUnreadableAndInvalidNdjsonRowsAndKeepGoing() throws Exception {
+        List<CustomerImportRow> rows = readAll(CustomerImportReader.ndjson(input(
+                "{not json\n" + ndjson("CUS-2").replace("\"password\":\"secret\"", "\"password\":\"\"") + ndjson("CUS-3")),
+                objectMapper, validator, apiMapper));
+
+        assertThat(rows).extracting(CustomerImportRow::line).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0).request()).isNull();
+        assertThat(rows.get(0).error()).isNotBlank();
+        assertThat(rows.get(1).request()).isNull();
+        assertThat(rows.get(1).error()).startsWith("password: ");
+        assertThat(rows.get(2).request()).isSameAs(customerRequest);
+        verify(apiMapper, times(1)).toApplicationRequest(any(CreateCustomerApiRequest.class));
+    }
+
+    @Test
+    void shouldReadCsvRowsByHeaderWithQuotedValuesAndEmptyCellsAsNull() throws Exception {
+        List<CustomerImportRow> rows = readAll(CustomerImportReader.csv(input(CSV_HEADER
+                        + "Jane,\"O\"\"Brien\",FEMALE,1990-05-01,1234567890,\"1 Main St, Apt 2\",,CUS-1,secret\n"),
+                objectMapper, validator, apiMapper));
+
+        assertThat(rows).extracting(CustomerImportRow::line, CustomerImportRow::error)
+                .containsExactly(tuple(2L, null));
+
+        ArgumentCaptor<CreateCustomerApiRequest> request = ArgumentCaptor.forClass(CreateCustomerApiRequest.class);
+        verify(apiMapper).toApplicationRequest(request.capture());
+        assertThat(request.getValue().getLastName()).isEqualTo("O\"Brien");
+        assertThat(request.getValue().getAddress()).isEqualTo("1 Main St, Apt 2");
+        assertThat(request.getValue().getPhone()).isNull();
+        assertThat(request.getValue().getBirthDate()).isEqualTo(LocalDate.of(1990, 5, 1));
+    }
+
+    @Test
+    void shouldReportMalformedCsvRows() throws Exception {
+        List<CustomerImportRow> rows = readAll(CustomerImportReader.csv(input(CSV_HEADER
+                        + "Jane,Doe\n"
+                        + "Jane,\"Doe,FEMALE,1990-05-01,1234567890,Main St,,CUS-1,secret\n"),
+                objectMapper, validator, apiMapper));
+
+        assertThat(rows).extracting(CustomerImportRow::line, CustomerImportRow::error).containsExactly(
+                tuple(2L, "Expected 9 columns but found 2"),
+                tuple(3L, "Unterminated quoted value"));
+        verifyNoInteractions(apiMapper);
+    }
+
+    @Test
+    void shouldStopAtTheEndOfInput() throws Exception {
+        try (CustomerImportReader reader = CustomerImportReader.csv(input(""), objectMapper, validator, apiMapper)) {
+            assertThat(reader.hasNext()).isFalse();
+            assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    private static List<CustomerImportRow> readAll(CustomerImportReader reader) throws Exception {
+        List<CustomerImportRow> rows = new ArrayList<>();
+        try (reader) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String ndjson(String customerId) {
+        return """
+                {"name":"Jane","lastName":"Doe","gender":"FEMALE","birthDate":"1990-05-01","identification":"1234567890",\
+                "address":"Main St","phone":"0987654321","customerId":"%s","password":"secret"}
+                """.formatted(customerId);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.banking.customer.presentation.rest;
+
+import com.banking.customer.application.dto.CustomerSnapshotRow;
+import com.banking.customer.application.dto.CustomerSnapshotTrailer;
+import com.banking.customer.application.port.in.StreamCustomerSnapshotUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSnapshotControllerTest {
+
+    @Mock
+    private StreamCustomerSnapshotUseCase snapshotUseCase;
+
+    private CustomerSnapshotController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new CustomerSnapshotController(snapshotUseCase, new ObjectMapper());
+    }
+
+    @Test
+    void shouldStreamOneRowPerLineFollowedByTheTrailer() throws Exception {
+        UUID first = UUID.fromString("5f0c7a4e-8f3b-4a51-9d2c-2b1f6f0e9a01");
+        UUID second = UUID.fromString("5f0c7a4e-8f3b-4a51-9d2c-2b1f6f0e9a02");
+        when(snapshotUseCase.highWaterMark()).thenReturn(500L);
+        when(snapshotUseCase.streamSnapshot(eq(500L), any())).thenAnswer(invocation -> {
+            Consumer<CustomerSnapshotRow> consumer = invocation.getArgument(1);
+            consumer.accept(new CustomerSnapshotRow(first, "CUS-1", "John Doe", "ACTIVE", 10));
+            consumer.accept(new CustomerSnapshotRow(second, "CUS-2", "Jane", "INACTIVE", 11));
+            return new CustomerSnapshotTrailer(500L, 2L);
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.streamSnapshot(response);
+
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(response.getHeader(CustomerSnapshotController.SNAPSHOT_MARK_HEADER)).isEqualTo("500");
+        assertThat(response.getContentAsString().split("\n")).containsExactly(
+                "{\"id\":\"" + first + "\",\"customerId\":\"CUS-1\",\"name\":\"John Doe\",\"status\":\"ACTIVE\",\"sequence\":10}",
+                "{\"id\":\"" + second + "\",\"customerId\":\"CUS-2\",\"name\":\"Jane\",\"status\":\"INACTIVE\",\"sequence\":11}",
+                "{\"mark\":500,\"count\":2}"
+        );
+        assertThat(response.getContentAsString()).endsWith("\n");
+    }
+
+    @Test
+    void shouldWriteOnlyTheTrailerForAnEmptySnapshot() throws Exception {
+        when(snapshotUseCase.highWaterMark()).thenReturn(7L);
+        when(snapshotUseCase.streamSnapshot(eq(7L), any())).thenReturn(new CustomerSnapshotTrailer(7L, 0L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.streamSnapshot(response);
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"mark\":7,\"count\":0}\n");
+    }
+
+}